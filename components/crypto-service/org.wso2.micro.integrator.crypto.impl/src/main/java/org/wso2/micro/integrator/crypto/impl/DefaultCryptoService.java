@@ -38,9 +38,9 @@ import java.security.cert.Certificate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The default implementation of {@link CryptoService}.
@@ -53,6 +53,9 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
     private List<KeyResolver> keyResolvers;
     private String internalCryptoProviderClassName;
     private String externalCryptoProviderClassName;
+    // the most suitable providers are resolved once and dropped whenever the providers or the preferences change
+    private volatile InternalCryptoProvider cachedInternalCryptoProvider;
+    private volatile ExternalCryptoProvider cachedExternalCryptoProvider;
 
     public DefaultCryptoService() {
 
@@ -61,8 +64,8 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
 
     private void init() {
 
-        externalCryptoProviders = new HashMap<>();
-        internalCryptoProviders = new HashMap<>();
+        externalCryptoProviders = new ConcurrentHashMap<>();
+        internalCryptoProviders = new ConcurrentHashMap<>();
         keyResolvers = new ArrayList<>();
     }
 
@@ -553,19 +556,20 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param internalCryptoProvider
      */
-    public void registerInternalCryptoProvider(InternalCryptoProvider internalCryptoProvider) {
+    public synchronized void registerInternalCryptoProvider(InternalCryptoProvider internalCryptoProvider) {
 
         if (log.isDebugEnabled()) {
             log.debug("Registering internal crypto provider : " + internalCryptoProvider);
         }
 
         internalCryptoProviders.put(internalCryptoProvider.getClass().getName(), internalCryptoProvider);
+        cachedInternalCryptoProvider = null;
     }
 
     /**
      * Unregisters all the registered providers.
      */
-    public void unregisterAllInternalCryptoProviders() {
+    public synchronized void unregisterAllInternalCryptoProviders() {
 
         if (log.isDebugEnabled()) {
             log.debug("Unregistering all internal crypto providers.");
@@ -574,6 +578,7 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
         if (areInternalCryptoProvidersAvailable()) {
             internalCryptoProviders.clear();
         }
+        cachedInternalCryptoProvider = null;
     }
 
     /**
@@ -581,13 +586,14 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param internalCryptoProvider
      */
-    public void unregisterInternalCryptoProvider(InternalCryptoProvider internalCryptoProvider) {
+    public synchronized void unregisterInternalCryptoProvider(InternalCryptoProvider internalCryptoProvider) {
 
         if (log.isDebugEnabled()) {
             log.debug("Registering internal crypto provider : " + internalCryptoProvider);
         }
 
         internalCryptoProviders.remove(internalCryptoProvider.getClass().getCanonicalName());
+        cachedInternalCryptoProvider = null;
     }
 
     /**
@@ -608,6 +614,21 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      */
     public InternalCryptoProvider getMostSuitableInternalProvider() throws CryptoException {
 
+        InternalCryptoProvider mostSuitableProvider = cachedInternalCryptoProvider;
+        if (mostSuitableProvider == null) {
+            synchronized (this) {
+                mostSuitableProvider = cachedInternalCryptoProvider;
+                if (mostSuitableProvider == null) {
+                    mostSuitableProvider = findMostSuitableInternalProvider();
+                    cachedInternalCryptoProvider = mostSuitableProvider;
+                }
+            }
+        }
+        return mostSuitableProvider;
+    }
+
+    private InternalCryptoProvider findMostSuitableInternalProvider() throws CryptoException {
+
         if (log.isDebugEnabled()) {
             log.debug("Looking for the most suitable internal crypto provider.");
         }
@@ -666,13 +687,14 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param provider
      */
-    public void registerExternalCryptoProvider(ExternalCryptoProvider provider) {
+    public synchronized void registerExternalCryptoProvider(ExternalCryptoProvider provider) {
 
         if (log.isDebugEnabled()) {
             log.debug("Registering external crypto provider : " + provider);
         }
 
         externalCryptoProviders.put(provider.getClass().getName(), provider);
+        cachedExternalCryptoProvider = null;
     }
 
     /**
@@ -680,19 +702,20 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param externalCryptoProvider
      */
-    public void unregisterExternalCryptoProvider(ExternalCryptoProvider externalCryptoProvider) {
+    public synchronized void unregisterExternalCryptoProvider(ExternalCryptoProvider externalCryptoProvider) {
 
         if (log.isDebugEnabled()) {
             log.debug("Unregistering external crypto provider : " + externalCryptoProvider);
         }
 
         externalCryptoProviders.remove(externalCryptoProvider.getClass().getCanonicalName());
+        cachedExternalCryptoProvider = null;
     }
 
     /**
      * Unregisters all the registered external crypto providers.
      */
-    public void unregisterAllExternalCryptoProviders() {
+    public synchronized void unregisterAllExternalCryptoProviders() {
 
         if (log.isDebugEnabled()) {
             log.debug("Unregistering all external crypto providers.");
@@ -701,7 +724,7 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
         if (areExternalCryptoProvidersAvailable()) {
             externalCryptoProviders.clear();
         }
-
+        cachedExternalCryptoProvider = null;
     }
 
     /**
@@ -721,6 +744,21 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      */
     public ExternalCryptoProvider getMostSuitableExternalProvider() throws CryptoException {
 
+        ExternalCryptoProvider mostSuitableExternalProvider = cachedExternalCryptoProvider;
+        if (mostSuitableExternalProvider == null) {
+            synchronized (this) {
+                mostSuitableExternalProvider = cachedExternalCryptoProvider;
+                if (mostSuitableExternalProvider == null) {
+                    mostSuitableExternalProvider = findMostSuitableExternalProvider();
+                    cachedExternalCryptoProvider = mostSuitableExternalProvider;
+                }
+            }
+        }
+        return mostSuitableExternalProvider;
+    }
+
+    private ExternalCryptoProvider findMostSuitableExternalProvider() throws CryptoException {
+
         if (log.isDebugEnabled()) {
             log.debug("Looking for the most suitable external crypto provider.");
         }
@@ -777,9 +815,10 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param internalCryptoProviderClassName The preferred internal crypto provider class name.
      */
-    public void setInternalCryptoProviderClassName(String internalCryptoProviderClassName) {
+    public synchronized void setInternalCryptoProviderClassName(String internalCryptoProviderClassName) {
 
         this.internalCryptoProviderClassName = internalCryptoProviderClassName;
+        cachedInternalCryptoProvider = null;
     }
 
     /**
@@ -787,9 +826,10 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param externalCryptoProviderClassName The preferred external crypto provider class name.
      */
-    public void setExternalCryptoProviderClassName(String externalCryptoProviderClassName) {
+    public synchronized void setExternalCryptoProviderClassName(String externalCryptoProviderClassName) {
 
         this.externalCryptoProviderClassName = externalCryptoProviderClassName;
+        cachedExternalCryptoProvider = null;
     }
 
     /**
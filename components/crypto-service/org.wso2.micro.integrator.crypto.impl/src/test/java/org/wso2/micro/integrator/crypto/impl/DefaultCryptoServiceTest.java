@@ -19,11 +19,14 @@
 package org.wso2.micro.integrator.crypto.impl;
 
 import org.testng.annotations.Test;
+import org.wso2.carbon.crypto.api.CryptoException;
 import org.wso2.carbon.crypto.api.InternalCryptoProvider;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class DefaultCryptoServiceTest {
 
@@ -43,4 +46,37 @@ public class DefaultCryptoServiceTest {
 
         assertFalse(defaultCryptoService.areInternalCryptoProvidersAvailable());
     }
+
+    @Test
+    public void testProviderSelectionIsRefreshedOnRegistration() throws Exception {
+
+        DefaultCryptoService defaultCryptoService = new DefaultCryptoService();
+        assertNull(defaultCryptoService.getMostSuitableInternalProvider());
+
+        InternalCryptoProvider mockCryptoProvider = new SimpleCryptoProvider();
+        defaultCryptoService.registerInternalCryptoProvider(mockCryptoProvider);
+        assertEquals(defaultCryptoService.getMostSuitableInternalProvider(), mockCryptoProvider);
+        assertEquals(defaultCryptoService.getMostSuitableInternalProvider(), mockCryptoProvider);
+
+        InternalCryptoProvider otherCryptoProvider = new SimpleCryptoProvider() {
+        };
+        defaultCryptoService.registerInternalCryptoProvider(otherCryptoProvider);
+        try {
+            defaultCryptoService.getMostSuitableInternalProvider();
+            fail("Provider selection should fail with more than one unconfigured provider");
+        } catch (CryptoException e) {
+            // expected, as the selection was refreshed
+        }
+
+        defaultCryptoService.setInternalCryptoProviderClassName(SimpleCryptoProvider.class.getName());
+        assertEquals(defaultCryptoService.getMostSuitableInternalProvider(), mockCryptoProvider);
+
+        defaultCryptoService.unregisterInternalCryptoProvider(mockCryptoProvider);
+        try {
+            defaultCryptoService.getMostSuitableInternalProvider();
+            fail("Provider selection should fail once the configured provider is unregistered");
+        } catch (CryptoException e) {
+            // expected, as the selection was refreshed
+        }
+    }
 }
@@ -72,6 +72,7 @@ public final class DBConstants {
     public static final String CONF_REGISTRY_PATH_PREFIX = "conf:";
     public static final int DEFAULT_DBCP_MIN_POOL_SIZE = 1;
     public static final int DEFAULT_DBCP_MAX_POOL_SIZE = 5;
+    public static final int DEFAULT_JDBC_BATCH_SIZE = 1000;
     public static final String STANDARD_TRANSACTION_MANAGER_JNDI_NAME = "java:comp/TransactionManager";
     public static final String STANDARD_USER_TRANSACTION_JNDI_NAME = "java:comp/UserTransaction";
     public static final String REQUEST_STATUS_SUCCESSFUL_MESSAGE = "SUCCESSFUL";
@@ -404,6 +405,9 @@ public final class DBConstants {
         public static final String DATASOURCE_PROPS = "dataSourceProps";
         public static final String FORCE_STORED_PROC = "forceStoredProc";
         public static final String FORCE_JDBC_BATCH_REQUESTS = "forceJDBCBatchRequests";
+        public static final String JDBC_BATCH_SIZE = "jdbcBatchSize";
+        public static final String REWRITE_BATCHED_INSERTS = "rewriteBatchedInserts";
+        public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
         public static final String QUERY_TIMEOUT = "queryTimeout";
         public static final String AUTO_COMMIT = "autoCommit";
         public static final String FETCH_DIRECTION = "fetchDirection";
@@ -18,8 +18,11 @@
 package org.wso2.micro.integrator.dataservices.core;
 
 import org.apache.axiom.om.util.AXIOMUtil;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.tomcat.jdbc.pool.DataSource;
 import org.wso2.micro.integrator.dataservices.common.DBConstants.RDBMS;
+import org.wso2.micro.integrator.dataservices.common.DBConstants.RDBMSEngines;
 import org.wso2.micro.integrator.dataservices.common.RDBMSUtils;
 import org.wso2.micro.integrator.dataservices.core.description.config.SQLConfig;
 import org.wso2.micro.integrator.dataservices.core.engine.DataService;
@@ -43,6 +46,14 @@ import java.util.Map.Entry;
  */
 public class JDBCPoolSQLConfig extends SQLConfig {
 
+	private static final Log log = LogFactory.getLog(JDBCPoolSQLConfig.class);
+
+	private static final String MYSQL_REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+
+	private static final String POSTGRESQL_REWRITE_BATCHED_INSERTS = "reWriteBatchedInserts";
+
+	private static final String STATEMENT_CACHE_INTERCEPTOR = "StatementCache";
+
 	private DataSource dataSource;
 
 	public JDBCPoolSQLConfig(DataService dataService, String configId, String type, Map<String, String> properties,
@@ -98,12 +109,84 @@ public class JDBCPoolSQLConfig extends SQLConfig {
 		props = new HashMap<String, String>(props);
 		RDBMSConfiguration config = new RDBMSConfiguration();
 		this.handleExternalDataSource(config, props);
+		String rewriteBatchedInserts = props.get(RDBMS.REWRITE_BATCHED_INSERTS);
+		String statementCacheSize = props.get(RDBMS.STATEMENT_CACHE_SIZE);
 		this.filterJDBCPoolProps(props);
 		RDBMSDataSourceUtils.assignBeanProps(config,
                                              new HashMap<String, Object>(props));
 		this.handlePostConfigInit(config);
+		if (rewriteBatchedInserts != null && Boolean.parseBoolean(rewriteBatchedInserts.trim())) {
+			this.handleRewriteBatchedInserts(config);
+		}
+		this.handleStatementCache(config, statementCacheSize);
 		return config;
 	}
+
+	/**
+	 * Lets the driver rewrite the batched inserts to multi-row inserts, for the databases which support it, so that a
+	 * JDBC batch is sent to the database in a few statements instead of a statement per row. The rewrite is enabled
+	 * only when the "rewriteBatchedInserts" property is set to true, since the rewritten statements change the update
+	 * counts and the generated keys returned for the batch.
+	 */
+	private void handleRewriteBatchedInserts(RDBMSConfiguration config) {
+		String url = config.getUrl();
+		if (url == null) {
+			return;
+		}
+		String rewriteProp;
+		String rdbms = RDBMSUtils.getRDBMSEngine(url);
+		if (RDBMSEngines.MYSQL.equals(rdbms)) {
+			rewriteProp = MYSQL_REWRITE_BATCHED_STATEMENTS;
+		} else if (RDBMSEngines.POSTGRESQL.equals(rdbms)) {
+			rewriteProp = POSTGRESQL_REWRITE_BATCHED_INSERTS;
+		} else {
+			return;
+		}
+		String connectionProps = config.getConnectionProperties();
+		/* a value given by the user, either in the URL or the connection properties, is kept as it is */
+		if (url.contains(rewriteProp + "=")
+				|| (connectionProps != null && connectionProps.contains(rewriteProp + "="))) {
+			return;
+		}
+		if (connectionProps == null || connectionProps.trim().isEmpty()) {
+			connectionProps = rewriteProp + "=true";
+		} else {
+			connectionProps = connectionProps.trim();
+			connectionProps = connectionProps + (connectionProps.endsWith(";") ? "" : ";") + rewriteProp + "=true";
+		}
+		config.setConnectionProperties(connectionProps);
+	}
+
+	/**
+	 * Caches the prepared statements of the pooled connections, so that a query executed again on the same connection,
+	 * such as the queries of the batch requests, reuses its prepared statement. The cache is enabled only when the
+	 * "statementCacheSize" property is given, since a cached statement keeps the query timeout, fetch size and max rows
+	 * set on it by an earlier query with the same SQL.
+	 */
+	private void handleStatementCache(RDBMSConfiguration config, String statementCacheSize) {
+		if (statementCacheSize == null || statementCacheSize.trim().isEmpty()) {
+			return;
+		}
+		int cacheSize;
+		try {
+			cacheSize = Integer.parseInt(statementCacheSize.trim());
+		} catch (NumberFormatException e) {
+			log.warn("Invalid statement cache size: " + statementCacheSize + ", the statements are not cached");
+			return;
+		}
+		String jdbcInterceptors = config.getJdbcInterceptors();
+		if (cacheSize <= 0 || (jdbcInterceptors != null && jdbcInterceptors.contains(STATEMENT_CACHE_INTERCEPTOR))) {
+			return;
+		}
+		String statementCache = STATEMENT_CACHE_INTERCEPTOR + "(prepared=true,callable=false,max=" + cacheSize + ")";
+		if (jdbcInterceptors == null || jdbcInterceptors.trim().isEmpty()) {
+			jdbcInterceptors = statementCache;
+		} else {
+			jdbcInterceptors = jdbcInterceptors.trim();
+			jdbcInterceptors = jdbcInterceptors + (jdbcInterceptors.endsWith(";") ? "" : ";") + statementCache;
+		}
+		config.setJdbcInterceptors(jdbcInterceptors);
+	}
 	
 	private void handleExternalDataSource(RDBMSConfiguration config, Map<String, String> props) 
 			throws XMLStreamException {
@@ -127,6 +210,9 @@ public class JDBCPoolSQLConfig extends SQLConfig {
 	
 	private void filterJDBCPoolProps(Map<String, String> props) {
 		props.remove(RDBMS.FORCE_JDBC_BATCH_REQUESTS);
+		props.remove(RDBMS.JDBC_BATCH_SIZE);
+		props.remove(RDBMS.REWRITE_BATCHED_INSERTS);
+		props.remove(RDBMS.STATEMENT_CACHE_SIZE);
 		props.remove(RDBMS.FORCE_STORED_PROC);
 		props.remove(RDBMS.QUERY_TIMEOUT);
 		props.remove(RDBMS.AUTO_COMMIT);
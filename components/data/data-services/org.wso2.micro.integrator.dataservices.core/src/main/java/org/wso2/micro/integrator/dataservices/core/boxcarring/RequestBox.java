@@ -19,14 +19,22 @@ package org.wso2.micro.integrator.dataservices.core.boxcarring;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import javax.xml.stream.XMLStreamException;
 
 import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.impl.llom.OMSourcedElementImpl;
 import org.apache.commons.io.output.NullOutputStream;
+import org.wso2.micro.integrator.dataservices.common.DBConstants;
 import org.wso2.micro.integrator.dataservices.core.DBUtils;
 import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
+import org.wso2.micro.integrator.dataservices.core.dispatch.BatchDataServiceRequest;
 import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceRequest;
+import org.wso2.micro.integrator.dataservices.core.dispatch.SingleDataServiceRequest;
+import org.wso2.micro.integrator.dataservices.core.engine.DSOMDataSource;
+import org.wso2.micro.integrator.dataservices.core.engine.DataService;
+import org.wso2.micro.integrator.dataservices.core.engine.ParamValue;
 
 /**
  * Represents a boxcarring session service request group.
@@ -58,9 +66,8 @@ public class RequestBox {
 	 */
 	public synchronized OMElement execute() throws DataServiceFault {
 		OMElement result;
-		List<DataServiceRequest> reqList = this.getRequests();
+		List<DataServiceRequest> reqList = groupBatchRequests(this.getRequests());
 		int n = reqList.size();
-		OMElement resultElement = null;
 		for (int i = 0; i < n; i++) {
 			result = reqList.get(i).dispatch();
 			if (result != null) {
@@ -68,22 +75,99 @@ public class RequestBox {
 					/* if it's the last request, return the result,
 					 * getXMLStreamReader() method will execute the actual request */
 					if (i == (n - 1)) {
-						resultElement = DBUtils.cloneAndReturnBuiltElement(result);
-						return DBUtils.wrapBoxCarringResponse(resultElement);
+						return createResponse(result);
 					} else {
-					    /* process the result of the request, no need to cache the data */
-					    result.serializeAndConsume(new NullOutputStream());
+					    /* process the result of the request, no need to generate the data */
+					    consumeResult(result);
 					}
 				} catch (XMLStreamException e) {
 					throw new DataServiceFault(e, "Error in request box result serializing");
 				}
 			} else {
 				if (i == (n - 1)) {
-					return DBUtils.wrapBoxCarringResponse(resultElement);
+					return DBUtils.wrapBoxCarringResponse(null);
 				}
 			}
 		}
 		return null;
 	}
+
+	/**
+	 * Groups consecutive in-only requests of the same batch enabled operation into a single batch
+	 * request, so that they are executed as one JDBC batch on the connection of the box.
+	 */
+	private static List<DataServiceRequest> groupBatchRequests(List<DataServiceRequest> reqList)
+			throws DataServiceFault {
+		List<DataServiceRequest> groupedList = new ArrayList<DataServiceRequest>(reqList.size());
+		int n = reqList.size();
+		int i = 0;
+		while (i < n) {
+			DataServiceRequest request = reqList.get(i);
+			int j = i + 1;
+			if (isBatchable(request)) {
+				while (j < n && isBatchable(reqList.get(j))
+						&& reqList.get(j).getDataService() == request.getDataService()
+						&& reqList.get(j).getRequestName().equals(request.getRequestName())) {
+					j++;
+				}
+			}
+			if (j - i > 1) {
+				groupedList.add(createBatchRequest(reqList.subList(i, j)));
+			} else {
+				groupedList.add(request);
+			}
+			i = j;
+		}
+		return groupedList;
+	}
+
+	private static boolean isBatchable(DataServiceRequest request) {
+		if (request.getClass() != SingleDataServiceRequest.class) {
+			return false;
+		}
+		DataService dataService = request.getDataService();
+		String requestName = request.getRequestName();
+		/* the batch operation exists only for in-only operations of services with batch requests enabled */
+		return dataService.isBatchRequestsEnabled() && !dataService.hasResultForRequest(requestName)
+				&& dataService.getCallableRequest(requestName + DBConstants.BATCH_OPERATON_NAME_SUFFIX) != null;
+	}
+
+	private static DataServiceRequest createBatchRequest(List<DataServiceRequest> group)
+			throws DataServiceFault {
+		DataServiceRequest first = group.get(0);
+		List<Map<String, ParamValue>> batchParams = new ArrayList<Map<String, ParamValue>>(group.size());
+		for (DataServiceRequest request : group) {
+			batchParams.add(((SingleDataServiceRequest) request).getParams());
+		}
+		BatchDataServiceRequest batchRequest = new BatchDataServiceRequest(first.getDataService(),
+				first.getRequestName() + DBConstants.BATCH_OPERATON_NAME_SUFFIX, batchParams);
+		batchRequest.setUser(first.getUser());
+		batchRequest.setUserRoles(first.getUserRoles());
+		return batchRequest;
+	}
+
+	/**
+	 * Executes a result which is not returned, without generating its XML if it is still streamed.
+	 */
+	private static void consumeResult(OMElement result) throws XMLStreamException {
+		if (result instanceof OMSourcedElementImpl && !((OMSourcedElementImpl) result).isExpanded()
+				&& ((OMSourcedElementImpl) result).getDataSource() instanceof DSOMDataSource) {
+			((DSOMDataSource) ((OMSourcedElementImpl) result).getDataSource()).execute(null);
+		} else {
+			result.serializeAndConsume(new NullOutputStream());
+		}
+	}
+
+	/**
+	 * Creates the response of the box from the result of the last request. A streamed result is executed
+	 * into a buffer, as the connections of the box are closed once the box is executed, and is streamed
+	 * from the buffer instead of being built.
+	 */
+	private static OMElement createResponse(OMElement result) throws DataServiceFault {
+		if (result instanceof OMSourcedElementImpl && !((OMSourcedElementImpl) result).isExpanded()) {
+			return RequestBoxResponseDataSource.createResponse(result);
+		}
+		return DBUtils.wrapBoxCarringResponse(DBUtils.cloneAndReturnBuiltElement(result));
+	}
 	
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.boxcarring;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.axiom.om.OMDataSource;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMOutputFormat;
+import org.apache.axiom.om.impl.llom.OMSourcedElementImpl;
+import org.apache.axiom.om.impl.serialize.StreamingOMSerializer;
+import org.apache.axiom.util.blob.OverflowBlob;
+import org.wso2.micro.integrator.dataservices.common.DBConstants;
+import org.wso2.micro.integrator.dataservices.core.DBUtils;
+import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
+import org.wso2.micro.integrator.dataservices.core.engine.BufferedResultReader;
+
+/**
+ * Data source of the response of a request box. The result of the last request is executed into a
+ * buffer, which overflows to a temporary file, while the connections of the box are still open,
+ * and the response is streamed from the buffer afterwards, instead of building it in memory. The
+ * buffer is released once the response is serialized, or once the reader over it is read to the
+ * end or closed.
+ */
+public class RequestBoxResponseDataSource implements OMDataSource {
+
+	private static final int BUFFER_CHUNKS = 64;
+
+	private static final int BUFFER_CHUNK_SIZE = 16 * 1024;
+
+	private static final String ENCODING = "UTF-8";
+
+	private OverflowBlob buffer;
+
+	private RequestBoxResponseDataSource(OverflowBlob buffer) {
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Executes the given result and returns the request box response wrapping it.
+	 *
+	 * @param result The result of the last request of the box
+	 * @return The request box response element, backed by the buffered result
+	 * @throws DataServiceFault
+	 */
+	public static OMElement createResponse(OMElement result) throws DataServiceFault {
+		OverflowBlob buffer = new OverflowBlob(BUFFER_CHUNKS, BUFFER_CHUNK_SIZE, "dss_request_box", ".xml");
+		try {
+			OutputStream out = buffer.getOutputStream();
+			XMLStreamWriter xmlWriter = DBUtils.getXMLOutputFactory().createXMLStreamWriter(out, ENCODING);
+			xmlWriter.writeStartElement(DBConstants.WSO2_DS_NAMESPACE,
+					DBConstants.DATA_SERVICE_REQUEST_BOX_RESPONSE_WRAPPER_ELEMENT);
+			xmlWriter.writeDefaultNamespace(DBConstants.WSO2_DS_NAMESPACE);
+			result.serializeAndConsume(xmlWriter);
+			xmlWriter.writeEndElement();
+			xmlWriter.close();
+			out.close();
+		} catch (IOException e) {
+			buffer.release();
+			throw new DataServiceFault(e, "Error in request box result serializing");
+		} catch (XMLStreamException e) {
+			buffer.release();
+			throw new DataServiceFault(e, "Error in request box result serializing");
+		}
+		return new OMSourcedElementImpl(new QName(DBConstants.WSO2_DS_NAMESPACE,
+				DBConstants.DATA_SERVICE_REQUEST_BOX_RESPONSE_WRAPPER_ELEMENT), DBUtils.getOMFactory(),
+				new RequestBoxResponseDataSource(buffer));
+	}
+
+	public void serialize(OutputStream output, OMOutputFormat format) throws XMLStreamException {
+		String encoding = format != null && format.getCharSetEncoding() != null ?
+				format.getCharSetEncoding() : ENCODING;
+		XMLStreamWriter xmlWriter = DBUtils.getXMLOutputFactory().createXMLStreamWriter(output, encoding);
+		this.serialize(xmlWriter);
+		xmlWriter.flush();
+	}
+
+	public void serialize(Writer writer, OMOutputFormat format) throws XMLStreamException {
+		XMLStreamWriter xmlWriter = DBUtils.getXMLOutputFactory().createXMLStreamWriter(writer);
+		this.serialize(xmlWriter);
+		xmlWriter.flush();
+	}
+
+	public void serialize(XMLStreamWriter xmlWriter) throws XMLStreamException {
+		XMLStreamReader reader = this.getReader();
+		try {
+			new StreamingOMSerializer().serialize(reader, xmlWriter);
+		} finally {
+			/* the response is consumed, so the buffer is released */
+			reader.close();
+		}
+	}
+
+	/**
+	 * Returns a reader over the buffered response. The buffer is released once the reader reaches
+	 * the end of the document or is closed, so the response can be read only once.
+	 */
+	public XMLStreamReader getReader() throws XMLStreamException {
+		OverflowBlob buffer;
+		synchronized (this) {
+			buffer = this.buffer;
+			this.buffer = null;
+		}
+		if (buffer == null) {
+			throw new XMLStreamException("The request box response has already been consumed");
+		}
+		return BufferedResultReader.create(buffer);
+	}
+
+}
@@ -22,9 +22,12 @@ import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
 import org.apache.axis2.databinding.utils.ConverterUtil;
 import org.apache.commons.codec.binary.Base64;
 import org.wso2.micro.integrator.dataservices.common.DBConstants;
@@ -38,8 +41,10 @@ import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +68,20 @@ public class CassandraQuery extends ExpressionQuery {
         }
     };
 
+    /**
+     * maximum number of batch request statements being executed at a time, when native batch requests are not used
+     */
+    private static final int MAX_IN_FLIGHT_BATCH_STATEMENTS = 64;
+
+    /**
+     * thread local variable to keep the statements being executed in batch processing
+     */
+    private ThreadLocal<Deque<ResultSetFuture>> batchStatementFutures = new ThreadLocal<Deque<ResultSetFuture>>() {
+        protected synchronized Deque<ResultSetFuture> initialValue() {
+            return new ArrayDeque<>();
+        }
+    };
+
     public CassandraQuery(DataService dataService, String queryId, String query, List<QueryParam> queryParams,
                           Result result, String configId, EventTrigger inputEventTrigger,
                           EventTrigger outputEventTrigger, Map<String, String> advancedProperties,
@@ -234,6 +253,8 @@ public class CassandraQuery extends ExpressionQuery {
                 if (DispatchStatus.isLastBatchRequest()) {
                     this.getSession().execute(this.batchStatement.get());
                 }
+            } else if (DispatchStatus.isBatchRequest()) {
+                this.executeBatchStatementAsync(new SimpleStatement(processedSQL, this.bindParams(params)));
             } else {
                 SimpleStatement statement = new SimpleStatement(processedSQL, this.bindParams(params));
                 rs = this.getSession().execute(statement);
@@ -249,6 +270,8 @@ public class CassandraQuery extends ExpressionQuery {
                 if (DispatchStatus.isLastBatchRequest()) {
                     this.getSession().execute(this.batchStatement.get());
                 }
+            } else if (DispatchStatus.isBatchRequest()) {
+                this.executeBatchStatementAsync(this.getStatement().bind(this.bindParams(params)));
             } else {
                 rs = this.getSession().execute(this.getStatement().bind(this.bindParams(params)));
             }
@@ -256,6 +279,47 @@ public class CassandraQuery extends ExpressionQuery {
         return rs;
     }
 
+    /**
+     * Executes a statement of a batch request asynchronously, while keeping at most MAX_IN_FLIGHT_BATCH_STATEMENTS
+     * statements being executed, and waits for all the statements of the batch at its last request.
+     * The statements of a batch request have no results, and the client side timestamps of the statements keep their
+     * order for the writes to the same row.
+     * As with the statements executed one by one, the batch stops at the first failed statement: no statement is
+     * submitted once a statement has failed, and the statements still pending are cancelled. The statements already
+     * sent to the database after the failed one, at most MAX_IN_FLIGHT_BATCH_STATEMENTS, may still be applied.
+     */
+    private void executeBatchStatementAsync(Statement statement) throws DataServiceFault {
+        Deque<ResultSetFuture> futures = this.batchStatementFutures.get();
+        if (DispatchStatus.isFirstBatchRequest()) {
+            futures.clear();
+        }
+        try {
+            /* surface the failure of a completed statement before submitting the next one */
+            for (Iterator<ResultSetFuture> itr = futures.iterator(); itr.hasNext();) {
+                ResultSetFuture future = itr.next();
+                if (future.isDone()) {
+                    itr.remove();
+                    future.getUninterruptibly();
+                }
+            }
+            futures.add(this.getSession().executeAsync(statement));
+            if (futures.size() > MAX_IN_FLIGHT_BATCH_STATEMENTS) {
+                futures.poll().getUninterruptibly();
+            }
+            if (DispatchStatus.isLastBatchRequest()) {
+                while (!futures.isEmpty()) {
+                    futures.poll().getUninterruptibly();
+                }
+            }
+        } catch (DriverException e) {
+            for (ResultSetFuture future : futures) {
+                future.cancel(true);
+            }
+            futures.clear();
+            throw new DataServiceFault(e, "Error in executing batch request: " + e.getMessage());
+        }
+    }
+
     @Override
     public void runPostQuery(Object result, XMLStreamWriter xmlWriter, InternalParamCollection params, int queryLevel)
             throws DataServiceFault {
@@ -147,6 +147,8 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
 
     private boolean forceJDBCBatchReqs;
 
+    private int jdbcBatchSize;
+
     private Calendar calendar;
 
     private boolean timeConvertEnabled = true;
@@ -246,6 +248,29 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
             log.warn("Unable to determine batch query support for query '" + this.getQueryId()
                     + "' : " + e.getMessage() + " - batch query support is disabled.");
         }
+        /* set the number of batch requests executed in a single JDBC batch */
+        this.jdbcBatchSize = this.calculateJDBCBatchSize(this.getAdvancedProperties());
+    }
+
+    /**
+     * Returns the JDBC batch size of this query, which is taken from the query properties, and then from the config
+     * properties. A batch size of zero or less executes the whole batch request in a single JDBC batch.
+     */
+    private int calculateJDBCBatchSize(Map<String, String> props) throws DataServiceFault {
+        String jdbcBatchSizeProp = props == null ? null : props.get(RDBMS.JDBC_BATCH_SIZE);
+        if (DBUtils.isEmptyString(jdbcBatchSizeProp)) {
+            jdbcBatchSizeProp = this.getConfig().getProperty(RDBMS.JDBC_BATCH_SIZE);
+        }
+        if (DBUtils.isEmptyString(jdbcBatchSizeProp)) {
+            return DBConstants.DEFAULT_JDBC_BATCH_SIZE;
+        }
+        jdbcBatchSizeProp = jdbcBatchSizeProp.trim();
+        try {
+            return Integer.parseInt(jdbcBatchSizeProp);
+        } catch (NumberFormatException e) {
+            throw new DataServiceFault(e, "Invalid JDBC batch size: " + jdbcBatchSizeProp
+                    + ", JDBC batch size should be an integer");
+        }
     }
 
     private boolean calculateResultOnlyOutParams() {
@@ -416,6 +441,10 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
         return forceJDBCBatchReqs;
     }
 
+    public int getJDBCBatchSize() {
+        return jdbcBatchSize;
+    }
+
     private void processAdvancedProps(Map<String, String> props) throws DataServiceFault {
         if (props == null) {
             return;
@@ -730,6 +759,17 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
                 .getBatchRequestCount()));
     }
 
+    /**
+     * Checks if the batched requests should be executed before the batch request ends, so that a large batch request
+     * is sent to the database in chunks of the JDBC batch size, instead of being held by the driver till the end.
+     * Queries with a result write the generated keys or the updated row count of the whole batch, hence they are
+     * executed only at the end.
+     */
+    private boolean isJDBCBatchFlushRequest() {
+        return (this.isJDBCBatchRequest() && !this.hasResult() && this.getJDBCBatchSize() > 0
+                && (DispatchStatus.getBatchRequestNumber() + 1) % this.getJDBCBatchSize() == 0);
+    }
+
     private void writeOutGeneratedKeys(Statement stmt, XMLStreamWriter xmlWriter,
                                        InternalParamCollection params, int queryLevel) throws DataServiceFault, SQLException {
         ResultSet krs = null;
@@ -788,8 +828,8 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
                                                            this.isReturnUpdatedRowCount()))) {
                 /* if we are in the middle of a batch request, don't execute it */
                 if (this.isJDBCBatchRequest()) {
-                    /* if this is the last one, execute the full batch */
-                    if (this.isJDBCLastBatchRequest()) {
+                    /* if this is the last one, or the batch is full, execute the batch */
+                    if (this.isJDBCLastBatchRequest() || this.isJDBCBatchFlushRequest()) {
                         stmt.executeBatch();
                     }
                 } else {
@@ -936,8 +976,8 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
                 (this.hasResult() && this.isReturnUpdatedRowCount())) {
                 /* if we are in the middle of a batch request, don't execute it */
                 if (this.isJDBCBatchRequest()) {
-                    /* if this is the last one, execute the full batch */
-                    if (this.isJDBCLastBatchRequest()) {
+                    /* if this is the last one, or the batch is full, execute the batch */
+                    if (this.isJDBCLastBatchRequest() || this.isJDBCBatchFlushRequest()) {
                         stmt.executeBatch();
                     }
                 } else {
@@ -1052,6 +1092,14 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
         }
         /* close the statement */
         if (stmt != null) {
+            /* a pooled statement may be reused, hence it should not keep the rows of a failed batch */
+            if (this.isJDBCBatchRequest()) {
+                try {
+                    stmt.clearBatch();
+                } catch (Exception ignore) {
+                    // ignore
+                }
+            }
             try {
                 stmt.close();
             } catch (Exception ignore) {
@@ -2404,7 +2452,23 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
     @Override
     public void releaseBatchRequestResources() {
         /* clear the TL batch prepared statement */
+        PreparedStatement stmt = this.getBatchPreparedStatement();
         this.batchPreparedStatement.set(null);
+        /* the statement is not closed yet if the batch request failed before reaching the last request */
+        if (stmt != null) {
+            try {
+                if (!stmt.isClosed()) {
+                    stmt.clearBatch();
+                }
+            } catch (Exception ignore) {
+                // ignore
+            }
+            try {
+                stmt.close();
+            } catch (Exception ignore) {
+                // ignore
+            }
+        }
     }
 
     private void setAutoCommit(Connection conn, boolean autoCommit) throws SQLException {
@@ -113,11 +113,11 @@ public class BatchDataServiceRequest extends DataServiceRequest {
 			/* no result in batch requests */
 			return result;
 		} finally {
-		    /* finalize transactions */
-            this.finalizeTx(error);
-			/* release participants */
+			/* release participants, before their connections are returned to the pool */
 			releaseParticipantResources();
 			clearParticipants();
+		    /* finalize transactions */
+            this.finalizeTx(error);
 			clearStatus();
 		}
 	}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.axiom.util.blob.OverflowBlob;
+import org.apache.axiom.util.stax.wrapper.XMLStreamReaderWrapper;
+import org.wso2.micro.integrator.dataservices.core.DBUtils;
+
+/**
+ * Reader over a result which is buffered in an {@link OverflowBlob}. The buffer, along with the
+ * temporary file it may have overflowed to, is released as soon as the reader reaches the end of
+ * the document, or when the reader is closed. A reader which is dropped before that, e.g. by a
+ * partially expanded element which is discarded, is tracked with a phantom reference, and its
+ * buffer is released when the next reader is created after it has been garbage collected.
+ */
+public class BufferedResultReader extends XMLStreamReaderWrapper {
+
+	private static final ReferenceQueue<BufferedResultReader> unreachableReaders =
+			new ReferenceQueue<BufferedResultReader>();
+
+	/* the phantom references must stay reachable themselves until they are enqueued */
+	private static final Set<BufferReference> bufferReferences = ConcurrentHashMap.newKeySet();
+
+	private final BufferReference bufferReference;
+
+	private BufferedResultReader(XMLStreamReader reader, InputStream in, OverflowBlob buffer) {
+		super(reader);
+		this.bufferReference = new BufferReference(this, in, buffer);
+		bufferReferences.add(this.bufferReference);
+	}
+
+	/**
+	 * Creates a reader over the given buffer, which must contain a complete XML document. The
+	 * reader owns the buffer from here on, and the buffer is released if the reader cannot be
+	 * created.
+	 *
+	 * @param buffer The buffer containing the result
+	 * @return The reader over the result
+	 * @throws XMLStreamException
+	 */
+	public static XMLStreamReader create(OverflowBlob buffer) throws XMLStreamException {
+		releaseUnreachable();
+		InputStream in;
+		try {
+			in = buffer.getInputStream();
+		} catch (IOException e) {
+			buffer.release();
+			throw new XMLStreamException("Error in reading the buffered result", e);
+		}
+		try {
+			return new BufferedResultReader(DBUtils.getXMLInputFactory().createXMLStreamReader(in), in,
+					buffer);
+		} catch (XMLStreamException | RuntimeException e) {
+			closeQuietly(in);
+			buffer.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Releases the buffers of the readers which were garbage collected without being read to the
+	 * end or closed.
+	 */
+	private static void releaseUnreachable() {
+		BufferReference reference;
+		while ((reference = (BufferReference) unreachableReaders.poll()) != null) {
+			reference.release();
+		}
+	}
+
+	private static void closeQuietly(InputStream in) {
+		try {
+			in.close();
+		} catch (IOException ignore) {
+			/* the buffer is released regardless */
+		}
+	}
+
+	@Override
+	public int next() throws XMLStreamException {
+		int event = super.next();
+		if (event == END_DOCUMENT) {
+			this.bufferReference.release();
+		}
+		return event;
+	}
+
+	@Override
+	public void close() throws XMLStreamException {
+		try {
+			super.close();
+		} finally {
+			this.bufferReference.release();
+		}
+	}
+
+	/**
+	 * Reference to a reader, which holds the buffer of the reader, so that it can be released
+	 * after the reader is no longer reachable.
+	 */
+	private static class BufferReference extends PhantomReference<BufferedResultReader> {
+
+		private InputStream in;
+
+		private OverflowBlob buffer;
+
+		BufferReference(BufferedResultReader reader, InputStream in, OverflowBlob buffer) {
+			super(reader, unreachableReaders);
+			this.in = in;
+			this.buffer = buffer;
+		}
+
+		synchronized void release() {
+			if (this.buffer != null) {
+				closeQuietly(this.in);
+				this.buffer.release();
+				this.buffer = null;
+				this.in = null;
+				bufferReferences.remove(this);
+				this.clear();
+			}
+		}
+	}
+
+}
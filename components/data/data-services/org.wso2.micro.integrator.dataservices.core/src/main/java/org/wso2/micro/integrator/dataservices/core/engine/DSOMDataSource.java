@@ -17,8 +17,7 @@
  */
 package org.wso2.micro.integrator.dataservices.core.engine;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.util.Map;
@@ -29,6 +28,7 @@ import javax.xml.stream.XMLStreamWriter;
 
 import org.apache.axiom.om.OMDataSource;
 import org.apache.axiom.om.OMOutputFormat;
+import org.apache.axiom.util.blob.OverflowBlob;
 import org.apache.commons.io.output.NullOutputStream;
 import org.wso2.micro.integrator.dataservices.core.DBUtils;import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
 
@@ -40,7 +40,10 @@ import org.wso2.micro.integrator.dataservices.core.DBUtils;import org.wso2.micro
  */
 public class DSOMDataSource implements OMDataSource {
 	
-	private static final int XMLREADER_DEFAULT_MESSAGE_SIZE = 1024;
+	/* the result is buffered in memory up to 64 chunks of 16KB for the reader, and the rest in a temporary file */
+	private static final int XMLREADER_BUFFER_CHUNKS = 64;
+
+	private static final int XMLREADER_BUFFER_CHUNK_SIZE = 16 * 1024;
 
 	private DataService dataService;
 	
@@ -105,13 +108,30 @@ public class DSOMDataSource implements OMDataSource {
 		this.execute(xmlWriter);
 	}
 
+	/**
+	 * Returns a reader over the result. The result is written to a buffer which overflows to a
+	 * temporary file, so that large results are not held in memory, and the reader pulls the
+	 * events from the buffer as they are consumed. The buffer is released once the reader
+	 * reaches the end of the document or is closed, or once the reader is garbage collected,
+	 * if it is dropped before that.
+	 */
 	public XMLStreamReader getReader() throws XMLStreamException {
-		ByteArrayOutputStream byteOut = new ByteArrayOutputStream(XMLREADER_DEFAULT_MESSAGE_SIZE);
-		XMLStreamWriter xmlWriter = DBUtils.getXMLOutputFactory().createXMLStreamWriter(byteOut);
-		this.serialize(xmlWriter);
-	    xmlWriter.close();
-		ByteArrayInputStream byteIn = new ByteArrayInputStream(byteOut.toByteArray());
-		return DBUtils.getXMLInputFactory().createXMLStreamReader(byteIn);
+		OverflowBlob buffer = new OverflowBlob(XMLREADER_BUFFER_CHUNKS, XMLREADER_BUFFER_CHUNK_SIZE,
+				"dss_result", ".xml");
+		try {
+			OutputStream out = buffer.getOutputStream();
+			XMLStreamWriter xmlWriter = DBUtils.getXMLOutputFactory().createXMLStreamWriter(out);
+			this.serialize(xmlWriter);
+			xmlWriter.close();
+			out.close();
+		} catch (IOException e) {
+			buffer.release();
+			throw new XMLStreamException("Error in buffering the result", e);
+		} catch (XMLStreamException | RuntimeException e) {
+			buffer.release();
+			throw e;
+		}
+		return BufferedResultReader.create(buffer);
 	}
 	
 }
@@ -18,20 +18,26 @@
 
 package org.wso2.micro.integrator.dataservices.core.odata;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ColumnMetadata;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Metadata;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.Token;
+import com.datastax.driver.core.TokenRange;
 import org.apache.axis2.databinding.utils.ConverterUtil;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.olingo.commons.api.ex.ODataRuntimeException;
 import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
 import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
 import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
 import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
@@ -45,13 +51,16 @@ import org.wso2.micro.integrator.dataservices.core.odata.expression.operand.Type
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -104,19 +113,19 @@ public class CassandraDataHandler implements ODataDataHandler {
     private final int chunkSize;
 
     /**
-     * To indicate initialization phase of streaming.
+     * Number of token ranges a table is split into when streaming the whole table.
      */
-    private boolean initializeStream;
+    private static final int STREAM_TOKEN_RANGE_COUNT = 16;
 
     /**
-     * Result Set for streaming.
+     * Number of token range scans executed ahead of the one being streamed.
      */
-    private ResultSet streamResultSet;
+    private static final int STREAM_TOKEN_RANGE_PREFETCH_COUNT = 4;
 
     /**
-     * List of sorted OData entries.
+     * Stream of the current read iteration of the thread.
      */
-    private ArrayList<ODataEntry> entryList;
+    private final ThreadLocal<StreamState> streamState = new ThreadLocal<>();
 
     private ThreadLocal<Boolean> transactionAvailable = new ThreadLocal<Boolean>() {
         protected synchronized Boolean initialValue() {
@@ -127,7 +136,7 @@ public class CassandraDataHandler implements ODataDataHandler {
     private static final int RECORD_INSERT_STATEMENTS_CACHE_SIZE = 10000;
 
     private Map<String, PreparedStatement> preparedStatementMap =
-            Collections.synchronizedMap(new LinkedHashMap<String, PreparedStatement>() {
+            Collections.synchronizedMap(new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
                 private static final long serialVersionUID = 1L;
 
                 @Override
@@ -143,7 +152,6 @@ public class CassandraDataHandler implements ODataDataHandler {
         this.tableList = generateTableList();
         this.primaryKeys = generatePrimaryKeyList();
         this.tableMetaData = generateMetaData();
-        this.initializeStream = false;
         this.chunkSize = ODataAdapter.getChunkSize();
     }
 
@@ -161,25 +169,40 @@ public class CassandraDataHandler implements ODataDataHandler {
         return entryList;
     }
 
+    /**
+     * This method reads the next chunk of the table rows. The table is split into token ranges, which are scanned in
+     * the token order, and the next few scans are executed asynchronously while the current one is being streamed.
+     *
+     * @param tableName Name of the table
+     * @return List of OData entries
+     * @throws ODataServiceFault
+     */
     public List<ODataEntry> streamTable(String tableName) throws ODataServiceFault {
-        if (this.initializeStream) {
-            this.initializeStream = false;
-            Statement statement = new SimpleStatement("SELECT * FROM " + this.keyspace + "." + tableName);
-            statement.setFetchSize(this.chunkSize);
-            this.streamResultSet = session.execute(statement);
-            this.streamResultSet.fetchMoreResults();
+        StreamState state = getStreamState();
+        if (state.pendingScans == null) {
+            state.pendingScans = new ArrayDeque<>(createTokenRangeScans(tableName));
+            state.executingScans = new ArrayDeque<>();
         }
         List<ODataEntry> entryList = new ArrayList<>();
-        ColumnDefinitions columnDefinitions = this.streamResultSet.getColumnDefinitions();
-        Iterator<Row> iterator = this.streamResultSet.iterator();
-        int processedEntryCount = 0;
-        while (iterator.hasNext()) {
-            ODataEntry dataEntry = createDataEntryFromRow(tableName, iterator.next(), columnDefinitions);
-            entryList.add(dataEntry);
-            processedEntryCount++;
-            if (processedEntryCount >= this.chunkSize) {
-                break;
+        while (entryList.size() < this.chunkSize) {
+            if (state.resultSet == null) {
+                executePendingScans(state);
+                ResultSetFuture scan = state.executingScans.poll();
+                if (scan == null) {
+                    break;
+                }
+                state.resultSet = scan.getUninterruptibly();
+                executePendingScans(state);
+            }
+            if (state.resultSet.isExhausted()) {
+                state.resultSet = null;
+                continue;
             }
+            entryList.add(createDataEntryFromRow(tableName, state.resultSet.one(),
+                                                 state.resultSet.getColumnDefinitions()));
+        }
+        if (state.resultSet != null && !state.resultSet.isFullyFetched()) {
+            state.resultSet.fetchMoreResults();
         }
         return entryList;
     }
@@ -188,49 +211,112 @@ public class CassandraDataHandler implements ODataDataHandler {
         throw new ODataServiceFault("Cassandra datasources doesn't support navigation.");
     }
 
-    public void initStreaming() {
-        this.initializeStream = true;
+    public void initStreaming(FilterOption filterOption) {
+        this.streamState.set(new StreamState());
+    }
+
+    @Override
+    public void endStreaming() {
+        this.streamState.remove();
     }
 
     public List<ODataEntry> streamTableWithOrder(String tableName, OrderByOption orderByOption)
             throws ODataServiceFault {
-        if (this.initializeStream) {
-            this.initializeStream = false;
-            this.entryList = new ArrayList<>();
+        StreamState state = getStreamState();
+        if (state.entryList == null) {
+            state.entryList = new LinkedList<>();
             Statement statement = new SimpleStatement("SELECT * FROM " + this.keyspace + "." + tableName);
+            statement.setFetchSize(this.chunkSize);
             ResultSet resultSet = session.execute(statement);
             ColumnDefinitions columnDefinitions = resultSet.getColumnDefinitions();
             Iterator<Row> iterator = resultSet.iterator();
             while (iterator.hasNext()) {
                 ODataEntry dataEntry = createDataEntryFromRow(tableName, iterator.next(), columnDefinitions);
-                this.entryList.add(dataEntry);
+                state.entryList.add(dataEntry);
             }
-            sortEntryList(orderByOption, tableName);
+            sortEntryList(state.entryList, orderByOption, tableName);
         }
         List<ODataEntry> resultSet = new ArrayList<>();
-        Iterator<ODataEntry> iterator = this.entryList.iterator();
-        int processedEntryCount = 0;
-        while (iterator.hasNext()) {
-            resultSet.add(iterator.next());
-            iterator.remove();
-            processedEntryCount++;
-            if (processedEntryCount >= this.chunkSize) {
-                break;
-            }
+        while (!state.entryList.isEmpty() && resultSet.size() < this.chunkSize) {
+            resultSet.add(state.entryList.removeFirst());
         }
         return resultSet;
     }
 
+    private StreamState getStreamState() {
+        StreamState state = this.streamState.get();
+        if (state == null) {
+            state = new StreamState();
+            this.streamState.set(state);
+        }
+        return state;
+    }
+
+    /**
+     * This method creates the statements which scan the token ranges of a table, in the token order.
+     * The token ranges of the ring are merged into at most STREAM_TOKEN_RANGE_COUNT contiguous ranges.
+     *
+     * @param tableName Name of the table
+     * @return List of statements
+     */
+    private List<Statement> createTokenRangeScans(String tableName) {
+        List<Statement> scans = new ArrayList<>();
+        Metadata metadata = this.session.getCluster().getMetadata();
+        TableMetadata table = metadata.getKeyspace(this.keyspace).getTable(tableName);
+        List<TokenRange> tokenRanges = new ArrayList<>();
+        for (TokenRange tokenRange : metadata.getTokenRanges()) {
+            tokenRanges.addAll(tokenRange.unwrap());
+        }
+        if (table == null || tokenRanges.size() < 2) {
+            Statement statement = new SimpleStatement("SELECT * FROM " + this.keyspace + "." + tableName);
+            statement.setFetchSize(this.chunkSize);
+            scans.add(statement);
+            return scans;
+        }
+        Collections.sort(tokenRanges);
+        List<String> partitionKey = new ArrayList<>();
+        for (ColumnMetadata column : table.getPartitionKey()) {
+            partitionKey.add(Metadata.quoteIfNecessary(column.getName()));
+        }
+        String token = "token(" + String.join(", ", partitionKey) + ")";
+        String query = "SELECT * FROM " + this.keyspace + "." + tableName + " WHERE " + token + " > ?";
+        PreparedStatement lastRangeStatement = getPreparedStatement(query);
+        PreparedStatement rangeStatement = getPreparedStatement(query + " AND " + token + " <= ?");
+        // after unwrapping, the first range starts and the last range ends with the minimum token
+        Token minToken = tokenRanges.get(0).getStart();
+        int rangesPerScan = (tokenRanges.size() + STREAM_TOKEN_RANGE_COUNT - 1) / STREAM_TOKEN_RANGE_COUNT;
+        for (int i = 0; i < tokenRanges.size(); i += rangesPerScan) {
+            Token start = tokenRanges.get(i).getStart();
+            Token end = tokenRanges.get(Math.min(i + rangesPerScan, tokenRanges.size()) - 1).getEnd();
+            BoundStatement statement;
+            if (end.equals(minToken)) {
+                statement = lastRangeStatement.bind().setToken(0, start);
+            } else {
+                statement = rangeStatement.bind().setToken(0, start).setToken(1, end);
+            }
+            statement.setFetchSize(this.chunkSize);
+            scans.add(statement);
+        }
+        return scans;
+    }
+
+    private void executePendingScans(StreamState state) {
+        while (state.executingScans.size() < STREAM_TOKEN_RANGE_PREFETCH_COUNT && !state.pendingScans.isEmpty()) {
+            state.executingScans.add(this.session.executeAsync(state.pendingScans.poll()));
+        }
+    }
+
     /**
      * This method sort the list of OData entries.
      * To support OData orderby query option.
      *
+     * @param entryList     List of OData entries
      * @param orderByOption keys to consider when sorting
      * @param tableName     Name of the table
      */
-    private void sortEntryList(final OrderByOption orderByOption, String tableName) {
+    private void sortEntryList(List<ODataEntry> entryList, final OrderByOption orderByOption, String tableName) {
         ExpressionVisitorODataEntryImpl.setTableMetaData(this.getTableMetadata().get(tableName).values());
-        Collections.sort(this.entryList, new Comparator<ODataEntry>() {
+        Collections.sort(entryList, new Comparator<ODataEntry>() {
             @Override
             @SuppressWarnings({ "unchecked", "rawtypes" })
             public int compare(final ODataEntry e1, final ODataEntry e2) {
@@ -284,11 +370,7 @@ public class CassandraDataHandler implements ODataDataHandler {
                 bindParams(column, keys.getValue(column), values, cassandraTableMetaData);
             }
         }
-        PreparedStatement statement = this.preparedStatementMap.get(query);
-        if (statement == null) {
-            statement = this.session.prepare(query);
-            this.preparedStatementMap.put(query, statement);
-        }
+        PreparedStatement statement = getPreparedStatement(query);
         ResultSet resultSet = this.session.execute(statement.bind(values.toArray()));
         List<ODataEntry> entryList = new ArrayList<>();
         Iterator<Row> iterator = resultSet.iterator();
@@ -319,11 +401,7 @@ public class CassandraDataHandler implements ODataDataHandler {
                 bindParams(columnName, entity.getValue(columnName), values, cassandraTableMetaData);
             }
         }
-        PreparedStatement statement = this.preparedStatementMap.get(query);
-        if (statement == null) {
-            statement = this.session.prepare(query);
-            this.preparedStatementMap.put(query, statement);
-        }
+        PreparedStatement statement = getPreparedStatement(query);
         this.session.execute(statement.bind(values.toArray()));
         entity.addValue(ODataConstants.E_TAG, ODataUtils.generateETag(this.configID, tableName, entity));
         return entity;
@@ -349,11 +427,7 @@ public class CassandraDataHandler implements ODataDataHandler {
                 bindParams(column, entity.getValue(column), values, cassandraTableMetaData);
             }
         }
-        PreparedStatement statement = this.preparedStatementMap.get(query);
-        if (statement == null) {
-            statement = this.session.prepare(query);
-            this.preparedStatementMap.put(query, statement);
-        }
+        PreparedStatement statement = getPreparedStatement(query);
         ResultSet result = this.session.execute(statement.bind(values.toArray()));
         return result.wasApplied();
     }
@@ -374,11 +448,7 @@ public class CassandraDataHandler implements ODataDataHandler {
                 bindParams(column, entity.getValue(column), values, cassandraTableMetaData);
             }
         }
-        PreparedStatement statement = this.preparedStatementMap.get(query);
-        if (statement == null) {
-            statement = this.session.prepare(query);
-            this.preparedStatementMap.put(query, statement);
-        }
+        PreparedStatement statement = getPreparedStatement(query);
         ResultSet result = this.session.execute(statement.bind(values.toArray()));
         return result.wasApplied();
     }
@@ -400,11 +470,7 @@ public class CassandraDataHandler implements ODataDataHandler {
                 bindParams(column, newProperties.getValue(column), values, cassandraTableMetaData);
             }
         }
-        PreparedStatement statement = this.preparedStatementMap.get(query);
-        if (statement == null) {
-            statement = this.session.prepare(query);
-            this.preparedStatementMap.put(query, statement);
-        }
+        PreparedStatement statement = getPreparedStatement(query);
         ResultSet result = this.session.execute(statement.bind(values.toArray()));
         return result.wasApplied();
     }
@@ -431,11 +497,7 @@ public class CassandraDataHandler implements ODataDataHandler {
                 bindParams(column, oldProperties.getValue(column), values, cassandraTableMetaData);
             }
         }
-        PreparedStatement statement = this.preparedStatementMap.get(query);
-        if (statement == null) {
-            statement = this.session.prepare(query);
-            this.preparedStatementMap.put(query, statement);
-        }
+        PreparedStatement statement = getPreparedStatement(query);
         ResultSet result = this.session.execute(statement.bind(values.toArray()));
         return result.wasApplied();
     }
@@ -606,6 +668,15 @@ public class CassandraDataHandler implements ODataDataHandler {
         return entry;
     }
 
+    private PreparedStatement getPreparedStatement(String query) {
+        PreparedStatement statement = this.preparedStatementMap.get(query);
+        if (statement == null) {
+            statement = this.session.prepare(query);
+            this.preparedStatementMap.put(query, statement);
+        }
+        return statement;
+    }
+
     private List<String> generateTableList() {
         List<String> tableList = new ArrayList<>();
         for (TableMetadata tableMetadata : this.session.getCluster().getMetadata().getKeyspace(this.keyspace)
@@ -989,4 +1060,29 @@ public class CassandraDataHandler implements ODataDataHandler {
         }
     }
 
+    /**
+     * Stream of a read iteration.
+     */
+    private static class StreamState {
+
+        /**
+         * Token range scans to be executed.
+         */
+        private Deque<Statement> pendingScans;
+
+        /**
+         * Token range scans being executed, in the token order.
+         */
+        private Deque<ResultSetFuture> executingScans;
+
+        /**
+         * Result set of the token range scan being streamed.
+         */
+        private ResultSet resultSet;
+
+        /**
+         * List of sorted OData entries.
+         */
+        private LinkedList<ODataEntry> entryList;
+    }
 }
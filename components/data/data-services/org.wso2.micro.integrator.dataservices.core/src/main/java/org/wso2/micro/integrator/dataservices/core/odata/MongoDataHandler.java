@@ -19,20 +19,32 @@
 package org.wso2.micro.integrator.dataservices.core.odata;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.MongoCursorNotFoundException;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourcePrimitiveProperty;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
 import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
 import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
+import org.apache.olingo.server.api.uri.queryoption.expression.Binary;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.Literal;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.json.JSONObject;
 import org.wso2.micro.integrator.dataservices.core.engine.DataEntry;
@@ -73,9 +85,9 @@ public class MongoDataHandler implements ODataDataHandler {
     private final int chunkSize;
 
     /**
-     * Number of entities to be skipped during the current read iteration.
+     * Stream of the current read iteration of the thread.
      */
-    private int skipEntityCount;
+    private final ThreadLocal<StreamState> streamState = new ThreadLocal<>();
 
     public MongoDataHandler(String configId, MongoDatabase mongoDatabase) {
         this.configId = configId;
@@ -191,59 +203,225 @@ public class MongoDataHandler implements ODataDataHandler {
         return entryList;
     }
 
+    /**
+     * This method reads the next chunk of the collection documents, in the order of the document ids.
+     * A single cursor is kept for the whole read iteration, and if the server has discarded it, the read resumes
+     * after the id of the last read document.
+     *
+     * @param tableName Name of the table
+     * @return List of OData entries
+     */
     public List<ODataEntry> streamTable(String tableName) {
-        try (MongoCursor<Document> cursor = mongoDatabase.getCollection(tableName).find()
-                .skip(skipEntityCount)
-                .limit(chunkSize)
-                .iterator()) {
-            return readStreamResultSet(tableName, cursor);
-        }
+        StreamState state = getStreamState();
+        MongoCollection<Document> collection = mongoDatabase.getCollection(tableName);
+        return readStreamResultSet(tableName, state, () -> {
+            Bson query = state.query;
+            if (state.lastDocumentId != null) {
+                Document range = new Document(DOCUMENT_ID, new Document("$gt", state.lastDocumentId));
+                query = new Document("$and", Arrays.asList(state.query, range));
+            }
+            return collection.find(query)
+                    .sort(new Document(DOCUMENT_ID, 1))
+                    .batchSize(chunkSize)
+                    .iterator();
+        });
     }
 
     public List<ODataEntry> streamTableWithKeys(String tableName, ODataEntry keys) throws ODataServiceFault {
         throw new ODataServiceFault("MongoDB datasources doesn't support navigation.");
     }
 
-    public void initStreaming() {
-        this.skipEntityCount = 0;
+    public void initStreaming(FilterOption filterOption) {
+        StreamState state = this.streamState.get();
+        if (state != null) {
+            state.closeCursor();
+        }
+        state = new StreamState();
+        if (filterOption != null) {
+            Document query = getFilterQuery(filterOption.getExpression());
+            if (query != null) {
+                state.query = query;
+            }
+        }
+        this.streamState.set(state);
     }
 
-    public List<ODataEntry> streamTableWithOrder(String tableName, OrderByOption orderByOption) {
-        MongoCollection<Document> readResult = mongoDatabase.getCollection(tableName);
-        List<BasicDBObject> stages = getSortStage(orderByOption);
+    @Override
+    public void endStreaming() {
+        StreamState state = this.streamState.get();
+        if (state != null) {
+            state.closeCursor();
+            this.streamState.remove();
+        }
+    }
 
-        BasicDBObject skip = new BasicDBObject();
-        skip.put("$skip", this.skipEntityCount);
-        stages.add(skip);
-        BasicDBObject limit = new BasicDBObject();
-        limit.put("$limit", this.chunkSize);
-        stages.add(limit);
-        MongoCursor<Document> iterator = readResult.aggregate(stages).iterator();
-        return readStreamResultSet(tableName, iterator);
+    /**
+     * This method reads the next chunk of the collection documents, in the given order.
+     * A single cursor is kept for the whole read iteration, and if the server has discarded it, the read resumes
+     * after the number of documents read so far, the document id breaks the ties of the order.
+     *
+     * @param tableName     Name of the table
+     * @param orderByOption List of keys to consider when sorting
+     * @return List of OData entries
+     */
+    public List<ODataEntry> streamTableWithOrder(String tableName, OrderByOption orderByOption) {
+        StreamState state = getStreamState();
+        MongoCollection<Document> collection = mongoDatabase.getCollection(tableName);
+        return readStreamResultSet(tableName, state, () -> {
+            List<BasicDBObject> stages = new ArrayList<>();
+            if (!state.query.isEmpty()) {
+                BasicDBObject match = new BasicDBObject();
+                match.put("$match", state.query);
+                stages.add(match);
+            }
+            stages.addAll(getSortStage(orderByOption));
+            if (state.readCount > 0) {
+                BasicDBObject skip = new BasicDBObject();
+                skip.put("$skip", state.readCount);
+                stages.add(skip);
+            }
+            return collection.aggregate(stages).batchSize(chunkSize).iterator();
+        });
     }
 
     /**
-     * This method reads the stream result set to generate a list of OData entries.
+     * This method reads the next chunk of the stream result set to generate a list of OData entries.
      *
-     * @param tableName Name of the table
-     * @param iterator  Iterator of the results set
-     * @return
+     * @param tableName  Name of the table
+     * @param state      Stream of the current read iteration
+     * @param openCursor Opens the cursor of the result set from the last read document
+     * @return List of OData entries
      */
-    private List<ODataEntry> readStreamResultSet(String tableName, MongoCursor<Document> iterator) {
+    private List<ODataEntry> readStreamResultSet(String tableName, StreamState state,
+                                                 Supplier<MongoCursor<Document>> openCursor) {
         List<ODataEntry> entryList = new ArrayList<>();
-        while (iterator.hasNext()) {
-            Document documentData = iterator.next();
-            String tempValue = documentData.toJson();
-            Iterator<String> keys = new JSONObject(tempValue).keys();
-            ODataEntry dataEntry = createDataEntryFromResult(documentData, keys);
-            //Set Etag to the entity
-            dataEntry.addValue(ETAG, ODataUtils.generateETag(this.configId, tableName, dataEntry));
-            entryList.add(dataEntry);
+        boolean resumed = false;
+        try {
+            while (!state.exhausted && entryList.size() < this.chunkSize) {
+                if (state.cursor == null) {
+                    state.cursor = openCursor.get();
+                }
+                Document documentData;
+                try {
+                    if (!state.cursor.hasNext()) {
+                        state.closeCursor();
+                        state.exhausted = true;
+                        break;
+                    }
+                    documentData = state.cursor.next();
+                } catch (MongoCursorNotFoundException e) {
+                    // the cursor has timed out on the server while the previous chunk was being written
+                    state.closeCursor();
+                    if (resumed) {
+                        throw e;
+                    }
+                    resumed = true;
+                    continue;
+                }
+                state.lastDocumentId = documentData.get(DOCUMENT_ID);
+                state.readCount++;
+                String tempValue = documentData.toJson();
+                Iterator<String> keys = new JSONObject(tempValue).keys();
+                ODataEntry dataEntry = createDataEntryFromResult(documentData, keys);
+                //Set Etag to the entity
+                dataEntry.addValue(ETAG, ODataUtils.generateETag(this.configId, tableName, dataEntry));
+                entryList.add(dataEntry);
+            }
+        } catch (RuntimeException e) {
+            // the stream cannot be continued, so the cursor is not left open on the thread
+            endStreaming();
+            throw e;
         }
-        this.skipEntityCount += this.chunkSize;
         return entryList;
     }
 
+    private StreamState getStreamState() {
+        StreamState state = this.streamState.get();
+        if (state == null) {
+            state = new StreamState();
+            this.streamState.set(state);
+        }
+        return state;
+    }
+
+    /**
+     * This method translates an OData filter expression to a MongoDB query, which matches every document the filter
+     * may match. Only the equality of a property to a string literal, and the conjunctions and disjunctions of them
+     * are translated, a conjunction keeps its translatable side, and null is returned for the rest.
+     *
+     * @param expression Filter expression
+     * @return MongoDB query, or null if the expression cannot be translated
+     */
+    private Document getFilterQuery(Expression expression) {
+        if (!(expression instanceof Binary)) {
+            return null;
+        }
+        Binary binary = (Binary) expression;
+        if (binary.getOperator() == BinaryOperatorKind.EQ) {
+            Document query = getEqualityQuery(binary.getLeftOperand(), binary.getRightOperand());
+            return query != null ? query : getEqualityQuery(binary.getRightOperand(), binary.getLeftOperand());
+        }
+        Document left = getFilterQuery(binary.getLeftOperand());
+        Document right = getFilterQuery(binary.getRightOperand());
+        if (binary.getOperator() == BinaryOperatorKind.AND) {
+            if (left == null || right == null) {
+                return left != null ? left : right;
+            }
+            return new Document("$and", Arrays.asList(left, right));
+        } else if (binary.getOperator() == BinaryOperatorKind.OR && left != null && right != null) {
+            return new Document("$or", Arrays.asList(left, right));
+        }
+        return null;
+    }
+
+    /**
+     * This method translates the equality of a property to a string literal. The entity values are the string forms
+     * of the document values, hence the query matches the string, number, ObjectId and boolean values having the
+     * literal as the string form, and the values of the other types, which are left to the filter.
+     *
+     * @param member  Property operand
+     * @param literal Literal operand
+     * @return MongoDB query, or null if the operands cannot be translated
+     */
+    private Document getEqualityQuery(Expression member, Expression literal) {
+        if (!(member instanceof Member) || !(literal instanceof Literal)) {
+            return null;
+        }
+        List<UriResource> uriResourceParts = ((Member) member).getResourcePath().getUriResourceParts();
+        String text = ((Literal) literal).getText();
+        if (uriResourceParts.size() != 1 || !(uriResourceParts.get(0) instanceof UriResourcePrimitiveProperty)
+                || text == null || text.length() < 2 || !text.startsWith("'") || !text.endsWith("'")) {
+            return null;
+        }
+        String field = ((UriResourcePrimitiveProperty) uriResourceParts.get(0)).getProperty().getName();
+        if (field.startsWith("$") || field.contains(".")) {
+            return null;
+        }
+        String value = text.substring(1, text.length() - 1).replace("''", "'");
+        List<Document> matches = new ArrayList<>();
+        matches.add(new Document(field, value));
+        try {
+            matches.add(new Document(field, Long.parseLong(value)));
+        } catch (NumberFormatException ignore) {
+            // not an integer
+        }
+        try {
+            matches.add(new Document(field, Double.parseDouble(value)));
+        } catch (NumberFormatException ignore) {
+            // not a number
+        }
+        if (ObjectId.isValid(value)) {
+            matches.add(new Document(field, new ObjectId(value)));
+        }
+        if (Boolean.TRUE.toString().equals(value) || Boolean.FALSE.toString().equals(value)) {
+            matches.add(new Document(field, Boolean.valueOf(value)));
+        }
+        matches.add(new Document(field, new Document("$not", new Document("$type", Arrays.asList(
+                "string", "int", "long", "double", "objectId", "bool")))));
+        matches.add(new Document(field, new Document("$type", "array")));
+        return new Document("$or", matches);
+    }
+
     /**
      * This method arranges the sort stage of the aggregator.
      *
@@ -270,6 +448,10 @@ public class MongoDataHandler implements ODataDataHandler {
                 sortList.put(exprArr[1] + "Len", order);
             }
         }
+        if (!sortList.containsField(DOCUMENT_ID)) {
+            // breaks the ties, so that the order is the same when the stream is resumed
+            sortList.put(DOCUMENT_ID, 1);
+        }
         BasicDBObject addFields = new BasicDBObject();
         addFields.put("$addFields", fieldList);
         BasicDBObject sort = new BasicDBObject();
@@ -528,4 +710,23 @@ public class MongoDataHandler implements ODataDataHandler {
     public int getEntityCountWithKeys(String tableName, ODataEntry keys) throws ODataServiceFault {
         throw new ODataServiceFault("MongoDB datasources doesn't support navigation.");
     }
+
+    /**
+     * Stream of a read iteration.
+     */
+    private static class StreamState {
+
+        private Document query = new Document();
+        private MongoCursor<Document> cursor;
+        private Object lastDocumentId;
+        private int readCount;
+        private boolean exhausted;
+
+        private void closeCursor() {
+            if (cursor != null) {
+                cursor.close();
+                cursor = null;
+            }
+        }
+    }
 }
@@ -57,6 +57,7 @@ import org.apache.olingo.commons.api.http.HttpHeader;
 import org.apache.olingo.commons.api.http.HttpMethod;
 import org.apache.olingo.commons.api.http.HttpStatusCode;
 import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ODataContent;
 import org.apache.olingo.server.api.ODataContentWriteErrorCallback;
 import org.apache.olingo.server.api.ODataContentWriteErrorContext;
 import org.apache.olingo.server.api.ODataLibraryException;
@@ -113,6 +114,7 @@ import org.wso2.micro.integrator.dataservices.core.engine.DataEntry;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -257,6 +259,37 @@ public class ODataAdapter implements ServiceHandler {
         boolean writeOnlyReference;
     }
 
+    /**
+     * Content of a streamed entity collection, which ends the stream of the data handler once the content is written,
+     * whether the entities are read to the end or not.
+     */
+    private class StreamingODataContent implements ODataContent {
+
+        private final ODataContent content;
+
+        StreamingODataContent(ODataContent content) {
+            this.content = content;
+        }
+
+        @Override
+        public void write(WritableByteChannel channel) {
+            try {
+                this.content.write(channel);
+            } finally {
+                dataHandler.endStreaming();
+            }
+        }
+
+        @Override
+        public void write(OutputStream stream) {
+            try {
+                this.content.write(stream);
+            } finally {
+                dataHandler.endStreaming();
+            }
+        }
+    }
+
     /**
      * This method process the read requests.
      *
@@ -437,8 +470,12 @@ public class ODataAdapter implements ServiceHandler {
         response.accepts(new ServiceResponseVisior() {
             @Override
             public void visit(CountResponse response) throws SerializerException {
-                while (details.iterator.hasNext()) {
-                    details.iterator.next();
+                try {
+                    while (details.iterator.hasNext()) {
+                        details.iterator.next();
+                    }
+                } finally {
+                    dataHandler.endStreaming();
                 }
                 response.writeCount(details.iterator.getCount());
             }
@@ -499,7 +536,8 @@ public class ODataAdapter implements ServiceHandler {
                         response.getODataResponse().setHeader(HttpHeader.CONTENT_TYPE,
                                                               ContentType.APPLICATION_XML.toString());
                     }
-                    response.getODataResponse().setODataContent(serializerResult.getODataContent());
+                    response.getODataResponse().setODataContent(
+                            new StreamingODataContent(serializerResult.getODataContent()));
                     response.getODataResponse().setStatusCode(HttpStatusCode.OK.getStatusCode());
                 }
             }
@@ -1284,7 +1322,7 @@ public class ODataAdapter implements ServiceHandler {
      */
     public EntityIterator createEntityIterator(EdmEntitySet edmEntitySet, String baseURL, QueryOptions queryOptions,
                                                ODataEntry properties, String tableName) throws ODataServiceFault {
-        this.dataHandler.initStreaming();
+        this.dataHandler.initStreaming(queryOptions.getFilterOption());
         List<Entity> entityList = new ArrayList<Entity>();
         Iterator<Entity> it = entityList.iterator();
         int rowsCount = -1;
@@ -1329,6 +1367,9 @@ public class ODataAdapter implements ServiceHandler {
                         } else {
                             entries = oDataAdapter.dataHandler.streamTable(tableName);
                         }
+                        if (entries.isEmpty()) {
+                            return false;
+                        }
 
                         String baseURL = this.getBaseURL();
                         for (int i = 0; i < entries.size(); i++) {
@@ -1395,6 +1436,7 @@ public class ODataAdapter implements ServiceHandler {
                         return this.iterator.hasNext();
 
                     } catch (ODataServiceFault | ODataApplicationException | ExpressionVisitException e) {
+                        this.getAdapter().dataHandler.endStreaming();
                         throw new ODataRuntimeException(
                                 "Error occurred while processing the entities. :" + e.getMessage(), e);
                     }
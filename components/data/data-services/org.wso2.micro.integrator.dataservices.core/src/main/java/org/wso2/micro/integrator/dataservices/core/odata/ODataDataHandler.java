@@ -18,6 +18,7 @@
 
 package org.wso2.micro.integrator.dataservices.core.odata;
 
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
 import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
 import org.wso2.micro.integrator.dataservices.core.engine.DataEntry;
 
@@ -220,6 +221,16 @@ public interface ODataDataHandler {
 
     /**
      * This method initializes the ODataHandlers for streaming.
+     * The filter of the query is evaluated on the streamed entities, a handler may use it to skip the entities
+     * which cannot match the filter at the datasource.
+     *
+     * @param filterOption Filter of the query, null if the query is not filtered
+     */
+    void initStreaming(FilterOption filterOption);
+
+    /**
+     * This method releases the resources of the current stream, once the streamed entities are written, or the
+     * stream is abandoned before it is read to the end.
      */
-    void initStreaming();
+    void endStreaming();
 }
@@ -22,6 +22,7 @@ import org.apache.axis2.databinding.utils.ConverterUtil;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
 import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
 import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
 import org.wso2.micro.integrator.dataservices.common.DBConstants;
@@ -420,10 +421,15 @@ public class RDBMSDataHandler implements ODataDataHandler {
         }
     }
 
-    public void initStreaming() {
+    public void initStreaming(FilterOption filterOption) {
         this.initializeStream = true;
     }
 
+    @Override
+    public void endStreaming() {
+        // the result set of a chunk is closed once the chunk is read
+    }
+
     public int getEntityCountWithKeys(String tableName, ODataEntry keys) throws ODataServiceFault {
         ResultSet resultSet = null;
         Connection connection = null;
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.test.boxcarring;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.StringWriter;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import junit.framework.TestCase;
+
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.OMDataSource;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMFactory;
+import org.apache.axiom.om.OMNamespace;
+import org.apache.axiom.om.OMSourcedElement;
+import org.wso2.micro.integrator.dataservices.common.DBConstants;
+import org.wso2.micro.integrator.dataservices.core.boxcarring.RequestBoxResponseDataSource;
+
+/**
+ * Class to represent the test cases of the request box response, which is buffered in memory, or
+ * in a temporary file when it is larger than 1MB.
+ */
+public class RequestBoxResponseDataSourceTest extends TestCase {
+
+	private static final String TEMP_FILE_PREFIX = "dss_request_box";
+
+	/* entries of about 60 bytes each, so that the result overflows the 1MB held in memory */
+	private static final int LARGE_RESULT_SIZE = 30000;
+
+	public RequestBoxResponseDataSourceTest(String testName) {
+		super(testName);
+	}
+
+	private static OMElement createResult(int entryCount) {
+		OMFactory factory = OMAbstractFactory.getOMFactory();
+		OMNamespace namespace = factory.createOMNamespace(DBConstants.WSO2_DS_NAMESPACE, "");
+		OMElement result = factory.createOMElement("Entries", namespace);
+		for (int i = 0; i < entryCount; i++) {
+			OMElement entry = factory.createOMElement("Entry", namespace, result);
+			factory.createOMElement("id", namespace, entry).setText(String.valueOf(i));
+			factory.createOMElement("name", namespace, entry).setText("request-box-entry-" + i);
+		}
+		return result;
+	}
+
+	private static int countTempFiles() {
+		String[] files = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+			@Override
+			public boolean accept(File dir, String name) {
+				return name.startsWith(TEMP_FILE_PREFIX);
+			}
+		});
+		return files == null ? 0 : files.length;
+	}
+
+	private static OMDataSource getDataSource(OMElement response) {
+		assertTrue(response instanceof OMSourcedElement);
+		return ((OMSourcedElement) response).getDataSource();
+	}
+
+	private static String serialize(OMDataSource dataSource) throws XMLStreamException {
+		StringWriter writer = new StringWriter();
+		dataSource.serialize(writer, null);
+		return writer.toString();
+	}
+
+	public void testSmallResponse() throws Exception {
+		int tempFiles = countTempFiles();
+		OMElement response = RequestBoxResponseDataSource.createResponse(createResult(10));
+		assertEquals("Small response is written to a temporary file", tempFiles, countTempFiles());
+		String xml = serialize(getDataSource(response));
+		assertTrue(xml.contains(DBConstants.DATA_SERVICE_REQUEST_BOX_RESPONSE_WRAPPER_ELEMENT));
+		assertTrue(xml.contains("<name>request-box-entry-9</name>"));
+	}
+
+	public void testOverflowingResponse() throws Exception {
+		int tempFiles = countTempFiles();
+		OMElement response = RequestBoxResponseDataSource.createResponse(createResult(LARGE_RESULT_SIZE));
+		assertEquals("Large response is not written to a temporary file", tempFiles + 1, countTempFiles());
+		String xml = serialize(getDataSource(response));
+		assertTrue(xml.length() > 1024 * 1024);
+		assertTrue(xml.contains("<name>request-box-entry-" + (LARGE_RESULT_SIZE - 1) + "</name>"));
+	}
+
+	public void testReleaseAfterSerialize() throws Exception {
+		int tempFiles = countTempFiles();
+		OMElement response = RequestBoxResponseDataSource.createResponse(createResult(LARGE_RESULT_SIZE));
+		OMDataSource dataSource = getDataSource(response);
+		serialize(dataSource);
+		assertEquals("Temporary file is not deleted after serializing", tempFiles, countTempFiles());
+		try {
+			dataSource.getReader();
+			fail("Consumed request box response is not expected to be read again");
+		} catch (XMLStreamException ignore) {
+			// expected
+		}
+	}
+
+	public void testReleaseOnReaderClose() throws Exception {
+		int tempFiles = countTempFiles();
+		OMElement response = RequestBoxResponseDataSource.createResponse(createResult(LARGE_RESULT_SIZE));
+		XMLStreamReader reader = getDataSource(response).getReader();
+		reader.next();
+		reader.next();
+		assertEquals(tempFiles + 1, countTempFiles());
+		reader.close();
+		assertEquals("Temporary file is not deleted after closing the reader", tempFiles, countTempFiles());
+	}
+
+	public void testReleaseAtEndOfReader() throws Exception {
+		int tempFiles = countTempFiles();
+		OMElement response = RequestBoxResponseDataSource.createResponse(createResult(LARGE_RESULT_SIZE));
+		XMLStreamReader reader = getDataSource(response).getReader();
+		while (reader.hasNext()) {
+			reader.next();
+		}
+		assertEquals("Temporary file is not deleted after reading the response", tempFiles, countTempFiles());
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.test.engine;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.stream.XMLStreamReader;
+
+import junit.framework.TestCase;
+
+import org.apache.axiom.util.blob.OverflowBlob;
+import org.wso2.micro.integrator.dataservices.core.engine.BufferedResultReader;
+
+/**
+ * Class to represent the test cases of releasing the buffers of the result readers.
+ */
+public class BufferedResultReaderTest extends TestCase {
+
+	private static final long GC_TIMEOUT = 30 * 1000;
+
+	public BufferedResultReaderTest(String testName) {
+		super(testName);
+	}
+
+	private static CountingBlob createBuffer(int rowCount) throws Exception {
+		/* a single 1KB chunk in memory, so that larger results overflow to a temporary file */
+		CountingBlob buffer = new CountingBlob();
+		OutputStream out = buffer.getOutputStream();
+		StringBuilder builder = new StringBuilder("<Entries>");
+		for (int i = 0; i < rowCount; i++) {
+			builder.append("<Entry><id>").append(i).append("</id><name>entry-").append(i)
+					.append("</name></Entry>");
+		}
+		builder.append("</Entries>");
+		out.write(builder.toString().getBytes(StandardCharsets.UTF_8));
+		out.close();
+		return buffer;
+	}
+
+	private static int countElements(XMLStreamReader reader) throws Exception {
+		int count = 0;
+		while (reader.hasNext()) {
+			if (reader.next() == XMLStreamReader.START_ELEMENT) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public void testReleaseAtEndOfDocument() throws Exception {
+		CountingBlob buffer = createBuffer(10);
+		XMLStreamReader reader = BufferedResultReader.create(buffer);
+		assertEquals(31, countElements(reader));
+		assertEquals(1, buffer.releaseCount.get());
+		reader.close();
+		assertEquals("Buffer is released more than once", 1, buffer.releaseCount.get());
+	}
+
+	public void testReleaseOnClose() throws Exception {
+		CountingBlob buffer = createBuffer(1000);
+		XMLStreamReader reader = BufferedResultReader.create(buffer);
+		reader.next();
+		reader.next();
+		assertEquals(0, buffer.releaseCount.get());
+		reader.close();
+		assertEquals(1, buffer.releaseCount.get());
+	}
+
+	/**
+	 * A reader which is partially consumed and then dropped, without being closed, releases its
+	 * buffer once it is garbage collected.
+	 */
+	public void testReleaseOnPartialConsumption() throws Exception {
+		CountingBlob buffer = createBuffer(1000);
+		XMLStreamReader reader = BufferedResultReader.create(buffer);
+		for (int i = 0; i < 10; i++) {
+			reader.next();
+		}
+		reader = null;
+		long end = System.currentTimeMillis() + GC_TIMEOUT;
+		while (buffer.releaseCount.get() == 0 && System.currentTimeMillis() < end) {
+			System.gc();
+			Thread.sleep(50);
+			/* the buffers of the dropped readers are released when the next reader is created */
+			BufferedResultReader.create(createBuffer(1)).close();
+		}
+		assertEquals(1, buffer.releaseCount.get());
+	}
+
+	/**
+	 * Buffer which counts how many times it is released.
+	 */
+	private static class CountingBlob extends OverflowBlob {
+
+		private final AtomicInteger releaseCount = new AtomicInteger();
+
+		CountingBlob() {
+			super(1, 1024, "dss_test", ".xml");
+		}
+
+		@Override
+		public void release() {
+			this.releaseCount.incrementAndGet();
+			super.release();
+		}
+	}
+
+}
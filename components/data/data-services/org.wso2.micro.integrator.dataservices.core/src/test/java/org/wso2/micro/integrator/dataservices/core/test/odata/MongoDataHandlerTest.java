@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.test.odata;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import junit.framework.TestCase;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.wso2.micro.integrator.dataservices.core.odata.MongoDataHandler;
+import org.wso2.micro.integrator.dataservices.core.odata.ODataAdapter;
+import org.wso2.micro.integrator.dataservices.core.odata.ODataEntry;
+
+/**
+ * Class to represent the test cases of the MongoDB OData streams, which are read through a single cursor per thread.
+ */
+public class MongoDataHandlerTest extends TestCase {
+
+    private static final String COLLECTION_NAME = "Users";
+
+    private final List<Document> documents = new ArrayList<>();
+
+    private final List<FakeCursor> cursors = new ArrayList<>();
+
+    private final List<Bson> queries = new ArrayList<>();
+
+    private RuntimeException cursorError;
+
+    private MongoDataHandler dataHandler;
+
+    public MongoDataHandlerTest(String testName) {
+        super(testName);
+    }
+
+    @Override
+    protected void setUp() {
+        /* more documents than two chunks, so that a stream is not exhausted by the first chunk */
+        for (int i = 0; i < ODataAdapter.getChunkSize() * 2 + 1; i++) {
+            this.documents.add(new Document("_id", i).append("name", "user-" + i));
+        }
+        this.dataHandler = new MongoDataHandler("MongoConfig", this.createDatabase());
+        this.cursors.clear();
+        this.queries.clear();
+    }
+
+    /**
+     * A stream which is abandoned after the first chunk closes its cursor when it is ended, and the next stream on
+     * the thread starts from the first document.
+     */
+    public void testEarlyTermination() {
+        this.dataHandler.initStreaming(null);
+        List<ODataEntry> entries = this.dataHandler.streamTable(COLLECTION_NAME);
+        assertEquals(ODataAdapter.getChunkSize(), entries.size());
+        assertEquals(1, this.cursors.size());
+        assertFalse(this.cursors.get(0).closed);
+
+        this.dataHandler.endStreaming();
+        assertTrue("Cursor of the abandoned stream is not closed", this.cursors.get(0).closed);
+
+        entries = this.dataHandler.streamTable(COLLECTION_NAME);
+        assertEquals(2, this.cursors.size());
+        assertEquals("0", entries.get(0).getValue("_id"));
+        assertFalse("Stream state of the ended stream is reused",
+                    ((Document) this.queries.get(1)).containsKey("$and"));
+        this.dataHandler.endStreaming();
+        assertTrue(this.cursors.get(1).closed);
+    }
+
+    /**
+     * A stream which is read to the end closes its cursor, and keeps returning empty chunks until it is ended.
+     */
+    public void testExhaustedStream() {
+        this.dataHandler.initStreaming(null);
+        int count = 0;
+        List<ODataEntry> entries;
+        while (!(entries = this.dataHandler.streamTable(COLLECTION_NAME)).isEmpty()) {
+            count += entries.size();
+        }
+        assertEquals(this.documents.size(), count);
+        assertEquals(1, this.cursors.size());
+        assertTrue(this.cursors.get(0).closed);
+        this.dataHandler.endStreaming();
+    }
+
+    /**
+     * A stream which fails while reading a chunk closes its cursor.
+     */
+    public void testStreamError() {
+        this.dataHandler.initStreaming(null);
+        this.dataHandler.streamTable(COLLECTION_NAME);
+        this.cursorError = new IllegalStateException("Connection reset");
+        try {
+            this.dataHandler.streamTable(COLLECTION_NAME);
+            fail("Stream is not expected to continue after the cursor fails");
+        } catch (IllegalStateException ignore) {
+            // expected
+        }
+        assertTrue("Cursor of the failed stream is not closed", this.cursors.get(0).closed);
+        this.cursorError = null;
+        List<ODataEntry> entries = this.dataHandler.streamTable(COLLECTION_NAME);
+        assertEquals("0", entries.get(0).getValue("_id"));
+        this.dataHandler.endStreaming();
+    }
+
+    private MongoDatabase createDatabase() {
+        MongoCollection<?> collection = (MongoCollection<?>) createProxy(MongoCollection.class, (method, args) -> {
+            if ("find".equals(method)) {
+                return this.createIterable(args != null && args.length > 0 && args[0] instanceof Bson
+                                                   ? (Bson) args[0] : new Document());
+            }
+            throw new UnsupportedOperationException(method);
+        });
+        return (MongoDatabase) createProxy(MongoDatabase.class, (method, args) -> {
+            switch (method) {
+                case "listCollectionNames":
+                    return this.createIterable(null);
+                case "getCollection":
+                    return collection;
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+    }
+
+    /**
+     * Creates the iterable of the collection names if the query is null, or else of the documents matching the query.
+     */
+    @SuppressWarnings("unchecked")
+    private FindIterable<?> createIterable(Bson query) {
+        return (FindIterable<?>) createProxy(FindIterable.class, (method, args) -> {
+            switch (method) {
+                case "into":
+                    ((Collection<Object>) args[0]).add(COLLECTION_NAME);
+                    return args[0];
+                case "iterator":
+                    this.queries.add(query);
+                    FakeCursor cursor = new FakeCursor();
+                    this.cursors.add(cursor);
+                    return createProxy(MongoCursor.class, cursor);
+                case "sort":
+                case "batchSize":
+                    /* the builder methods return the iterable itself */
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+    }
+
+    private static Object createProxy(Class<?> type, Handler handler) {
+        return Proxy.newProxyInstance(MongoDataHandlerTest.class.getClassLoader(), new Class[] { type },
+                                      (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName();
+                default:
+                    Object result = handler.invoke(method.getName(), args);
+                    return result == null && method.getReturnType().isInstance(proxy) ? proxy : result;
+            }
+        });
+    }
+
+    private interface Handler {
+
+        Object invoke(String method, Object[] args);
+    }
+
+    /**
+     * Cursor over all the documents in the order of the ids, which records whether it is closed.
+     */
+    private class FakeCursor implements Handler {
+
+        private int position;
+
+        private boolean closed;
+
+        @Override
+        public Object invoke(String method, Object[] args) {
+            switch (method) {
+                case "hasNext":
+                    if (cursorError != null) {
+                        throw cursorError;
+                    }
+                    return position < documents.size();
+                case "next":
+                    return documents.get(position++);
+                case "close":
+                    closed = true;
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        }
+    }
+
+}
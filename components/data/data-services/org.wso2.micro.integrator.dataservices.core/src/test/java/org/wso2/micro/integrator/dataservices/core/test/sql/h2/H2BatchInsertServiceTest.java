@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.test.sql.h2;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.axiom.om.OMElement;
+import org.wso2.micro.integrator.dataservices.core.test.DataServiceBaseTestCase;
+import org.wso2.micro.integrator.dataservices.core.test.util.TestUtils;
+
+/**
+ * Class to represent batch insert test cases. The batch sizes can be given as a comma
+ * separated list with the "dss.test.batch.sizes" system property, e.g.
+ * -Ddss.test.batch.sizes=1000,10000,100000,1000000.
+ */
+public class H2BatchInsertServiceTest extends DataServiceBaseTestCase {
+
+	private static final String BATCH_SIZES_PROPERTY = "dss.test.batch.sizes";
+
+	private static final String DEFAULT_BATCH_SIZES = "1000,10000";
+
+	private static final long BATCH_REQUEST_TIMEOUT = 10 * 60 * 1000;
+
+	private String epr = null;
+
+	public H2BatchInsertServiceTest(String testName) {
+		super(testName);
+		this.epr = this.baseEpr + "H2BatchInsertService";
+	}
+
+	private int selectRecordCount() throws Exception {
+		OMElement result = TestUtils.callOperation(this.epr,
+				"count_records_op", null);
+		String val = TestUtils.getFirstValue(result,
+				"/BatchRecords/Records/recordCount",
+				TestUtils.DEFAULT_DS_WS_NAMESPACE);
+		return Integer.parseInt(val);
+	}
+
+	private void deleteRecords() throws Exception {
+		assertNotNull(TestUtils.callOperation(this.epr, "delete_records_op", null));
+		assertEquals(0, this.selectRecordCount());
+	}
+
+	private void insertRecords(int count) throws Exception {
+		List<Map<String, String>> params = new ArrayList<Map<String, String>>(count);
+		Map<String, String> requestParams;
+		for (int i = 0; i < count; i++) {
+			requestParams = new HashMap<String, String>();
+			requestParams.put("id", String.valueOf(i));
+			requestParams.put("name", "record-" + i);
+			requestParams.put("amount", String.valueOf(i * 1.5));
+			params.add(requestParams);
+		}
+		assertNotNull(TestUtils.callBatchOperation(this.epr, "insert_record_op",
+				params, BATCH_REQUEST_TIMEOUT));
+		assertEquals(count, this.selectRecordCount());
+	}
+
+	public void testH2BatchInsert() throws Exception {
+		TestUtils.checkForService(this.epr);
+		this.deleteRecords();
+		for (String batchSize : System.getProperty(BATCH_SIZES_PROPERTY,
+				DEFAULT_BATCH_SIZES).split(",")) {
+			this.insertRecords(Integer.parseInt(batchSize.trim()));
+			this.deleteRecords();
+		}
+	}
+
+	/**
+	 * A failing row rolls back the whole batch request, including the rows
+	 * which were already sent to the database in earlier JDBC batches.
+	 */
+	public void testH2BatchInsertRollback() throws Exception {
+		TestUtils.checkForService(this.epr);
+		this.deleteRecords();
+		List<Map<String, String>> params = new ArrayList<Map<String, String>>();
+		Map<String, String> requestParams;
+		for (int i = 0; i < 1200; i++) {
+			requestParams = new HashMap<String, String>();
+			/* the last row duplicates the primary key of the first row */
+			requestParams.put("id", String.valueOf(i < 1199 ? i : 0));
+			requestParams.put("name", "record-" + i);
+			requestParams.put("amount", String.valueOf(i));
+			params.add(requestParams);
+		}
+		try {
+			TestUtils.callBatchOperation(this.epr, "insert_record_op", params,
+					BATCH_REQUEST_TIMEOUT);
+			fail("Batch request with a duplicate key is not expected to succeed");
+		} catch (Exception ignore) {
+			// expected
+		}
+		assertEquals(0, this.selectRecordCount());
+	}
+
+}
@@ -33,6 +33,7 @@ public class H2TestSuite extends TestCase {
 		suite.addTestSuite(H2InputMappingServiceTest.class);
 		suite.addTestSuite(H2NestedQueryTest.class);
 		suite.addTestSuite(H2StoredProcedureServiceTest.class);
+		suite.addTestSuite(H2BatchInsertServiceTest.class);
 		//suite.addTestSuite(H2ResourceServiceTest.class);
 		suite.addTestSuite(H2FinalizeTest.class);
 		//$JUnit-END$
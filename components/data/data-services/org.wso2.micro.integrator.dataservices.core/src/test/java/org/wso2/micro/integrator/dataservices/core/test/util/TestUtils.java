@@ -153,6 +153,40 @@ public class TestUtils {
 		OMElement result = sender.sendReceive(payload);
 		return result;
 	}
+
+	/**
+	 * Calls the batch operation of an operation of a target web service with
+	 * the given parameters and returns the result.
+	 * 
+	 * @param epr
+	 *            End point reference of the service
+	 * @param opName
+	 *            Operation to be called in the service, without the batch
+	 *            operation suffix
+	 * @param params
+	 *            Parameters of each request of the batch
+	 * @param timeout
+	 *            Timeout of the service call in milliseconds
+	 * @return Service results
+	 * @throws AxisFault
+	 */
+	public static OMElement callBatchOperation(String epr, String opName,
+			List<Map<String, String>> params, long timeout) throws AxisFault {
+		String batchOpName = opName + "_batch_req";
+		EndpointReference targetEPR = new EndpointReference(epr);
+		OMElement payload = getPayload(batchOpName, null);
+		for (Map<String, String> requestParams : params) {
+			payload.addChild(getPayload(opName, requestParams));
+		}
+		Options options = new Options();
+		options.setTo(targetEPR);
+		options.setAction("urn:" + batchOpName);
+		options.setTimeOutInMilliSeconds(timeout);
+		ServiceClient sender = new ServiceClient();
+		sender.setOptions(options);
+		OMElement result = sender.sendReceive(payload);
+		return result;
+	}
 	
 	/**
 	 * Calls a REST operation of a target web service with the given parameters and
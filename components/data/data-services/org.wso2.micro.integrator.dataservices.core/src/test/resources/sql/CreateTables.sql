@@ -102,5 +102,11 @@ CREATE TABLE BinaryData(
 	data BLOB
 );
 
+CREATE TABLE BatchRecords(
+	id INTEGER PRIMARY KEY,
+	name VARCHAR(50),
+	amount DOUBLE
+);
+
 
 
@@ -26,6 +26,8 @@ public class AnalyticsDataPublisherConstants {
     public static final String FLOW_STATISTIC_JMX_PUBLISHING = STAT_CONFIG_ELEMENT + ".JmxPublishingDisable";
     public static final String FLOW_STATISTIC_WORKER_COUNT = STAT_CONFIG_ELEMENT + ".StatWorkerCount";
     public static final int FLOW_STATISTIC_WORKER_COUNT_DEFAULT = 2;
+    public static final String FLOW_STATISTIC_BUFFER_SIZE = STAT_CONFIG_ELEMENT + ".StatBufferSize";
+    public static final int FLOW_STATISTIC_BUFFER_SIZE_DEFAULT = 8192;
     public static final String FLOW_STATISTIC_ANALYTICS_PUBLISHING = STAT_CONFIG_ELEMENT + ".AnalyticPublishingDisable";
     public static final String STAT_OBSERVERS = STAT_CONFIG_ELEMENT + ".Observers";
     public static final String FLOW_STATISTIC_NODE_HOST_NAME = STAT_CONFIG_ELEMENT + ".NodeHostName";
@@ -20,6 +20,7 @@ package org.wso2.micro.integrator.analytics.messageflow.data.publisher.internal;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.aspects.flow.statistics.collectors.RuntimeStatisticCollector;
+import org.apache.synapse.aspects.flow.statistics.log.StatisticsReportingEventHolder;
 import org.apache.synapse.config.SynapsePropertiesLoader;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
@@ -37,8 +38,11 @@ import org.wso2.micro.integrator.analytics.messageflow.data.publisher.observer.M
 import org.wso2.micro.integrator.analytics.messageflow.data.publisher.observer.TenantInformation;
 import org.wso2.micro.integrator.analytics.messageflow.data.publisher.observer.jmx.JMXMediationFlowObserver;
 import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.ElasticConstants;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.ElasticStatisticsPublisher;
 import org.wso2.micro.integrator.analytics.messageflow.data.publisher.services.MediationConfigReporterThread;
 import org.wso2.micro.integrator.analytics.messageflow.data.publisher.services.MessageFlowReporterThread;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.services.StatisticsEventBuffer;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.services.StatisticsEventFeederThread;
 import org.wso2.micro.integrator.analytics.messageflow.data.publisher.util.MediationDataPublisherConstants;
 import org.wso2.micro.integrator.core.services.Axis2ConfigurationContextService;
 import org.wso2.micro.integrator.core.services.CarbonServerConfigurationService;
@@ -65,6 +69,8 @@ public class MediationStatisticsComponent {
 
     private Map<Integer, List<MessageFlowReporterThread>> reporterThreads = new HashMap<>();
 
+    private Map<Integer, StatisticsEventFeederThread> feederThreads = new HashMap<>();
+
     private Map<Integer, MediationConfigReporterThread> configReporterThreads = new HashMap<Integer, MediationConfigReporterThread>();
 
     private Map<Integer, SynapseEnvironmentService> synapseEnvServices = new HashMap<Integer, SynapseEnvironmentService>();
@@ -88,6 +94,8 @@ public class MediationStatisticsComponent {
         SynapseEnvironmentService synapseEnvService = synapseEnvServices.get(tenantId);
         // Create observer store for super-tenant
         createStores(synapseEnvService);
+        // Start the analytics publisher again, if it was stopped by an earlier deactivation
+        ElasticStatisticsPublisher.start();
         activated = true;
         if (log.isDebugEnabled()) {
             log.debug("DAS Message Flow Publishing Component activate");
@@ -134,15 +142,36 @@ public class MediationStatisticsComponent {
                 workerCount = AnalyticsDataPublisherConstants.FLOW_STATISTIC_WORKER_COUNT_DEFAULT;
             }
         }
+        String bufferSizeString = serverConf
+                .getFirstProperty(AnalyticsDataPublisherConstants.FLOW_STATISTIC_BUFFER_SIZE);
+        int bufferSize = AnalyticsDataPublisherConstants.FLOW_STATISTIC_BUFFER_SIZE_DEFAULT;
+        if (bufferSizeString != null) {
+            try {
+                bufferSize = Integer.parseInt(bufferSizeString);
+            } catch (NumberFormatException ignored) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Invalid StatBufferSize. It will use default value - "
+                                      + AnalyticsDataPublisherConstants.FLOW_STATISTIC_BUFFER_SIZE_DEFAULT);
+                }
+            }
+            if (bufferSize <= 0) {
+                bufferSize = AnalyticsDataPublisherConstants.FLOW_STATISTIC_BUFFER_SIZE_DEFAULT;
+            }
+        }
+        StatisticsEventBuffer<StatisticsReportingEventHolder> eventBuffer = new StatisticsEventBuffer<>(bufferSize);
         List<MessageFlowReporterThread> messageFlowReporterThreadList = new ArrayList<>();
         for (int i = 0; i < workerCount; i++) {
-            reporterThread = new MessageFlowReporterThread(synEnvService, observerStore);
+            reporterThread = new MessageFlowReporterThread(observerStore, eventBuffer);
             reporterThread.setName("message-flow-reporter-" + i + "-tenant-" + tenantId);
-            reporterThread.setDelay(delay);
             reporterThread.start();
             messageFlowReporterThreadList.add(reporterThread);
         }
         reporterThreads.put(tenantId, messageFlowReporterThreadList);
+        StatisticsEventFeederThread feederThread = new StatisticsEventFeederThread(synEnvService, eventBuffer);
+        feederThread.setName("message-flow-feeder-tenant-" + tenantId);
+        feederThread.setIdleInterval(delay);
+        feederThread.start();
+        feederThreads.put(tenantId, feederThread);
         String disableJmxStr = serverConf
                 .getFirstProperty(AnalyticsDataPublisherConstants.FLOW_STATISTIC_JMX_PUBLISHING);
         boolean enableJmxPublishing = !Boolean.parseBoolean(disableJmxStr);
@@ -209,6 +238,10 @@ public class MediationStatisticsComponent {
     @Deactivate
     protected void deactivate(ComponentContext ctxt) {
 
+        // Stop feeding the reporter threads, which report the buffered flows before they terminate
+        for (StatisticsEventFeederThread feederThread : feederThreads.values()) {
+            shutdownFeederThread(feederThread);
+        }
         Set<Map.Entry<Integer, List<MessageFlowReporterThread>>> threadEntriesSet = reporterThreads.entrySet();
         for (Map.Entry<Integer, List<MessageFlowReporterThread>> threadEntryList : threadEntriesSet) {
             List<MessageFlowReporterThread> reporterThreadsList = threadEntryList.getValue();
@@ -233,6 +266,8 @@ public class MediationStatisticsComponent {
                 }
             }
         }
+        // Writes the analytics reported by the reporter threads before the bundle goes away
+        ElasticStatisticsPublisher.shutdown();
         // Stops config reporting threads
         for (MediationConfigReporterThread configReporterThread : configReporterThreads.values()) {
             if (configReporterThread != null && configReporterThread.isAlive()) {
@@ -331,6 +366,7 @@ public class MediationStatisticsComponent {
 
     private void shutdownMessageFlowReporterThreads(int tenantId) {
 
+        shutdownFeederThread(feederThreads.remove(tenantId));
         List<MessageFlowReporterThread> reporterThreadList = reporterThreads.get(tenantId);
         if (reporterThreadList != null) {
             for (MessageFlowReporterThread reporterThread: reporterThreadList) {
@@ -353,6 +389,22 @@ public class MediationStatisticsComponent {
         }
     }
 
+    private void shutdownFeederThread(StatisticsEventFeederThread feederThread) {
+
+        if (feederThread != null && feederThread.isAlive()) {
+            feederThread.shutdown();
+            try {
+                feederThread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (feederThread.getDroppedCount() > 0) {
+                log.warn("Mediation flow statistics of " + feederThread.getDroppedCount()
+                                 + " flows were dropped since the statistics buffer was full.");
+            }
+        }
+    }
+
     private void checkPublishingEnabled() {
         flowStatisticsEnabled = RuntimeStatisticCollector.isMediationFlowStatisticsEnabled();
         MessageFlowDataPublisherDataHolder.getInstance().setGlobalStatisticsEnabled(flowStatisticsEnabled);
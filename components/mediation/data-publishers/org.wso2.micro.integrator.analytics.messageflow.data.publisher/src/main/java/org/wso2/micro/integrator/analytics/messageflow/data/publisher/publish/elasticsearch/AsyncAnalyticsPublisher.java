@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch;
+
+import com.google.gson.stream.JsonWriter;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.schema.ElasticDataSchema;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.sink.AnalyticsSink;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.services.StatisticsEventBuffer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the analytics to an {@link AnalyticsSink} from a single background thread.
+ * <p>
+ * The mediation threads only hand the analytics over through a bounded {@link StatisticsEventBuffer}, analytics
+ * published while the buffer is full are dropped and counted. The publisher thread streams every analytic as a line of
+ * {@code <prefix> <json>} through a JSON writer kept for the lifetime of the sink, and flushes the sink once a batch
+ * is complete or the oldest analytic of the batch has waited for the flush interval.
+ */
+public class AsyncAnalyticsPublisher {
+
+    private static final Log log = LogFactory.getLog(AsyncAnalyticsPublisher.class);
+
+    private static final long REPORT_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+    private static final long SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    private final String prefix;
+    private final AnalyticsSink sink;
+    private final StatisticsEventBuffer<ElasticDataSchema> buffer;
+    private final int batchSize;
+    private final long flushInterval;
+    private final Thread publisherThread;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean shutdownRequested = false;
+
+    // only accessed by the publisher thread
+    private JsonWriter jsonWriter;
+    private int pending;
+    private long batchStart;
+    private long reportedDrops;
+    private long lastDropReport;
+    private long lastFailureReport;
+
+    /**
+     * @param prefix        prefix of every analytic line
+     * @param sink          sink the analytics are written to
+     * @param bufferSize    number of analytics waiting to be written, beyond which analytics are dropped
+     * @param batchSize     number of analytics written before the sink is flushed
+     * @param flushInterval maximum time in milliseconds an analytic waits before the sink is flushed
+     */
+    public AsyncAnalyticsPublisher(String prefix, AnalyticsSink sink, int bufferSize, int batchSize,
+                                   long flushInterval) {
+        this.prefix = prefix;
+        this.sink = sink;
+        this.buffer = new StatisticsEventBuffer<>(bufferSize);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = Math.max(1, flushInterval);
+        this.publisherThread = new Thread(this::run, "analytics-publisher");
+        this.publisherThread.setDaemon(true);
+    }
+
+    public void start() {
+        publisherThread.start();
+    }
+
+    /**
+     * Hands the given analytic over to the publisher thread.
+     *
+     * @param analytic analytic to be written
+     * @return false if the buffer was full and the analytic was dropped
+     */
+    public boolean publish(ElasticDataSchema analytic) {
+        return buffer.offer(analytic);
+    }
+
+    private void run() {
+        while (!shutdownRequested) {
+            try {
+                long timeout = pending == 0 ? flushInterval : batchStart + flushInterval - System.currentTimeMillis();
+                ElasticDataSchema analytic = buffer.poll(Math.max(0, timeout), TimeUnit.MILLISECONDS);
+                if (analytic != null) {
+                    write(analytic);
+                }
+                if (pending >= batchSize
+                        || (pending > 0 && System.currentTimeMillis() - batchStart >= flushInterval)) {
+                    flush();
+                }
+            } catch (InterruptedException e) {
+                // shutdown requested, the remaining analytics are written below
+            } catch (Exception e) {
+                log.error("Error in the analytics publisher while writing analytics", e);
+            }
+        }
+        ElasticDataSchema analytic;
+        while ((analytic = buffer.poll()) != null) {
+            write(analytic);
+        }
+        flush();
+        try {
+            sink.close();
+        } catch (IOException e) {
+            log.warn("Error while closing the analytics sink", e);
+        }
+    }
+
+    private void write(ElasticDataSchema analytic) {
+        try {
+            if (pending == 0) {
+                batchStart = System.currentTimeMillis();
+            }
+            if (jsonWriter == null) {
+                jsonWriter = new JsonWriter(sink);
+                // every line holds a top level document
+                jsonWriter.setLenient(true);
+            }
+            sink.write(prefix);
+            sink.write(' ');
+            analytic.write(jsonWriter);
+            sink.write('\n');
+            pending++;
+        } catch (IOException | RuntimeException e) {
+            fail(1, e);
+        }
+    }
+
+    private void flush() {
+        if (pending == 0) {
+            return;
+        }
+        try {
+            sink.flush();
+            published.addAndGet(pending);
+            pending = 0;
+        } catch (IOException | RuntimeException e) {
+            fail(0, e);
+        }
+        reportDrops();
+    }
+
+    /**
+     * Discards the current batch, which is lost along with the analytic which could not be written.
+     */
+    private void fail(int lost, Exception e) {
+        failed.addAndGet(pending + lost);
+        pending = 0;
+        // the state of the JSON writer is undefined once a document was only partly written
+        jsonWriter = null;
+        sink.reset();
+        long now = System.currentTimeMillis();
+        if (now - lastFailureReport >= REPORT_INTERVAL) {
+            log.error("Error while writing analytics to the analytics sink. " + failed.get()
+                              + " analytics were lost in total.", e);
+            lastFailureReport = now;
+        }
+    }
+
+    private void reportDrops() {
+        long now = System.currentTimeMillis();
+        if (now - lastDropReport < REPORT_INTERVAL) {
+            return;
+        }
+        long dropped = buffer.getDroppedCount();
+        if (dropped != reportedDrops) {
+            log.warn("Analytics buffer of " + buffer.capacity() + " analytics is full. Dropped "
+                             + (dropped - reportedDrops) + " analytics since the last report and " + dropped
+                             + " in total.");
+            reportedDrops = dropped;
+            lastDropReport = now;
+        }
+    }
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Stops the publisher thread once the buffered analytics are written, and closes the sink.
+     */
+    public void shutdown() {
+        if (log.isDebugEnabled()) {
+            log.debug("Analytics publisher thread is being stopped");
+        }
+        shutdownRequested = true;
+        publisherThread.interrupt();
+        try {
+            publisherThread.join(SHUTDOWN_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
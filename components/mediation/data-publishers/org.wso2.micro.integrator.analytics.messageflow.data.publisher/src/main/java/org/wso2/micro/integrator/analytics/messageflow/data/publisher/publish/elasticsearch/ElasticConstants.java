@@ -72,6 +72,68 @@ public class ElasticConstants {
          * Name of the Synapse configuration used to determine if the Elasticsearch service is enabled.
          */
         public static final String ELASTICSEARCH_ENABLED = "analytics.enabled";
+
+        /**
+         * Name of the Synapse configuration used to determine where the analytics are written to. The analytics are
+         * written through the server log by default, while the file and socket sinks write them asynchronously in
+         * batches.
+         */
+        public static final String SINK_TYPE = "analytics.sink.type";
+
+        /**
+         * Name of the Synapse configuration used to determine the file the file sink writes to.
+         */
+        public static final String SINK_FILE_PATH = "analytics.sink.file.path";
+
+        /**
+         * Name of the Synapse configuration used to determine the size in bytes at which the file sink rolls over.
+         */
+        public static final String SINK_FILE_MAX_SIZE = "analytics.sink.file.max_size";
+
+        /**
+         * Name of the Synapse configuration used to determine the number of rolled over files kept by the file sink.
+         */
+        public static final String SINK_FILE_MAX_BACKUPS = "analytics.sink.file.max_backups";
+
+        /**
+         * Name of the Synapse configuration used to determine the host the socket sink connects to.
+         */
+        public static final String SINK_SOCKET_HOST = "analytics.sink.socket.host";
+
+        /**
+         * Name of the Synapse configuration used to determine the port the socket sink connects to.
+         */
+        public static final String SINK_SOCKET_PORT = "analytics.sink.socket.port";
+
+        /**
+         * Name of the Synapse configuration used to determine the number of analytics buffered for an asynchronous
+         * sink. Analytics published while the buffer is full are dropped and counted.
+         */
+        public static final String SINK_BUFFER_SIZE = "analytics.sink.buffer_size";
+
+        /**
+         * Name of the Synapse configuration used to determine the number of analytics written before a sink is
+         * flushed.
+         */
+        public static final String SINK_BATCH_SIZE = "analytics.sink.batch_size";
+
+        /**
+         * Name of the Synapse configuration used to determine the maximum time in milliseconds an analytic waits
+         * before a sink is flushed.
+         */
+        public static final String SINK_FLUSH_INTERVAL = "analytics.sink.flush_interval";
+    }
+
+    public static class SinkDef {
+        public static final String LOG = "log";
+        public static final String FILE = "file";
+        public static final String SOCKET = "socket";
+        public static final String DEFAULT_FILE_NAME = "synapse-analytics.log";
+        public static final long DEFAULT_FILE_MAX_SIZE = 100L * 1024 * 1024;
+        public static final int DEFAULT_FILE_MAX_BACKUPS = 10;
+        public static final int DEFAULT_BUFFER_SIZE = 16384;
+        public static final int DEFAULT_BATCH_SIZE = 512;
+        public static final long DEFAULT_FLUSH_INTERVAL = 1000;
     }
 
     public static class ServerMetadataFieldDef {
@@ -37,7 +37,12 @@ import org.apache.synapse.transport.netty.BridgeConstants;
 import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.StatisticsPublisher;
 import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.schema.ElasticDataSchema;
 import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.schema.ElasticDataSchemaElement;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.sink.AnalyticsSink;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.sink.RollingFileAnalyticsSink;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.sink.SocketAnalyticsSink;
 
+import java.io.File;
+import java.nio.file.Paths;
 import java.util.Map;
 
 public class ElasticStatisticsPublisher implements StatisticsPublisher {
@@ -50,6 +55,8 @@ public class ElasticStatisticsPublisher implements StatisticsPublisher {
     private boolean analyticsDisabledForEndpoints;
     private boolean analyticsDisabledForInboundEndpoints;
     private String analyticsDataPrefix;
+    // read by the reporter threads while the component is activated and deactivated
+    private volatile AsyncAnalyticsPublisher asyncPublisher;
 
     protected ElasticStatisticsPublisher() {
         ElasticDataSchema.init();
@@ -63,6 +70,30 @@ public class ElasticStatisticsPublisher implements StatisticsPublisher {
         return instance;
     }
 
+    /**
+     * Loads the configuration again and starts the asynchronous publisher, if the publisher was stopped by an earlier
+     * {@link #shutdown()}. A publisher which has not been created yet is started when it is first used.
+     */
+    public static synchronized void start() {
+        if (instance == null || instance.asyncPublisher != null) {
+            return;
+        }
+        instance.loadConfigurations();
+    }
+
+    /**
+     * Writes the analytics buffered by the asynchronous publisher to its sink and stops the publisher. Analytics
+     * published afterwards are written to the log.
+     */
+    public static synchronized void shutdown() {
+        if (instance == null || instance.asyncPublisher == null) {
+            return;
+        }
+        AsyncAnalyticsPublisher publisher = instance.asyncPublisher;
+        instance.asyncPublisher = null;
+        publisher.shutdown();
+    }
+
     private void loadConfigurations() {
         analyticsDisabledForAPI = !SynapsePropertiesLoader.getBooleanProperty(
                 ElasticConstants.SynapseConfigKeys.API_ANALYTICS_ENABLED, true);
@@ -78,6 +109,71 @@ public class ElasticStatisticsPublisher implements StatisticsPublisher {
                 ElasticConstants.SynapseConfigKeys.ELASTICSEARCH_PREFIX, ElasticConstants.ELASTIC_DEFAULT_PREFIX);
         enabled = SynapsePropertiesLoader.getBooleanProperty(
                 ElasticConstants.SynapseConfigKeys.ELASTICSEARCH_ENABLED, false);
+        if (enabled) {
+            asyncPublisher = createAsyncPublisher();
+        }
+    }
+
+    /**
+     * Creates the publisher of the configured asynchronous sink.
+     *
+     * @return the publisher, or null if the analytics are written through the server log
+     */
+    private AsyncAnalyticsPublisher createAsyncPublisher() {
+        String sinkType = SynapsePropertiesLoader.getPropertyValue(
+                ElasticConstants.SynapseConfigKeys.SINK_TYPE, ElasticConstants.SinkDef.LOG);
+        AnalyticsSink sink;
+        if (ElasticConstants.SinkDef.FILE.equalsIgnoreCase(sinkType)) {
+            String path = SynapsePropertiesLoader.getPropertyValue(
+                    ElasticConstants.SynapseConfigKeys.SINK_FILE_PATH, getDefaultFilePath());
+            long maxSize = getLongProperty(ElasticConstants.SynapseConfigKeys.SINK_FILE_MAX_SIZE,
+                                           ElasticConstants.SinkDef.DEFAULT_FILE_MAX_SIZE);
+            int maxBackups = (int) getLongProperty(ElasticConstants.SynapseConfigKeys.SINK_FILE_MAX_BACKUPS,
+                                                   ElasticConstants.SinkDef.DEFAULT_FILE_MAX_BACKUPS);
+            sink = new RollingFileAnalyticsSink(new File(path), maxSize, maxBackups);
+        } else if (ElasticConstants.SinkDef.SOCKET.equalsIgnoreCase(sinkType)) {
+            String host = SynapsePropertiesLoader.getPropertyValue(
+                    ElasticConstants.SynapseConfigKeys.SINK_SOCKET_HOST, "localhost");
+            int port = (int) getLongProperty(ElasticConstants.SynapseConfigKeys.SINK_SOCKET_PORT, -1);
+            if (port <= 0) {
+                log.error("Port of the analytics socket sink is not configured. Analytics are written to the log.");
+                return null;
+            }
+            sink = new SocketAnalyticsSink(host, port);
+        } else {
+            if (!ElasticConstants.SinkDef.LOG.equalsIgnoreCase(sinkType)) {
+                log.warn("Unknown analytics sink type " + sinkType + ". Analytics are written to the log.");
+            }
+            return null;
+        }
+        AsyncAnalyticsPublisher publisher = new AsyncAnalyticsPublisher(
+                analyticsDataPrefix, sink,
+                (int) getLongProperty(ElasticConstants.SynapseConfigKeys.SINK_BUFFER_SIZE,
+                                      ElasticConstants.SinkDef.DEFAULT_BUFFER_SIZE),
+                (int) getLongProperty(ElasticConstants.SynapseConfigKeys.SINK_BATCH_SIZE,
+                                      ElasticConstants.SinkDef.DEFAULT_BATCH_SIZE),
+                getLongProperty(ElasticConstants.SynapseConfigKeys.SINK_FLUSH_INTERVAL,
+                                ElasticConstants.SinkDef.DEFAULT_FLUSH_INTERVAL));
+        publisher.start();
+        return publisher;
+    }
+
+    private static String getDefaultFilePath() {
+        String carbonHome = System.getProperty("carbon.home", ".");
+        return Paths.get(carbonHome, "repository", "logs", ElasticConstants.SinkDef.DEFAULT_FILE_NAME).toString();
+    }
+
+    private long getLongProperty(String name, long defaultValue) {
+        String value = SynapsePropertiesLoader.getPropertyValue(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value " + value + " for " + name + ". Using the default value " + defaultValue);
+            return defaultValue;
+        }
     }
 
     @Override
@@ -107,6 +203,12 @@ public class ElasticStatisticsPublisher implements StatisticsPublisher {
 
     void publishAnalytic(ElasticDataSchemaElement payload) {
         ElasticDataSchema dataSchemaInst = new ElasticDataSchema(payload);
+        AsyncAnalyticsPublisher publisher = asyncPublisher;
+        if (publisher != null) {
+            // analytics dropped while the buffer is full are accounted by the publisher
+            publisher.publish(dataSchemaInst);
+            return;
+        }
         log.info(String.format("%s %s", analyticsDataPrefix, dataSchemaInst.getJsonString()));
     }
 
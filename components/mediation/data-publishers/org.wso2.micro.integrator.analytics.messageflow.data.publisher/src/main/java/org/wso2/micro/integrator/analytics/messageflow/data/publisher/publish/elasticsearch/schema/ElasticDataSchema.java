@@ -19,11 +19,13 @@
 package org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.schema;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import org.apache.synapse.ServerConfigurationInformation;
 import org.apache.synapse.config.SynapsePropertiesLoader;
 import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.ElasticConstants;
 import org.wso2.micro.integrator.initializer.ServiceBusInitializer;
 
+import java.io.IOException;
 import java.time.Instant;
 
 public class ElasticDataSchema {
@@ -82,4 +84,26 @@ public class ElasticDataSchema {
     public String getJsonString() {
         return getJsonObject().toString();
     }
+
+    /**
+     * Writes the same document as {@link #getJsonObject()} without building the JSON tree.
+     *
+     * @param writer writer the document is appended to
+     * @throws IOException if the writer fails
+     */
+    public void write(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(ElasticConstants.EnvelopDef.SERVER_INFO).beginObject();
+        writer.name(ElasticConstants.ServerMetadataFieldDef.HOST_NAME).value(hostname);
+        writer.name(ElasticConstants.ServerMetadataFieldDef.SERVER_NAME).value(serverName);
+        writer.name(ElasticConstants.ServerMetadataFieldDef.IP_ADDRESS).value(ipAddress);
+        writer.name(ElasticConstants.ServerMetadataFieldDef.PUBLISHER_ID).value(publisherId);
+        writer.endObject();
+        writer.name(ElasticConstants.EnvelopDef.TIMESTAMP).value(timestamp);
+        writer.name(ElasticConstants.EnvelopDef.SCHEMA_VERSION)
+                .value(ElasticConstants.SynapseConfigKeys.SCHEMA_VERSION);
+        writer.name(ElasticConstants.EnvelopDef.PAYLOAD);
+        payload.write(writer);
+        writer.endObject();
+    }
 }
@@ -18,13 +18,19 @@
 
 package org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.schema;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
 public class ElasticDataSchemaElement {
+    // same output as JsonElement.toString(), which neither escapes html characters nor drops nulls
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
     private final Map<String, Object> attributes = new HashMap<>();
     private long startTime;
 
@@ -85,4 +91,32 @@ public class ElasticDataSchemaElement {
 
         return json;
     }
+
+    /**
+     * Writes the same object as {@link #toJsonObject()} without building the JSON tree.
+     *
+     * @param writer writer the object is appended to
+     * @throws IOException if the writer fails
+     */
+    public void write(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof String) {
+                writer.name(entry.getKey()).value((String) value);
+            } else if (value instanceof Boolean) {
+                writer.name(entry.getKey()).value((boolean) (Boolean) value);
+            } else if (value instanceof Double || value instanceof Float || value instanceof Long
+                    || value instanceof Short || value instanceof Integer) {
+                writer.name(entry.getKey()).value((Number) value);
+            } else if (value instanceof JsonObject) {
+                writer.name(entry.getKey());
+                GSON.toJson((JsonObject) value, writer);
+            } else if (value instanceof ElasticDataSchemaElement) {
+                writer.name(entry.getKey());
+                ((ElasticDataSchemaElement) value).write(writer);
+            }
+        }
+        writer.endObject();
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.sink;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Destination of the analytics written by the asynchronous publisher.
+ * <p>
+ * A sink is a {@link Writer} over its current target, so that a single JSON writer can be kept for the lifetime of
+ * the sink while the target is rolled over or reconnected underneath it. A sink is only used by the publisher thread.
+ */
+public abstract class AnalyticsSink extends Writer {
+
+    /**
+     * @return writer of the current target, which is opened if required
+     * @throws IOException if the target could not be opened
+     */
+    protected abstract Writer getTarget() throws IOException;
+
+    /**
+     * Called after the written analytics were flushed to the target.
+     *
+     * @throws IOException if the target could not be rolled over
+     */
+    protected void afterFlush() throws IOException {
+    }
+
+    /**
+     * Releases the current target after a failure, so that the next write opens it again.
+     */
+    public abstract void reset();
+
+    @Override
+    public void write(char[] buffer, int offset, int length) throws IOException {
+        getTarget().write(buffer, offset, length);
+    }
+
+    @Override
+    public void write(String value, int offset, int length) throws IOException {
+        getTarget().write(value, offset, length);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        getTarget().write(c);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        getTarget().flush();
+        afterFlush();
+    }
+}
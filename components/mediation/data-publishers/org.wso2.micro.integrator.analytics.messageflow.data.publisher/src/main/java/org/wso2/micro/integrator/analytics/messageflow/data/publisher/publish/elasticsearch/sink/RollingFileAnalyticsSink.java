@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.sink;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Appends the analytics to a file, which is rolled over once it grows beyond the configured size. The rolled over
+ * files are named with a numeric suffix, the most recent one being {@code <file>.1}.
+ */
+public class RollingFileAnalyticsSink extends AnalyticsSink {
+
+    private static final Log log = LogFactory.getLog(RollingFileAnalyticsSink.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File file;
+    private final long maxSize;
+    private final int maxBackups;
+
+    private Writer writer;
+    // characters are counted instead of bytes, the analytics are mostly ASCII
+    private long size;
+
+    public RollingFileAnalyticsSink(File file, long maxSize, int maxBackups) {
+        this.file = file;
+        this.maxSize = maxSize;
+        this.maxBackups = maxBackups;
+    }
+
+    @Override
+    protected Writer getTarget() throws IOException {
+        if (writer == null) {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists() && !parent.mkdirs()) {
+                throw new IOException("Could not create the analytics directory " + parent);
+            }
+            size = file.length();
+            writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true),
+                                                               StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+        return writer;
+    }
+
+    @Override
+    public void write(char[] buffer, int offset, int length) throws IOException {
+        super.write(buffer, offset, length);
+        size += length;
+    }
+
+    @Override
+    public void write(String value, int offset, int length) throws IOException {
+        super.write(value, offset, length);
+        size += length;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        super.write(c);
+        size++;
+    }
+
+    @Override
+    protected void afterFlush() throws IOException {
+        if (maxSize > 0 && size >= maxSize) {
+            rollOver();
+        }
+    }
+
+    private void rollOver() throws IOException {
+        close();
+        if (maxBackups <= 0) {
+            if (!file.delete()) {
+                log.warn("Could not delete the analytics file " + file + " when rolling over.");
+            }
+            return;
+        }
+        File oldest = backup(maxBackups);
+        if (oldest.exists() && !oldest.delete()) {
+            log.warn("Could not delete the analytics file " + oldest + " when rolling over.");
+        }
+        for (int i = maxBackups - 1; i >= 1; i--) {
+            File backup = backup(i);
+            if (backup.exists() && !backup.renameTo(backup(i + 1))) {
+                log.warn("Could not rename the analytics file " + backup + " when rolling over.");
+            }
+        }
+        if (!file.renameTo(backup(1))) {
+            log.warn("Could not rename the analytics file " + file + " when rolling over.");
+        }
+    }
+
+    private File backup(int index) {
+        return new File(file.getPath() + "." + index);
+    }
+
+    @Override
+    public void reset() {
+        try {
+            close();
+        } catch (IOException e) {
+            log.debug("Error while closing the analytics file " + file, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        Writer current = writer;
+        writer = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
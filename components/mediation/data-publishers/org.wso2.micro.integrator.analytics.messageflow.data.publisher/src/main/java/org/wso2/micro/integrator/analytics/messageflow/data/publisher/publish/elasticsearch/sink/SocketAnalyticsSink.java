@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.sink;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams the analytics as lines over a TCP connection, e.g. to the TCP input of a log shipper. The connection is
+ * opened again by the first write after a failure. When the connection cannot be opened, the writes fail without
+ * trying again until a delay has passed, which doubles with every failed attempt up to a minute, so that an
+ * unreachable sink does not hold up the publisher with a connect timeout for every analytic.
+ */
+public class SocketAnalyticsSink extends AnalyticsSink {
+
+    private static final Log log = LogFactory.getLog(SocketAnalyticsSink.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CONNECT_TIMEOUT = 5000;
+    private static final long MIN_RECONNECT_DELAY = 1000;
+    private static final long MAX_RECONNECT_DELAY = 60000;
+
+    private final String host;
+    private final int port;
+    private final long minReconnectDelay;
+    private final long maxReconnectDelay;
+
+    private Socket socket;
+    private Writer writer;
+    private long reconnectDelay;
+    private long nextConnectTime;
+
+    public SocketAnalyticsSink(String host, int port) {
+        this(host, port, MIN_RECONNECT_DELAY, MAX_RECONNECT_DELAY);
+    }
+
+    /**
+     * @param minReconnectDelay delay in milliseconds after the first failed connect
+     * @param maxReconnectDelay upper bound in milliseconds of the delay between two connects
+     */
+    SocketAnalyticsSink(String host, int port, long minReconnectDelay, long maxReconnectDelay) {
+        this.host = host;
+        this.port = port;
+        this.minReconnectDelay = minReconnectDelay;
+        this.maxReconnectDelay = Math.max(minReconnectDelay, maxReconnectDelay);
+    }
+
+    @Override
+    protected Writer getTarget() throws IOException {
+        if (writer == null) {
+            if (reconnectDelay > 0 && System.nanoTime() - nextConnectTime < 0) {
+                throw new IOException("Analytics sink at " + host + ":" + port + " is not reachable. Retrying in "
+                                              + TimeUnit.NANOSECONDS.toMillis(nextConnectTime - System.nanoTime())
+                                              + " ms");
+            }
+            Socket connection = new Socket();
+            try {
+                connection.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT);
+                writer = new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(),
+                                                                   StandardCharsets.UTF_8), BUFFER_SIZE);
+                socket = connection;
+            } catch (IOException e) {
+                connection.close();
+                reconnectDelay = reconnectDelay == 0 ? minReconnectDelay
+                        : Math.min(reconnectDelay << 1, maxReconnectDelay);
+                nextConnectTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(reconnectDelay);
+                throw e;
+            }
+            reconnectDelay = 0;
+            if (log.isDebugEnabled()) {
+                log.debug("Connected to the analytics sink at " + host + ":" + port);
+            }
+        }
+        return writer;
+    }
+
+    @Override
+    public void reset() {
+        writer = null;
+        Socket current = socket;
+        socket = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                log.debug("Error while closing the connection to the analytics sink", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        Writer current = writer;
+        if (current != null) {
+            try {
+                current.flush();
+            } finally {
+                reset();
+            }
+        }
+    }
+}
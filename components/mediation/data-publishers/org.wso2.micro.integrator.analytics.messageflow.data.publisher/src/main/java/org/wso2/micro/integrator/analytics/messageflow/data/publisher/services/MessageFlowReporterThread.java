@@ -30,70 +30,59 @@ import org.apache.synapse.aspects.flow.statistics.log.templates.AbstractStatisti
 import org.apache.synapse.aspects.flow.statistics.publishing.PublishingFlow;
 import org.apache.synapse.aspects.flow.statistics.util.TracingDataCollectionHelper;
 import org.wso2.micro.integrator.analytics.messageflow.data.publisher.data.MessageFlowObserverStore;
-import org.wso2.micro.integrator.initializer.services.SynapseEnvironmentService;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Worker which processes statistic events and publish to analytic server.
+ * <p>
+ * The completed message flows are taken from a {@link StatisticsEventBuffer} shared by the workers of a tenant. A
+ * worker waits on the buffer while it is empty, so a flow is processed as soon as it is buffered.
  */
 public class MessageFlowReporterThread extends Thread {
     public static final String IGNORE_ELEMENT = "IgnoreElement";
     public static final int DEFAULT_HASHCODE = 0;
     private static Log log = LogFactory.getLog(MessageFlowReporterThread.class);
 
+    // upper bound of a wait, so that a shutdown request is noticed even without an interrupt
+    private static final long POLL_TIMEOUT = 1000;
+
     private volatile boolean shutdownRequested = false;
 
     private MessageFlowObserverStore messageFlowObserverStore;
 
-    /**
-     * The reference to the synapse environment service
-     */
-    private SynapseEnvironmentService synapseEnvironmentService;
+    private StatisticsEventBuffer<StatisticsReportingEventHolder> eventBuffer;
 
-    private long delay = 5000;
-
-    public MessageFlowReporterThread(SynapseEnvironmentService synEnvSvc,
-                                     MessageFlowObserverStore messageFlowObserverStore) {
-        this.synapseEnvironmentService = synEnvSvc;
+    public MessageFlowReporterThread(MessageFlowObserverStore messageFlowObserverStore,
+                                     StatisticsEventBuffer<StatisticsReportingEventHolder> eventBuffer) {
         this.messageFlowObserverStore = messageFlowObserverStore;
-    }
-
-    public void setDelay(long delay) {
-        if (log.isDebugEnabled()) {
-            log.debug("Mediation statistics reporter delay set to " + delay + " ms");
-        }
-        this.delay = delay;
-    }
-
-    private void delay() {
-        if (delay <= 0) {
-            return;
-        }
-
-        try {
-            Thread.sleep(delay);
-        } catch (InterruptedException ignore) {
-
-        }
+        this.eventBuffer = eventBuffer;
     }
 
     public void run() {
         StatisticsReportingEventHolder statisticsReportingEventHolder;
         while (!shutdownRequested) {
             try {
-                statisticsReportingEventHolder = synapseEnvironmentService.getSynapseEnvironment().getMessageDataStore()
-                        .dequeue();
+                statisticsReportingEventHolder = eventBuffer.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
                 if (statisticsReportingEventHolder != null) {
                     processAndPublishEventList(statisticsReportingEventHolder);
-                } else {
-                    delay();
                 }
+            } catch (InterruptedException ignore) {
+                // woken up to check for a shutdown request
             } catch (Exception exception) {//catching throwable since this shouldn't fail
                 log.error("Error in mediation flow statistic data consumer while consuming data", exception);
             }
         }
+        // report the flows which were already buffered
+        while ((statisticsReportingEventHolder = eventBuffer.poll()) != null) {
+            try {
+                processAndPublishEventList(statisticsReportingEventHolder);
+            } catch (Exception exception) {
+                log.error("Error in mediation flow statistic data consumer while consuming data", exception);
+            }
+        }
     }
 
     private void processAndPublishEventList(StatisticsReportingEventHolder statisticsReportingEventHolder) {
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.analytics.messageflow.data.publisher.services;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded ring buffer which hands the statistic events over to the reporter threads.
+ * <p>
+ * Every slot carries a sequence number, so producers and consumers claim slots with a single compare and set and
+ * never take a lock. An event offered while the buffer is full is dropped and counted. Consumers which find the buffer
+ * empty wait on a condition which is only signalled when a consumer is actually waiting, hence producers do not pay
+ * for the wake up while the consumers are busy.
+ *
+ * @param <E> type of the buffered events
+ */
+public class StatisticsEventBuffer<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * @param capacity minimum number of events the buffer holds, rounded up to a power of two
+     */
+    public StatisticsEventBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Statistics event buffer capacity should be positive: " + capacity);
+        }
+        int size = 1;
+        while (size < capacity && size < MAX_CAPACITY) {
+            size <<= 1;
+        }
+        slots = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Adds the given event to the buffer.
+     *
+     * @param event event to be reported
+     * @return false if the buffer was full and the event was dropped
+     */
+    public boolean offer(E event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, event);
+                    sequences.set(index, position + 1);
+                    if (waiters.get() > 0) {
+                        signal();
+                    }
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                dropped.incrementAndGet();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return the oldest event in the buffer, or null if the buffer is empty
+     */
+    public E poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E event = slots.get(index);
+                    slots.set(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return event;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Waits until an event is available or the timeout elapses.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of the timeout
+     * @return the oldest event in the buffer, or null if the timeout elapsed
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E event = poll();
+        if (event != null) {
+            return event;
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            // a producer checks the waiters after publishing, so the buffer is checked again after registering
+            waiters.incrementAndGet();
+            try {
+                while ((event = poll()) == null) {
+                    if (nanos <= 0) {
+                        return null;
+                    }
+                    nanos = notEmpty.awaitNanos(nanos);
+                }
+                return event;
+            } finally {
+                waiters.decrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * @return number of events dropped since the buffer was full
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
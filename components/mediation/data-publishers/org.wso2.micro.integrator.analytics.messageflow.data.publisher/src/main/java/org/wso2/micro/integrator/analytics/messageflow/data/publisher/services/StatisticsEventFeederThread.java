@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.analytics.messageflow.data.publisher.services;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.aspects.flow.statistics.log.StatisticsReportingEventHolder;
+import org.wso2.micro.integrator.analytics.data.publisher.util.AnalyticsDataPublisherConstants;
+import org.wso2.micro.integrator.initializer.services.SynapseEnvironmentService;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves the completed message flows from the statistics store of the synapse environment into the
+ * {@link StatisticsEventBuffer} of the reporter threads.
+ * <p>
+ * The synapse store can only be polled and does not signal when a flow is added, so this is the single thread which
+ * polls it. While flows keep arriving it polls without a pause. Once the store runs empty the thread yields for a
+ * while and then parks for a period which doubles up to the configured idle interval, so an idle server does not keep
+ * a core busy or wake up more often than the idle interval allows. A flow added after an idle period is picked up
+ * within that interval, as with the fixed sleep of the reporter threads before.
+ */
+public class StatisticsEventFeederThread extends Thread {
+
+    private static final Log log = LogFactory.getLog(StatisticsEventFeederThread.class);
+
+    private static final int MAX_YIELDS = 100;
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long DROP_REPORT_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+
+    private final SynapseEnvironmentService synapseEnvironmentService;
+    private final StatisticsEventBuffer<StatisticsReportingEventHolder> eventBuffer;
+
+    private volatile boolean shutdownRequested = false;
+
+    private long maxParkNanos = TimeUnit.MILLISECONDS.toNanos(
+            AnalyticsDataPublisherConstants.FLOW_STATISTIC_WORKER_IDLE_INTERVAL_DEFAULT);
+    private int yields;
+    private long parkNanos = MIN_PARK_NANOS;
+    private long reportedDrops;
+    private long lastDropReport;
+
+    public StatisticsEventFeederThread(SynapseEnvironmentService synEnvSvc,
+                                       StatisticsEventBuffer<StatisticsReportingEventHolder> eventBuffer) {
+        this.synapseEnvironmentService = synEnvSvc;
+        this.eventBuffer = eventBuffer;
+    }
+
+    /**
+     * @param idleInterval upper bound in milliseconds of the pause between two polls of an empty store
+     */
+    public void setIdleInterval(long idleInterval) {
+        this.maxParkNanos = Math.max(MIN_PARK_NANOS, TimeUnit.MILLISECONDS.toNanos(idleInterval));
+    }
+
+    public void run() {
+        while (!shutdownRequested) {
+            try {
+                StatisticsReportingEventHolder holder = synapseEnvironmentService.getSynapseEnvironment()
+                        .getMessageDataStore().dequeue();
+                if (holder == null) {
+                    idle();
+                    continue;
+                }
+                yields = 0;
+                parkNanos = MIN_PARK_NANOS;
+                if (!eventBuffer.offer(holder)) {
+                    reportDrops();
+                }
+            } catch (Exception exception) {//catching throwable since this shouldn't fail
+                log.error("Error in mediation flow statistic data feeder while moving data", exception);
+            }
+        }
+    }
+
+    private void idle() {
+        if (yields < MAX_YIELDS) {
+            yields++;
+            Thread.yield();
+            return;
+        }
+        LockSupport.parkNanos(this, parkNanos);
+        parkNanos = Math.min(parkNanos << 1, maxParkNanos);
+    }
+
+    private void reportDrops() {
+        long now = System.currentTimeMillis();
+        if (now - lastDropReport < DROP_REPORT_INTERVAL) {
+            return;
+        }
+        long dropped = eventBuffer.getDroppedCount();
+        log.warn("Mediation flow statistics buffer of " + eventBuffer.capacity() + " flows is full. Dropped "
+                         + (dropped - reportedDrops) + " flows since the last report and " + dropped + " in total.");
+        reportedDrops = dropped;
+        lastDropReport = now;
+    }
+
+    public long getDroppedCount() {
+        return eventBuffer.getDroppedCount();
+    }
+
+    public void shutdown() {
+        if (log.isDebugEnabled()) {
+            log.debug("Statistics feeder thread is being stopped");
+        }
+        shutdownRequested = true;
+        // end a park early, so that the shutdown does not wait for it
+        LockSupport.unpark(this);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import junit.framework.TestCase;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.schema.ElasticDataSchema;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.schema.ElasticDataSchemaElement;
+import org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.sink.AnalyticsSink;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the asynchronous publisher which writes the analytics to a file or socket sink.
+ */
+public class AsyncAnalyticsPublisherTest extends TestCase {
+
+    private static final Log log = LogFactory.getLog(AsyncAnalyticsPublisherTest.class);
+
+    private static final String PREFIX = "SYNAPSE_ANALYTICS_DATA";
+
+    public void testStreamedDocumentMatchesJsonTree() throws Exception {
+        ElasticDataSchema analytic = new ElasticDataSchema(createPayload(1));
+        StringWriter output = new StringWriter();
+        analytic.write(new JsonWriter(output));
+        assertEquals(JsonParser.parseString(analytic.getJsonString()), JsonParser.parseString(output.toString()));
+    }
+
+    public void testSinkFlushedOnceBatchIsComplete() throws Exception {
+        MemorySink sink = new MemorySink();
+        AsyncAnalyticsPublisher publisher = new AsyncAnalyticsPublisher(PREFIX, sink, 64, 4, 60000);
+        publisher.start();
+        try {
+            for (int i = 0; i < 8; i++) {
+                assertTrue(publisher.publish(new ElasticDataSchema(createPayload(i))));
+            }
+            sink.awaitFlushes(2);
+            List<String> lines = sink.getLines();
+            assertEquals(8, lines.size());
+            for (int i = 0; i < 8; i++) {
+                assertTrue(lines.get(i).startsWith(PREFIX + " "));
+                JsonObject document = JsonParser.parseString(lines.get(i).substring(PREFIX.length() + 1))
+                        .getAsJsonObject();
+                assertEquals(i, document.getAsJsonObject(ElasticConstants.EnvelopDef.PAYLOAD).get("index").getAsInt());
+            }
+        } finally {
+            publisher.shutdown();
+        }
+        assertEquals(8, publisher.getPublishedCount());
+    }
+
+    public void testSinkFlushedOnceIntervalElapses() throws Exception {
+        MemorySink sink = new MemorySink();
+        AsyncAnalyticsPublisher publisher = new AsyncAnalyticsPublisher(PREFIX, sink, 64, 100, 100);
+        publisher.start();
+        try {
+            long start = System.nanoTime();
+            publisher.publish(new ElasticDataSchema(createPayload(0)));
+            sink.awaitFlushes(1);
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(90));
+            assertEquals(1, sink.getLines().size());
+        } finally {
+            publisher.shutdown();
+        }
+    }
+
+    public void testAnalyticsDroppedWhenBufferIsFull() throws Exception {
+        MemorySink sink = new MemorySink();
+        AsyncAnalyticsPublisher publisher = new AsyncAnalyticsPublisher(PREFIX, sink, 4, 100, 60000);
+        for (int i = 0; i < 6; i++) {
+            publisher.publish(new ElasticDataSchema(createPayload(i)));
+        }
+        assertEquals(2, publisher.getDroppedCount());
+        publisher.start();
+        publisher.shutdown();
+        assertEquals(4, publisher.getPublishedCount());
+        assertEquals(4, sink.getLines().size());
+        assertTrue(sink.closed);
+    }
+
+    public void testFailedBatchCountedAndSinkReset() throws Exception {
+        MemorySink sink = new MemorySink();
+        sink.failures = 1;
+        AsyncAnalyticsPublisher publisher = new AsyncAnalyticsPublisher(PREFIX, sink, 64, 2, 60000);
+        publisher.start();
+        try {
+            for (int i = 0; i < 4; i++) {
+                publisher.publish(new ElasticDataSchema(createPayload(i)));
+            }
+            sink.awaitFlushes(1);
+            List<String> lines = sink.getLines();
+            assertEquals(2, lines.size());
+            JsonParser.parseString(lines.get(0).substring(PREFIX.length() + 1));
+        } finally {
+            publisher.shutdown();
+        }
+        assertEquals(2, publisher.getFailedCount());
+        assertEquals(2, publisher.getPublishedCount());
+        assertEquals(1, sink.resets);
+    }
+
+    /**
+     * Compares the cost of streaming an analytic to a reused writer with building and serializing the JSON tree as
+     * done for the log sink.
+     */
+    public void testStreamingCost() throws Exception {
+        int iterations = 100000;
+        List<ElasticDataSchema> analytics = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            analytics.add(new ElasticDataSchema(createPayload(i)));
+        }
+        NullWriter sink = new NullWriter();
+        JsonWriter jsonWriter = new JsonWriter(sink);
+        jsonWriter.setLenient(true);
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink.write(String.format("%s %s", PREFIX, analytics.get(i % analytics.size()).getJsonString()));
+            }
+            long tree = (System.nanoTime() - start) / iterations;
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink.write(PREFIX);
+                sink.write(' ');
+                analytics.get(i % analytics.size()).write(jsonWriter);
+                sink.write('\n');
+            }
+            long streamed = (System.nanoTime() - start) / iterations;
+            log.info("Formatting an analytic costs " + tree + " ns through the JSON tree and " + streamed
+                             + " ns when streamed.");
+        }
+    }
+
+    private static ElasticDataSchemaElement createPayload(int index) {
+        ElasticDataSchemaElement payload = new ElasticDataSchemaElement();
+        payload.setAttribute("index", index);
+        payload.setAttribute(ElasticConstants.EnvelopDef.ENTITY_TYPE, "API");
+        payload.setAttribute(ElasticConstants.EnvelopDef.ENTITY_CLASS_NAME, "org.apache.synapse.api.API");
+        payload.setAttribute(ElasticConstants.EnvelopDef.FAULT_RESPONSE, false);
+        payload.setAttribute(ElasticConstants.EnvelopDef.LATENCY, 12L);
+        payload.setAttribute(ElasticConstants.EnvelopDef.CORRELATION_ID, "4c1b3e5a-<&>-" + index);
+        ElasticDataSchemaElement apiDetails = new ElasticDataSchemaElement();
+        apiDetails.setAttribute(ElasticConstants.EnvelopDef.API, "TestAPI");
+        apiDetails.setAttribute(ElasticConstants.EnvelopDef.METHOD, "GET");
+        apiDetails.setAttribute(ElasticConstants.EnvelopDef.API_CONTEXT, null);
+        payload.setAttribute(ElasticConstants.EnvelopDef.API_DETAILS, apiDetails);
+        JsonObject metadata = new JsonObject();
+        metadata.addProperty("key", "value");
+        metadata.add("empty", null);
+        payload.setAttribute(ElasticConstants.EnvelopDef.METADATA, metadata);
+        payload.setStartTime(1700000000000L + index);
+        return payload;
+    }
+
+    private static class MemorySink extends AnalyticsSink {
+
+        private final StringBuilder pending = new StringBuilder();
+        private final StringBuilder flushed = new StringBuilder();
+        private final Writer target = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                pending.append(buffer, offset, length);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                synchronized (MemorySink.this) {
+                    if (failures > 0) {
+                        failures--;
+                        throw new IOException("Simulated failure");
+                    }
+                    flushed.append(pending);
+                    pending.setLength(0);
+                    flushes++;
+                    MemorySink.this.notifyAll();
+                }
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        private int failures;
+        private int flushes;
+        private int resets;
+        private volatile boolean closed;
+
+        @Override
+        protected Writer getTarget() {
+            return target;
+        }
+
+        @Override
+        public synchronized void reset() {
+            pending.setLength(0);
+            resets++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        synchronized void awaitFlushes(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 10000;
+            while (flushes < count && System.currentTimeMillis() < deadline) {
+                wait(100);
+            }
+            assertTrue("Sink was not flushed " + count + " times.", flushes >= count);
+        }
+
+        synchronized List<String> getLines() {
+            List<String> lines = new ArrayList<>();
+            for (String line : flushed.toString().split("\n")) {
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+            return lines;
+        }
+    }
+
+    private static class NullWriter extends Writer {
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+        }
+
+        @Override
+        public void write(String value, int offset, int length) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.analytics.messageflow.data.publisher.publish.elasticsearch.sink;
+
+import junit.framework.TestCase;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests the reconnects of the socket sink.
+ */
+public class SocketAnalyticsSinkTest extends TestCase {
+
+    public void testConnectBackedOffAfterFailure() throws Exception {
+        int port;
+        try (ServerSocket unused = new ServerSocket(0)) {
+            port = unused.getLocalPort();
+        }
+        SocketAnalyticsSink sink = new SocketAnalyticsSink("localhost", port, 500, 1000);
+        assertWriteFails(sink);
+        try (ServerSocket server = new ServerSocket()) {
+            server.setReuseAddress(true);
+            server.bind(new InetSocketAddress("localhost", port));
+            // the sink does not connect again before the delay has passed, even though the port is open now
+            assertWriteFails(sink);
+            Thread.sleep(600);
+            sink.write("analytic\n");
+            sink.flush();
+            try (Socket accepted = server.accept()) {
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(accepted.getInputStream(), StandardCharsets.UTF_8));
+                assertEquals("analytic", reader.readLine());
+            } finally {
+                sink.close();
+            }
+        }
+    }
+
+    private static void assertWriteFails(SocketAnalyticsSink sink) {
+        try {
+            sink.write("analytic\n");
+            fail("Write to an unreachable analytics sink is not expected to succeed");
+        } catch (IOException expected) {
+            sink.reset();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.analytics.messageflow.data.publisher.services;
+
+import junit.framework.TestCase;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests the buffer which hands the completed message flows over to the reporter threads.
+ */
+public class StatisticsEventBufferTest extends TestCase {
+
+    private static final Log log = LogFactory.getLog(StatisticsEventBufferTest.class);
+
+    // far above the cost of a hand over, which is in the order of 100 ns, so that only a regression such as a lock
+    // held while waiting or a wake up per event fails the test on a loaded build machine
+    private static final long MAX_NANOS_PER_EVENT = TimeUnit.MICROSECONDS.toNanos(10);
+
+    public void testCapacityRoundedToPowerOfTwo() {
+        assertEquals(8, new StatisticsEventBuffer<Integer>(5).capacity());
+        assertEquals(8, new StatisticsEventBuffer<Integer>(8).capacity());
+    }
+
+    public void testEventsPolledInOrder() {
+        StatisticsEventBuffer<Integer> buffer = new StatisticsEventBuffer<>(4);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(buffer.offer(i));
+            }
+            for (int i = 0; i < 4; i++) {
+                assertEquals(Integer.valueOf(i), buffer.poll());
+            }
+            assertNull(buffer.poll());
+        }
+    }
+
+    public void testEventsDroppedWhenFull() {
+        StatisticsEventBuffer<Integer> buffer = new StatisticsEventBuffer<>(2);
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+        assertFalse(buffer.offer(3));
+        assertFalse(buffer.offer(4));
+        assertEquals(2, buffer.getDroppedCount());
+        assertEquals(2, buffer.size());
+        assertEquals(Integer.valueOf(1), buffer.poll());
+        assertTrue(buffer.offer(5));
+        assertEquals(2, buffer.getDroppedCount());
+    }
+
+    public void testWaitingConsumerWokenUp() throws Exception {
+        StatisticsEventBuffer<Integer> buffer = new StatisticsEventBuffer<>(4);
+        AtomicReference<Integer> received = new AtomicReference<>();
+        CountDownLatch waiting = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread consumer = new Thread(() -> {
+            try {
+                waiting.countDown();
+                received.set(buffer.poll(10, TimeUnit.SECONDS));
+            } catch (InterruptedException ignore) {
+            }
+            done.countDown();
+        });
+        consumer.start();
+        waiting.await();
+        Thread.sleep(100);
+        long start = System.nanoTime();
+        buffer.offer(42);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Integer.valueOf(42), received.get());
+        assertTrue("Consumer was not woken up by the producer.",
+                   System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    public void testPollTimesOut() throws Exception {
+        StatisticsEventBuffer<Integer> buffer = new StatisticsEventBuffer<>(4);
+        assertNull(buffer.poll(50, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Several producers, standing for the mediation threads, hand events over to several consumers. Every event is
+     * either consumed or counted as dropped, and the cost of handing over an event stays within a bound.
+     */
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        int producers = 4;
+        int consumers = 2;
+        int eventsPerProducer = 200000;
+        StatisticsEventBuffer<Long> buffer = new StatisticsEventBuffer<>(8192);
+        AtomicLong consumed = new AtomicLong();
+        AtomicLong consumedSum = new AtomicLong();
+        AtomicLong offeredSum = new AtomicLong();
+        CountDownLatch producersDone = new CountDownLatch(producers);
+        Thread[] consumerThreads = new Thread[consumers];
+        for (int i = 0; i < consumers; i++) {
+            consumerThreads[i] = new Thread(() -> {
+                try {
+                    while (true) {
+                        Long event = buffer.poll(100, TimeUnit.MILLISECONDS);
+                        if (event != null) {
+                            consumed.incrementAndGet();
+                            consumedSum.addAndGet(event);
+                        } else if (producersDone.getCount() == 0 && buffer.size() == 0) {
+                            return;
+                        }
+                    }
+                } catch (InterruptedException ignore) {
+                }
+            });
+            consumerThreads[i].start();
+        }
+        long start = System.nanoTime();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            new Thread(() -> {
+                for (long i = 0; i < eventsPerProducer; i++) {
+                    long event = producer * (long) eventsPerProducer + i;
+                    if (buffer.offer(event)) {
+                        offeredSum.addAndGet(event);
+                    }
+                }
+                producersDone.countDown();
+            }).start();
+        }
+        assertTrue(producersDone.await(60, TimeUnit.SECONDS));
+        long elapsed = System.nanoTime() - start;
+        for (Thread consumerThread : consumerThreads) {
+            consumerThread.join(10000);
+            assertFalse("Consumer did not stop after the buffer was drained.", consumerThread.isAlive());
+        }
+        long total = (long) producers * eventsPerProducer;
+        assertTrue("No event was handed over to the consumers.", consumed.get() > 0);
+        assertEquals(total, consumed.get() + buffer.getDroppedCount());
+        assertEquals(offeredSum.get(), consumedSum.get());
+        assertTrue("Handing over an event took " + (elapsed / total) + " ns.",
+                   elapsed / total < MAX_NANOS_PER_EVENT);
+        log.info("Handed over " + total + " events from " + producers + " producers to " + consumers
+                         + " consumers at " + (elapsed / total) + " ns per event, " + buffer.getDroppedCount()
+                         + " dropped.");
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.axis2.context.MessageContext;
 import org.apache.axis2.description.AxisService;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.Header;
 import org.apache.http.HttpInetConnection;
 import org.apache.http.HttpRequest;
 import org.apache.http.HttpResponse;
@@ -69,6 +70,9 @@ public class PassThroughNHttpGetProcessor extends AbstractHttpGetRequestProcesso
         try {
             CarbonHttpRequest carbonHttpRequest = new CarbonHttpRequest(
                     "GET", requestUri, requestUrl);
+            for (Header header : request.getAllHeaders()) {
+                carbonHttpRequest.addHeader(header.getName(), header.getValue());
+            }
 
             String uri = request.getRequestLine().getUri();
             // setting the parameters for nhttp transport
@@ -32,6 +32,8 @@ import io.swagger.v3.oas.models.parameters.Parameter;
 import org.apache.axiom.ext.io.StreamCopyException;
 import org.apache.axiom.util.blob.BlobOutputStream;
 import org.apache.axis2.AxisFault;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.protocol.HTTP;
@@ -41,18 +43,93 @@ import org.wso2.carbon.mediation.commons.rest.api.swagger.SwaggerConstants;
 import org.wso2.micro.core.Constants;
 import org.wso2.micro.core.transports.CarbonHttpRequest;
 import org.wso2.micro.core.transports.CarbonHttpResponse;
+import org.wso2.micro.integrator.transport.handlers.utils.SwaggerDocumentCache;
+import org.wso2.micro.integrator.transport.handlers.utils.SwaggerDocumentCache.SwaggerDocument;
+import org.wso2.micro.integrator.transport.handlers.utils.SwaggerException;
+import org.wso2.micro.integrator.transport.handlers.utils.SwaggerProcessorConstants;
+import org.wso2.micro.integrator.transport.handlers.utils.SwaggerUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.Map;
 
 /**
  * This is the base class used by swagger formatter classes(JSON and YAML) and contains generic functions.
  */
 public class SwaggerGenerator {
     private static final Log log = LogFactory.getLog(SwaggerGenerator.class);
+
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String ETAG = "ETag";
+    private static final int HTTP_NOT_MODIFIED = 304;
+
     /**
-     * Registry path prefixes
+     * Update the response with the swagger definition of the requested API or data service. The serialized
+     * definitions are cached until the artifact is redeployed, and a request having the entity tag of the definition
+     * in its If-None-Match header is answered with 304 Not Modified.
+     *
+     * @param request              The CarbonHttpRequest contains request information.
+     * @param response             The CarbonHttpResponse which will be updated with response information.
+     * @param configurationContext The system ConfigurationContext.
+     * @param contentType          Content type of the requested definition, JSON or YAML.
+     * @throws AxisFault        Error occurred while fetching the host name.
+     * @throws SwaggerException Error occurred while fetching the resources from the registry.
      */
+    protected void processSwaggerRequest(CarbonHttpRequest request, CarbonHttpResponse response,
+                                         ConfigurationContext configurationContext, String contentType)
+            throws AxisFault, SwaggerException {
+        boolean isJSON = contentType.contains(SwaggerConstants.CONTENT_TYPE_JSON);
+        API api = getAPIFromSynapseConfig(request);
+        Object artifact = null;
+        String cacheKey = null;
+        if (api != null) {
+            artifact = api;
+            cacheKey = "api:" + api.getName() + ":" + contentType;
+        } else if (request.getContextPath().contains("/" + SwaggerProcessorConstants.SERVICES_PREFIX)) {
+            String requestURI = request.getRequestURI();
+            String dataServiceName = requestURI.substring(requestURI.lastIndexOf("/") + 1);
+            artifact = configurationContext.getAxisConfiguration().getService(dataServiceName);
+            cacheKey = "service:" + dataServiceName + ":" + contentType;
+        }
+        if (artifact == null) {
+            handleException(request.getRequestURI());
+        }
+
+        SwaggerDocument document = SwaggerDocumentCache.get(cacheKey, artifact);
+        if (document == null) {
+            String responseString = generateSwagger(api, request, configurationContext, isJSON);
+            if (StringUtils.isEmpty(responseString)) {
+                handleException(request.getRequestURI());
+            }
+            document = SwaggerDocumentCache.put(cacheKey, artifact, getResponseBytes(responseString, contentType));
+        }
+
+        response.getHeaders().put(ETAG, document.getETag());
+        if (document.matches(getHeader(request, IF_NONE_MATCH))) {
+            response.setStatus(HTTP_NOT_MODIFIED);
+            return;
+        }
+        writeResponse(response, document.getContent(), contentType);
+    }
+
+    /**
+     * Generate the swagger definition of the API, or of the requested data service if the API is null.
+     *
+     * @param api                  The API the definition is requested for, or null for a data service.
+     * @param request              The CarbonHttpRequest contains request information.
+     * @param configurationContext The system ConfigurationContext.
+     * @param isJSON               Whether the definition is requested in JSON or YAML.
+     * @return The swagger definition.
+     * @throws AxisFault        Error occurred while fetching the host name.
+     * @throws SwaggerException Error occurred while fetching the resources from the registry.
+     */
+    protected String generateSwagger(API api, CarbonHttpRequest request, ConfigurationContext configurationContext,
+                                     boolean isJSON) throws AxisFault, SwaggerException {
+        if (api != null) {
+            return SwaggerUtils.getAPISwagger(api, isJSON);
+        }
+        return SwaggerUtils.getDataServiceSwagger(request.getRequestURI(), configurationContext, isJSON);
+    }
 
     /**
      * Update the response with provided response string.
@@ -64,26 +141,54 @@ public class SwaggerGenerator {
      */
     protected void updateResponse(CarbonHttpResponse response, String responseString, String contentType) throws
             AxisFault {
+        writeResponse(response, getResponseBytes(responseString, contentType), contentType);
+    }
+
+    /**
+     * Serialize the response string as the definition to be sent.
+     *
+     * @param responseString String response to be serialized
+     * @param contentType    Content type of the response
+     * @return Serialized definition
+     * @throws AxisFault Any exception occured during the serialization
+     */
+    private byte[] getResponseBytes(String responseString, String contentType) throws AxisFault {
         String updatesResponseString = getOpenAPIJsonString(responseString, contentType);
+        if (updatesResponseString == null) {
+            // Parsing to OpenAPI model failed. Return the original response.
+            // This can happen when user save a custom swagger in registry.
+            updatesResponseString = responseString;
+        }
+        try {
+            return updatesResponseString.getBytes(SwaggerConstants.DEFAULT_ENCODING);
+        } catch (UnsupportedEncodingException encodingException) {
+            handleException("Error in generating Swagger definition : exception in encoding ", encodingException);
+            return null;
+        }
+    }
+
+    private void writeResponse(CarbonHttpResponse response, byte[] responseBytes, String contentType)
+            throws AxisFault {
         try {
-            if (updatesResponseString == null) {
-                // Parsing to OpenAPI model failed. Return the original response.
-                // This can happen when user save a custom swagger in registry.
-                updatesResponseString = responseString;
-            }
-            byte[] responseStringBytes = updatesResponseString.getBytes(SwaggerConstants.DEFAULT_ENCODING);
             ((BlobOutputStream) response.getOutputStream()).getBlob()
-                    .readFrom(new ByteArrayInputStream(responseStringBytes), responseStringBytes.length);
+                    .readFrom(new ByteArrayInputStream(responseBytes), responseBytes.length);
         } catch (StreamCopyException streamCopyException) {
             handleException("Error in generating Swagger definition : failed to copy data to response ",
                     streamCopyException);
-        } catch (UnsupportedEncodingException encodingException) {
-            handleException("Error in generating Swagger definition : exception in encoding ", encodingException);
         }
         response.setStatus(SwaggerConstants.HTTP_OK);
         response.getHeaders().put(HTTP.CONTENT_TYPE, contentType);
     }
 
+    private static String getHeader(CarbonHttpRequest request, String name) {
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns API instance related to the URI in provided request.
      *
@@ -19,15 +19,11 @@ package org.wso2.micro.integrator.transport.handlers.requestprocessors.swagger.f
 
 import org.apache.axis2.AxisFault;
 import org.apache.axis2.context.ConfigurationContext;
-import org.apache.commons.lang.StringUtils;
-import org.apache.synapse.api.API;
 import org.wso2.carbon.mediation.commons.rest.api.swagger.SwaggerConstants;
 import org.wso2.micro.core.transports.CarbonHttpRequest;
 import org.wso2.micro.core.transports.CarbonHttpResponse;
 import org.wso2.micro.core.transports.HttpGetRequestProcessor;
 import org.wso2.micro.integrator.transport.handlers.utils.SwaggerException;
-import org.wso2.micro.integrator.transport.handlers.utils.SwaggerProcessorConstants;
-import org.wso2.micro.integrator.transport.handlers.utils.SwaggerUtils;
 
 /**
  * Provides Swagger definition for the API in JSON format.
@@ -45,20 +41,6 @@ public class SwaggerJsonProcessor extends SwaggerGenerator implements HttpGetReq
     @Override
     public void process(CarbonHttpRequest request, CarbonHttpResponse response, ConfigurationContext configurationContext)
             throws AxisFault, SwaggerException {
-        API api = getAPIFromSynapseConfig(request);
-        String responseString = null;
-        if (api != null) {
-            responseString = SwaggerUtils.getAPISwagger(api,true);
-        } else if (request.getContextPath().contains("/" + SwaggerProcessorConstants.SERVICES_PREFIX)) {
-            responseString = SwaggerUtils.getDataServiceSwagger(request.getRequestURI(), configurationContext, true);
-        } else {
-            handleException(request.getRequestURI());
-        }
-
-        if (StringUtils.isNotEmpty(responseString)) {
-            updateResponse(response, responseString, SwaggerConstants.CONTENT_TYPE_JSON);
-        } else {
-            handleException(request.getRequestURI());
-        }
+        processSwaggerRequest(request, response, configurationContext, SwaggerConstants.CONTENT_TYPE_JSON);
     }
 }
@@ -19,14 +19,11 @@ package org.wso2.micro.integrator.transport.handlers.requestprocessors.swagger.f
 
 import org.apache.axis2.AxisFault;
 import org.apache.axis2.context.ConfigurationContext;
-import org.apache.synapse.api.API;
 import org.wso2.carbon.mediation.commons.rest.api.swagger.SwaggerConstants;
 import org.wso2.micro.core.transports.CarbonHttpRequest;
 import org.wso2.micro.core.transports.CarbonHttpResponse;
 import org.wso2.micro.core.transports.HttpGetRequestProcessor;
 import org.wso2.micro.integrator.transport.handlers.utils.SwaggerException;
-import org.wso2.micro.integrator.transport.handlers.utils.SwaggerProcessorConstants;
-import org.wso2.micro.integrator.transport.handlers.utils.SwaggerUtils;
 
 /**
  * Provides Swagger definition for the API in YAML format.
@@ -45,20 +42,6 @@ public class SwaggerYamlProcessor extends SwaggerGenerator implements HttpGetReq
     public void process(CarbonHttpRequest request, CarbonHttpResponse response,
                         ConfigurationContext configurationContext) throws AxisFault, SwaggerException {
 
-        API api = getAPIFromSynapseConfig(request);
-        String responseString = null;
-        if (api != null) {
-            responseString = SwaggerUtils.getAPISwagger(api,false);
-        } else if (request.getContextPath().contains("/" + SwaggerProcessorConstants.SERVICES_PREFIX)) {
-            responseString = SwaggerUtils.getDataServiceSwagger(request.getRequestURI(), configurationContext, false);
-        } else {
-            handleException(request.getRequestURI());
-        }
-
-        if (responseString != null && !responseString.isEmpty()) {
-            updateResponse(response, responseString, SwaggerConstants.CONTENT_TYPE_YAML);
-        } else {
-            handleException(request.getRequestURI());
-        }
+        processSwaggerRequest(request, response, configurationContext, SwaggerConstants.CONTENT_TYPE_YAML);
     }
 }
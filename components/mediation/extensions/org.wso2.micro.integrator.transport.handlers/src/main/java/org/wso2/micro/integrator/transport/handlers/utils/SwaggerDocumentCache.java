@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.transport.handlers.utils;
+
+import java.lang.ref.WeakReference;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the serialized Swagger definitions of the APIs and data services.
+ * <p>
+ * A definition is cached against the API or data service object it was generated for. Deploying or undeploying the
+ * artifact replaces or removes that object, hence the definition of an artifact is generated again once it is
+ * redeployed. A definition kept in the registry may change without a redeployment, hence the definitions also expire
+ * after a few minutes.
+ */
+public final class SwaggerDocumentCache {
+
+    private static final long EXPIRY_TIME = TimeUnit.MINUTES.toNanos(5);
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ConcurrentHashMap<String, SwaggerDocument> documents = new ConcurrentHashMap<>();
+
+    private SwaggerDocumentCache() {
+    }
+
+    /**
+     * Returns the cached definition of the artifact.
+     *
+     * @param key      Key of the definition, which is the artifact name and the format
+     * @param artifact API or data service object the definition is requested for
+     * @return the cached definition, or null if the definition is not cached for the artifact or has expired
+     */
+    public static SwaggerDocument get(String key, Object artifact) {
+
+        SwaggerDocument document = documents.get(key);
+        if (document == null) {
+            return null;
+        }
+        if (document.artifact.get() != artifact || System.nanoTime() - document.createdTime > EXPIRY_TIME) {
+            documents.remove(key, document);
+            return null;
+        }
+        return document;
+    }
+
+    /**
+     * Caches the definition of the artifact.
+     *
+     * @param key      Key of the definition, which is the artifact name and the format
+     * @param artifact API or data service object the definition is generated for
+     * @param content  Serialized definition
+     * @return the cached definition
+     */
+    public static SwaggerDocument put(String key, Object artifact, byte[] content) {
+
+        SwaggerDocument document = new SwaggerDocument(artifact, content);
+        documents.put(key, document);
+        return document;
+    }
+
+    /**
+     * Serialized Swagger definition and its entity tag.
+     */
+    public static final class SwaggerDocument {
+
+        private final WeakReference<Object> artifact;
+        private final byte[] content;
+        private final String eTag;
+        private final long createdTime = System.nanoTime();
+
+        private SwaggerDocument(Object artifact, byte[] content) {
+
+            this.artifact = new WeakReference<>(artifact);
+            this.content = content;
+            this.eTag = createETag(content);
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+
+        /**
+         * Checks whether the value of an If-None-Match header matches the entity tag of the definition.
+         *
+         * @param ifNoneMatch Value of the If-None-Match header
+         * @return true if the client already has the definition
+         */
+        public boolean matches(String ifNoneMatch) {
+
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if ("*".equals(tag) || eTag.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String createETag(byte[] content) {
+
+            byte[] digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256").digest(content);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not supported", e);
+            }
+            StringBuilder eTag = new StringBuilder(digest.length * 2 + 2).append('"');
+            for (byte b : digest) {
+                eTag.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+            }
+            return eTag.append('"').toString();
+        }
+    }
+}
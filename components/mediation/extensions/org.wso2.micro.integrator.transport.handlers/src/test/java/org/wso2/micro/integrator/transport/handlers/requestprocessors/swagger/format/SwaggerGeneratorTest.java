@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.transport.handlers.requestprocessors.swagger.format;
+
+import org.apache.axiom.util.blob.OverflowBlob;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.http.protocol.HTTP;
+import org.apache.synapse.api.API;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.mediation.commons.rest.api.swagger.SwaggerConstants;
+import org.wso2.micro.core.transports.CarbonHttpRequest;
+import org.wso2.micro.core.transports.CarbonHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests that the swagger definitions are generated once per deployed API, and that the requests having the entity
+ * tag of the definition are answered with 304 Not Modified.
+ */
+public class SwaggerGeneratorTest {
+
+    private static final String DEFINITION = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"%s\",\"version\":\"%s\"}}";
+
+    @Test
+    public void testDefinitionIsCached() throws Exception {
+
+        TestSwaggerGenerator generator = new TestSwaggerGenerator(new API("CachedAPI", "/cached"));
+        Response first = generator.process(null);
+        Response second = generator.process(null);
+        Assert.assertEquals(1, generator.generated);
+        Assert.assertEquals(SwaggerConstants.HTTP_OK, first.status);
+        Assert.assertEquals(SwaggerConstants.HTTP_OK, second.status);
+        Assert.assertTrue(first.body, first.body.contains("CachedAPI"));
+        Assert.assertEquals(first.body, second.body);
+        Assert.assertNotNull(first.eTag);
+        Assert.assertEquals(first.eTag, second.eTag);
+        Assert.assertEquals(SwaggerConstants.CONTENT_TYPE_JSON, second.contentType);
+    }
+
+    @Test
+    public void testNotModified() throws Exception {
+
+        TestSwaggerGenerator generator = new TestSwaggerGenerator(new API("NotModifiedAPI", "/notmodified"));
+        String eTag = generator.process(null).eTag;
+        Response response = generator.process(eTag);
+        Assert.assertEquals(304, response.status);
+        Assert.assertEquals(eTag, response.eTag);
+        Assert.assertEquals("Body is sent with 304", "", response.body);
+        Assert.assertNull(response.contentType);
+
+        Assert.assertEquals(304, generator.process("W/" + eTag).status);
+        Assert.assertEquals(304, generator.process("\"0123456789abcdef\", " + eTag).status);
+        Assert.assertEquals(304, generator.process("*").status);
+        Assert.assertEquals(1, generator.generated);
+    }
+
+    @Test
+    public void testModified() throws Exception {
+
+        TestSwaggerGenerator generator = new TestSwaggerGenerator(new API("ModifiedAPI", "/modified"));
+        Response response = generator.process("\"0123456789abcdef\"");
+        Assert.assertEquals(SwaggerConstants.HTTP_OK, response.status);
+        Assert.assertTrue(response.body.contains("ModifiedAPI"));
+    }
+
+    @Test
+    public void testRedeployedAPI() throws Exception {
+
+        TestSwaggerGenerator generator = new TestSwaggerGenerator(new API("RedeployedAPI", "/redeployed"));
+        String eTag = generator.process(null).eTag;
+
+        generator.api = new API("RedeployedAPI", "/redeployed");
+        generator.version = "2.0.0";
+        Response response = generator.process(eTag);
+        Assert.assertEquals(2, generator.generated);
+        Assert.assertEquals("Definition of the undeployed API is served", SwaggerConstants.HTTP_OK, response.status);
+        Assert.assertTrue(response.body.contains("2.0.0"));
+        Assert.assertFalse(eTag.equals(response.eTag));
+        Assert.assertEquals(304, generator.process(response.eTag).status);
+        Assert.assertEquals(2, generator.generated);
+    }
+
+    @Test
+    public void testFormatsAreCachedSeparately() throws Exception {
+
+        TestSwaggerGenerator generator = new TestSwaggerGenerator(new API("FormatsAPI", "/formats"));
+        Response json = generator.process(null);
+        generator.contentType = SwaggerConstants.CONTENT_TYPE_YAML;
+        Response yaml = generator.process(json.eTag);
+        Assert.assertEquals(2, generator.generated);
+        Assert.assertEquals(SwaggerConstants.HTTP_OK, yaml.status);
+        Assert.assertEquals(SwaggerConstants.CONTENT_TYPE_YAML, yaml.contentType);
+        Assert.assertFalse(json.eTag.equals(yaml.eTag));
+        Assert.assertEquals(304, generator.process(yaml.eTag).status);
+        Assert.assertEquals(2, generator.generated);
+    }
+
+    /**
+     * Swagger generator of a single API, which counts the definitions it generates.
+     */
+    private static class TestSwaggerGenerator extends SwaggerGenerator {
+
+        private API api;
+        private String version = "1.0.0";
+        private String contentType = SwaggerConstants.CONTENT_TYPE_JSON;
+        private int generated;
+
+        private TestSwaggerGenerator(API api) {
+            this.api = api;
+        }
+
+        private Response process(String ifNoneMatch) throws Exception {
+
+            CarbonHttpRequest request = new CarbonHttpRequest("GET", "/" + api.getName());
+            request.setContextPath("/");
+            if (ifNoneMatch != null) {
+                request.addHeader("if-none-match", ifNoneMatch);
+            }
+            OverflowBlob blob = new OverflowBlob(256, 4048, "_swagger", ".dat");
+            CarbonHttpResponse response = new CarbonHttpResponse(blob.getOutputStream());
+            processSwaggerRequest(request, response, (ConfigurationContext) null, contentType);
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            blob.writeTo(body);
+            blob.release();
+            return new Response(response, body.toString(StandardCharsets.UTF_8.name()));
+        }
+
+        @Override
+        protected API getAPIFromSynapseConfig(CarbonHttpRequest request) {
+            return api;
+        }
+
+        @Override
+        protected String generateSwagger(API api, CarbonHttpRequest request,
+                                         ConfigurationContext configurationContext, boolean isJSON) {
+            generated++;
+            return String.format(DEFINITION, api.getName(), version);
+        }
+    }
+
+    private static class Response {
+
+        private final int status;
+        private final String eTag;
+        private final String contentType;
+        private final String body;
+
+        private Response(CarbonHttpResponse response, String body) {
+
+            this.status = response.getStatusCode();
+            this.eTag = response.getHeaders().get("ETag");
+            this.contentType = response.getHeaders().get(HTTP.CONTENT_TYPE);
+            this.body = body;
+        }
+    }
+}
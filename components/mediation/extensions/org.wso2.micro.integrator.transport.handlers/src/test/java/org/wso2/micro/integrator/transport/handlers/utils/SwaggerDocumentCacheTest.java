@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.transport.handlers.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.micro.integrator.transport.handlers.utils.SwaggerDocumentCache.SwaggerDocument;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests the cache of the serialized Swagger definitions and the matching of their entity tags.
+ */
+public class SwaggerDocumentCacheTest {
+
+    private static final byte[] CONTENT = "{\"openapi\":\"3.0.1\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testCachedForArtifact() {
+
+        Object artifact = new Object();
+        SwaggerDocument document = SwaggerDocumentCache.put("api:CachedAPI:json", artifact, CONTENT);
+        Assert.assertSame(document, SwaggerDocumentCache.get("api:CachedAPI:json", artifact));
+        Assert.assertArrayEquals(CONTENT, document.getContent());
+        Assert.assertNull(SwaggerDocumentCache.get("api:CachedAPI:yaml", artifact));
+        Assert.assertNull(SwaggerDocumentCache.get("api:OtherAPI:json", artifact));
+    }
+
+    @Test
+    public void testInvalidatedOnRedeploy() {
+
+        Object artifact = new Object();
+        SwaggerDocumentCache.put("api:RedeployedAPI:json", artifact, CONTENT);
+        Object redeployedArtifact = new Object();
+        Assert.assertNull("Definition of the undeployed artifact is served",
+                          SwaggerDocumentCache.get("api:RedeployedAPI:json", redeployedArtifact));
+        // the stale definition is removed once it is found
+        Assert.assertNull(SwaggerDocumentCache.get("api:RedeployedAPI:json", artifact));
+
+        SwaggerDocument document = SwaggerDocumentCache.put("api:RedeployedAPI:json", redeployedArtifact, CONTENT);
+        Assert.assertSame(document, SwaggerDocumentCache.get("api:RedeployedAPI:json", redeployedArtifact));
+    }
+
+    @Test
+    public void testETag() {
+
+        Object artifact = new Object();
+        String eTag = SwaggerDocumentCache.put("api:ETagAPI:json", artifact, CONTENT).getETag();
+        Assert.assertTrue(eTag, eTag.matches("\"[0-9a-f]{64}\""));
+        Assert.assertEquals(eTag, SwaggerDocumentCache.put("api:ETagAPI:json", artifact, CONTENT.clone()).getETag());
+        String otherETag = SwaggerDocumentCache.put("api:ETagAPI:json", artifact,
+                                                    "{}".getBytes(StandardCharsets.UTF_8)).getETag();
+        Assert.assertFalse(eTag.equals(otherETag));
+    }
+
+    @Test
+    public void testMatchesStrongTag() {
+
+        SwaggerDocument document = SwaggerDocumentCache.put("api:StrongTagAPI:json", new Object(), CONTENT);
+        Assert.assertTrue(document.matches(document.getETag()));
+        Assert.assertTrue(document.matches(" " + document.getETag() + " "));
+        Assert.assertFalse(document.matches("\"0123456789abcdef\""));
+        Assert.assertFalse("Unquoted entity tag is matched",
+                           document.matches(document.getETag().replace("\"", "")));
+        Assert.assertFalse(document.matches(""));
+        Assert.assertFalse(document.matches(null));
+    }
+
+    @Test
+    public void testMatchesWeakTag() {
+
+        SwaggerDocument document = SwaggerDocumentCache.put("api:WeakTagAPI:json", new Object(), CONTENT);
+        Assert.assertTrue(document.matches("W/" + document.getETag()));
+        Assert.assertFalse(document.matches("W/\"0123456789abcdef\""));
+    }
+
+    @Test
+    public void testMatchesTagList() {
+
+        SwaggerDocument document = SwaggerDocumentCache.put("api:TagListAPI:json", new Object(), CONTENT);
+        Assert.assertTrue(document.matches("\"0123456789abcdef\", " + document.getETag()));
+        Assert.assertTrue(document.matches("W/\"0123456789abcdef\",W/" + document.getETag() + ",\"fedcba\""));
+        Assert.assertFalse(document.matches("\"0123456789abcdef\", W/\"fedcba\""));
+    }
+
+    @Test
+    public void testMatchesAnyTag() {
+
+        SwaggerDocument document = SwaggerDocumentCache.put("api:AnyTagAPI:json", new Object(), CONTENT);
+        Assert.assertTrue(document.matches("*"));
+        Assert.assertTrue(document.matches("\"0123456789abcdef\", *"));
+    }
+}
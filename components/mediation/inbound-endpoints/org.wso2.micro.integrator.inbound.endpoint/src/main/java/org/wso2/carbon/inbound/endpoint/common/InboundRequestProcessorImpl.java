@@ -25,15 +25,14 @@ import org.apache.synapse.startup.quartz.StartUpController;
 import org.apache.synapse.task.TaskDescription;
 import org.apache.synapse.task.TaskManager;
 import org.wso2.carbon.inbound.endpoint.persistence.InboundEndpointsDataStore;
+import org.wso2.carbon.inbound.endpoint.protocol.PollingConstants;
 import org.wso2.carbon.inbound.endpoint.protocol.jms.JMSTask;
 import org.wso2.micro.integrator.mediation.ntask.NTaskTaskManager;
 import org.wso2.micro.integrator.ntask.core.TaskUtils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.Properties;
 
 /**
  * This class provides the common implementation for polling protocol processors
@@ -47,7 +46,7 @@ public abstract class InboundRequestProcessorImpl implements InboundRequestProce
     protected boolean startInPausedMode;
 
     private List<StartUpController> startUpControllersList = new ArrayList<>();
-    private HashMap<Thread, InboundRunner> inboundRunnersThreadsMap = new HashMap<>();
+    private List<InboundRunner> inboundRunners = new ArrayList<>();
     private static final Log log = LogFactory.getLog(InboundRequestProcessorImpl.class);
     private InboundEndpointsDataStore dataStore;
 
@@ -102,25 +101,59 @@ public abstract class InboundRequestProcessorImpl implements InboundRequestProce
             }
         } else {
 
-            startInboundRunnerThread(task, Constants.SUPER_TENANT_DOMAIN_NAME, false, startInPausedMode);
+            startInboundRunner(task, Constants.SUPER_TENANT_DOMAIN_NAME, false, startInPausedMode);
         }
     }
 
     /**
-     * Starts a new thread to execute the given inbound task by creating a new {@link InboundRunner} instance
-     * and running it in a separate thread.
+     * Creates a new {@link InboundRunner} instance for the given inbound task and schedules it on the shared
+     * {@link InboundRunnerScheduler}.
      *
-     * @param task The inbound task to be executed by the thread.
+     * @param task The inbound task to be executed by the runner.
      * @param tenantDomain The tenant domain under which the task should be run.
      * @param mgrOverride A flag indicating whether the manager override is enabled.
      * @param startInPausedMode A flag indicating whether the task should start in paused mode.
      */
-    private void startInboundRunnerThread(InboundTask task, String tenantDomain, boolean mgrOverride,
-                                          boolean startInPausedMode) {
+    private void startInboundRunner(InboundTask task, String tenantDomain, boolean mgrOverride,
+                                    boolean startInPausedMode) {
         InboundRunner inboundRunner = new InboundRunner(task, interval, tenantDomain, mgrOverride, startInPausedMode);
-        Thread runningThread = new Thread(inboundRunner);
-        inboundRunnersThreadsMap.put(runningThread, inboundRunner);
-        runningThread.start();
+        configureSchedule(inboundRunner, task.getInboundProperties());
+        inboundRunners.add(inboundRunner);
+        inboundRunner.start();
+    }
+
+    private void configureSchedule(InboundRunner inboundRunner, Properties properties) {
+        if (properties == null) {
+            return;
+        }
+        String scheduleMode = properties.getProperty(PollingConstants.INBOUND_SCHEDULE_MODE);
+        if (PollingConstants.INBOUND_SCHEDULE_MODE_FIXED_RATE.equalsIgnoreCase(scheduleMode)) {
+            inboundRunner.setScheduleMode(InboundRunner.ScheduleMode.FIXED_RATE);
+        } else if (scheduleMode != null
+                && !PollingConstants.INBOUND_SCHEDULE_MODE_FIXED_DELAY.equalsIgnoreCase(scheduleMode)) {
+            log.warn("Invalid schedule mode " + scheduleMode + " for the inbound endpoint " + name
+                             + ". Using " + PollingConstants.INBOUND_SCHEDULE_MODE_FIXED_DELAY + ".");
+        }
+        String maxBackoffInterval = properties.getProperty(PollingConstants.INBOUND_BACKOFF_MAX_INTERVAL);
+        if (maxBackoffInterval != null) {
+            try {
+                String multiplier = properties.getProperty(PollingConstants.INBOUND_BACKOFF_MULTIPLIER);
+                inboundRunner.setBackoff(Long.parseLong(maxBackoffInterval),
+                                         multiplier != null ? Double.parseDouble(multiplier) : 2);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid polling backoff configuration for the inbound endpoint " + name
+                                 + ". Polling backoff is disabled.", e);
+            }
+        }
+    }
+
+    /**
+     * Returns the runners of a non coordinated inbound endpoint, which expose the poll lag metrics of each consumer.
+     *
+     * @return the inbound runners of this endpoint
+     */
+    public List<InboundRunner> getInboundRunners() {
+        return inboundRunners;
     }
 
     /**
@@ -135,24 +168,19 @@ public abstract class InboundRequestProcessorImpl implements InboundRequestProce
                 sc.destroy();
             }
             startUpControllersList.clear();
-        } else if (!inboundRunnersThreadsMap.isEmpty()) {
-
-            Iterator itr = inboundRunnersThreadsMap.entrySet().iterator();
-            while (itr.hasNext()) {
-                Map.Entry entry = (Map.Entry) itr.next();
-                Thread thread = (Thread) entry.getKey();
-                InboundRunner inboundRunner = (InboundRunner) entry.getValue();
-
+        } else if (!inboundRunners.isEmpty()) {
+            for (InboundRunner inboundRunner : inboundRunners) {
                 inboundRunner.terminate();
-                thread.interrupt();
+            }
+            for (InboundRunner inboundRunner : inboundRunners) {
                 try {
-                    thread.join();
+                    inboundRunner.awaitTermination();
                 } catch (InterruptedException e) {
-                    thread.interrupt();
-                    log.error("Error while stopping the inbound thread.");
+                    Thread.currentThread().interrupt();
+                    log.error("Error while stopping the inbound runner.");
                 }
             }
-            inboundRunnersThreadsMap.clear();
+            inboundRunners.clear();
         }
     }
 
@@ -184,9 +212,8 @@ public abstract class InboundRequestProcessorImpl implements InboundRequestProce
                     }
                 }
             }
-        } else if (!inboundRunnersThreadsMap.isEmpty()) {
-            for (Map.Entry<Thread, InboundRunner> threadInboundRunnerEntry : inboundRunnersThreadsMap.entrySet()) {
-                InboundRunner inboundRunner = (InboundRunner) ((Map.Entry) threadInboundRunnerEntry).getValue();
+        } else if (!inboundRunners.isEmpty()) {
+            for (InboundRunner inboundRunner : inboundRunners) {
                 inboundRunner.resume();
             }
             isSuccessfullyActivated = true;
@@ -220,9 +247,8 @@ public abstract class InboundRequestProcessorImpl implements InboundRequestProce
                     isSuccessfullyDeactivated = false;
                 }
             }
-        } else if (!inboundRunnersThreadsMap.isEmpty()) {
-            for (Map.Entry<Thread, InboundRunner> threadInboundRunnerEntry : inboundRunnersThreadsMap.entrySet()) {
-                InboundRunner inboundRunner = (InboundRunner) ((Map.Entry<?, ?>) threadInboundRunnerEntry).getValue();
+        } else if (!inboundRunners.isEmpty()) {
+            for (InboundRunner inboundRunner : inboundRunners) {
                 inboundRunner.pause();
             }
         }
@@ -246,9 +272,8 @@ public abstract class InboundRequestProcessorImpl implements InboundRequestProce
                     return false;
                 }
             }
-        } else if (!inboundRunnersThreadsMap.isEmpty()) {
-            for (Map.Entry<Thread, InboundRunner> threadInboundRunnerEntry : inboundRunnersThreadsMap.entrySet()) {
-                InboundRunner inboundRunner = (InboundRunner) ((Map.Entry<?, ?>) threadInboundRunnerEntry).getValue();
+        } else if (!inboundRunners.isEmpty()) {
+            for (InboundRunner inboundRunner : inboundRunners) {
                 if (!inboundRunner.isPaused()) {
                     // Inbound Endpoint is considered active if at least one consumer is alive.
                     return false;
@@ -20,27 +20,59 @@ package org.wso2.carbon.inbound.endpoint.common;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-import java.util.Date;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * InboundRunner class is used to run the non coordinated processors in
- * background according to the scheduled interval
+ * background according to the scheduled interval. Each run executes a single
+ * poll cycle on the shared {@link InboundRunnerScheduler} and schedules the next one.
  */
 public class InboundRunner implements Runnable {
 
+    /**
+     * Defines how the start time of the next poll cycle is calculated.
+     */
+    public enum ScheduleMode {
+        /**
+         * The next cycle starts {@code interval} ms after the previous cycle completes, or right away if the previous
+         * cycle took the interval or longer.
+         */
+        FIXED_DELAY,
+        /**
+         * The next cycle starts {@code interval} ms after the previous cycle was due. Cycles missed while a poll
+         * overran the interval are skipped instead of being executed back to back.
+         */
+        FIXED_RATE
+    }
+
     private InboundTask task;
     private long interval;
 
     private volatile boolean execute = true;
     private volatile boolean isPaused;
     private volatile boolean init = false;
-    // Following will be used to calculate the sleeping interval
-    private long lastRuntime;
-    private long currentRuntime;
-    private long cycleInterval;
     private String tenantDomain;
     private boolean runOnManagerOverride = false;
 
+    private ScheduleMode scheduleMode = ScheduleMode.FIXED_DELAY;
+    // Backoff is disabled unless the maximum interval is larger than the polling interval
+    private long maxBackoffInterval;
+    private double backoffMultiplier = 2;
+    private long currentDelay;
+    private long nextScheduledTime;
+    private boolean running;
+    private Thread runningThread;
+    private ScheduledFuture<?> scheduledFuture;
+
+    // Poll lag is the time between the scheduled and the actual start of a poll cycle
+    private final AtomicLong pollCount = new AtomicLong();
+    private final AtomicLong emptyPollCount = new AtomicLong();
+    private final AtomicLong totalPollLag = new AtomicLong();
+    private volatile long lastPollLag;
+    private volatile long maxPollLag;
+
     private static final String CLUSTERING_PATTERN = "clusteringPattern";
     private static final String CLUSTERING_PATTERN_WORKER_MANAGER = "WorkerManager";
     private static final Log log = LogFactory.getLog(InboundRunner.class);
@@ -49,36 +81,71 @@ public class InboundRunner implements Runnable {
     public InboundRunner(InboundTask task, long interval, String tenantDomain, boolean mgrOverride, boolean startInPausedMode) {
         this.task = task;
         this.interval = interval;
+        this.currentDelay = interval;
         this.tenantDomain = tenantDomain;
         this.runOnManagerOverride = mgrOverride;
         this.isPaused = startInPausedMode;
     }
 
+    public void setScheduleMode(ScheduleMode scheduleMode) {
+        this.scheduleMode = scheduleMode;
+    }
+
+    /**
+     * Enables adaptive backoff. Whenever the task reports an empty poll the delay until the next cycle is multiplied
+     * by the given multiplier, up to the maximum interval. The first non empty poll restores the configured interval.
+     *
+     * @param maxBackoffInterval maximum delay in milliseconds between two poll cycles
+     * @param backoffMultiplier  factor applied to the delay on each consecutive empty poll
+     */
+    public void setBackoff(long maxBackoffInterval, double backoffMultiplier) {
+        this.maxBackoffInterval = maxBackoffInterval;
+        this.backoffMultiplier = backoffMultiplier;
+    }
+
+    /**
+     * Schedules the first poll cycle. If the runner was created in paused mode the first cycle is scheduled once
+     * the runner is resumed.
+     */
+    public void start() {
+        synchronized (lock) {
+            if (execute && !isPaused) {
+                schedule(0);
+            }
+        }
+    }
+
     /**
-     * Pauses the execution of the thread.
+     * Pauses the execution of the runner.
      * <p>
-     * This method sets the {@code isPaused} flag to {@code true}, indicating that
-     * the thread should pause its execution. Threads can check this flag and
-     * enter a wait state if necessary.
+     * This method sets the {@code isPaused} flag to {@code true} and cancels the next scheduled poll cycle.
+     * A poll cycle which is already in progress is allowed to complete.
      * </p>
      */
     public void pause() {
         synchronized (lock) {
             isPaused = true;
+            cancelScheduledCycle();
         }
     }
 
     /**
-     * Resumes the execution of a paused thread.
+     * Resumes the execution of a paused runner.
      * <p>
-     * This method sets the {@code isPaused} flag to {@code false} and notifies
-     * all threads waiting on the {@code lock} object, allowing the thread to continue execution.
+     * This method sets the {@code isPaused} flag to {@code false} and schedules a poll cycle right away, unless
+     * a poll cycle is still in progress in which case that cycle schedules the next one on completion.
      * </p>
      */
     public void resume() {
         synchronized (lock) {
+            if (!isPaused) {
+                return;
+            }
             isPaused = false;
-            lock.notifyAll(); // Wake up the thread
+            if (execute && !running) {
+                currentDelay = interval;
+                schedule(0);
+            }
         }
     }
 
@@ -87,61 +154,143 @@ public class InboundRunner implements Runnable {
     }
 
     /**
-     * Exit the running while loop and terminate the thread
+     * Stop scheduling poll cycles and interrupt the poll cycle in progress, if any.
      */
     public void terminate() {
         synchronized (lock) {
             execute = false;
-            isPaused = false; // Ensure the thread is not stuck in pause
-            lock.notifyAll(); // Wake up the thread to exit
+            isPaused = false;
+            cancelScheduledCycle();
+            if (running && runningThread != null) {
+                runningThread.interrupt();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until the poll cycle in progress, if any, completes after the runner is terminated.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitTermination() throws InterruptedException {
+        synchronized (lock) {
+            while (running) {
+                lock.wait();
+            }
         }
     }
 
     @Override
     public void run() {
-        log.debug("Starting the Inbound Endpoint.");
-
-        log.debug("Configuration context loaded. Running the Inbound Endpoint.");
-        // Run the poll cycles
-        while (execute) {
-            synchronized (lock) {
-                while (isPaused && execute) {
-                    try {
-                        lock.wait(); // Pause the thread
-                    } catch (InterruptedException e) {
-                        if (log.isDebugEnabled()) {
-                            log.debug("Inbound thread got interrupted while paused, but continuing...");
-                        }
-                    }
-                }
+        synchronized (lock) {
+            if (!execute || isPaused || running) {
+                return;
             }
-            if (!execute) break; // Exit right away if the thread is terminated
-
-            if (log.isDebugEnabled()) {
-                log.debug("Executing the Inbound Endpoint.");
+            running = true;
+            runningThread = Thread.currentThread();
+        }
+        long startTime = System.nanoTime();
+        recordPollLag(startTime - nextScheduledTime);
+        pollCount.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug("Executing the Inbound Endpoint.");
+        }
+        boolean emptyPoll = false;
+        try {
+            task.taskExecute();
+            emptyPoll = task.isLastPollEmpty();
+            if (emptyPoll) {
+                emptyPollCount.incrementAndGet();
             }
-            lastRuntime = getTime();
-            try {
-                task.taskExecute();
-            } catch (Exception e) {
-                log.error("Error executing the inbound endpoint polling cycle.", e);
+        } catch (Exception e) {
+            log.error("Error executing the inbound endpoint polling cycle.", e);
+        }
+        synchronized (lock) {
+            running = false;
+            runningThread = null;
+            // Clear the interrupt raised by terminate so it does not leak into the next task of the worker
+            Thread.interrupted();
+            if (execute && !isPaused) {
+                scheduleNext(emptyPoll, startTime);
+            } else if (log.isDebugEnabled()) {
+                log.debug("Exit the Inbound Endpoint running loop.");
             }
-            currentRuntime = getTime();
-            cycleInterval = interval - (currentRuntime - lastRuntime);
-            if (cycleInterval > 0) {
-                try {
-                    Thread.sleep(interval);
-                } catch (InterruptedException e) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Unable to sleep the inbound thread for interval of : " + interval + "ms.");
-                    }
-                }
+            lock.notifyAll();
+        }
+    }
+
+    private void scheduleNext(boolean emptyPoll, long pollStartTime) {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(interval);
+        long now = System.nanoTime();
+        if (emptyPoll && maxBackoffInterval > interval) {
+            currentDelay = Math.min((long) (Math.max(currentDelay, 1) * backoffMultiplier), maxBackoffInterval);
+            schedule(TimeUnit.MILLISECONDS.toNanos(currentDelay));
+            return;
+        }
+        currentDelay = interval;
+        if (scheduleMode == ScheduleMode.FIXED_RATE && intervalNanos > 0) {
+            long next = nextScheduledTime + intervalNanos;
+            if (next < now) {
+                // Skip the cycles missed while the poll overran the interval
+                next += ((now - next) / intervalNanos + 1) * intervalNanos;
             }
+            schedule(next - now);
+        } else if (now - pollStartTime >= intervalNanos) {
+            // A poll which overran the interval is followed by the next one without a pause
+            schedule(0);
+        } else {
+            schedule(intervalNanos);
+        }
+    }
+
+    private void schedule(long delayNanos) {
+        InboundRunnerScheduler scheduler = InboundRunnerScheduler.getInstance();
+        nextScheduledTime = System.nanoTime() + delayNanos;
+        scheduledFuture = scheduler.getTimer().schedule(() -> scheduler.getWorkerExecutor().execute(this),
+                                                        delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void cancelScheduledCycle() {
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+            scheduledFuture = null;
         }
-        log.debug("Exit the Inbound Endpoint running loop.");
     }
 
-    private Long getTime() {
-        return new Date().getTime();
+    private void recordPollLag(long lagNanos) {
+        long lag = TimeUnit.NANOSECONDS.toMillis(Math.max(lagNanos, 0));
+        lastPollLag = lag;
+        totalPollLag.addAndGet(lag);
+        if (lag > maxPollLag) {
+            maxPollLag = lag;
+        }
+        if (lag > interval && log.isDebugEnabled()) {
+            log.debug("Inbound Endpoint poll cycle started " + lag + "ms after it was due.");
+        }
+    }
+
+    public long getPollCount() {
+        return pollCount.get();
+    }
+
+    public long getEmptyPollCount() {
+        return emptyPollCount.get();
+    }
+
+    /**
+     * @return delay in milliseconds between the scheduled and the actual start of the last poll cycle
+     */
+    public long getLastPollLag() {
+        return lastPollLag;
+    }
+
+    public long getMaxPollLag() {
+        return maxPollLag;
+    }
+
+    public long getAveragePollLag() {
+        long count = pollCount.get();
+        return count == 0 ? 0 : totalPollLag.get() / count;
     }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.inbound.endpoint.common;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the executors shared by all the non coordinated polling inbound endpoints.
+ * <p>
+ * A small timer pool only keeps track of when each {@link InboundRunner} is due. The poll cycles themselves are
+ * handed over to a worker executor which only holds threads while a poll is in progress, so idle endpoints do not
+ * pin a platform thread each. When {@code inbound.polling.virtual.threads} is enabled and the JVM supports virtual
+ * threads, each poll cycle runs on its own virtual thread instead.
+ */
+public class InboundRunnerScheduler {
+
+    private static final Log log = LogFactory.getLog(InboundRunnerScheduler.class);
+
+    public static final String TIMER_THREADS_PROPERTY = "inbound.polling.timer.threads";
+    public static final String VIRTUAL_THREADS_PROPERTY = "inbound.polling.virtual.threads";
+    private static final int DEFAULT_TIMER_THREADS = 1;
+
+    private static volatile InboundRunnerScheduler instance;
+
+    private final ScheduledThreadPoolExecutor timer;
+    private final ExecutorService workerExecutor;
+
+    private InboundRunnerScheduler() {
+        timer = new ScheduledThreadPoolExecutor(Integer.getInteger(TIMER_THREADS_PROPERTY, DEFAULT_TIMER_THREADS),
+                                                new InboundThreadFactory("inbound-polling-timer-"));
+        timer.setRemoveOnCancelPolicy(true);
+        ExecutorService virtualThreadExecutor = null;
+        if (Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY)) {
+            virtualThreadExecutor = createVirtualThreadExecutor();
+        }
+        if (virtualThreadExecutor != null) {
+            workerExecutor = virtualThreadExecutor;
+        } else {
+            workerExecutor = Executors.newCachedThreadPool(new InboundThreadFactory("inbound-polling-worker-"));
+        }
+    }
+
+    public static InboundRunnerScheduler getInstance() {
+        if (instance == null) {
+            synchronized (InboundRunnerScheduler.class) {
+                if (instance == null) {
+                    instance = new InboundRunnerScheduler();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the executor used to track the due time of the poll cycles. Tasks submitted here must not block.
+     *
+     * @return shared timer executor
+     */
+    public ScheduledExecutorService getTimer() {
+        return timer;
+    }
+
+    /**
+     * Returns the executor which runs the poll cycles.
+     *
+     * @return shared worker executor
+     */
+    public ExecutorService getWorkerExecutor() {
+        return workerExecutor;
+    }
+
+    /**
+     * The bundle is compiled against Java 8, hence the virtual thread executor is looked up reflectively.
+     *
+     * @return a thread per task executor backed by virtual threads or null if the JVM does not support them
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ExecutorService executorService = (ExecutorService) factoryMethod.invoke(null);
+            log.info("Polling inbound endpoints will be executed on virtual threads.");
+            return executorService;
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads are not supported by the running JVM. Polling inbound endpoints will be "
+                             + "executed on platform threads.");
+            return null;
+        }
+    }
+
+    private static class InboundThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String namePrefix;
+
+        InboundThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            if (t.getPriority() != Thread.NORM_PRIORITY) {
+                t.setPriority(Thread.NORM_PRIORITY);
+            }
+            return t;
+        }
+    }
+}
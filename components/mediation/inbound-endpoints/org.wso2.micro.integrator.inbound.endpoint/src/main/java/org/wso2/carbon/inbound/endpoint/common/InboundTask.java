@@ -64,5 +64,14 @@ public abstract class InboundTask implements org.apache.synapse.task.Task, Manag
 
     protected abstract void taskExecute();
 
+    /**
+     * Used by the {@link InboundRunner} to back off the polling interval when there is nothing to consume.
+     *
+     * @return true if the last {@link #taskExecute()} did not receive any message
+     */
+    protected boolean isLastPollEmpty() {
+        return false;
+    }
+
     public abstract Properties getInboundProperties();
 }
@@ -28,7 +28,7 @@ import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.rest.RESTConstants;
 import org.apache.synapse.rest.RESTUtils;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,8 +44,23 @@ public class InternalAPIDispatcher {
 
     private List<InternalAPI> internalApis;
 
+    /* contexts of the internal apis, matched as prefixes of the request path */
+    private URITemplateTree<Integer> apiTree = new URITemplateTree<>();
+    private boolean allContextsCompiled = true;
+    private int compiledApiCount;
+    /* resource templates of each internal api, the values are the indexes of the resources */
+    private Map<InternalAPI, ResourceTemplates> resourceTemplates = new HashMap<>();
+
     public InternalAPIDispatcher(List<InternalAPI> internalApis) {
         this.internalApis = internalApis;
+        for (int i = 0; i < internalApis.size(); i++) {
+            InternalAPI internalApi = internalApis.get(i);
+            if (!apiTree.add(internalApi.getContext(), i, i, true)) {
+                allContextsCompiled = false;
+            }
+            resourceTemplates.put(internalApi, new ResourceTemplates(internalApi.getResources()));
+        }
+        compiledApiCount = internalApis.size();
     }
 
     /**
@@ -90,15 +105,23 @@ public class InternalAPIDispatcher {
 
     /* Finds the API that the message should be dispatched to */
     private InternalAPI findAPI(String path) {
+        String canonicalPath = URITemplateTree.canonicalPath(path);
+        if (canonicalPath != null && allContextsCompiled && compiledApiCount == internalApis.size()) {
+            URITemplateTree.Match<Integer> match = apiTree.match(canonicalPath, index -> true);
+            return match == null ? null : internalApis.get(match.getValue());
+        }
         for (InternalAPI internalApi : internalApis) {
-            String context = internalApi.getContext();
-            if (path.startsWith(context + "/") || path.startsWith(context + "?") || context.equals(path)) {
+            if (matchesContext(path, internalApi.getContext())) {
                 return internalApi;
             }
         }
         return null;
     }
 
+    private static boolean matchesContext(String path, String context) {
+        return path.startsWith(context + "/") || path.startsWith(context + "?") || context.equals(path);
+    }
+
     /* Finds the Resource that the message should be dispatched to */
     private APIResource findResource(MessageContext synCtx, InternalAPI internalApi) {
 
@@ -115,7 +138,41 @@ public class InternalAPIDispatcher {
         if (resources == null) {
             return null;
         }
-        for (APIResource resource : resources) {
+        ResourceTemplates templates = resourceTemplates.get(internalApi);
+        String canonicalPath = URITemplateTree.canonicalPath(subPath);
+        if (templates == null || templates.resourceCount != resources.length || canonicalPath == null) {
+            // the path can only be matched by the templates themselves
+            return matchResource(synCtx, resources, 0, resources.length, method, subPath);
+        }
+        URITemplateTree.Match<Integer> match = templates.tree.match(canonicalPath,
+                index -> resources[index].getMethods().contains(method));
+        int limit = match == null ? resources.length : match.getOrder();
+        // resources with templates the tree does not support are matched in their order, before the tree match
+        for (int index : templates.uncompiledResources) {
+            if (index >= limit) {
+                break;
+            }
+            APIResource resource = matchResource(synCtx, resources, index, index + 1, method, subPath);
+            if (resource != null) {
+                return resource;
+            }
+        }
+        if (match == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> entry : match.getVariables().entrySet()) {
+            synCtx.setProperty(RESTConstants.REST_URI_VARIABLE_PREFIX + entry.getKey(), entry.getValue());
+        }
+        RESTUtils.populateQueryParamsToMessageContext(synCtx);
+        return resources[match.getValue()];
+    }
+
+    /* Matches the templates of the resources in the given range one by one */
+    private APIResource matchResource(MessageContext synCtx, APIResource[] resources, int from, int to,
+                                      String method, String subPath) {
+
+        for (int i = from; i < to; i++) {
+            APIResource resource = resources[i];
             if (!resource.getMethods().contains(method)) {
                 continue;
             }
@@ -146,4 +203,25 @@ public class InternalAPIDispatcher {
         }
         return false;
     }
+
+    /**
+     * Resource templates of an internal api. Some internal apis create their resources on each call, hence only the
+     * templates are kept and the resources are looked up by their index.
+     */
+    private static class ResourceTemplates {
+
+        private final URITemplateTree<Integer> tree = new URITemplateTree<>();
+        private final List<Integer> uncompiledResources = new ArrayList<>();
+        private final int resourceCount;
+
+        ResourceTemplates(APIResource[] resources) {
+            resourceCount = resources == null ? 0 : resources.length;
+            for (int i = 0; i < resourceCount; i++) {
+                DispatcherHelper helper = resources[i].getDispatcherHelper();
+                if (!tree.add(helper.getString(), i, i, false)) {
+                    uncompiledResources.add(i);
+                }
+            }
+        }
+    }
 }
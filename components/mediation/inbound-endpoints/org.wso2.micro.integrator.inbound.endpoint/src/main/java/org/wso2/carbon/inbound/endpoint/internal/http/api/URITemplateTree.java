@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.inbound.endpoint.internal.http.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Tree of URI templates keyed by the path segments, which matches a request path in a single walk over its segments
+ * without evaluating a regular expression per template.
+ * <p>
+ * Only templates made of literal segments and whole segment variables ( {@code /users/{userId}} ) can be added. A
+ * node has a child per literal segment and a single variable child, so a path is matched by looking up each of its
+ * segments. When several templates match a path, the one added with the lowest order wins, hence the result is the
+ * same as testing the templates one by one in that order.
+ * <p>
+ * Only canonical paths are matched, that is paths without empty segments, trailing slashes or escaped characters,
+ * for which a literal or variable segment match is unambiguous. {@link #canonicalPath(String)} returns null for any
+ * other path, and such paths should be matched against the templates themselves.
+ *
+ * @param <T> type of the values of the templates
+ */
+public class URITemplateTree<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Adds the template to the tree.
+     *
+     * @param template URI template
+     * @param value    value returned when the template matches
+     * @param order    priority of the template, lower wins
+     * @param prefix   whether the template also matches the paths it is a prefix of
+     * @return false if the template is not supported by the tree, in which case it is not added
+     */
+    public boolean add(String template, T value, int order, boolean prefix) {
+
+        List<String> segments = split(template, true);
+        if (segments == null || prefix && segments.isEmpty()) {
+            // a root prefix would match every path, while "/" is only a prefix of paths starting with "//"
+            return false;
+        }
+        Node<T> node = root;
+        List<String> variables = new ArrayList<>();
+        for (String segment : segments) {
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                String variable = segment.substring(1, segment.length() - 1);
+                if (!isValidVariableName(variable)) {
+                    return false;
+                }
+                variables.add(variable);
+                if (node.variable == null) {
+                    node.variable = new Node<>();
+                }
+                node = node.variable;
+            } else if (isLiteral(segment)) {
+                node = node.literals.computeIfAbsent(segment, key -> new Node<>());
+            } else {
+                return false;
+            }
+        }
+        node.add(new Entry<>(value, order, prefix, variables.toArray(new String[0])));
+        return true;
+    }
+
+    /**
+     * Finds the template with the lowest order which matches the path.
+     *
+     * @param path   canonical path, as returned by {@link #canonicalPath(String)}
+     * @param filter condition the value of the matching template should satisfy
+     * @return the match, or null if no template matches
+     */
+    @SuppressWarnings("unchecked")
+    public Match<T> match(String path, Predicate<T> filter) {
+
+        List<String> segments = split(path, false);
+        if (segments == null) {
+            return null;
+        }
+        Match<T>[] best = new Match[1];
+        match(root, segments, 0, new String[segments.size()], 0, filter, best);
+        return best[0];
+    }
+
+    private void match(Node<T> node, List<String> segments, int index, String[] values, int valueCount,
+                       Predicate<T> filter, Match<T>[] best) {
+
+        for (Entry<T> entry : node.entries) {
+            if (best[0] != null && best[0].order <= entry.order) {
+                break;
+            }
+            if ((index == segments.size() || entry.prefix) && filter.test(entry.value)) {
+                Map<String, String> variables = new LinkedHashMap<>();
+                for (int i = 0; i < entry.variables.length; i++) {
+                    variables.put(entry.variables[i], values[i]);
+                }
+                best[0] = new Match<>(entry.value, entry.order, variables);
+                break;
+            }
+        }
+        if (index == segments.size()) {
+            return;
+        }
+        String segment = segments.get(index);
+        Node<T> literal = node.literals.get(segment);
+        if (literal != null) {
+            match(literal, segments, index + 1, values, valueCount, filter, best);
+        }
+        if (node.variable != null) {
+            values[valueCount] = segment;
+            match(node.variable, segments, index + 1, values, valueCount + 1, filter, best);
+        }
+    }
+
+    /**
+     * Gets the path part of the request path, if it is a canonical path which can be matched with the tree.
+     *
+     * @param requestPath request path, with or without the query
+     * @return the path without the query, or null if the path is not canonical
+     */
+    public static String canonicalPath(String requestPath) {
+
+        int queryIndex = requestPath.indexOf('?');
+        String path = queryIndex < 0 ? requestPath : requestPath.substring(0, queryIndex);
+        return split(path, false) == null ? null : path;
+    }
+
+    private static List<String> split(String path, boolean template) {
+
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            return null;
+        }
+        if (path.length() == 1) {
+            return Collections.emptyList();
+        }
+        List<String> segments = new ArrayList<>();
+        int start = 1;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end == start) {
+                // empty segment or trailing slash
+                return null;
+            }
+            String segment = path.substring(start, end);
+            if (!isLiteral(segment) && !(template && segment.startsWith("{") && segment.endsWith("}"))) {
+                return null;
+            }
+            segments.add(segment);
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    /* Unreserved characters of RFC 3986, which never need escaping or carry a template expression */
+    private static boolean isLiteral(String segment) {
+
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '.'
+                    || c == '_' || c == '~')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValidVariableName(String variable) {
+
+        if (variable.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < variable.length(); i++) {
+            char c = variable.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Template matching a path.
+     *
+     * @param <T> type of the value of the template
+     */
+    public static class Match<T> {
+
+        private final T value;
+        private final int order;
+        private final Map<String, String> variables;
+
+        Match(T value, int order, Map<String, String> variables) {
+            this.value = value;
+            this.order = order;
+            this.variables = variables;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public int getOrder() {
+            return order;
+        }
+
+        /**
+         * @return values of the template variables by the variable name
+         */
+        public Map<String, String> getVariables() {
+            return variables;
+        }
+    }
+
+    private static class Node<T> {
+
+        private final Map<String, Node<T>> literals = new HashMap<>();
+        private Node<T> variable;
+        // templates ending at this node, sorted by the order
+        private final List<Entry<T>> entries = new ArrayList<>(1);
+
+        void add(Entry<T> entry) {
+
+            int index = 0;
+            while (index < entries.size() && entries.get(index).order <= entry.order) {
+                index++;
+            }
+            entries.add(index, entry);
+        }
+    }
+
+    private static class Entry<T> {
+
+        private final T value;
+        private final int order;
+        private final boolean prefix;
+        private final String[] variables;
+
+        Entry(T value, int order, boolean prefix, String[] variables) {
+            this.value = value;
+            this.order = order;
+            this.prefix = prefix;
+            this.variables = variables;
+        }
+    }
+}
@@ -32,4 +32,14 @@ public class PollingConstants {
 
     public static final String INBOUND_CONCURRENT_CONSUMERS = "concurrent.consumers";
 
+    public static final String INBOUND_SCHEDULE_MODE = "inbound.polling.schedule.mode";
+
+    public static final String INBOUND_SCHEDULE_MODE_FIXED_RATE = "fixed-rate";
+
+    public static final String INBOUND_SCHEDULE_MODE_FIXED_DELAY = "fixed-delay";
+
+    public static final String INBOUND_BACKOFF_MAX_INTERVAL = "inbound.polling.backoff.max.interval";
+
+    public static final String INBOUND_BACKOFF_MULTIPLIER = "inbound.polling.backoff.multiplier";
+
 }
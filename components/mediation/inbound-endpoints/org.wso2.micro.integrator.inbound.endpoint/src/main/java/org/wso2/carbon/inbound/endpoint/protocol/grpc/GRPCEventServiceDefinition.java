@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.inbound.endpoint.protocol.grpc;
+
+import com.google.protobuf.Empty;
+import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+import org.wso2.carbon.inbound.endpoint.protocol.grpc.util.Event;
+import org.wso2.carbon.inbound.endpoint.protocol.grpc.util.EventServiceGrpc;
+
+/**
+ * Definition of the event service, which adds the streaming variants of the {@code process} and {@code consume}
+ * methods to the unary methods of {@link EventServiceGrpc}.
+ * <pre>
+ * rpc processStream (stream Event) returns (stream Event);
+ * rpc consumeStream (stream Event) returns (google.protobuf.Empty);
+ * </pre>
+ */
+public final class GRPCEventServiceDefinition {
+
+    private static final MethodDescriptor<Event, Event> PROCESS_STREAM_METHOD =
+            MethodDescriptor.<Event, Event>newBuilder()
+                    .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(
+                            EventServiceGrpc.SERVICE_NAME, InboundGRPCConstants.PROCESS_STREAM_METHOD_NAME))
+                    .setRequestMarshaller(ProtoUtils.marshaller(Event.getDefaultInstance()))
+                    .setResponseMarshaller(ProtoUtils.marshaller(Event.getDefaultInstance()))
+                    .build();
+
+    private static final MethodDescriptor<Event, Empty> CONSUME_STREAM_METHOD =
+            MethodDescriptor.<Event, Empty>newBuilder()
+                    .setType(MethodDescriptor.MethodType.CLIENT_STREAMING)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(
+                            EventServiceGrpc.SERVICE_NAME, InboundGRPCConstants.CONSUME_STREAM_METHOD_NAME))
+                    .setRequestMarshaller(ProtoUtils.marshaller(Event.getDefaultInstance()))
+                    .setResponseMarshaller(ProtoUtils.marshaller(Empty.getDefaultInstance()))
+                    .build();
+
+    private GRPCEventServiceDefinition() {
+    }
+
+    public static MethodDescriptor<Event, Event> getProcessStreamMethod() {
+        return PROCESS_STREAM_METHOD;
+    }
+
+    public static MethodDescriptor<Event, Empty> getConsumeStreamMethod() {
+        return CONSUME_STREAM_METHOD;
+    }
+
+    /**
+     * Binds the unary and the streaming methods of the event service.
+     *
+     * @param unaryService    implementation of the unary methods
+     * @param injector        injector of the events received on streams
+     * @param window          number of events a stream may have waiting to be mediated
+     * @param responseTimeout time in milliseconds a completed bidirectional stream waits for pending responses
+     * @return definition of the event service
+     */
+    public static ServerServiceDefinition bindService(BindableService unaryService,
+                                                      GRPCEventStream.EventInjector injector, int window,
+                                                      long responseTimeout) {
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(EventServiceGrpc.SERVICE_NAME);
+        for (ServerMethodDefinition<?, ?> method : unaryService.bindService().getMethods()) {
+            addMethod(builder, method);
+        }
+        builder.addMethod(PROCESS_STREAM_METHOD, ServerCalls.asyncBidiStreamingCall(
+                responseObserver -> GRPCEventStream.process(injector, responseObserver, window, responseTimeout)));
+        builder.addMethod(CONSUME_STREAM_METHOD, ServerCalls.asyncClientStreamingCall(
+                responseObserver -> GRPCEventStream.consume(injector, responseObserver, window)));
+        return builder.build();
+    }
+
+    private static <ReqT, RespT> void addMethod(ServerServiceDefinition.Builder builder,
+                                                ServerMethodDefinition<ReqT, RespT> method) {
+        builder.addMethod(method);
+    }
+}
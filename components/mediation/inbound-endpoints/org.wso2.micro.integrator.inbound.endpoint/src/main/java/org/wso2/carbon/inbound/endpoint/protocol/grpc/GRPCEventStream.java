@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.inbound.endpoint.protocol.grpc;
+
+import com.google.protobuf.Empty;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.inbound.endpoint.common.InboundRunnerScheduler;
+import org.wso2.carbon.inbound.endpoint.protocol.grpc.util.Event;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mediates the events of a client streaming or bidirectional streaming call.
+ * <p>
+ * The events of a stream are injected one after the other by a worker of the stream, which runs on the shared inbound
+ * worker pool. Automatic flow control is disabled for the call and a new event is requested from the client only when
+ * the worker completed an event, hence the client can not have more than the window of events waiting to be mediated.
+ * For a bidirectional stream the next event is also held back while the client does not read the responses.
+ * <p>
+ * An event which fails does not end the stream. On a bidirectional stream the failure is sent back as the response of
+ * the event, with the message in the {@code Error} header, and on a client streaming call it is logged. Once the
+ * client half-closes a bidirectional stream, the stream completes as soon as every event was either answered or
+ * mediated without a response, and waits at most the response timeout for the rest.
+ *
+ * @param <T> type of the responses of the call
+ */
+public class GRPCEventStream<T> implements StreamObserver<Event> {
+
+    private static final Log log = LogFactory.getLog(GRPCEventStream.class);
+
+    /**
+     * Injects a single event of a stream into mediation.
+     */
+    public interface EventInjector {
+
+        /**
+         * @param event          event received on the stream
+         * @param eventObserver  observer for the response of the event, or for the error if the event could not be
+         *                       injected
+         * @param expectResponse whether the response of the event should be sent back on the stream
+         * @return whether the mediation of the event may still send a response after this call returned
+         */
+        boolean inject(Event event, StreamObserver<Event> eventObserver, boolean expectResponse);
+    }
+
+    private final EventInjector injector;
+    private final ServerCallStreamObserver<T> responseObserver;
+    private final T completionResponse;
+    private final boolean bidirectional;
+    private final int window;
+    private final long responseTimeout;
+    private final Executor worker;
+
+    private final Queue<Event> events = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicInteger pendingResponses = new AtomicInteger();
+    private final Object lock = new Object();
+
+    private volatile boolean halfClosed;
+    private volatile boolean closed;
+    private int deferredRequests;
+
+    private GRPCEventStream(EventInjector injector, ServerCallStreamObserver<T> responseObserver,
+                            T completionResponse, boolean bidirectional, int window, long responseTimeout) {
+        this.injector = injector;
+        this.responseObserver = responseObserver;
+        this.completionResponse = completionResponse;
+        this.bidirectional = bidirectional;
+        this.window = Math.max(1, window);
+        this.responseTimeout = responseTimeout;
+        this.worker = InboundRunnerScheduler.getInstance().getWorkerExecutor();
+    }
+
+    /**
+     * Creates the stream of a bidirectional call, which sends the response of each event back on the stream.
+     */
+    public static GRPCEventStream<Event> process(EventInjector injector, StreamObserver<Event> responseObserver,
+                                                 int window, long responseTimeout) {
+        GRPCEventStream<Event> stream = new GRPCEventStream<>(
+                injector, (ServerCallStreamObserver<Event>) responseObserver, null, true, window, responseTimeout);
+        stream.start();
+        return stream;
+    }
+
+    /**
+     * Creates the stream of a client streaming call, which completes once all the events are mediated.
+     */
+    public static GRPCEventStream<Empty> consume(EventInjector injector, StreamObserver<Empty> responseObserver,
+                                                 int window) {
+        GRPCEventStream<Empty> stream = new GRPCEventStream<>(
+                injector, (ServerCallStreamObserver<Empty>) responseObserver, Empty.getDefaultInstance(), false,
+                window, 0);
+        stream.start();
+        return stream;
+    }
+
+    private void start() {
+        responseObserver.disableAutoRequest();
+        responseObserver.setOnCancelHandler(this::cancel);
+        if (bidirectional) {
+            responseObserver.setOnReadyHandler(this::releaseDeferredRequests);
+        }
+        responseObserver.request(window);
+    }
+
+    @Override
+    public void onNext(Event event) {
+        if (closed) {
+            return;
+        }
+        events.add(event);
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (log.isDebugEnabled()) {
+            log.debug("gRPC stream closed by the client: " + t.getMessage());
+        }
+        cancel();
+    }
+
+    @Override
+    public void onCompleted() {
+        halfClosed = true;
+        schedule();
+    }
+
+    private void schedule() {
+        if (draining.compareAndSet(false, true)) {
+            worker.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Event event;
+            while (!closed && (event = events.poll()) != null) {
+                inject(event);
+                requestNext();
+            }
+        } finally {
+            draining.set(false);
+        }
+        if (closed) {
+            return;
+        }
+        if (!events.isEmpty()) {
+            schedule();
+        } else if (halfClosed) {
+            completeWhenAnswered();
+        }
+    }
+
+    private void inject(Event event) {
+        EventObserver eventObserver = new EventObserver(
+                event.getHeadersMap().get(InboundGRPCConstants.HEADER_MAP_CORRELATION_ID_PARAMETER_NAME));
+        if (bidirectional) {
+            pendingResponses.incrementAndGet();
+        }
+        try {
+            if (!injector.inject(event, eventObserver, bidirectional)) {
+                // the mediation completed without a response, hence the stream does not wait for one
+                eventObserver.onCompleted();
+            }
+        } catch (RuntimeException e) {
+            log.error("Error while injecting the event received via the gRPC stream", e);
+            eventObserver.onError(e);
+        }
+    }
+
+    private void requestNext() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            if (bidirectional && !responseObserver.isReady()) {
+                // the client does not read the responses, hold back the next event until it catches up
+                deferredRequests++;
+            } else {
+                responseObserver.request(1);
+            }
+        }
+    }
+
+    private void releaseDeferredRequests() {
+        synchronized (lock) {
+            if (!closed && deferredRequests > 0) {
+                responseObserver.request(deferredRequests);
+                deferredRequests = 0;
+            }
+        }
+    }
+
+    private void completeWhenAnswered() {
+        if (pendingResponses.get() == 0) {
+            complete();
+        } else {
+            InboundRunnerScheduler.getInstance().getTimer().schedule(this::complete, responseTimeout,
+                                                                     TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void answered() {
+        if (pendingResponses.decrementAndGet() == 0 && halfClosed && events.isEmpty() && !draining.get()) {
+            complete();
+        }
+    }
+
+    private void sendError(String correlationId, Throwable t) {
+        Event.Builder response = Event.newBuilder().putHeaders(InboundGRPCConstants.HEADER_MAP_ERROR_PARAMETER_NAME,
+                                                               String.valueOf(t.getMessage()));
+        if (correlationId != null) {
+            response.putHeaders(InboundGRPCConstants.HEADER_MAP_CORRELATION_ID_PARAMETER_NAME, correlationId);
+        }
+        send(response.build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void send(Event response) {
+        synchronized (lock) {
+            if (closed) {
+                log.warn("Dropping the response received after the gRPC stream was closed.");
+                return;
+            }
+            ((ServerCallStreamObserver<Event>) responseObserver).onNext(response);
+        }
+    }
+
+    private void complete() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (pendingResponses.get() > 0) {
+                log.warn("Completing the gRPC stream without the responses of " + pendingResponses.get()
+                                 + " events, which were not received within " + responseTimeout + " milliseconds.");
+            }
+            if (completionResponse != null) {
+                responseObserver.onNext(completionResponse);
+            }
+            responseObserver.onCompleted();
+        }
+    }
+
+    private void cancel() {
+        synchronized (lock) {
+            closed = true;
+            events.clear();
+        }
+    }
+
+    /**
+     * Receives the outcome of a single event of the stream.
+     */
+    private class EventObserver implements StreamObserver<Event> {
+
+        private final String correlationId;
+        private final AtomicBoolean answered = new AtomicBoolean();
+
+        EventObserver(String correlationId) {
+            this.correlationId = correlationId;
+        }
+
+        @Override
+        public void onNext(Event response) {
+            if (correlationId != null) {
+                response = response.toBuilder()
+                        .putHeaders(InboundGRPCConstants.HEADER_MAP_CORRELATION_ID_PARAMETER_NAME, correlationId)
+                        .build();
+            }
+            send(response);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (!bidirectional) {
+                log.warn("Error while mediating the event " + (correlationId != null ? correlationId + " " : "")
+                                 + "received via the gRPC stream: " + t.getMessage());
+            } else if (answered.compareAndSet(false, true)) {
+                sendError(correlationId, t);
+                answered();
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (bidirectional && answered.compareAndSet(false, true)) {
+                answered();
+            }
+        }
+    }
+}
@@ -41,16 +41,20 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Inject gRPC message into the sequence.
  */
-public class GRPCInjectHandler {
+public class GRPCInjectHandler implements GRPCEventStream.EventInjector {
     private static final Log log = LogFactory.getLog(GRPCInjectHandler.class);
     private String injectingSeq;
     private String onErrorSeq;
     private boolean sequential;
     private SynapseEnvironment synapseEnvironment;
+    // message builders are stateless, hence they are looked up once per content type
+    private final Map<String, Builder> builders = new ConcurrentHashMap<>();
 
     /**
      * constructor initialize parameters and synapseEnvironment
@@ -81,7 +85,7 @@ public class GRPCInjectHandler {
             org.apache.synapse.MessageContext msgCtx = createMessageContext();
             msgCtx.setProperty(InboundEndpointConstants.INBOUND_ENDPOINT_RESPONSE_WORKER,
                     new GRPCResponseSender(responseObserver));
-            initiateSequenceAndInjectPayload(responseObserver, receivedEvent, msgCtx);
+            initiateSequenceAndInjectPayload(responseObserver, receivedEvent, msgCtx, this.sequential);
         } catch (AxisFault e) {
             log.error("Error while processing the gRPC Message", e);
             throw new SynapseException("Error while processing the gRPC Message", e);
@@ -97,16 +101,48 @@ public class GRPCInjectHandler {
      */
     public void invokeConsume(Event receivedEvent, StreamObserver<Empty> responseObserver) {
         try {
-            initiateSequenceAndInjectPayload(responseObserver, receivedEvent, createMessageContext());
+            initiateSequenceAndInjectPayload(responseObserver, receivedEvent, createMessageContext(), this.sequential);
         } catch (AxisFault e) {
             log.error("Error while consuming the gRPC Message", e);
             throw new SynapseException("Error while consuming the JMS Message", e);
         }
     }
 
-    private void initiateSequenceAndInjectPayload(StreamObserver responseObserver,
+    /**
+     * This method will be called by the worker of a gRPC stream for each event of the stream.
+     * The event is mediated in the calling thread, so that the stream requests the next event only after this one
+     * was handed over.
+     * @param receivedEvent received event from the gRPC stream
+     * @param eventObserver object to be used when sending the response or the processing error of the event
+     * @param expectResponse whether the stream expects a response for the event
+     * @return whether the mediation of the event may still send a response
+     */
+    @Override
+    public boolean inject(Event receivedEvent, StreamObserver<Event> eventObserver, boolean expectResponse) {
+        try {
+            org.apache.synapse.MessageContext msgCtx = createMessageContext();
+            if (expectResponse) {
+                msgCtx.setProperty(InboundEndpointConstants.INBOUND_ENDPOINT_RESPONSE_WORKER,
+                        new GRPCResponseSender(eventObserver));
+            }
+            if (initiateSequenceAndInjectPayload(eventObserver, receivedEvent, msgCtx, true)) {
+                return true;
+            }
+            // a mediation which ran through the sequence only responds later if it sent the message to an endpoint
+            return msgCtx.getProperty(SynapseConstants.LAST_ENDPOINT) != null;
+        } catch (AxisFault e) {
+            log.error("Error while processing the gRPC stream Message", e);
+            throw new SynapseException("Error while processing the gRPC stream Message", e);
+        }
+    }
+
+    /**
+     * @return whether the message was injected and its mediation did not run through the sequence within this call
+     */
+    private boolean initiateSequenceAndInjectPayload(StreamObserver responseObserver,
                                                   Event receivedEvent,
-                                                  org.apache.synapse.MessageContext msgCtx) throws AxisFault {
+                                                  org.apache.synapse.MessageContext msgCtx,
+                                                  boolean sequential) throws AxisFault {
         String msgPayload = receivedEvent.getPayload();
         String sequenceName = receivedEvent.getHeadersMap().get(InboundGRPCConstants.HEADER_MAP_SEQUENCE_PARAMETER_NAME);
         SequenceMediator seq;
@@ -118,7 +154,7 @@ public class GRPCInjectHandler {
         } else {
             if (injectingSeq == null || injectingSeq.isEmpty()) {
                 log.error("Sequence name is not specified in inbound endpoint or empty.");
-                return;
+                return false;
             }
             if (log.isDebugEnabled()) {
                 log.debug(injectingSeq + " sequence, received via the inbound endpoint.");
@@ -127,19 +163,9 @@ public class GRPCInjectHandler {
         }
         msgCtx.setProperty(SynapseConstants.IS_INBOUND, true);
         //validating the sequence
-        if (seq != null) {
-            if (!seq.isInitialized()) {
-                seq.init(synapseEnvironment);
-            }
-            seq.setErrorHandler(onErrorSeq);
-            if (log.isDebugEnabled()) {
-                log.debug("injecting received gRPC message to sequence : " + injectingSeq);
-            }
-            if (!synapseEnvironment.injectInbound(msgCtx, seq, this.sequential)) {
-                return;
-            }
-        } else {
-            log.error("Sequence: " + injectingSeq + " not found");
+        if (seq == null) {
+            log.error("Sequence: " + (sequenceName != null ? sequenceName : injectingSeq) + " not found");
+            return false;
         }
         MessageContext axis2MsgCtx =
                 ((org.apache.synapse.core.axis2.Axis2MessageContext) msgCtx).getAxis2MessageContext();
@@ -164,16 +190,16 @@ public class GRPCInjectHandler {
                 responseObserver.onError(
                         new Throwable("Error occurred when processing gRPC message. " + contentType +
                                 " type found in gRPC header is not supported"));
-                return;
+                return false;
             }
         } else {
             log.error("Invalid content type found in gRPC header. JSON, XML and text is supported");
             responseObserver.onError(
                     new Throwable("Invalid content type found in gRPC header. JSON, XML and text is supported"));
-            return;
+            return false;
         }
 
-        Builder builder = BuilderUtil.getBuilderFromSelector(contentType, axis2MsgCtx);
+        Builder builder = getBuilder(contentType, axis2MsgCtx);
         OMElement documentElement;
         // set the message payload to the message context
         InputStream in = null;
@@ -183,7 +209,7 @@ public class GRPCInjectHandler {
         } catch (AxisFault ex) {
             // Handle message building error
             log.error("Error while building the message", ex);
-            return;
+            return false;
         } finally {
             if (in != null) {
                 try {
@@ -193,8 +219,29 @@ public class GRPCInjectHandler {
                 }
             }
         }
-        // Inject the message to the sequence.
+        // the envelope has to be in place before the message is handed over to the mediation
         msgCtx.setEnvelope(TransportUtils.createSOAPEnvelope(documentElement));
+
+        if (!seq.isInitialized()) {
+            seq.init(synapseEnvironment);
+        }
+        seq.setErrorHandler(onErrorSeq);
+        if (log.isDebugEnabled()) {
+            log.debug("injecting received gRPC message to sequence : " + seq.getName());
+        }
+        // Inject the message to the sequence.
+        return !synapseEnvironment.injectInbound(msgCtx, seq, sequential) || !sequential;
+    }
+
+    private Builder getBuilder(String contentType, MessageContext axis2MsgCtx) throws AxisFault {
+        Builder builder = builders.get(contentType);
+        if (builder == null) {
+            builder = BuilderUtil.getBuilderFromSelector(contentType, axis2MsgCtx);
+            if (builder != null) {
+                builders.put(contentType, builder);
+            }
+        }
+        return builder;
     }
 
     /**
@@ -27,5 +27,14 @@ public class InboundGRPCConstants {
     public static final String CONTENT_TYPE_TEXT_MIME_TYPE = "text/plain";
     public static final String HEADER_MAP_SEQUENCE_PARAMETER_NAME = "sequence";
     public static final String HEADER_MAP_CONTENT_TYPE_PARAMETER_NAME = "Content-Type";
+    public static final String HEADER_MAP_CORRELATION_ID_PARAMETER_NAME = "Correlation-Id";
+    public static final String HEADER_MAP_ERROR_PARAMETER_NAME = "Error";
     public static final int DEFAULT_INBOUND_ENDPOINT_GRPC_PORT = 8888;
+    public static final String INBOUND_ENDPOINT_PARAMETER_GRPC_STREAM_WINDOW = "inbound.grpc.stream.window";
+    public static final int DEFAULT_INBOUND_ENDPOINT_GRPC_STREAM_WINDOW = 64;
+    public static final String INBOUND_ENDPOINT_PARAMETER_GRPC_STREAM_RESPONSE_TIMEOUT =
+            "inbound.grpc.stream.response.timeout";
+    public static final long DEFAULT_INBOUND_ENDPOINT_GRPC_STREAM_RESPONSE_TIMEOUT = 30000;
+    public static final String PROCESS_STREAM_METHOD_NAME = "processStream";
+    public static final String CONSUME_STREAM_METHOD_NAME = "consumeStream";
 }
@@ -41,6 +41,8 @@ public class InboundGRPCListener implements InboundRequestProcessor {
     private static final Log log = LogFactory.getLog(InboundGRPCListener.class.getName());
     private Server server;
     private boolean startInPausedMode;
+    private int streamWindow;
+    private long streamResponseTimeout;
 
     public InboundGRPCListener(InboundProcessorParams params) {
         String injectingSeq = params.getInjectingSeq();
@@ -54,6 +56,29 @@ public class InboundGRPCListener implements InboundRequestProcessor {
                     " property. Setting the port as " + InboundGRPCConstants.DEFAULT_INBOUND_ENDPOINT_GRPC_PORT);
             port = InboundGRPCConstants.DEFAULT_INBOUND_ENDPOINT_GRPC_PORT;
         }
+        streamWindow = InboundGRPCConstants.DEFAULT_INBOUND_ENDPOINT_GRPC_STREAM_WINDOW;
+        String windowParam = params.getProperties().getProperty(
+                InboundGRPCConstants.INBOUND_ENDPOINT_PARAMETER_GRPC_STREAM_WINDOW);
+        if (windowParam != null) {
+            try {
+                streamWindow = Integer.parseInt(windowParam);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value for " + InboundGRPCConstants.INBOUND_ENDPOINT_PARAMETER_GRPC_STREAM_WINDOW
+                        + " property. Setting the stream window as " + streamWindow);
+            }
+        }
+        streamResponseTimeout = InboundGRPCConstants.DEFAULT_INBOUND_ENDPOINT_GRPC_STREAM_RESPONSE_TIMEOUT;
+        String timeoutParam = params.getProperties().getProperty(
+                InboundGRPCConstants.INBOUND_ENDPOINT_PARAMETER_GRPC_STREAM_RESPONSE_TIMEOUT);
+        if (timeoutParam != null) {
+            try {
+                streamResponseTimeout = Long.parseLong(timeoutParam);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value for "
+                        + InboundGRPCConstants.INBOUND_ENDPOINT_PARAMETER_GRPC_STREAM_RESPONSE_TIMEOUT
+                        + " property. Setting the stream response timeout as " + streamResponseTimeout);
+            }
+        }
         name = params.getName();
         injectHandler = new GRPCInjectHandler(injectingSeq, onErrorSeq, false, synapseEnvironment);
         startInPausedMode = params.startInPausedMode();
@@ -113,7 +138,7 @@ public class InboundGRPCListener implements InboundRequestProcessor {
         if (server != null) {
             throw new IllegalStateException("gRPC Listener Server already started");
         }
-        server = ServerBuilder.forPort(port).addService(new EventServiceGrpc.EventServiceImplBase() {
+        EventServiceGrpc.EventServiceImplBase unaryService = new EventServiceGrpc.EventServiceImplBase() {
             @Override
             public void process(Event request, StreamObserver<Event> responseObserver) {
                 if (log.isDebugEnabled()) {
@@ -131,7 +156,9 @@ public class InboundGRPCListener implements InboundRequestProcessor {
                 responseObserver.onNext(Empty.getDefaultInstance());
                 responseObserver.onCompleted();
             }
-        }).build();
+        };
+        server = ServerBuilder.forPort(port).addService(GRPCEventServiceDefinition.bindService(
+                unaryService, injectHandler, streamWindow, streamResponseTimeout)).build();
         server.start();
         log.debug("gRPC Listener Server started");
     }
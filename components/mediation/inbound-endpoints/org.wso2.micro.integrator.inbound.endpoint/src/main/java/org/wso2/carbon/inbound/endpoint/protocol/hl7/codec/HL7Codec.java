@@ -47,9 +47,7 @@ public class HL7Codec {
 
     private volatile int state;
 
-    private volatile boolean firstTrailingCharacterFound = false;
-    private volatile boolean lastTrailingCharacterFound = false;
-    private volatile boolean addMissingCharacter = false;
+    private final MLLPFrameDecoder frameDecoder = new MLLPFrameDecoder();
 
     private int responseReadPosition = 0;
     private byte[] responseBytes = null;
@@ -61,90 +59,44 @@ public class HL7Codec {
 
     public HL7Codec(CharsetDecoder charsetDecoder) {
         this.state = READ_HEADER;
-        setCharsetDecoder(charsetDecoder);
+        // decoders are stateful, hence each connection gets its own instance
+        setCharsetDecoder(charsetDecoder.charset().newDecoder());
     }
 
     public int decode(ByteBuffer dst, MLLPContext context) throws IOException, MLLProtocolException, HL7Exception {
 
-        if (this.state >= READ_COMPLETE || dst.position() < 0) {
+        if (this.state >= READ_COMPLETE) {
             return -1;
         }
 
-        if (this.state == READ_HEADER) {
-            if (dst.get(0) == MLLPConstants.HL7_HEADER[0]) {
-                dst.position(1);
+        if (!frameDecoder.decode(dst)) {
+            if (frameDecoder.getState() == MLLPFrameDecoder.READ_CONTENT) {
                 this.state = READ_CONTENT;
-            } else {
-                throw new MLLProtocolException("Could not find header in incoming message.");
             }
+            return 0;
         }
 
-        if (this.state == READ_CONTENT) {
-
-            int trailerIndex = findTrailer(dst);
-
-            if (trailerIndex > -1) {
-                dst.limit(trailerIndex);
-            }
-            if (lastTrailingCharacterFound) {
-                this.state = READ_TRAILER;
-                this.lastTrailingCharacterFound = false;
-                this.firstTrailingCharacterFound = false;
-            }
-            if (this.addMissingCharacter) {
-                context.getRequestBuffer().append(MLLPConstants.HL7_TRAILER[0]);
-                this.addMissingCharacter = false;
-            }
-
-            context.getRequestBuffer().append(charsetDecoder.decode(dst).toString());
-        }
-
-        if (this.state == READ_TRAILER) {
-            this.state = READ_COMPLETE;
-            try {
-                if (context.isPreProcess()) {
-                    context.setHl7Message(HL7MessageUtils.parse(context.getRequestBuffer().toString(),
-                                                                context.getPreProcessParser()));
-                } else {
-                    context.setHl7Message(
-                            HL7MessageUtils.parse(context.getRequestBuffer().toString(), context.isValidateMessage()));
-                }
-                context.getRequestBuffer().setLength(0);
-            } catch (HL7Exception e) {
-                log.error("Error while parsing request message: " + context.getRequestBuffer());
-                throw e;
+        this.state = READ_COMPLETE;
+        String message = frameDecoder.decodeFrame(charsetDecoder);
+        frameDecoder.reset();
+        try {
+            if (context.isPreProcess()) {
+                context.setHl7Message(HL7MessageUtils.parse(message, context.getPreProcessParser()));
+            } else {
+                context.setHl7Message(HL7MessageUtils.parse(message, context.isValidateMessage()));
             }
+        } catch (HL7Exception e) {
+            // keep the raw message for the error sequence
+            context.getRequestBuffer().setLength(0);
+            context.getRequestBuffer().append(message);
+            log.error("Error while parsing request message: " + message);
+            throw e;
         }
 
         return 0;
 
     }
 
-    private int findTrailer(ByteBuffer dst) {
-            if (firstTrailingCharacterFound) {
-                firstTrailingCharacterFound = false;
-                if (dst.get(0) == MLLPConstants.HL7_TRAILER[1]) {
-                    lastTrailingCharacterFound = true;
-                    return 0;
-                } else {
-                    addMissingCharacter = true;
-                }
-            }
-            for (int i = 0; i < dst.limit(); i++) {
-                if (dst.get(i) == MLLPConstants.HL7_TRAILER[0]) {
-                    if (i + 1 >= dst.limit()) {
-                        this.firstTrailingCharacterFound = true;
-                        return i - 1;
-                    } else if (dst.get(i + 1) == MLLPConstants.HL7_TRAILER[1]) {
-                        lastTrailingCharacterFound = true;
-                        return i - 1 < 0 ? 0 : i - 1;
-                }
-            }
-        }
-
-        return -1;
-    }
-
     public int encode(ByteBuffer outBuf, MLLPContext context) throws HL7Exception, IOException {
 
         if (this.state < READ_COMPLETE) {
@@ -239,6 +191,14 @@ public class HL7Codec {
         this.state = state;
     }
 
+    /**
+     * Resets the codec to read the next message of the connection.
+     */
+    public void reset() {
+        this.state = READ_HEADER;
+        this.frameDecoder.reset();
+    }
+
     public CharsetDecoder getCharsetDecoder() {
         return charsetDecoder;
     }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.inbound.endpoint.protocol.hl7.codec;
+
+import org.wso2.carbon.inbound.endpoint.protocol.hl7.core.MLLPConstants;
+import org.wso2.carbon.inbound.endpoint.protocol.hl7.core.MLLProtocolException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+
+/**
+ * Incremental MLLP framing state machine.
+ * <p>
+ * The content of a frame is collected as raw bytes in a buffer which is reused for all the messages of a
+ * connection. Each incoming chunk is scanned once for the end block, including an end block split across two
+ * chunks, and the payload bytes are bulk copied into the frame buffer. The frame is decoded into characters once,
+ * after the end block is found.
+ */
+public class MLLPFrameDecoder {
+
+    public static final int WAIT_START_BLOCK = 0;
+    public static final int READ_CONTENT = 1;
+    public static final int FRAME_COMPLETE = 2;
+
+    private static final byte START_BLOCK = MLLPConstants.HL7_HEADER[0];
+    private static final byte END_BLOCK = MLLPConstants.HL7_TRAILER[0];
+    private static final byte CARRIAGE_RETURN = MLLPConstants.HL7_TRAILER[1];
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 4 * 1024;
+    // frame buffers grown beyond this size are released after the frame is consumed
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+    private final int initialCapacity;
+    private ByteBuffer frame;
+    private int state = WAIT_START_BLOCK;
+    private boolean endBlockPending;
+
+    public MLLPFrameDecoder() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public MLLPFrameDecoder(int initialCapacity) {
+        this.initialCapacity = Math.max(initialCapacity, 16);
+        this.frame = ByteBuffer.allocate(this.initialCapacity);
+    }
+
+    /**
+     * Consumes the given chunk until the end of the current frame.
+     *
+     * @param src bytes read from the connection, in read mode
+     * @return true if the end block of the frame was found
+     * @throws MLLProtocolException if the frame does not begin with a start block
+     */
+    public boolean decode(ByteBuffer src) throws MLLProtocolException {
+        if (state == FRAME_COMPLETE) {
+            return true;
+        }
+        if (state == WAIT_START_BLOCK) {
+            if (!src.hasRemaining()) {
+                return false;
+            }
+            if (src.get() != START_BLOCK) {
+                throw new MLLProtocolException("Could not find header in incoming message.");
+            }
+            state = READ_CONTENT;
+        }
+        if (endBlockPending) {
+            if (!src.hasRemaining()) {
+                return false;
+            }
+            endBlockPending = false;
+            if (src.get(src.position()) == CARRIAGE_RETURN) {
+                src.position(src.position() + 1);
+                state = FRAME_COMPLETE;
+                return true;
+            }
+            // the previous chunk ended with a stray end block character which belongs to the content
+            append(END_BLOCK);
+        }
+        int start = src.position();
+        int limit = src.limit();
+        for (int i = start; i < limit; i++) {
+            if (src.get(i) != END_BLOCK) {
+                continue;
+            }
+            if (i + 1 == limit) {
+                append(src, start, i);
+                src.position(limit);
+                endBlockPending = true;
+                return false;
+            }
+            if (src.get(i + 1) == CARRIAGE_RETURN) {
+                append(src, start, i);
+                src.position(i + 2);
+                state = FRAME_COMPLETE;
+                return true;
+            }
+        }
+        append(src, start, limit);
+        src.position(limit);
+        return false;
+    }
+
+    /**
+     * @return a read only view of the content of the current frame
+     */
+    public ByteBuffer getFrame() {
+        ByteBuffer view = frame.duplicate();
+        view.flip();
+        return view.asReadOnlyBuffer();
+    }
+
+    /**
+     * Decodes the content of the current frame.
+     *
+     * @param decoder decoder of the charset of the connection
+     * @return the frame content
+     * @throws CharacterCodingException if the content is not valid for the charset
+     */
+    public String decodeFrame(CharsetDecoder decoder) throws CharacterCodingException {
+        ByteBuffer view = frame.duplicate();
+        view.flip();
+        return decoder.decode(view).toString();
+    }
+
+    public int getState() {
+        return state;
+    }
+
+    public boolean isFrameComplete() {
+        return state == FRAME_COMPLETE;
+    }
+
+    /**
+     * Prepares the decoder for the next frame of the connection.
+     */
+    public void reset() {
+        state = WAIT_START_BLOCK;
+        endBlockPending = false;
+        if (frame.capacity() > MAX_RETAINED_CAPACITY) {
+            frame = ByteBuffer.allocate(initialCapacity);
+        } else {
+            frame.clear();
+        }
+    }
+
+    private void append(byte b) {
+        ensureCapacity(1);
+        frame.put(b);
+    }
+
+    private void append(ByteBuffer src, int from, int to) {
+        int length = to - from;
+        if (length <= 0) {
+            return;
+        }
+        ensureCapacity(length);
+        ByteBuffer slice = src.duplicate();
+        slice.limit(to).position(from);
+        frame.put(slice);
+    }
+
+    private void ensureCapacity(int length) {
+        if (frame.remaining() >= length) {
+            return;
+        }
+        int capacity = frame.capacity();
+        int required = frame.position() + length;
+        while (capacity < required) {
+            capacity = capacity << 1;
+        }
+        ByteBuffer expanded = ByteBuffer.allocate(capacity);
+        frame.flip();
+        expanded.put(frame);
+        frame = expanded;
+    }
+}
@@ -189,7 +189,7 @@ public class MLLPContext {
         // Resets MLLP Context and HL7Codec to default states.
         this.responseBuffer.setLength(0);
         this.requestBuffer.setLength(0);
-        this.getCodec().setState(HL7Codec.READ_HEADER);
+        this.getCodec().reset();
         this.setNackMode(false);
     }
 }
\ No newline at end of file
@@ -41,13 +41,16 @@ import java.nio.charset.CharsetDecoder;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 public class HL7Processor implements InboundResponseSender {
     private static final Log log = LogFactory.getLog(HL7Processor.class);
 
     private ScheduledExecutorService executorService = HL7ExecutorServiceFactory.getExecutorService();
+    private ThreadPoolExecutor workerPool;
 
     private Map<String, Object> parameters;
     private InboundProcessorParams params;
@@ -70,6 +73,7 @@ public class HL7Processor implements InboundResponseSender {
 
         timeOut = HL7MessageUtils.getInt(MLLPConstants.PARAM_HL7_TIMEOUT, params);
 
+        workerPool = HL7ExecutorServiceFactory.createWorkerPool(params.getName());
     }
 
     /**
@@ -124,15 +128,17 @@ public class HL7Processor implements InboundResponseSender {
         }
         injectSeq.setErrorHandler(onErrorSequence);
 
+        CallableTask task = new CallableTask(synCtx, injectSeq);
+
+        if (!submit(mllpContext, task)) {
+            return;
+        }
+
         if (!autoAck && timeOut > 0) {
             executorService
                     .schedule(new TimeoutHandler(mllpContext, synCtx.getMessageID()), timeOut, TimeUnit.MILLISECONDS);
         }
 
-        CallableTask task = new CallableTask(synCtx, injectSeq);
-
-        executorService.submit(task);
-
     }
 
     public void processError(final MLLPContext mllpContext, final Exception ex) {
@@ -186,14 +192,54 @@ public class HL7Processor implements InboundResponseSender {
             injectSeq.init(synCtx.getEnvironment());
         }
 
+        CallableTask task = new CallableTask(synCtx, injectSeq);
+
+        if (!submit(mllpContext, task)) {
+            return;
+        }
+
         if (!autoAck && timeOut > 0) {
             executorService
                     .schedule(new TimeoutHandler(mllpContext, synCtx.getMessageID()), timeOut, TimeUnit.MILLISECONDS);
         }
+    }
 
-        CallableTask task = new CallableTask(synCtx, injectSeq);
+    /**
+     * Hands the message over to the worker pool of the listener. When the pool is saturated the message is
+     * refused with a NACK, so that the sender retries it later, instead of being queued without a bound.
+     *
+     * @return true if the message was accepted by the worker pool
+     */
+    private boolean submit(MLLPContext mllpContext, CallableTask task) {
+        try {
+            workerPool.submit(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            if (autoAck) {
+                // the ACK is already on its way, the message can only be reported
+                log.error("HL7 inbound endpoint '" + params.getName() + "' is overloaded. Dropping message "
+                                  + mllpContext.getMessageId() + " which was already acknowledged.");
+                return false;
+            }
+            log.warn("HL7 inbound endpoint '" + params.getName() + "' is overloaded. Rejecting message "
+                             + mllpContext.getMessageId() + ".");
+            try {
+                mllpContext.setNackMode(true);
+                mllpContext.setHl7Message(HL7MessageUtils.createNack(mllpContext.getHl7Message(),
+                                                                     "Server is busy. Please retry later."));
+                mllpContext.requestOutput();
+            } catch (HL7Exception ex) {
+                log.error("Error while generating NACK response.", ex);
+            }
+            return false;
+        }
+    }
 
-        executorService.submit(task);
+    /**
+     * Stops the worker pool of the listener. The messages already accepted are mediated before the threads exit.
+     */
+    public void destroy() {
+        workerPool.shutdown();
     }
 
     /**
@@ -133,8 +133,11 @@ public class InboundHL7IOReactor {
         ListenerEndpoint ep = endpointMap.get(port);
 
         endpointMap.remove(port);
-        processorMap.remove(port);
+        HL7Processor processor = processorMap.remove(port);
         multiIOHandler.disconnectSessions(port);
+        if (processor != null) {
+            processor.destroy();
+        }
 
         if (ep == null) {
             return false;
@@ -89,5 +89,9 @@ public class MLLPConstants {
 
         public final static int WORKER_THREADS_CORE_DEFAULT = 100;
 
+        public final static String WORKER_QUEUE_SIZE = "worker_queue_size";
+
+        public final static int WORKER_QUEUE_SIZE_DEFAULT = 10000;
+
     }
 }
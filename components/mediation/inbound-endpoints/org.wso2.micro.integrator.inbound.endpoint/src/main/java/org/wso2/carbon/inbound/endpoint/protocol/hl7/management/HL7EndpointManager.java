@@ -72,7 +72,11 @@ public class HL7EndpointManager extends AbstractInboundEndpointManager {
         HL7Processor hl7Processor = new HL7Processor(parameters);
         parameters.put(MLLPConstants.HL7_REQ_PROC, hl7Processor);
 
-        return InboundHL7IOReactor.bind(port, hl7Processor);
+        if (!InboundHL7IOReactor.bind(port, hl7Processor)) {
+            hl7Processor.destroy();
+            return false;
+        }
+        return true;
     }
 
     @Override
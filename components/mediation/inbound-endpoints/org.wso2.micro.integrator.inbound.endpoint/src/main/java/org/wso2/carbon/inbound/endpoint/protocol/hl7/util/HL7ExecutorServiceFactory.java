@@ -20,36 +20,54 @@ package org.wso2.carbon.inbound.endpoint.protocol.hl7.util;
 
 import org.wso2.carbon.inbound.endpoint.protocol.hl7.core.MLLPConstants;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class HL7ExecutorServiceFactory {
 
-    private static ScheduledExecutorService executorService = Executors.newScheduledThreadPool(
-            HL7Configuration.getInstance().getIntProperty(MLLPConstants.TCPConstants.WORKER_THREADS_CORE,
-                                                          MLLPConstants.TCPConstants.WORKER_THREADS_CORE_DEFAULT),
-            HL7WorkerThreadFactory.getInstance());
+    private static final ThreadGroup group = new ThreadGroup("HL7-inbound-thread-group");
+
+    // only runs the response timeouts, the messages are mediated on the worker pool of each listener
+    private static ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor(
+            new HL7WorkerThreadFactory("HL7-inbound-timeout-"));
 
     public static ScheduledExecutorService getExecutorService() {
         return executorService;
     }
 
+    /**
+     * Creates the worker pool of a listener. The pool has a fixed number of threads and a bounded queue, so a
+     * message which does not fit in the queue is rejected instead of piling up in memory.
+     *
+     * @param name name of the inbound endpoint
+     * @return worker pool for the messages of the listener
+     */
+    public static ThreadPoolExecutor createWorkerPool(String name) {
+        HL7Configuration configuration = HL7Configuration.getInstance();
+        int threads = configuration.getIntProperty(MLLPConstants.TCPConstants.WORKER_THREADS_CORE,
+                                                   MLLPConstants.TCPConstants.WORKER_THREADS_CORE_DEFAULT);
+        int queueSize = configuration.getIntProperty(MLLPConstants.TCPConstants.WORKER_QUEUE_SIZE,
+                                                     MLLPConstants.TCPConstants.WORKER_QUEUE_SIZE_DEFAULT);
+        ThreadPoolExecutor workerPool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                                                               new ArrayBlockingQueue<>(queueSize),
+                                                               new HL7WorkerThreadFactory(
+                                                                       "HL7-inbound-" + name + "-worker-"),
+                                                               new ThreadPoolExecutor.AbortPolicy());
+        workerPool.allowCoreThreadTimeOut(true);
+        return workerPool;
+    }
+
     private static class HL7WorkerThreadFactory implements ThreadFactory {
-        final ThreadGroup group;
         final AtomicInteger threadNumber = new AtomicInteger(1);
         final String namePrefix;
 
-        private static HL7WorkerThreadFactory instance = new HL7WorkerThreadFactory();
-
-        private HL7WorkerThreadFactory() {
-            group = new ThreadGroup("HL7-inbound-thread-group");
-            namePrefix = "HL7-inbound-worker-";
-        }
-
-        public static HL7WorkerThreadFactory getInstance() {
-            return instance;
+        private HL7WorkerThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
         }
 
         public Thread newThread(Runnable r) {
@@ -63,4 +81,3 @@ public class HL7ExecutorServiceFactory {
     }
 
 }
-
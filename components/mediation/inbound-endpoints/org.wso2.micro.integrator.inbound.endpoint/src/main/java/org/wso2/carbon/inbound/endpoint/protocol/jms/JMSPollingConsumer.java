@@ -53,6 +53,7 @@ public class JMSPollingConsumer {
     private String name;
     private Properties jmsProperties;
     private boolean isConnected;
+    private volatile boolean lastPollEmpty;
 
     private Long reconnectDuration;
     private long retryDuration;
@@ -198,6 +199,7 @@ public class JMSPollingConsumer {
                 }
             }
 
+            lastPollEmpty = false;
             if (lastRanTime == null || ((lastRanTime + (scanInterval)) <= currentTime)) {
                 lastRanTime = currentTime;
                 poll();
@@ -212,6 +214,13 @@ public class JMSPollingConsumer {
         }
     }
 
+    /**
+     * @return true if the last poll cycle did not receive any message from the destination
+     */
+    public boolean isLastPollEmpty() {
+        return lastPollEmpty;
+    }
+
     /**
      * Resets the JMS connection if the polling is restarted. This will enable making a new connection
      * and the redelivery attempts that were accounted earlier will be discarded.
@@ -274,6 +283,7 @@ public class JMSPollingConsumer {
             Message msg = receiveMessage(messageConsumer);
             if (msg == null) {
                 logger.debug("Inbound JMS Endpoint. No JMS message received.");
+                lastPollEmpty = true;
                 return null;
             }
             while (msg != null) {
@@ -50,6 +50,11 @@ public class JMSTask extends InboundTask implements LocalTaskActionListener {
         }
     }
 
+    @Override
+    protected boolean isLastPollEmpty() {
+        return jmsPollingConsumer != null && jmsPollingConsumer.isLastPollEmpty();
+    }
+
     @Override
     public Properties getInboundProperties() {
         return jmsPollingConsumer.getInboundProperites();
@@ -29,6 +29,7 @@ import org.eclipse.paho.client.mqttv3.MqttMessage;
 import org.wso2.carbon.inbound.endpoint.common.OneTimeTriggerAbstractCallback;
 
 import java.util.Properties;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * MQTT Asynchronous call back handler
@@ -48,6 +49,7 @@ public class MqttAsyncCallback extends OneTimeTriggerAbstractCallback implements
     private MqttConnectOptions connectOptions;
     private MqttConnectionConsumer connectionConsumer;
     private MqttConnectionListener connectionListener;
+    private MqttMessageDispatcher messageDispatcher;
 
     public MqttAsyncCallback(MqttAsyncClient mqttAsyncClient, MqttInjectHandler injectHandler,
                              MqttConnectionFactory confac, MqttConnectOptions connectOptions,
@@ -58,6 +60,17 @@ public class MqttAsyncCallback extends OneTimeTriggerAbstractCallback implements
         this.connectOptions = connectOptions;
         this.mqttProperties = mqttProperties;
 
+        int workers = Integer.parseInt(mqttProperties.getProperty(MqttConstants.MQTT_WORKER_POOL_SIZE, "0"));
+        if (workers > 0) {
+            int queueCapacity = Integer.parseInt(mqttProperties.getProperty(MqttConstants.MQTT_WORKER_QUEUE_CAPACITY,
+                    String.valueOf(MqttConstants.DEFAULT_WORKER_QUEUE_CAPACITY)));
+            long queueTimeout = Long.parseLong(mqttProperties.getProperty(MqttConstants.MQTT_WORKER_QUEUE_TIMEOUT,
+                    String.valueOf(MqttConstants.DEFAULT_WORKER_QUEUE_TIMEOUT)));
+            messageDispatcher = new MqttMessageDispatcher(mqttAsyncClient.getClientId(), workers, queueCapacity,
+                    queueTimeout);
+            // QoS 1 and 2 messages are acknowledged once the worker completes the mediation
+            mqttAsyncClient.setManualAcks(true);
+        }
     }
 
     /**
@@ -89,7 +102,7 @@ public class MqttAsyncCallback extends OneTimeTriggerAbstractCallback implements
                 if (mqttAsyncClient.isConnected()) {
                     int qosLevel = Integer.parseInt(mqttProperties.getProperty(MqttConstants.MQTT_QOS));
                     if (confac.getTopic() != null) {
-                        mqttAsyncClient.subscribe(confac.getTopic(), qosLevel);
+                        mqttAsyncClient.subscribe(confac.getSubscriptionTopic(), qosLevel);
                     }
                     log.info("MQTT inbound endpoint " + name + " re-connected to the broker");
                 }
@@ -114,12 +127,49 @@ public class MqttAsyncCallback extends OneTimeTriggerAbstractCallback implements
             super.startInboundTenantLoading(inboundIdentifier);
             //un-register tenant loading flag for inbound identifier
             clientManager.unRegisterInboundTenantLoadingFlag(inboundIdentifier);
+        }
+        MqttMessageContext mqttMessageContext = new MqttMessageContext(mqttMessage, topic, confac.getServerHost(),
+                confac.getServerPort());
+        if (messageDispatcher == null) {
+            injectHandler.invoke(mqttMessageContext, name);
+            return;
+        }
+        try {
+            messageDispatcher.dispatch(topic, () -> mediateAndAcknowledge(mqttMessageContext));
+        } catch (RejectedExecutionException e) {
+            if (messageDispatcher.isShutdown()) {
+                // the client is disconnecting, a persistent session gets the unacknowledged message redelivered
+                log.warn("MQTT inbound endpoint " + name + " is shutting down, hence message " + mqttMessage.getId()
+                        + " received from topic " + topic + " will not be mediated.");
+                return;
+            }
+            // only reached with a queue timeout configured, which opts in to dropping the messages which could not
+            // be queued, hence the message is acknowledged so that it does not hold the in-flight window
+            log.warn("MQTT inbound endpoint " + name + " dropped message " + mqttMessage.getId()
+                    + " received from topic " + topic + ". " + e.getMessage());
+            acknowledge(mqttMessage, topic);
+        }
+    }
 
-            injectHandler.invoke(new MqttMessageContext(mqttMessage, topic, confac.getServerHost(),
-                    confac.getServerPort()), name);
-        } else {
-            injectHandler.invoke(new MqttMessageContext(mqttMessage, topic, confac.getServerHost(),
-                    confac.getServerPort()), name);
+    private void mediateAndAcknowledge(MqttMessageContext mqttMessageContext) {
+        MqttMessage mqttMessage = mqttMessageContext.getMqttMessage();
+        try {
+            injectHandler.invoke(mqttMessageContext, name);
+        } catch (Exception e) {
+            log.error("Error while mediating the message received from topic " + mqttMessageContext.getTopic(), e);
+        } finally {
+            acknowledge(mqttMessage, mqttMessageContext.getTopic());
+        }
+    }
+
+    private void acknowledge(MqttMessage mqttMessage, String topic) {
+        if (mqttMessage.getQos() > 0) {
+            try {
+                mqttAsyncClient.messageArrivedComplete(mqttMessage.getId(), mqttMessage.getQos());
+            } catch (MqttException e) {
+                log.error("Error while acknowledging the message " + mqttMessage.getId() + " received from topic "
+                        + topic, e);
+            }
         }
     }
 
@@ -145,6 +195,9 @@ public class MqttAsyncCallback extends OneTimeTriggerAbstractCallback implements
 
     public void shutdown() {
         super.shutdown();
+        if (messageDispatcher != null) {
+            messageDispatcher.shutdown();
+        }
         if (connectionListener != null) {
             this.connectionListener.shutdown();
         }
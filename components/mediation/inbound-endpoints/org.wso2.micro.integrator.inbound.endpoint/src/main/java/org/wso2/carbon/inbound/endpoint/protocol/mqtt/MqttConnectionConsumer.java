@@ -70,7 +70,7 @@ public class MqttConnectionConsumer {
                     if (mqttAsyncClient.isConnected()) {
                         int qosLevel = Integer.parseInt(mqttProperties.getProperty(MqttConstants.MQTT_QOS));
                         if (confac.getTopic() != null) {
-                            mqttAsyncClient.subscribe(confac.getTopic(), qosLevel);
+                            mqttAsyncClient.subscribe(confac.getSubscriptionTopic(), qosLevel);
                         }
                         log.info("MQTT inbound endpoint " + this.name + " connected to the broker");
                     }
@@ -123,6 +123,11 @@ public class MqttConnectionFactory {
                 log.warn("Default value is used for the parameter : " + MqttConstants.MQTT_SESSION_CLEAN);
             }
 
+            if (passedInParameter.getProperty(MqttConstants.MQTT_SHARED_SUBSCRIPTION_GROUP) != null) {
+                parameters.put(MqttConstants.MQTT_SHARED_SUBSCRIPTION_GROUP,
+                               passedInParameter.getProperty(MqttConstants.MQTT_SHARED_SUBSCRIPTION_GROUP));
+            }
+
             if (passedInParameter.getProperty(MqttConstants.MQTT_SSL_ENABLE) != null) {
                 parameters.put(MqttConstants.MQTT_SSL_ENABLE,
                                passedInParameter.getProperty(MqttConstants.MQTT_SSL_ENABLE));
@@ -190,6 +195,22 @@ public class MqttConnectionFactory {
         return parameters.get(MqttConstants.MQTT_TOPIC_NAME);
     }
 
+    /**
+     * Returns the topic filter to subscribe to. When a shared subscription group is configured the topic is
+     * subscribed as {@code $share/<group>/<topic>}, so that the broker load balances the messages of the topic
+     * among all the clients of the group.
+     *
+     * @return topic filter used for the subscription
+     */
+    public String getSubscriptionTopic() {
+        String topic = getTopic();
+        String sharedGroup = parameters.get(MqttConstants.MQTT_SHARED_SUBSCRIPTION_GROUP);
+        if (topic == null || sharedGroup == null || sharedGroup.isEmpty()) {
+            return topic;
+        }
+        return MqttConstants.SHARED_SUBSCRIPTION_PREFIX + sharedGroup + "/" + topic;
+    }
+
     public String getContent() {
         return parameters.get(MqttConstants.CONTENT_TYPE);
     }
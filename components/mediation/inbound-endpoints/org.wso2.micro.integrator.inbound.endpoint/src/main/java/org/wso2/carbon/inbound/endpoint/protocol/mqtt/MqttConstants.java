@@ -36,6 +36,14 @@ public class MqttConstants {
     public static final String MQTT_TEMP_STORE = "mqtt.temporary.store.directory";
     public static final String MQTT_CLIENT_ID = "mqtt.client.id";
     public static final String MQTT_RECONNECTION_INTERVAL = "mqtt.reconnection.interval";
+    public static final String MQTT_SHARED_SUBSCRIPTION_GROUP = "mqtt.subscription.shared.group";
+    public static final String MQTT_WORKER_POOL_SIZE = "mqtt.worker.pool.size";
+    public static final String MQTT_WORKER_QUEUE_CAPACITY = "mqtt.worker.queue.capacity";
+    public static final String MQTT_WORKER_QUEUE_TIMEOUT = "mqtt.worker.queue.timeout";
+    public static final String SHARED_SUBSCRIPTION_PREFIX = "$share/";
+    public static final int DEFAULT_WORKER_QUEUE_CAPACITY = 1000;
+    // 0 waits until a worker has space, a positive timeout drops the messages which could not be queued in time
+    public static final long DEFAULT_WORKER_QUEUE_TIMEOUT = 0;
 
     //SSL related parameters
     public static final String MQTT_SSL_ENABLE = "mqtt.ssl.enable";
@@ -135,7 +135,7 @@ public class MqttListener extends InboundOneTimeTriggerRequestProcessor {
             confac.shutdown(mqttAsyncClient.isConnected());
             try {
                 if (mqttAsyncClient.isConnected()) {
-                    mqttAsyncClient.unsubscribe(confac.getTopic());
+                    mqttAsyncClient.unsubscribe(confac.getSubscriptionTopic());
                     mqttAsyncClient.disconnect();
                 }
                 mqttAsyncClient.close();
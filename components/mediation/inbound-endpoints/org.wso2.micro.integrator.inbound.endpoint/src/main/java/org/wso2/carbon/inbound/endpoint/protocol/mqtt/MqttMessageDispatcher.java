@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.inbound.endpoint.protocol.mqtt;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands the messages received on the MQTT client callback thread over to a bounded set of workers, so that a slow
+ * mediation flow does not hold up the client connection.
+ * <p>
+ * Every topic is mapped to a single worker lane, hence the messages of a topic are mediated in the order they
+ * arrived while different topics are mediated in parallel. When the queue of a lane is full the callback thread
+ * waits for space, which applies back pressure to the broker. By default the callback thread waits until there is
+ * space, and the message is only rejected with a {@link RejectedExecutionException} once the dispatcher is shut down.
+ * If a queue timeout is configured, the message is also rejected once the lane stayed full for the queue timeout.
+ */
+public class MqttMessageDispatcher {
+
+    private static final Log log = LogFactory.getLog(MqttMessageDispatcher.class);
+
+    private static final long SHUTDOWN_TIMEOUT = 30;
+    // interval in which a callback thread waiting for space checks whether the dispatcher was shut down
+    private static final long SHUTDOWN_CHECK_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final ThreadPoolExecutor[] lanes;
+    private final long queueTimeout;
+
+    /**
+     * @param name          name of the dispatcher, used in the names of the worker threads
+     * @param workers       number of worker lanes
+     * @param queueCapacity number of messages a lane can hold while its worker is busy
+     * @param queueTimeout  time in milliseconds a message waits for space in a full lane before it is rejected, or 0
+     *                      to wait until there is space
+     */
+    public MqttMessageDispatcher(String name, int workers, int queueCapacity, long queueTimeout) {
+        this.queueTimeout = queueTimeout > 0 ? TimeUnit.MILLISECONDS.toNanos(queueTimeout) : 0;
+        lanes = new ThreadPoolExecutor[workers];
+        for (int i = 0; i < workers; i++) {
+            String threadName = "mqtt-inbound-" + name + "-worker-" + i;
+            ThreadFactory threadFactory = r -> new Thread(r, threadName);
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                                              new ArrayBlockingQueue<>(queueCapacity), threadFactory,
+                                              this::waitForCapacity);
+        }
+    }
+
+    /**
+     * Queues the given task in the lane of the topic.
+     *
+     * @param topic topic the message was received from
+     * @param task  task which mediates the message
+     * @throws RejectedExecutionException if the dispatcher is shut down, or the lane stayed full for the configured
+     *                                    queue timeout
+     */
+    public void dispatch(String topic, Runnable task) {
+        lanes[(topic.hashCode() & Integer.MAX_VALUE) % lanes.length].execute(task);
+    }
+
+    /**
+     * @return true if the dispatcher no longer accepts messages
+     */
+    public boolean isShutdown() {
+        return lanes[0].isShutdown();
+    }
+
+    /**
+     * Stops accepting messages and waits for the queued messages to be mediated.
+     */
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                if (!lane.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                    log.warn("MQTT inbound worker did not complete the queued messages within " + SHUTDOWN_TIMEOUT
+                                     + " seconds.");
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitForCapacity(Runnable task, ThreadPoolExecutor executor) {
+        long deadline = System.nanoTime() + queueTimeout;
+        try {
+            while (!executor.isShutdown()) {
+                long remaining = queueTimeout > 0 ? deadline - System.nanoTime() : SHUTDOWN_CHECK_INTERVAL;
+                if (remaining <= 0) {
+                    throw new RejectedExecutionException("MQTT inbound worker queue stayed full for "
+                                                                 + TimeUnit.NANOSECONDS.toMillis(queueTimeout)
+                                                                 + " milliseconds.");
+                }
+                if (executor.getQueue().offer(task, Math.min(remaining, SHUTDOWN_CHECK_INTERVAL),
+                                              TimeUnit.NANOSECONDS)) {
+                    // a lane which was shut down meanwhile may not run the task any more
+                    if (executor.isShutdown() && executor.remove(task)) {
+                        break;
+                    }
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the MQTT inbound worker.", e);
+        }
+        throw new RejectedExecutionException("MQTT inbound worker is shut down.");
+    }
+}
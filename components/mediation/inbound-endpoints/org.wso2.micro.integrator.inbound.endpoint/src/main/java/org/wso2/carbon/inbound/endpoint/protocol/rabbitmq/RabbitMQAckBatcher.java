@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.inbound.endpoint.protocol.rabbitmq;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Recoverable;
+import com.rabbitmq.client.RecoveryListener;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.inbound.endpoint.common.InboundRunnerScheduler;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acknowledges the deliveries of a channel in batches using {@code basicAck(deliveryTag, true)}.
+ * <p>
+ * A message is only added to a batch once its mediation completed successfully, and any pending batch is flushed
+ * before a delivery is rejected, hence a multiple acknowledgement never covers a message which was not processed.
+ * If the channel is lost before a batch is flushed, the broker redelivers the pending messages in the same way it
+ * does for a message which was not acknowledged yet. The pending batch is dropped when the channel starts to
+ * recover since the delivery tags of the old channel are no longer valid.
+ */
+public class RabbitMQAckBatcher implements RecoveryListener {
+
+    private static final Log log = LogFactory.getLog(RabbitMQAckBatcher.class);
+
+    private final Channel channel;
+    private final int batchSize;
+    private final long batchInterval;
+    private final Object lock = new Object();
+
+    private int flushThreshold;
+    private int pendingAcks;
+    private long lastDeliveryTag;
+    private long firstPendingTime;
+    private ScheduledFuture<?> flushTask;
+
+    /**
+     * @param channel       channel the deliveries are received on
+     * @param batchSize     number of messages acknowledged at once, a value less than 2 disables batching
+     * @param batchInterval maximum time in milliseconds an acknowledgement is kept pending
+     */
+    public RabbitMQAckBatcher(Channel channel, int batchSize, long batchInterval) {
+        this.channel = channel;
+        this.batchSize = batchSize;
+        this.batchInterval = batchInterval;
+        this.flushThreshold = batchSize;
+        if (isBatching()) {
+            if (channel instanceof Recoverable) {
+                ((Recoverable) channel).addRecoveryListener(this);
+            }
+            InboundRunnerScheduler scheduler = InboundRunnerScheduler.getInstance();
+            flushTask = scheduler.getTimer().scheduleWithFixedDelay(
+                    () -> scheduler.getWorkerExecutor().execute(this::flushIfDue),
+                    batchInterval, batchInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isBatching() {
+        return batchSize > 1;
+    }
+
+    /**
+     * Adjusts the batch to the prefetch count of the channel. The broker stops delivering once the unacknowledged
+     * messages reach the prefetch count, so a batch is flushed when it reaches half of it.
+     *
+     * @param prefetchCount prefetch count of the channel, 0 if unlimited
+     */
+    public void setPrefetchCount(int prefetchCount) {
+        synchronized (lock) {
+            flushThreshold = prefetchCount > 0 ? Math.max(1, Math.min(batchSize, prefetchCount / 2)) : batchSize;
+        }
+    }
+
+    /**
+     * Acknowledges the given delivery, either right away or as part of the next batch.
+     *
+     * @param deliveryTag delivery tag of the processed message
+     * @throws IOException if the acknowledgement could not be sent
+     */
+    public void ack(long deliveryTag) throws IOException {
+        if (!isBatching()) {
+            channel.basicAck(deliveryTag, false);
+            return;
+        }
+        synchronized (lock) {
+            if (pendingAcks == 0) {
+                firstPendingTime = System.currentTimeMillis();
+            }
+            lastDeliveryTag = deliveryTag;
+            pendingAcks++;
+            if (pendingAcks >= flushThreshold) {
+                flushPending();
+            }
+        }
+    }
+
+    /**
+     * Rejects the given delivery after flushing the acknowledgements of the messages delivered before it.
+     *
+     * @param deliveryTag delivery tag of the rejected message
+     * @param requeue     whether the broker should requeue the message
+     * @throws IOException if the rejection could not be sent
+     */
+    public void reject(long deliveryTag, boolean requeue) throws IOException {
+        synchronized (lock) {
+            flushPending();
+            channel.basicReject(deliveryTag, requeue);
+        }
+    }
+
+    /**
+     * Sends the pending acknowledgements, if any.
+     *
+     * @throws IOException if the acknowledgement could not be sent
+     */
+    public void flush() throws IOException {
+        synchronized (lock) {
+            flushPending();
+        }
+    }
+
+    /**
+     * Stops the periodic flush and sends the pending acknowledgements if the channel is still open.
+     */
+    public void close() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        synchronized (lock) {
+            if (pendingAcks > 0 && channel.isOpen()) {
+                try {
+                    flushPending();
+                } catch (IOException | RuntimeException e) {
+                    // e.g. AlreadyClosedException if the channel was closed meanwhile
+                    log.warn("Error while flushing the pending acknowledgements. The messages will be redelivered.",
+                             e);
+                }
+            }
+            pendingAcks = 0;
+        }
+    }
+
+    public int getPendingAcks() {
+        synchronized (lock) {
+            return pendingAcks;
+        }
+    }
+
+    private void flushIfDue() {
+        synchronized (lock) {
+            if (pendingAcks == 0 || System.currentTimeMillis() - firstPendingTime < batchInterval) {
+                return;
+            }
+            try {
+                flushPending();
+            } catch (IOException | RuntimeException e) {
+                // a failure must not end the periodic flush, which runs until the batcher is closed. The delivery tags
+                // are dropped since the acknowledgement fails once the channel is closed, and the broker redelivers
+                // the messages of a closed channel
+                log.error("Error while acknowledging " + pendingAcks + " messages up to delivery tag "
+                                  + lastDeliveryTag + ". The messages will be redelivered.", e);
+                pendingAcks = 0;
+            }
+        }
+    }
+
+    private void flushPending() throws IOException {
+        if (pendingAcks == 0) {
+            return;
+        }
+        channel.basicAck(lastDeliveryTag, true);
+        if (log.isDebugEnabled()) {
+            log.debug("Acknowledged " + pendingAcks + " messages up to delivery tag " + lastDeliveryTag + ".");
+        }
+        pendingAcks = 0;
+    }
+
+    @Override
+    public void handleRecovery(Recoverable recoverable) {
+        // nothing to do, the batch was dropped when the recovery started
+    }
+
+    @Override
+    public void handleRecoveryStarted(Recoverable recoverable) {
+        synchronized (lock) {
+            if (pendingAcks > 0 && log.isDebugEnabled()) {
+                log.debug("Dropping " + pendingAcks + " pending acknowledgements since the channel is recovering. "
+                                  + "The messages will be redelivered.");
+            }
+            pendingAcks = 0;
+        }
+    }
+}
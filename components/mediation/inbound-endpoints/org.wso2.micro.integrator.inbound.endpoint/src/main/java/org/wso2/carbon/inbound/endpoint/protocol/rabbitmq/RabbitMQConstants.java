@@ -58,6 +58,12 @@ public class RabbitMQConstants {
 
     public static final String CONSUMER_QOS = "rabbitmq.channel.consumer.qos";
     public static final String CONSUMER_TAG = "rabbitmq.consumer.tag";
+    public static final String CONSUMER_QOS_ADAPTIVE = "rabbitmq.channel.consumer.qos.adaptive";
+    public static final String CONSUMER_QOS_MIN = "rabbitmq.channel.consumer.qos.min";
+    public static final String CONSUMER_QOS_MAX = "rabbitmq.channel.consumer.qos.max";
+    public static final String CONSUMER_QOS_BACKLOG_THRESHOLD = "rabbitmq.channel.consumer.qos.backlog.threshold";
+    public static final String CONSUMER_ACK_BATCH_SIZE = "rabbitmq.consumer.ack.batch.size";
+    public static final String CONSUMER_ACK_BATCH_INTERVAL = "rabbitmq.consumer.ack.batch.interval";
 
     public static final String MESSAGE_MAX_DEAD_LETTERED_COUNT = "rabbitmq.message.max.dead.lettered.count";
     public static final String MESSAGE_ERROR_EXCHANGE_NAME = "rabbitmq.message.error.exchange.name";
@@ -66,6 +72,12 @@ public class RabbitMQConstants {
     public static final int DEFAULT_RETRY_INTERVAL = 30000;
     public static final int DEFAULT_RETRY_COUNT = 3;
     public static final int DEFAULT_CONSUMER_QOS = 0;
+    public static final int DEFAULT_CONSUMER_QOS_MIN = 10;
+    public static final int DEFAULT_CONSUMER_QOS_MAX = 1000;
+    public static final int DEFAULT_CONSUMER_QOS_BACKLOG_THRESHOLD = 100;
+    public static final int DEFAULT_CONSUMER_ACK_BATCH_SIZE = 1;
+    public static final long DEFAULT_CONSUMER_ACK_BATCH_INTERVAL = 100;
+    public static final long CONSUMER_QOS_ADJUST_INTERVAL = 1000;
 }
 
 
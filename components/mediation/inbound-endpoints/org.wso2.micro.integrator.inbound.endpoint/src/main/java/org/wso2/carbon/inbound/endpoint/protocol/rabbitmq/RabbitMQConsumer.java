@@ -55,6 +55,13 @@ public class RabbitMQConsumer implements Consumer {
     private long requeueDelay;
     private boolean autoAck;
     private String inboundName;
+    private RabbitMQAckBatcher ackBatcher;
+    private boolean adaptiveQos;
+    private int qos;
+    private int minQos;
+    private int maxQos;
+    private int qosBacklogThreshold;
+    private long lastQosAdjustment;
 
     public RabbitMQConsumer(RabbitMQConnectionFactory rabbitMQConnectionFactory, Properties properties,
                             RabbitMQInjectHandler injectHandler) {
@@ -88,9 +95,23 @@ public class RabbitMQConsumer implements Consumer {
         ((Recoverable) this.channel).addRecoveryListener(new RabbitMQRecoveryListener());
 
         // set the qos value
-        int qos = NumberUtils.toInt(rabbitMQProperties.get(RabbitMQConstants.CONSUMER_QOS),
+        qos = NumberUtils.toInt(rabbitMQProperties.get(RabbitMQConstants.CONSUMER_QOS),
                 RabbitMQConstants.DEFAULT_CONSUMER_QOS);
-        channel.basicQos(qos);
+        adaptiveQos = BooleanUtils.toBoolean(rabbitMQProperties.get(RabbitMQConstants.CONSUMER_QOS_ADAPTIVE));
+        if (adaptiveQos) {
+            minQos = NumberUtils.toInt(rabbitMQProperties.get(RabbitMQConstants.CONSUMER_QOS_MIN),
+                    RabbitMQConstants.DEFAULT_CONSUMER_QOS_MIN);
+            maxQos = NumberUtils.toInt(rabbitMQProperties.get(RabbitMQConstants.CONSUMER_QOS_MAX),
+                    RabbitMQConstants.DEFAULT_CONSUMER_QOS_MAX);
+            qosBacklogThreshold = NumberUtils.toInt(
+                    rabbitMQProperties.get(RabbitMQConstants.CONSUMER_QOS_BACKLOG_THRESHOLD),
+                    RabbitMQConstants.DEFAULT_CONSUMER_QOS_BACKLOG_THRESHOLD);
+            qos = qos > 0 ? Math.min(Math.max(qos, minQos), maxQos) : maxQos;
+            // a channel wide limit is applied to the existing consumer when it is changed later on
+            channel.basicQos(qos, true);
+        } else {
+            channel.basicQos(qos);
+        }
 
         // declaring queue, exchange and binding
         queueName = rabbitMQProperties.get(RabbitMQConstants.QUEUE_NAME);
@@ -124,6 +145,18 @@ public class RabbitMQConsumer implements Consumer {
         autoAck = BooleanUtils.toBooleanDefaultIfNull(BooleanUtils.toBooleanObject(rabbitMQProperties
                 .get(RabbitMQConstants.QUEUE_AUTO_ACK)), true);
 
+        int ackBatchSize = autoAck ? RabbitMQConstants.DEFAULT_CONSUMER_ACK_BATCH_SIZE : NumberUtils.toInt(
+                rabbitMQProperties.get(RabbitMQConstants.CONSUMER_ACK_BATCH_SIZE),
+                RabbitMQConstants.DEFAULT_CONSUMER_ACK_BATCH_SIZE);
+        long ackBatchInterval = NumberUtils.toLong(
+                rabbitMQProperties.get(RabbitMQConstants.CONSUMER_ACK_BATCH_INTERVAL),
+                RabbitMQConstants.DEFAULT_CONSUMER_ACK_BATCH_INTERVAL);
+        if (ackBatcher != null) {
+            ackBatcher.close();
+        }
+        ackBatcher = new RabbitMQAckBatcher(channel, ackBatchSize, ackBatchInterval);
+        ackBatcher.setPrefetchCount(qos);
+
         if (StringUtils.isNotEmpty(consumerTag)) {
             channel.basicConsume(queueName, autoAck, consumerTag, this);
         } else {
@@ -213,15 +246,23 @@ public class RabbitMQConsumer implements Consumer {
         new RabbitMQMessageContext(properties, body,
                 connection.getAddress() != null ? connection.getAddress().getHostName() : null,
                 String.valueOf(connection.getPort()), queueName);
-        AcknowledgementMode acknowledgementMode = injectHandler.onMessage(properties, body, inboundName);
+        AcknowledgementMode acknowledgementMode;
+        try {
+            acknowledgementMode = injectHandler.onMessage(properties, body, inboundName);
+        } catch (RuntimeException e) {
+            // acknowledge the messages processed so far, the failed one is left to be redelivered
+            ackBatcher.flush();
+            throw e;
+        }
         switch (acknowledgementMode) {
             case REQUEUE_TRUE:
+                ackBatcher.flush();
                 try {
                     Thread.sleep(requeueDelay);
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                 }
-                channel.basicReject(envelope.getDeliveryTag(), true);
+                ackBatcher.reject(envelope.getDeliveryTag(), true);
                 break;
             case REQUEUE_FALSE:
                 List<HashMap<String, Object>> xDeathHeader =
@@ -230,7 +271,7 @@ public class RabbitMQConsumer implements Consumer {
                 if (xDeathHeader != null && xDeathHeader.size() > 0 && maxDeadLetteredCount != -1) {
                     Long count = (Long) xDeathHeader.get(0).get("count");
                     if (count <= maxDeadLetteredCount) {
-                        channel.basicReject(envelope.getDeliveryTag(), false);
+                        ackBatcher.reject(envelope.getDeliveryTag(), false);
                         log.info("The rejected message with message id: " + properties.getMessageId() + " and " +
                                 "delivery tag: " + envelope.getDeliveryTag() + " on the queue: " +
                                 queueName + " is dead-lettered " + count + " time(s).");
@@ -240,7 +281,7 @@ public class RabbitMQConsumer implements Consumer {
                     }
                 } else {
                     // the message might be dead-lettered or discard if an error occurred in the mediation flow
-                    channel.basicReject(envelope.getDeliveryTag(), false);
+                    ackBatcher.reject(envelope.getDeliveryTag(), false);
                     log.info("The rejected message with message id: " + properties.getMessageId() + " and " +
                             "delivery tag: " + envelope.getDeliveryTag() + " on the queue: " +
                             queueName + " will discard or dead-lettered.");
@@ -248,10 +289,46 @@ public class RabbitMQConsumer implements Consumer {
                 break;
             default:
                 if (!autoAck) {
-                    channel.basicAck(envelope.getDeliveryTag(), false);
+                    ackBatcher.ack(envelope.getDeliveryTag());
                 }
                 break;
         }
+        if (adaptiveQos) {
+            adjustQos();
+        }
+    }
+
+    /**
+     * Shrinks the prefetch count while the mediation workers are falling behind and grows it back while they keep
+     * up, so that the broker does not push more messages than the server can mediate.
+     *
+     * @throws IOException if the qos could not be updated
+     */
+    private void adjustQos() throws IOException {
+        long currentTime = System.currentTimeMillis();
+        if (currentTime - lastQosAdjustment < RabbitMQConstants.CONSUMER_QOS_ADJUST_INTERVAL) {
+            return;
+        }
+        lastQosAdjustment = currentTime;
+        int backlog = injectHandler.getMediationBacklog();
+        if (backlog < 0) {
+            return;
+        }
+        int newQos = qos;
+        if (backlog > qosBacklogThreshold) {
+            newQos = Math.max(minQos, qos / 2);
+        } else if (backlog == 0) {
+            newQos = Math.min(maxQos, qos + Math.max(1, qos / 4));
+        }
+        if (newQos != qos) {
+            channel.basicQos(newQos, true);
+            ackBatcher.setPrefetchCount(newQos);
+            if (log.isDebugEnabled()) {
+                log.debug("Changed the prefetch count of inbound endpoint: " + inboundName + " from " + qos + " to "
+                        + newQos + " for a mediation backlog of " + backlog + ".");
+            }
+            qos = newQos;
+        }
     }
 
     /**
@@ -271,20 +348,20 @@ public class RabbitMQConsumer implements Consumer {
         if (StringUtils.isNotEmpty(routingKey) && StringUtils.isNotEmpty(exchangeName)) {
             // publish message to the given exchange with the routing key
             channel.basicPublish(exchangeName, routingKey, properties, body);
-            channel.basicAck(envelope.getDeliveryTag(), false);
+            ackBatcher.ack(envelope.getDeliveryTag());
             log.info("The max dead lettered count exceeded. Hence message with message id: " +
                     properties.getMessageId() + " and delivery tag: " + envelope.getDeliveryTag() +
                     " publish to the exchange: " + exchangeName + " with the routing key: " + routingKey + ".");
         } else if (StringUtils.isNotEmpty(routingKey) && StringUtils.isEmpty(exchangeName)) {
             // publish message to the default exchange with the routing key
             channel.basicPublish("", routingKey, properties, body);
-            channel.basicAck(envelope.getDeliveryTag(), false);
+            ackBatcher.ack(envelope.getDeliveryTag());
             log.info("The max dead lettered count exceeded. Hence message with message id: " +
                     properties.getMessageId() + " and delivery tag: " + envelope.getDeliveryTag() + " publish to the " +
                     "default exchange with the routing key: " + routingKey + ".");
         } else {
             // discard the message
-            channel.basicAck(envelope.getDeliveryTag(), false);
+            ackBatcher.ack(envelope.getDeliveryTag());
             log.info("The max dead lettered count exceeded. " +
                     "No 'rabbitmq.message.error.queue.routing.key' specified for publishing the message. " +
                     "Hence the message with message id: " + properties.getMessageId() + " and delivery tag: " +
@@ -296,6 +373,10 @@ public class RabbitMQConsumer implements Consumer {
      * Return connection back to the pool when undeploying the listener proxy
      */
     public void close() {
+        if (ackBatcher != null) {
+            ackBatcher.close();
+            ackBatcher = null;
+        }
         if (connection != null) {
             try {
                 connection.abort();
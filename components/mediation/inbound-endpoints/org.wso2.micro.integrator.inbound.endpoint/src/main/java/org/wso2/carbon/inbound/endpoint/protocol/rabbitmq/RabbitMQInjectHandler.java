@@ -35,6 +35,8 @@ import org.wso2.carbon.inbound.endpoint.inboundfactory.InboundRequestProcessorFa
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * The received messages will be injected into the sequence for the mediation.
@@ -134,6 +136,19 @@ public class RabbitMQInjectHandler {
         return AcknowledgementMode.ACKNOWLEDGE;
     }
 
+    /**
+     * Returns the number of mediation tasks waiting for a worker thread of the synapse environment.
+     *
+     * @return the mediation backlog or -1 if it cannot be determined
+     */
+    public int getMediationBacklog() {
+        ExecutorService executorService = synapseEnvironment.getExecutorService();
+        if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getQueue().size();
+        }
+        return -1;
+    }
+
     /**
      * Create the initial message context for rabbitmq
      */
@@ -18,26 +18,29 @@
 
 package org.wso2.carbon.inbound.endpoint.protocol.websocket.management;
 
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 import org.wso2.carbon.inbound.endpoint.protocol.websocket.InboundWebsocketChannelContext;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 
 public class WebsocketSubscriberPathManager {
 
-    private static WebsocketSubscriberPathManager instance = null;
+    private static final WebsocketSubscriberPathManager instance = new WebsocketSubscriberPathManager();
     private static final Log log = LogFactory.getLog(WebsocketSubscriberPathManager.class);
 
-    private ConcurrentHashMap<String, ConcurrentHashMap<String, List<InboundWebsocketChannelContext>>> inboundSubscriberPathMap = new ConcurrentHashMap<String, ConcurrentHashMap<String, List<InboundWebsocketChannelContext>>>();
+    private ConcurrentHashMap<String, ConcurrentHashMap<String, SubscriberPath>> inboundSubscriberPathMap =
+            new ConcurrentHashMap<String, ConcurrentHashMap<String, SubscriberPath>>();
 
     public static WebsocketSubscriberPathManager getInstance() {
-        if (instance == null) {
-            instance = new WebsocketSubscriberPathManager();
-        }
         return instance;
     }
 
@@ -46,74 +49,148 @@ public class WebsocketSubscriberPathManager {
             log.debug("Adding Channel Context with channelID: " + ctx.getChannelIdentifier() + ", in the Thread,ID: "
                               + Thread.currentThread().getName() + "," + Thread.currentThread().getId());
         }
-        ConcurrentHashMap<String, List<InboundWebsocketChannelContext>> subscriberPathMap = inboundSubscriberPathMap
-                .get(inboundName);
-        if (subscriberPathMap == null) {
-            subscriberPathMap = new ConcurrentHashMap<String, List<InboundWebsocketChannelContext>>();
-            ArrayList<InboundWebsocketChannelContext> listContext = new ArrayList<InboundWebsocketChannelContext>();
-            listContext.add(ctx);
-            subscriberPathMap.put(subscriberPath, listContext);
-            inboundSubscriberPathMap.put(inboundName, subscriberPathMap);
-        } else {
-            List<InboundWebsocketChannelContext> listContext = subscriberPathMap.get(subscriberPath);
-            if (listContext == null) {
-                listContext = new ArrayList<InboundWebsocketChannelContext>();
-                listContext.add(ctx);
-                subscriberPathMap.put(subscriberPath, listContext);
-            } else {
-                listContext.add(ctx);
+        // the maps are updated while holding the bin lock of the inbound, hence a subscriber path is never removed
+        // for being empty while a channel is being added to it
+        inboundSubscriberPathMap.compute(inboundName, (name, subscriberPathMap) -> {
+            if (subscriberPathMap == null) {
+                subscriberPathMap = new ConcurrentHashMap<String, SubscriberPath>();
             }
-        }
+            subscriberPathMap.computeIfAbsent(subscriberPath, path -> new SubscriberPath()).add(ctx);
+            return subscriberPathMap;
+        });
     }
 
     public void removeChannelContext(String inboundName, String subscriberPath, InboundWebsocketChannelContext ctx) {
-        ConcurrentHashMap<String, List<InboundWebsocketChannelContext>> subscriberPathMap = inboundSubscriberPathMap
-                .get(inboundName);
-        List<InboundWebsocketChannelContext> listContext = subscriberPathMap.get(subscriberPath);
-        for (Object context : listContext.toArray()) {
-            if (((InboundWebsocketChannelContext) context).getChannelIdentifier().equals(ctx.getChannelIdentifier())) {
-                if (log.isDebugEnabled()) {
+        inboundSubscriberPathMap.computeIfPresent(inboundName, (name, subscriberPathMap) -> {
+            subscriberPathMap.computeIfPresent(subscriberPath, (path, contexts) -> {
+                if (contexts.remove(ctx) && log.isDebugEnabled()) {
                     log.debug("Removing Channel Context with channelID: " + ctx.getChannelIdentifier()
                                       + ", in the Thread,ID: " + Thread.currentThread().getName() + ","
                                       + Thread.currentThread().getId());
                 }
-                listContext.remove(context);
-                break;
-            }
-        }
-        if (listContext.isEmpty()) {
-            listContext.clear();
-            subscriberPathMap.remove(subscriberPath);
-        }
-        if (subscriberPathMap.isEmpty()) {
-            subscriberPathMap.clear();
-            inboundSubscriberPathMap.remove(inboundName);
-        }
+                return contexts.isEmpty() ? null : contexts;
+            });
+            return subscriberPathMap.isEmpty() ? null : subscriberPathMap;
+        });
     }
 
     public List<InboundWebsocketChannelContext> getSubscriberPathChannelContextList(String inboundName,
                                                                                     String subscriberPath) {
-        return inboundSubscriberPathMap.get(inboundName).get(subscriberPath);
+        SubscriberPath contexts = getSubscriberPath(inboundName, subscriberPath);
+        return contexts == null ? new ArrayList<InboundWebsocketChannelContext>() : contexts.getChannelContexts();
     }
 
     public void broadcastOnSubscriberPath(WebSocketFrame frame, String inboundName, String subscriberPath) {
-        List<InboundWebsocketChannelContext> contextList = getSubscriberPathChannelContextList(inboundName,
-                                                                                               subscriberPath);
-        for (InboundWebsocketChannelContext context : contextList) {
-            WebSocketFrame duplicatedFrame = frame.duplicate();
-            context.writeToChannel(duplicatedFrame.retain());
+        SubscriberPath contexts = getSubscriberPath(inboundName, subscriberPath);
+        if (contexts != null) {
+            contexts.broadcast(frame, null);
         }
     }
 
     public void exclusiveBroadcastOnSubscriberPath(WebSocketFrame frame, String inboundName, String subscriberPath,
                                                    InboundWebsocketChannelContext ctx) {
-        List<InboundWebsocketChannelContext> contextList = getSubscriberPathChannelContextList(inboundName,
-                                                                                               subscriberPath);
-        for (InboundWebsocketChannelContext context : contextList) {
-            if (!context.getChannelIdentifier().equals(ctx.getChannelIdentifier())) {
-                WebSocketFrame duplicatedFrame = frame.duplicate();
-                context.writeToChannel(duplicatedFrame.retain());
+        SubscriberPath contexts = getSubscriberPath(inboundName, subscriberPath);
+        if (contexts != null) {
+            contexts.broadcast(frame, ctx.getChannelIdentifier());
+        }
+    }
+
+    private SubscriberPath getSubscriberPath(String inboundName, String subscriberPath) {
+        ConcurrentHashMap<String, SubscriberPath> subscriberPathMap = inboundSubscriberPathMap.get(inboundName);
+        return subscriberPathMap == null ? null : subscriberPathMap.get(subscriberPath);
+    }
+
+    /**
+     * Channels subscribed to a path, grouped by their event loops.
+     * <p>
+     * A broadcast hands a single task to each event loop, which writes the frame to all the channels of the loop and
+     * then flushes them, instead of a write and flush task per channel. The channels share the content of the frame,
+     * and a channel which is not writable, because its peer does not keep up, does not get the frame.
+     */
+    private static class SubscriberPath {
+
+        private final ConcurrentHashMap<EventLoop, ConcurrentHashMap<String, InboundWebsocketChannelContext>>
+                eventLoopContexts = new ConcurrentHashMap<>();
+
+        /**
+         * Updates are serialized by the subscriber path map of the inbound.
+         */
+        void add(InboundWebsocketChannelContext ctx) {
+            eventLoopContexts.computeIfAbsent(getEventLoop(ctx), eventLoop -> new ConcurrentHashMap<>())
+                    .put(ctx.getChannelIdentifier(), ctx);
+        }
+
+        boolean remove(InboundWebsocketChannelContext ctx) {
+            EventLoop eventLoop = getEventLoop(ctx);
+            Map<String, InboundWebsocketChannelContext> contexts = eventLoopContexts.get(eventLoop);
+            if (contexts == null || contexts.remove(ctx.getChannelIdentifier()) == null) {
+                return false;
             }
+            if (contexts.isEmpty()) {
+                eventLoopContexts.remove(eventLoop);
+            }
+            return true;
+        }
+
+        boolean isEmpty() {
+            return eventLoopContexts.isEmpty();
+        }
+
+        List<InboundWebsocketChannelContext> getChannelContexts() {
+            List<InboundWebsocketChannelContext> channelContexts = new ArrayList<>();
+            for (Map<String, InboundWebsocketChannelContext> contexts : eventLoopContexts.values()) {
+                channelContexts.addAll(contexts.values());
+            }
+            return channelContexts;
+        }
+
+        void broadcast(WebSocketFrame frame, String excludedChannelIdentifier) {
+            for (Map.Entry<EventLoop, ConcurrentHashMap<String, InboundWebsocketChannelContext>> entry :
+                    eventLoopContexts.entrySet()) {
+                Collection<InboundWebsocketChannelContext> contexts = entry.getValue().values();
+                WebSocketFrame eventLoopFrame = frame.retainedDuplicate();
+                try {
+                    entry.getKey().execute(() -> write(eventLoopFrame, contexts, excludedChannelIdentifier));
+                } catch (RejectedExecutionException e) {
+                    eventLoopFrame.release();
+                    if (log.isDebugEnabled()) {
+                        log.debug("Event loop is shut down, frame is not broadcast to its channels", e);
+                    }
+                }
+            }
+        }
+
+        private static void write(WebSocketFrame frame, Collection<InboundWebsocketChannelContext> contexts,
+                                  String excludedChannelIdentifier) {
+            try {
+                List<Channel> channels = new ArrayList<>(contexts.size());
+                int droppedCount = 0;
+                for (InboundWebsocketChannelContext context : contexts) {
+                    Channel channel = context.getChannelHandlerContext().channel();
+                    if (!channel.isActive() || context.getChannelIdentifier().equals(excludedChannelIdentifier)) {
+                        continue;
+                    }
+                    if (!channel.isWritable()) {
+                        droppedCount++;
+                        continue;
+                    }
+                    channel.write(frame.retainedDuplicate(), channel.voidPromise());
+                    channels.add(channel);
+                }
+                for (Channel channel : channels) {
+                    channel.flush();
+                }
+                if (droppedCount > 0 && log.isDebugEnabled()) {
+                    log.debug("Frame is dropped for " + droppedCount + " slow subscribers, in the Thread,ID: "
+                                      + Thread.currentThread().getName() + "," + Thread.currentThread().getId());
+                }
+            } finally {
+                frame.release();
+            }
+        }
+
+        private static EventLoop getEventLoop(InboundWebsocketChannelContext ctx) {
+            return ctx.getChannelHandlerContext().channel().eventLoop();
         }
     }
 
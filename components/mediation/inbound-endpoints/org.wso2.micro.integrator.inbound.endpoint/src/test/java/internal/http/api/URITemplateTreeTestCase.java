@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package internal.http.api;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.wso2.carbon.inbound.endpoint.internal.http.api.URITemplateTree;
+
+public class URITemplateTreeTestCase {
+
+    @Test
+    public void testLiteralAndVariableSegments() {
+
+        URITemplateTree<String> tree = new URITemplateTree<>();
+        Assert.assertTrue(tree.add("/", "root", 0, false));
+        Assert.assertTrue(tree.add("/applications", "applications", 1, false));
+        Assert.assertTrue(tree.add("/applications/{name}", "application", 2, false));
+        Assert.assertTrue(tree.add("/roles/{role}/users/{userId}", "roleUser", 3, false));
+
+        Assert.assertEquals("root", tree.match("/", value -> true).getValue());
+        Assert.assertEquals("applications", tree.match("/applications", value -> true).getValue());
+        URITemplateTree.Match<String> match = tree.match("/applications/sample_1.0.0", value -> true);
+        Assert.assertEquals("application", match.getValue());
+        Assert.assertEquals("sample_1.0.0", match.getVariables().get("name"));
+        match = tree.match("/roles/admin/users/bob", value -> true);
+        Assert.assertEquals("roleUser", match.getValue());
+        Assert.assertEquals("admin", match.getVariables().get("role"));
+        Assert.assertEquals("bob", match.getVariables().get("userId"));
+        Assert.assertNull(tree.match("/applications/sample/versions", value -> true));
+        Assert.assertNull(tree.match("/unknown", value -> true));
+    }
+
+    @Test
+    public void testLowestOrderWins() {
+
+        URITemplateTree<String> tree = new URITemplateTree<>();
+        tree.add("/users/{userId}", "user", 0, false);
+        tree.add("/users/admin", "admin", 1, false);
+        Assert.assertEquals("user", tree.match("/users/admin", value -> true).getValue());
+        Assert.assertEquals("admin", tree.match("/users/admin", "admin"::equals).getValue());
+
+        tree = new URITemplateTree<>();
+        tree.add("/users/admin", "admin", 0, false);
+        tree.add("/users/{userId}", "user", 1, false);
+        Assert.assertEquals("admin", tree.match("/users/admin", value -> true).getValue());
+        Assert.assertEquals("user", tree.match("/users/bob", value -> true).getValue());
+    }
+
+    @Test
+    public void testPrefixTemplates() {
+
+        URITemplateTree<String> tree = new URITemplateTree<>();
+        Assert.assertFalse(tree.add("/", "root", 0, true));
+        tree.add("/management", "management", 1, true);
+        tree.add("/metric-service/metrics", "metrics", 2, true);
+        Assert.assertEquals("management", tree.match("/management/applications", value -> true).getValue());
+        Assert.assertEquals("management", tree.match("/management", value -> true).getValue());
+        Assert.assertEquals("metrics", tree.match("/metric-service/metrics", value -> true).getValue());
+        Assert.assertNull(tree.match("/metric-service", value -> true));
+        Assert.assertNull(tree.match("/managements", value -> true));
+    }
+
+    @Test
+    public void testUnsupportedTemplates() {
+
+        URITemplateTree<String> tree = new URITemplateTree<>();
+        Assert.assertFalse(tree.add("/files/{+path}", "files", 0, false));
+        Assert.assertFalse(tree.add("/search{?q}", "search", 0, false));
+        Assert.assertFalse(tree.add("/users/user-{id}", "user", 0, false));
+        Assert.assertFalse(tree.add("/users/", "users", 0, false));
+        Assert.assertFalse(tree.add("/*", "all", 0, false));
+    }
+
+    @Test
+    public void testCanonicalPath() {
+
+        Assert.assertEquals("/applications", URITemplateTree.canonicalPath("/applications?q=abc"));
+        Assert.assertEquals("/", URITemplateTree.canonicalPath("/"));
+        Assert.assertNull(URITemplateTree.canonicalPath("/applications/"));
+        Assert.assertNull(URITemplateTree.canonicalPath("//applications"));
+        Assert.assertNull(URITemplateTree.canonicalPath("/users/a%20b"));
+        Assert.assertNull(URITemplateTree.canonicalPath("/users/{id}"));
+        Assert.assertNull(URITemplateTree.canonicalPath("applications"));
+    }
+}
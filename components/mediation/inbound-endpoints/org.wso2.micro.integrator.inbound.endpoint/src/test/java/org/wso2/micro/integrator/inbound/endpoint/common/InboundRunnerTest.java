@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.wso2.micro.integrator.inbound.endpoint.common;
+
+import org.apache.synapse.core.SynapseEnvironment;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.inbound.endpoint.common.InboundRunner;
+import org.wso2.carbon.inbound.endpoint.common.InboundTask;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InboundRunnerTest {
+
+    @Test
+    public void testFixedDelayPolling() throws InterruptedException {
+
+        CountingTask task = new CountingTask(false);
+        InboundRunner runner = new InboundRunner(task, 20, "carbon.super", false, false);
+        runner.start();
+        Thread.sleep(500);
+        runner.terminate();
+        runner.awaitTermination();
+        int executions = task.getExecutions();
+        Assert.assertTrue("Unexpected number of poll cycles: " + executions, executions >= 5 && executions <= 26);
+        Thread.sleep(100);
+        Assert.assertEquals("Poll cycles executed after termination.", executions, task.getExecutions());
+        Assert.assertEquals(executions, runner.getPollCount());
+    }
+
+    @Test
+    public void testFixedDelayDoesNotPauseAfterOverrun() throws InterruptedException {
+
+        CountingTask task = new CountingTask(false, 60);
+        InboundRunner runner = new InboundRunner(task, 50, "carbon.super", false, false);
+        runner.start();
+        Thread.sleep(650);
+        runner.terminate();
+        runner.awaitTermination();
+        // about 10 cycles of 60 ms back to back, against 6 if every cycle was followed by the interval
+        int executions = task.getExecutions();
+        Assert.assertTrue("Unexpected number of poll cycles: " + executions, executions >= 8);
+    }
+
+    @Test
+    public void testPausedRunnerDoesNotPoll() throws InterruptedException {
+
+        CountingTask task = new CountingTask(false);
+        InboundRunner runner = new InboundRunner(task, 10, "carbon.super", false, true);
+        runner.start();
+        Thread.sleep(200);
+        Assert.assertEquals(0, task.getExecutions());
+        runner.resume();
+        Thread.sleep(200);
+        Assert.assertTrue(task.getExecutions() > 0);
+        runner.terminate();
+        runner.awaitTermination();
+    }
+
+    @Test
+    public void testBackoffOnEmptyPolls() throws InterruptedException {
+
+        CountingTask withoutBackoff = new CountingTask(true);
+        CountingTask withBackoff = new CountingTask(true);
+        InboundRunner runner = new InboundRunner(withoutBackoff, 10, "carbon.super", false, false);
+        InboundRunner backoffRunner = new InboundRunner(withBackoff, 10, "carbon.super", false, false);
+        backoffRunner.setBackoff(400, 2);
+        runner.start();
+        backoffRunner.start();
+        Thread.sleep(600);
+        runner.terminate();
+        backoffRunner.terminate();
+        runner.awaitTermination();
+        backoffRunner.awaitTermination();
+        Assert.assertTrue(withBackoff.getExecutions() < withoutBackoff.getExecutions());
+        Assert.assertEquals(backoffRunner.getPollCount(), backoffRunner.getEmptyPollCount());
+    }
+
+    private static class CountingTask extends InboundTask {
+
+        private final AtomicInteger executions = new AtomicInteger();
+        private final boolean empty;
+        private final long duration;
+
+        CountingTask(boolean empty) {
+            this(empty, 0);
+        }
+
+        CountingTask(boolean empty, long duration) {
+            this.empty = empty;
+            this.duration = duration;
+        }
+
+        @Override
+        protected void taskExecute() {
+            executions.incrementAndGet();
+            if (duration > 0) {
+                try {
+                    Thread.sleep(duration);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        protected boolean isLastPollEmpty() {
+            return empty;
+        }
+
+        @Override
+        public Properties getInboundProperties() {
+            return new Properties();
+        }
+
+        @Override
+        public void init(SynapseEnvironment synapseEnvironment) {
+        }
+
+        @Override
+        public void destroy() {
+        }
+
+        int getExecutions() {
+            return executions.get();
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.wso2.micro.integrator.inbound.endpoint.protocol.grpc;
+
+import com.google.protobuf.Empty;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.StreamObserver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.inbound.endpoint.protocol.grpc.GRPCEventServiceDefinition;
+import org.wso2.carbon.inbound.endpoint.protocol.grpc.GRPCEventStream;
+import org.wso2.carbon.inbound.endpoint.protocol.grpc.InboundGRPCConstants;
+import org.wso2.carbon.inbound.endpoint.protocol.grpc.util.Event;
+import org.wso2.carbon.inbound.endpoint.protocol.grpc.util.EventServiceGrpc;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GRPCEventStreamTest {
+
+    private static final long RESPONSE_TIMEOUT = 1000;
+    private static final long WAIT_TIMEOUT = 10000;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @After
+    public void tearDown() {
+        if (channel != null) {
+            channel.shutdownNow();
+        }
+        if (server != null) {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testProcessStream() throws Exception {
+
+        start((event, eventObserver, expectResponse) -> {
+            Assert.assertTrue(expectResponse);
+            eventObserver.onNext(Event.newBuilder().setPayload(event.getPayload().toUpperCase()).build());
+            eventObserver.onCompleted();
+            return true;
+        }, 4, RESPONSE_TIMEOUT);
+        RecordingObserver<Event> responseObserver = new RecordingObserver<>();
+        StreamObserver<Event> requests = ClientCalls.asyncBidiStreamingCall(
+                channel.newCall(GRPCEventServiceDefinition.getProcessStreamMethod(), CallOptions.DEFAULT),
+                responseObserver);
+        for (int i = 0; i < 20; i++) {
+            requests.onNext(event("event-" + i, String.valueOf(i)));
+        }
+        requests.onCompleted();
+
+        List<Event> responses = responseObserver.awaitCompletion();
+        Assert.assertEquals(20, responses.size());
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals("EVENT-" + i, responses.get(i).getPayload());
+            Assert.assertEquals(String.valueOf(i), responses.get(i).getHeadersMap()
+                    .get(InboundGRPCConstants.HEADER_MAP_CORRELATION_ID_PARAMETER_NAME));
+        }
+    }
+
+    @Test
+    public void testConsumeStreamMediatesEventsInOrder() throws Exception {
+
+        List<String> payloads = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        start((event, eventObserver, expectResponse) -> {
+            Assert.assertFalse(expectResponse);
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            payloads.add(event.getPayload());
+            active.decrementAndGet();
+            return false;
+        }, 8, RESPONSE_TIMEOUT);
+        RecordingObserver<Empty> responseObserver = new RecordingObserver<>();
+        StreamObserver<Event> requests = ClientCalls.asyncClientStreamingCall(
+                channel.newCall(GRPCEventServiceDefinition.getConsumeStreamMethod(), CallOptions.DEFAULT),
+                responseObserver);
+        for (int i = 0; i < 100; i++) {
+            requests.onNext(event("event-" + i, null));
+        }
+        requests.onCompleted();
+
+        Assert.assertEquals(1, responseObserver.awaitCompletion().size());
+        Assert.assertEquals(100, payloads.size());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals("event-" + i, payloads.get(i));
+        }
+        Assert.assertEquals(1, maxActive.get());
+    }
+
+    @Test
+    public void testStreamRequestsEventsOnlyWithinWindow() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger injected = new AtomicInteger();
+        start((event, eventObserver, expectResponse) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            injected.incrementAndGet();
+            return false;
+        }, 2, RESPONSE_TIMEOUT);
+        RecordingObserver<Empty> responseObserver = new RecordingObserver<>();
+        ClientCallStreamObserver<Event> requests = (ClientCallStreamObserver<Event>) ClientCalls
+                .asyncClientStreamingCall(
+                        channel.newCall(GRPCEventServiceDefinition.getConsumeStreamMethod(), CallOptions.DEFAULT),
+                        responseObserver);
+        int sent = 0;
+        long deadline = System.currentTimeMillis() + 500;
+        while (System.currentTimeMillis() < deadline && sent < 10) {
+            if (requests.isReady()) {
+                requests.onNext(event("event-" + sent, null));
+                sent++;
+            } else {
+                Thread.sleep(10);
+            }
+        }
+        Assert.assertEquals("The client was allowed to send beyond the stream window.", 2, sent);
+
+        release.countDown();
+        for (; sent < 10; sent++) {
+            requests.onNext(event("event-" + sent, null));
+        }
+        requests.onCompleted();
+        responseObserver.awaitCompletion();
+        Assert.assertEquals(10, injected.get());
+    }
+
+    @Test
+    public void testFailedEventsAnsweredWithErrors() throws Exception {
+
+        start((event, eventObserver, expectResponse) -> {
+            int index = Integer.parseInt(event.getHeadersMap()
+                                                 .get(InboundGRPCConstants.HEADER_MAP_CORRELATION_ID_PARAMETER_NAME));
+            if (index % 3 == 1) {
+                eventObserver.onError(new Throwable("Invalid event " + index));
+                return false;
+            } else if (index % 3 == 2) {
+                throw new IllegalStateException("Mediation failed for event " + index);
+            }
+            eventObserver.onNext(Event.newBuilder().setPayload(event.getPayload()).build());
+            eventObserver.onCompleted();
+            return true;
+        }, 4, RESPONSE_TIMEOUT);
+        RecordingObserver<Event> responseObserver = new RecordingObserver<>();
+        StreamObserver<Event> requests = ClientCalls.asyncBidiStreamingCall(
+                channel.newCall(GRPCEventServiceDefinition.getProcessStreamMethod(), CallOptions.DEFAULT),
+                responseObserver);
+        for (int i = 0; i < 9; i++) {
+            requests.onNext(event("event-" + i, String.valueOf(i)));
+        }
+        requests.onCompleted();
+
+        List<Event> responses = responseObserver.awaitCompletion();
+        Assert.assertEquals("A failed event ended the stream.", 9, responses.size());
+        for (int i = 0; i < 9; i++) {
+            Event response = responses.get(i);
+            Assert.assertEquals(String.valueOf(i), response.getHeadersMap()
+                    .get(InboundGRPCConstants.HEADER_MAP_CORRELATION_ID_PARAMETER_NAME));
+            String error = response.getHeadersMap().get(InboundGRPCConstants.HEADER_MAP_ERROR_PARAMETER_NAME);
+            if (i % 3 == 0) {
+                Assert.assertNull(error);
+                Assert.assertEquals("event-" + i, response.getPayload());
+            } else if (i % 3 == 1) {
+                Assert.assertEquals("Invalid event " + i, error);
+            } else {
+                Assert.assertEquals("Mediation failed for event " + i, error);
+            }
+        }
+    }
+
+    @Test
+    public void testConsumeStreamContinuesAfterFailedEvent() throws Exception {
+
+        AtomicInteger injected = new AtomicInteger();
+        start((event, eventObserver, expectResponse) -> {
+            if (injected.incrementAndGet() % 2 == 0) {
+                eventObserver.onError(new Throwable("Invalid event"));
+            }
+            return false;
+        }, 4, RESPONSE_TIMEOUT);
+        RecordingObserver<Empty> responseObserver = new RecordingObserver<>();
+        StreamObserver<Event> requests = ClientCalls.asyncClientStreamingCall(
+                channel.newCall(GRPCEventServiceDefinition.getConsumeStreamMethod(), CallOptions.DEFAULT),
+                responseObserver);
+        for (int i = 0; i < 10; i++) {
+            requests.onNext(event("event-" + i, null));
+        }
+        requests.onCompleted();
+
+        Assert.assertEquals(1, responseObserver.awaitCompletion().size());
+        Assert.assertEquals(10, injected.get());
+    }
+
+    @Test
+    public void testStreamCompletesWithoutWaitingForUnsentResponses() throws Exception {
+
+        // the response timeout is longer than the test waits, hence the stream must not wait for it
+        start((event, eventObserver, expectResponse) -> false, 4, TimeUnit.MINUTES.toMillis(5));
+        RecordingObserver<Event> responseObserver = new RecordingObserver<>();
+        StreamObserver<Event> requests = ClientCalls.asyncBidiStreamingCall(
+                channel.newCall(GRPCEventServiceDefinition.getProcessStreamMethod(), CallOptions.DEFAULT),
+                responseObserver);
+        for (int i = 0; i < 10; i++) {
+            requests.onNext(event("event-" + i, String.valueOf(i)));
+        }
+        requests.onCompleted();
+
+        Assert.assertTrue(responseObserver.awaitCompletion().isEmpty());
+    }
+
+    @Test
+    public void testStreamWaitsForPendingResponses() throws Exception {
+
+        List<StreamObserver<Event>> pending = Collections.synchronizedList(new ArrayList<>());
+        start((event, eventObserver, expectResponse) -> {
+            pending.add(eventObserver);
+            return true;
+        }, 4, RESPONSE_TIMEOUT);
+        RecordingObserver<Event> responseObserver = new RecordingObserver<>();
+        StreamObserver<Event> requests = ClientCalls.asyncBidiStreamingCall(
+                channel.newCall(GRPCEventServiceDefinition.getProcessStreamMethod(), CallOptions.DEFAULT),
+                responseObserver);
+        requests.onNext(event("event-0", "0"));
+        requests.onCompleted();
+        long deadline = System.currentTimeMillis() + WAIT_TIMEOUT;
+        while (pending.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertFalse("The stream completed before the pending response was sent.",
+                           responseObserver.completed.await(200, TimeUnit.MILLISECONDS));
+
+        pending.get(0).onNext(Event.newBuilder().setPayload("response-0").build());
+        pending.get(0).onCompleted();
+        List<Event> responses = responseObserver.awaitCompletion();
+        Assert.assertEquals(1, responses.size());
+        Assert.assertEquals("response-0", responses.get(0).getPayload());
+    }
+
+    private void start(GRPCEventStream.EventInjector injector, int window, long responseTimeout)
+            throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+                .addService(GRPCEventServiceDefinition.bindService(new EventServiceGrpc.EventServiceImplBase() {
+                }, injector, window, responseTimeout)).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    private static Event event(String payload, String correlationId) {
+        Event.Builder builder = Event.newBuilder().setPayload(payload)
+                .putHeaders(InboundGRPCConstants.HEADER_MAP_CONTENT_TYPE_PARAMETER_NAME,
+                            InboundGRPCConstants.CONTENT_TYPE_TEXT);
+        if (correlationId != null) {
+            builder.putHeaders(InboundGRPCConstants.HEADER_MAP_CORRELATION_ID_PARAMETER_NAME, correlationId);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Records the responses of a call, which are checked once the call completed.
+     */
+    private static class RecordingObserver<T> implements StreamObserver<T> {
+
+        private final List<T> responses = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Throwable error;
+
+        List<T> awaitCompletion() throws InterruptedException {
+            Assert.assertTrue("The stream did not complete.", completed.await(WAIT_TIMEOUT, TimeUnit.MILLISECONDS));
+            if (error != null) {
+                throw new AssertionError("Stream failed: " + error.getMessage(), error);
+            }
+            return responses;
+        }
+
+        @Override
+        public void onNext(T value) {
+            responses.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            completed.countDown();
+        }
+
+        @Override
+        public void onCompleted() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.wso2.micro.integrator.inbound.endpoint.protocol.hl7;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.inbound.endpoint.protocol.hl7.codec.MLLPFrameDecoder;
+import org.wso2.carbon.inbound.endpoint.protocol.hl7.core.MLLProtocolException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+
+public class MLLPFrameDecoderTest {
+
+    private static final Log log = LogFactory.getLog(MLLPFrameDecoderTest.class);
+
+    private static final String ADT_A01 = "MSH|^~\\&|ADT1|GOOD HEALTH HOSPITAL|GHH LAB, INC.|GOOD HEALTH HOSPITAL|"
+            + "198808181126|SECURITY|ADT^A01^ADT_A01|MSG00001|P|2.5\r"
+            + "EVN|A01|200708181123||\r"
+            + "PID|1||PATID1234^^^GOOD HEALTH HOSPITAL^MR~123456789^^^USSSA^SS||EVERYMAN^ADAM^A^III||19610615|M||"
+            + "C|2222 HOME STREET^^GREENSBORO^NC^27401-1020|GL|(555) 555-2004|(555)555-2004||S||"
+            + "PATID12345001^2^M10^ADT1^AN^A|444333333|987654^NC|\r"
+            + "NK1|1|NUCLEAR^NELDA^W|SPO^SPOUSE||||NK^NEXT OF KIN\r"
+            + "PV1|1|I|2000^2012^01||||004777^ATTEND^AARON^A|||SUR||||ADM|A0|\r";
+
+    private final CharsetDecoder charsetDecoder = StandardCharsets.UTF_8.newDecoder();
+
+    @Test
+    public void testSingleChunk() throws Exception {
+
+        MLLPFrameDecoder decoder = new MLLPFrameDecoder();
+        ByteBuffer chunk = ByteBuffer.wrap(frame(ADT_A01));
+        Assert.assertTrue(decoder.decode(chunk));
+        Assert.assertFalse(chunk.hasRemaining());
+        Assert.assertEquals(ADT_A01, decoder.decodeFrame(charsetDecoder));
+    }
+
+    @Test
+    public void testEndBlockSplitAcrossChunks() throws Exception {
+
+        byte[] bytes = frame(ADT_A01);
+        MLLPFrameDecoder decoder = new MLLPFrameDecoder();
+        Assert.assertFalse(decoder.decode(ByteBuffer.wrap(bytes, 0, bytes.length - 1)));
+        Assert.assertEquals(MLLPFrameDecoder.READ_CONTENT, decoder.getState());
+        Assert.assertTrue(decoder.decode(ByteBuffer.wrap(bytes, bytes.length - 1, 1)));
+        Assert.assertEquals(ADT_A01, decoder.decodeFrame(charsetDecoder));
+    }
+
+    @Test
+    public void testEndBlockInsideContent() throws Exception {
+
+        String content = "MSH|^~\\&|A\u001CB|C\r";
+        byte[] bytes = frame(content);
+        int split = content.indexOf('\u001C') + 2;
+        MLLPFrameDecoder decoder = new MLLPFrameDecoder();
+        Assert.assertFalse(decoder.decode(ByteBuffer.wrap(bytes, 0, split)));
+        Assert.assertTrue(decoder.decode(ByteBuffer.wrap(bytes, split, bytes.length - split)));
+        Assert.assertEquals(content, decoder.decodeFrame(charsetDecoder));
+    }
+
+    @Test(expected = MLLProtocolException.class)
+    public void testMissingStartBlock() throws Exception {
+
+        new MLLPFrameDecoder().decode(ByteBuffer.wrap(ADT_A01.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testBufferGrowsAndIsReused() throws Exception {
+
+        MLLPFrameDecoder decoder = new MLLPFrameDecoder(16);
+        byte[] bytes = frame(ADT_A01);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertFalse(decoder.isFrameComplete());
+            for (int offset = 0; offset < bytes.length; offset += 7) {
+                decoder.decode(ByteBuffer.wrap(bytes, offset, Math.min(7, bytes.length - offset)));
+            }
+            Assert.assertTrue(decoder.isFrameComplete());
+            Assert.assertEquals(ADT_A01.length(), decoder.getFrame().remaining());
+            Assert.assertEquals(ADT_A01, decoder.decodeFrame(charsetDecoder));
+            decoder.reset();
+        }
+    }
+
+    @Test
+    public void testDecodeThroughput() throws Exception {
+
+        byte[] bytes = frame(ADT_A01);
+        int messages = 20000;
+        for (int chunkSize : new int[]{64, 512, 8192}) {
+            MLLPFrameDecoder decoder = new MLLPFrameDecoder();
+            long start = System.nanoTime();
+            for (int i = 0; i < messages; i++) {
+                for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+                    decoder.decode(ByteBuffer.wrap(bytes, offset, Math.min(chunkSize, bytes.length - offset)));
+                }
+                Assert.assertTrue(decoder.isFrameComplete());
+                decoder.decodeFrame(charsetDecoder);
+                decoder.reset();
+            }
+            long elapsed = Math.max(1, System.nanoTime() - start);
+            log.info("Decoded " + messages + " ADT^A01 frames in chunks of " + chunkSize + " bytes at "
+                             + (messages * 1000000000L / elapsed) + " messages per second.");
+        }
+    }
+
+    private static byte[] frame(String content) {
+        byte[] payload = content.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[payload.length + 3];
+        bytes[0] = 0x0B;
+        System.arraycopy(payload, 0, bytes, 1, payload.length);
+        bytes[bytes.length - 2] = 0x1C;
+        bytes[bytes.length - 1] = 0x0D;
+        return bytes;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.wso2.micro.integrator.inbound.endpoint.protocol.mqtt;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.inbound.endpoint.protocol.mqtt.MqttMessageDispatcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class MqttMessageDispatcherTest {
+
+    private static final long QUEUE_TIMEOUT = 5000;
+
+    @Test
+    public void testPerTopicOrdering() {
+
+        MqttMessageDispatcher dispatcher = new MqttMessageDispatcher("test", 4, 10, QUEUE_TIMEOUT);
+        Map<String, List<Integer>> received = new HashMap<>();
+        String[] topics = {"a", "b", "c", "d", "e"};
+        for (String topic : topics) {
+            received.put(topic, Collections.synchronizedList(new ArrayList<>()));
+        }
+        for (int i = 0; i < 200; i++) {
+            for (String topic : topics) {
+                int sequence = i;
+                dispatcher.dispatch(topic, () -> received.get(topic).add(sequence));
+            }
+        }
+        dispatcher.shutdown();
+        for (String topic : topics) {
+            List<Integer> messages = received.get(topic);
+            Assert.assertEquals(200, messages.size());
+            for (int i = 0; i < 200; i++) {
+                Assert.assertEquals(Integer.valueOf(i), messages.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testDispatchBlocksWhenQueueIsFull() throws InterruptedException {
+
+        MqttMessageDispatcher dispatcher = new MqttMessageDispatcher("test", 1, 1, QUEUE_TIMEOUT);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch dispatched = new CountDownLatch(1);
+        dispatcher.dispatch("a", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        dispatcher.dispatch("a", () -> { });
+        Thread producer = new Thread(() -> {
+            dispatcher.dispatch("a", () -> { });
+            dispatched.countDown();
+        });
+        producer.start();
+        Assert.assertFalse("Dispatch did not wait for the worker.", dispatched.await(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        Assert.assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void testDispatchRejectedAfterQueueTimeout() throws InterruptedException {
+
+        MqttMessageDispatcher dispatcher = new MqttMessageDispatcher("test", 1, 1, 100);
+        CountDownLatch release = blockLane(dispatcher);
+        long start = System.currentTimeMillis();
+        try {
+            dispatcher.dispatch("a", () -> { });
+            Assert.fail("Dispatch to a full queue was not rejected after the queue timeout.");
+        } catch (RejectedExecutionException expected) {
+            Assert.assertTrue(System.currentTimeMillis() - start >= 100);
+        } finally {
+            release.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDispatchWaitsWithoutQueueTimeout() throws InterruptedException {
+
+        MqttMessageDispatcher dispatcher = new MqttMessageDispatcher("test", 1, 1, 0);
+        CountDownLatch release = blockLane(dispatcher);
+        AtomicReference<Throwable> rejection = new AtomicReference<>();
+        CountDownLatch dispatched = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                dispatcher.dispatch("a", () -> { });
+            } catch (RejectedExecutionException e) {
+                rejection.set(e);
+            }
+            dispatched.countDown();
+        });
+        producer.start();
+        Assert.assertFalse("Dispatch stopped waiting for a full queue.", dispatched.await(500, TimeUnit.MILLISECONDS));
+        release.countDown();
+        Assert.assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        Assert.assertNull(rejection.get());
+        Assert.assertFalse(dispatcher.isShutdown());
+        dispatcher.shutdown();
+        Assert.assertTrue(dispatcher.isShutdown());
+    }
+
+    @Test
+    public void testWaitingDispatchRejectedOnShutdown() throws InterruptedException {
+
+        MqttMessageDispatcher dispatcher = new MqttMessageDispatcher("test", 1, 1, 0);
+        CountDownLatch release = blockLane(dispatcher);
+        AtomicReference<Throwable> rejection = new AtomicReference<>();
+        CountDownLatch rejected = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                dispatcher.dispatch("a", () -> { });
+            } catch (RejectedExecutionException e) {
+                rejection.set(e);
+            }
+            rejected.countDown();
+        });
+        producer.start();
+        Assert.assertFalse(rejected.await(200, TimeUnit.MILLISECONDS));
+
+        Thread shutdown = new Thread(dispatcher::shutdown);
+        shutdown.start();
+        Assert.assertTrue("Dispatch kept waiting after the shutdown.", rejected.await(5, TimeUnit.SECONDS));
+        Assert.assertNotNull(rejection.get());
+        release.countDown();
+        shutdown.join(5000);
+    }
+
+    /**
+     * Occupies the worker of the single lane and fills its queue, until the returned latch is released.
+     */
+    private static CountDownLatch blockLane(MqttMessageDispatcher dispatcher) {
+
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.dispatch("a", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        dispatcher.dispatch("a", () -> { });
+        return release;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.wso2.micro.integrator.inbound.endpoint.protocol.rabbitmq;
+
+import com.rabbitmq.client.AlreadyClosedException;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ShutdownSignalException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.inbound.endpoint.protocol.rabbitmq.RabbitMQAckBatcher;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RabbitMQAckBatcherTest {
+
+    private final List<String> frames = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicInteger failingAcks = new AtomicInteger();
+
+    @Test
+    public void testAcknowledgeWithoutBatching() throws IOException {
+
+        RabbitMQAckBatcher batcher = new RabbitMQAckBatcher(createChannel(), 1, 100);
+        batcher.ack(1);
+        batcher.ack(2);
+        Assert.assertEquals(2, frames.size());
+        Assert.assertEquals("ack:1:false", frames.get(0));
+        Assert.assertEquals("ack:2:false", frames.get(1));
+        batcher.close();
+    }
+
+    @Test
+    public void testAcknowledgeInBatches() throws IOException {
+
+        RabbitMQAckBatcher batcher = new RabbitMQAckBatcher(createChannel(), 3, 10000);
+        for (long tag = 1; tag <= 7; tag++) {
+            batcher.ack(tag);
+        }
+        Assert.assertEquals(2, frames.size());
+        Assert.assertEquals("ack:3:true", frames.get(0));
+        Assert.assertEquals("ack:6:true", frames.get(1));
+        Assert.assertEquals(1, batcher.getPendingAcks());
+        batcher.close();
+        Assert.assertEquals("ack:7:true", frames.get(2));
+    }
+
+    @Test
+    public void testPendingAcksFlushedBeforeReject() throws IOException {
+
+        RabbitMQAckBatcher batcher = new RabbitMQAckBatcher(createChannel(), 10, 10000);
+        batcher.ack(1);
+        batcher.ack(2);
+        batcher.reject(3, true);
+        batcher.ack(4);
+        batcher.close();
+        Assert.assertEquals(3, frames.size());
+        Assert.assertEquals("ack:2:true", frames.get(0));
+        Assert.assertEquals("reject:3:true", frames.get(1));
+        Assert.assertEquals("ack:4:true", frames.get(2));
+    }
+
+    @Test
+    public void testBatchFlushedAfterInterval() throws Exception {
+
+        RabbitMQAckBatcher batcher = new RabbitMQAckBatcher(createChannel(), 100, 50);
+        batcher.ack(1);
+        batcher.ack(2);
+        Thread.sleep(500);
+        Assert.assertEquals(1, frames.size());
+        Assert.assertEquals("ack:2:true", frames.get(0));
+        batcher.close();
+    }
+
+    @Test
+    public void testPeriodicFlushContinuesAfterClosedChannel() throws Exception {
+
+        RabbitMQAckBatcher batcher = new RabbitMQAckBatcher(createChannel(), 100, 50);
+        failingAcks.set(1);
+        batcher.ack(1);
+        batcher.ack(2);
+        Thread.sleep(500);
+        Assert.assertEquals(0, frames.size());
+        Assert.assertEquals(0, batcher.getPendingAcks());
+        batcher.ack(3);
+        Thread.sleep(500);
+        Assert.assertEquals(1, frames.size());
+        Assert.assertEquals("ack:3:true", frames.get(0));
+        batcher.close();
+    }
+
+    @Test
+    public void testBatchLimitedByPrefetchCount() throws IOException {
+
+        RabbitMQAckBatcher batcher = new RabbitMQAckBatcher(createChannel(), 100, 10000);
+        batcher.setPrefetchCount(4);
+        batcher.ack(1);
+        batcher.ack(2);
+        Assert.assertEquals(1, frames.size());
+        Assert.assertEquals("ack:2:true", frames.get(0));
+        batcher.close();
+    }
+
+    private Channel createChannel() {
+        return (Channel) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Channel.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "basicAck":
+                            if (failingAcks.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                                throw new AlreadyClosedException(new ShutdownSignalException(false, false, null, null));
+                            }
+                            frames.add("ack:" + args[0] + ":" + args[1]);
+                            return null;
+                        case "basicReject":
+                            frames.add("reject:" + args[0] + ":" + args[1]);
+                            return null;
+                        case "isOpen":
+                            return true;
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.wso2.micro.integrator.inbound.endpoint.protocol.websocket;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.inbound.endpoint.protocol.websocket.InboundWebsocketChannelContext;
+import org.wso2.carbon.inbound.endpoint.protocol.websocket.management.WebsocketSubscriberPathManager;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WebsocketSubscriberPathManagerTest {
+
+    private static final Log log = LogFactory.getLog(WebsocketSubscriberPathManagerTest.class);
+
+    private static final String SUBSCRIBER_PATH = "/stocks";
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+
+    private final WebsocketSubscriberPathManager pathManager = WebsocketSubscriberPathManager.getInstance();
+    private final Map<SocketAddress, AtomicInteger> receivedFrames = new ConcurrentHashMap<>();
+    private final AtomicInteger totalReceivedFrames = new AtomicInteger();
+    private final List<InboundWebsocketChannelContext> contexts = new ArrayList<>();
+    private String inboundName;
+    private LocalAddress address;
+    private EventLoopGroup group;
+    private Channel serverChannel;
+
+    @Before
+    public void setUp() throws Exception {
+
+        inboundName = "WebsocketInbound-" + UUID.randomUUID();
+        address = new LocalAddress(inboundName);
+        group = new DefaultEventLoopGroup(4);
+        serverChannel = new ServerBootstrap().group(group).channel(LocalServerChannel.class)
+                .childHandler(new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                        receivedFrames.computeIfAbsent(ctx.channel().remoteAddress(), peer -> new AtomicInteger())
+                                .incrementAndGet();
+                        totalReceivedFrames.incrementAndGet();
+                        ReferenceCountUtil.release(msg);
+                    }
+                }).bind(address).sync().channel();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+
+        for (InboundWebsocketChannelContext context : contexts) {
+            pathManager.removeChannelContext(inboundName, SUBSCRIBER_PATH, context);
+        }
+        serverChannel.close().sync();
+        group.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+
+    @Test
+    public void testBroadcastAndExclusiveBroadcast() throws Exception {
+
+        subscribe(10);
+        WebSocketFrame frame = new TextWebSocketFrame("tick");
+        pathManager.broadcastOnSubscriberPath(frame, inboundName, SUBSCRIBER_PATH);
+        awaitReceivedFrames(10);
+        pathManager.exclusiveBroadcastOnSubscriberPath(frame, inboundName, SUBSCRIBER_PATH, contexts.get(0));
+        awaitReceivedFrames(19);
+
+        Assert.assertEquals(1, receivedFrames(contexts.get(0)));
+        for (InboundWebsocketChannelContext context : contexts.subList(1, contexts.size())) {
+            Assert.assertEquals(2, receivedFrames(context));
+        }
+        // the subscribers share the content of the frame, and release it once written
+        awaitReferenceCount(frame, 1);
+        frame.release();
+    }
+
+    @Test
+    public void testSlowSubscriberIsSkipped() throws Exception {
+
+        subscribe(5);
+        Channel slowChannel = contexts.get(0).getChannelHandlerContext().channel();
+        slowChannel.eventLoop().submit(() -> slowChannel.unsafe().outboundBuffer()
+                .setUserDefinedWritability(1, false)).sync();
+
+        WebSocketFrame frame = new TextWebSocketFrame("tick");
+        pathManager.broadcastOnSubscriberPath(frame, inboundName, SUBSCRIBER_PATH);
+        awaitReceivedFrames(4);
+        Assert.assertEquals(0, receivedFrames(contexts.get(0)));
+        awaitReferenceCount(frame, 1);
+        frame.release();
+    }
+
+    @Test
+    public void testRemoveChannelContext() throws Exception {
+
+        subscribe(3);
+        Assert.assertEquals(3, pathManager.getSubscriberPathChannelContextList(inboundName, SUBSCRIBER_PATH).size());
+        pathManager.removeChannelContext(inboundName, SUBSCRIBER_PATH, contexts.get(1));
+        List<InboundWebsocketChannelContext> subscribers =
+                pathManager.getSubscriberPathChannelContextList(inboundName, SUBSCRIBER_PATH);
+        Assert.assertEquals(2, subscribers.size());
+        Assert.assertFalse(subscribers.contains(contexts.get(1)));
+
+        pathManager.removeChannelContext(inboundName, SUBSCRIBER_PATH, contexts.get(0));
+        pathManager.removeChannelContext(inboundName, SUBSCRIBER_PATH, contexts.get(2));
+        Assert.assertTrue(pathManager.getSubscriberPathChannelContextList(inboundName, SUBSCRIBER_PATH).isEmpty());
+        WebSocketFrame frame = new TextWebSocketFrame("tick");
+        pathManager.broadcastOnSubscriberPath(frame, inboundName, SUBSCRIBER_PATH);
+        Assert.assertEquals(1, frame.refCnt());
+        frame.release();
+    }
+
+    @Test
+    public void testFanOutToTenThousandChannels() throws Exception {
+
+        int channels = 10000;
+        int broadcasts = 50;
+        subscribe(channels);
+        WebSocketFrame frame = new TextWebSocketFrame("{\"symbol\":\"WSO2\",\"price\":100.25}");
+        long start = System.nanoTime();
+        for (int i = 0; i < broadcasts; i++) {
+            pathManager.broadcastOnSubscriberPath(frame, inboundName, SUBSCRIBER_PATH);
+        }
+        awaitReceivedFrames(channels * broadcasts);
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        log.info("Broadcast " + broadcasts + " frames to " + channels + " channels at "
+                         + ((long) channels * broadcasts * 1000000000L / elapsed) + " frames per second.");
+        for (InboundWebsocketChannelContext context : contexts) {
+            Assert.assertEquals(broadcasts, receivedFrames(context));
+        }
+        awaitReferenceCount(frame, 1);
+        frame.release();
+    }
+
+    private void subscribe(int channels) throws Exception {
+
+        Bootstrap bootstrap = new Bootstrap().group(group).channel(LocalChannel.class)
+                .handler(new ChannelInboundHandlerAdapter());
+        for (int i = 0; i < channels; i++) {
+            Channel channel = bootstrap.connect(address).sync().channel();
+            InboundWebsocketChannelContext context =
+                    new InboundWebsocketChannelContext(channel.pipeline().firstContext());
+            pathManager.addChannelContext(inboundName, SUBSCRIBER_PATH, context);
+            contexts.add(context);
+        }
+    }
+
+    private int receivedFrames(InboundWebsocketChannelContext context) {
+
+        AtomicInteger count = receivedFrames.get(context.getChannelHandlerContext().channel().localAddress());
+        return count == null ? 0 : count.get();
+    }
+
+    private void awaitReceivedFrames(int count) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (totalReceivedFrames.get() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(count, totalReceivedFrames.get());
+    }
+
+    private static void awaitReferenceCount(WebSocketFrame frame, int count) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (frame.refCnt() != count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(count, frame.refCnt());
+    }
+}
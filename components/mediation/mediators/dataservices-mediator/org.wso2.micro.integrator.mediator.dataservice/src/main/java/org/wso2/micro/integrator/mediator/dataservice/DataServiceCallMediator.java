@@ -24,6 +24,7 @@ import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMFactory;
 import org.apache.axiom.om.OMNamespace;
+import org.apache.axiom.om.OMSourcedElement;
 import org.apache.axiom.om.impl.OMNamespaceImpl;
 import org.apache.axiom.soap.SOAP11Constants;
 import org.apache.axiom.soap.SOAP12Constants;
@@ -208,7 +209,7 @@ public class DataServiceCallMediator extends AbstractMediator {
         try {
             OMElement omElement = DataServiceProcessor.dispatch(axis2MessageContext);
             if (synLog.isTraceOrDebugEnabled()) {
-                synLog.traceOrDebug("The result OMElement from the dataservice : " + omElement);
+                synLog.traceOrDebug("The result OMElement from the dataservice : " + describeResult(omElement));
             }
             //set the result payload as property according to the target type
             if (DataServiceCallMediatorConstants.TARGET_PROPERTY_TYPE.equals(targetType)) {
@@ -221,8 +222,7 @@ public class DataServiceCallMediator extends AbstractMediator {
                 }
                 messageContext.setProperty(targetPropertyName, omElement);
                 if (synLog.isTraceOrDebugEnabled()) {
-                    synLog.traceOrDebug("The result property : " + messageContext.
-                            getProperty(targetPropertyName));
+                    synLog.traceOrDebug("The result property : " + describeResult(omElement));
                 }
             } else if (omElement != null) {
                 //	set the result payload as envelope in to message context according to the target type
@@ -255,6 +255,21 @@ public class DataServiceCallMediator extends AbstractMediator {
         }
     }
 
+    /**
+     * Describes the result for logging. A result which is still streamed from the data service is not expanded for
+     * logging, as that would run the query and hold the whole result in memory.
+     *
+     * @param result result of the data service
+     * @return the result, or its name if it is streamed
+     */
+    private Object describeResult(OMElement result) {
+
+        if (result instanceof OMSourcedElement && !((OMSourcedElement) result).isExpanded()) {
+            return "streamed element " + result.getQName();
+        }
+        return result;
+    }
+
     private void addOperations(Operations operations, OMElement payload, MessageContext msgCtx, String operationsType) {
 
         for (Object operationObj : operations.getOperations()) {
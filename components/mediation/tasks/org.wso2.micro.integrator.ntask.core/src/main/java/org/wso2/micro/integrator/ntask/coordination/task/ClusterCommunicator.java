@@ -20,6 +20,7 @@ package org.wso2.micro.integrator.ntask.coordination.task;
 
 import org.wso2.micro.integrator.coordination.ClusterCoordinator;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,17 +32,33 @@ import java.util.List;
 public class ClusterCommunicator {
 
     private ClusterCoordinator clusterCoordinator;
+    private List<String> nodeIds;
 
     public ClusterCommunicator(ClusterCoordinator coordinator) {
         this.clusterCoordinator = coordinator;
     }
 
+    /**
+     * Creates a communicator which provides the given node ids instead of reading them from the cluster, so that a
+     * batch of tasks can be resolved with a single read of the cluster nodes.
+     *
+     * @param coordinator - The cluster coordinator.
+     * @param nodeIds     - Ids of the nodes in the cluster.
+     */
+    public ClusterCommunicator(ClusterCoordinator coordinator, List<String> nodeIds) {
+        this.clusterCoordinator = coordinator;
+        this.nodeIds = nodeIds;
+    }
+
     /**
      * Provides all the ids of the nodes in the cluster.
      *
      * @return - List of nodes ids.
      */
     public List<String> getAllNodeIds() {
+        if (nodeIds != null) {
+            return new ArrayList<>(nodeIds);
+        }
         return clusterCoordinator.getAllNodeIds();
     }
 
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.ntask.coordination.task.resolver;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.micro.integrator.ntask.coordination.task.ClusterCommunicator;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * This resolver places the nodes of the cluster on a hash ring and resolves a task to the first node following the
+ * hash of the task name. A task is always resolved to the same node as long as that node is in the cluster, and when
+ * a node leaves the cluster only its tasks are resolved to other nodes, spread over the remaining nodes.
+ * Each node is placed on the ring several times ( "virtual_node_count", defaults to 64 ) to balance the tasks.
+ */
+public class ConsistentHashResolver implements TaskLocationResolver {
+
+    private static final Log log = LogFactory.getLog(ConsistentHashResolver.class);
+
+    private static final String VIRTUAL_NODE_COUNT_PROPERTY = "virtual_node_count";
+    private static final int DEFAULT_VIRTUAL_NODE_COUNT = 64;
+
+    private int virtualNodeCount = DEFAULT_VIRTUAL_NODE_COUNT;
+    private volatile HashRing hashRing;
+
+    @Override
+    public void init(Map<String, String> properties) {
+
+        String virtualNodes = properties.get(VIRTUAL_NODE_COUNT_PROPERTY);
+        if (virtualNodes == null) {
+            return;
+        }
+        try {
+            virtualNodeCount = Integer.parseInt(virtualNodes.trim());
+        } catch (NumberFormatException ex) {
+            log.error("Specify an int value for " + VIRTUAL_NODE_COUNT_PROPERTY + ". Default value of "
+                              + DEFAULT_VIRTUAL_NODE_COUNT + " will be used.", ex);
+        }
+        if (virtualNodeCount < 1) {
+            log.error(VIRTUAL_NODE_COUNT_PROPERTY + " should be positive. Default value of "
+                              + DEFAULT_VIRTUAL_NODE_COUNT + " will be used.");
+            virtualNodeCount = DEFAULT_VIRTUAL_NODE_COUNT;
+        }
+    }
+
+    @Override
+    public String getTaskNodeLocation(ClusterCommunicator clusterCommunicator, String taskName) {
+
+        List<String> allNodesAvailableInCluster = clusterCommunicator.getAllNodeIds();
+        if (allNodesAvailableInCluster.isEmpty()) {
+            log.warn("No nodes are registered to the cluster successfully yet.");
+            return null;
+        }
+        HashRing ring = hashRing;
+        Set<String> nodes = new HashSet<>(allNodesAvailableInCluster);
+        if (ring == null || !ring.nodes.equals(nodes)) {
+            // the ring is rebuilt only when the cluster membership changes
+            ring = new HashRing(nodes, virtualNodeCount);
+            hashRing = ring;
+        }
+        String destinedNode = ring.getNode(taskName);
+        if (log.isDebugEnabled()) {
+            log.debug("The task : " + taskName + ", is resolved to node with id : " + destinedNode);
+        }
+        return destinedNode;
+    }
+
+    private static long hash(String key) {
+
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform is required to support MD5
+            throw new IllegalStateException("MD5 message digest is not available.", e);
+        }
+    }
+
+    /**
+     * Immutable ring of the nodes of the cluster at a given time.
+     */
+    private static class HashRing {
+
+        private final Set<String> nodes;
+        private final TreeMap<Long, String> ring = new TreeMap<>();
+
+        HashRing(Set<String> nodes, int virtualNodeCount) {
+
+            this.nodes = nodes;
+            for (String node : nodes) {
+                for (int i = 0; i < virtualNodeCount; i++) {
+                    ring.put(hash(node + "#" + i), node);
+                }
+            }
+        }
+
+        String getNode(String taskName) {
+
+            SortedMap<Long, String> tail = ring.tailMap(hash(taskName));
+            return tail.isEmpty() ? ring.firstEntry().getValue() : tail.get(tail.firstKey());
+        }
+    }
+}
@@ -86,9 +86,13 @@ public class CoordinatedTaskScheduler implements Runnable {
     public void run() {
 
         try {
-            pauseDeactivatedTasks();
-            scheduleAssignedTasks(CoordinatedTask.States.ACTIVATED);
+            // tasks of this node which need to be paused or scheduled are read with a single query per cycle
+            Map<CoordinatedTask.States, List<String>> pendingTasks = taskStore.retrievePendingTaskNames(localNodeId);
+            pauseDeactivatedTasks(pendingTasks.get(CoordinatedTask.States.DEACTIVATED));
+            scheduleAssignedTasks(pendingTasks.get(CoordinatedTask.States.ACTIVATED),
+                                  CoordinatedTask.States.ACTIVATED);
             checkInterrupted();
+            List<String> tasksToBeScheduled = pendingTasks.get(CoordinatedTask.States.NONE);
             if (clusterCoordinator.isLeader()) {
                 // cleaning will run for each n times resolving frequency . ( n = 0,1,2 ... ).
                 if (resolveCount % resolvingFrequency == 0) {
@@ -99,12 +103,15 @@ public class CoordinatedTaskScheduler implements Runnable {
                 LOG.debug("This node is leader hence resolving unassigned tasks.");
                 addFailedTasks();
                 resolveCount++;
-                resolveUnassignedNotCompletedTasksAndUpdateStore();
+                if (resolveUnassignedNotCompletedTasksAndUpdateStore()) {
+                    // some of the tasks were assigned to this node, hence they are scheduled in this cycle itself
+                    tasksToBeScheduled = taskStore.retrieveTaskNames(localNodeId, CoordinatedTask.States.NONE);
+                }
             } else {
                 LOG.debug("This node is not leader. Hence not cleaning task store or resolving un assigned tasks.");
             }
             // schedule all tasks assigned to this node and in state none
-            scheduleAssignedTasks(CoordinatedTask.States.NONE);
+            scheduleAssignedTasks(tasksToBeScheduled, CoordinatedTask.States.NONE);
             checkInterrupted();
         } catch (Throwable throwable) { // catching throwable to prohibit permanent stopping of the executor service.
             LOG.fatal("Unexpected error occurred while trying to schedule tasks.", throwable);
@@ -139,11 +146,11 @@ public class CoordinatedTaskScheduler implements Runnable {
     /**
      * Pause ( stop execution ) the deactivated tasks.
      *
-     * @throws TaskCoordinationException - when something goes wrong while retrieving tasks information from store.
+     * @param deactivatedTasks - The deactivated tasks of this node.
+     * @throws TaskCoordinationException - when something goes wrong while updating tasks information in store.
      */
-    private void pauseDeactivatedTasks() throws TaskCoordinationException {
+    private void pauseDeactivatedTasks(List<String> deactivatedTasks) throws TaskCoordinationException {
 
-        List<String> deactivatedTasks = taskStore.retrieveTaskNames(localNodeId, CoordinatedTask.States.DEACTIVATED);
         if (LOG.isDebugEnabled()) {
             deactivatedTasks.stream().map(
                     task -> "Task [" + task + "] retrieved in [" + CoordinatedTask.States.DEACTIVATED + "] state.")
@@ -191,16 +198,15 @@ public class CoordinatedTaskScheduler implements Runnable {
     }
 
     /**
-     * Schedules all tasks assigned to this node.
+     * Schedules the given tasks assigned to this node.
      *
-     * @param state - The state of the tasks which need to be scheduled.
-     * @throws TaskCoordinationException - When something goes wrong while retrieving all the assigned tasks.
+     * @param tasksOfThisNode - The tasks assigned to this node, which need to be scheduled.
+     * @param state           - The state of the tasks which need to be scheduled.
+     * @throws TaskCoordinationException - When something goes wrong while updating the errored tasks.
      */
-    private void scheduleAssignedTasks(CoordinatedTask.States state) throws TaskCoordinationException
-            , InterruptedException {
+    private void scheduleAssignedTasks(List<String> tasksOfThisNode, CoordinatedTask.States state)
+            throws TaskCoordinationException, InterruptedException {
 
-        LOG.debug("Retrieving tasks assigned to this node and to be scheduled.");
-        List<String> tasksOfThisNode = taskStore.retrieveTaskNames(localNodeId, state);
         if (tasksOfThisNode.isEmpty()) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("No tasks assigned to this node to be scheduled in state " + state);
@@ -234,24 +240,29 @@ public class CoordinatedTaskScheduler implements Runnable {
     /**
      * Resolves the un assigned tasks and update the task store.
      * Synchronized since this will be triggered in leader periodically and upon member addition.
+     * The cluster nodes are read once for all the tasks and the assignments are updated in a single transaction.
      *
+     * @return true if any of the tasks was assigned to this node
      * @throws TaskCoordinationException when something goes wrong connecting to the store
      */
-    public synchronized void resolveUnassignedNotCompletedTasksAndUpdateStore() throws TaskCoordinationException {
+    public synchronized boolean resolveUnassignedNotCompletedTasksAndUpdateStore() throws TaskCoordinationException {
 
         List<String> unAssignedTasks = taskStore.retrieveAllUnAssignedAndIncompleteTasks();
         if (unAssignedTasks.isEmpty()) {
             LOG.debug("No un assigned tasks found.");
-            return;
+            return false;
         }
+        ClusterCommunicator resolvingCommunicator = new ClusterCommunicator(clusterCoordinator,
+                                                                            clusterCommunicator.getAllNodeIds());
         Map<String, String> tasksToBeUpdated = new HashMap<>();
         unAssignedTasks.forEach(taskName -> {
-            String destinedNode = taskLocationResolver.getTaskNodeLocation(clusterCommunicator, taskName);
+            String destinedNode = taskLocationResolver.getTaskNodeLocation(resolvingCommunicator, taskName);
             if (destinedNode != null) { // can't resolve all of the time
                 tasksToBeUpdated.put(taskName, destinedNode);
             }
         });
         taskStore.updateAssignmentAndState(tasksToBeUpdated);
+        return tasksToBeUpdated.containsValue(localNodeId);
     }
 
     private void notifyOnPause(List<String> pausedTasks) {
@@ -74,6 +74,18 @@ public class TaskStore {
         return rdmbsConnector.retrieveTaskNames(nodeID, state);
     }
 
+    /**
+     * Retrieves the names of the tasks of the node which are deactivated, activated or yet to be scheduled.
+     *
+     * @param nodeID - Id of the node, for which the tasks need to be retrieved.
+     * @return - Task names by the state.
+     */
+    public Map<CoordinatedTask.States, List<String>> retrievePendingTaskNames(String nodeID)
+            throws TaskCoordinationException {
+
+        return rdmbsConnector.retrievePendingTaskNames(nodeID);
+    }
+
     /**
      * Removes all the tasks assigned to the node.
      *
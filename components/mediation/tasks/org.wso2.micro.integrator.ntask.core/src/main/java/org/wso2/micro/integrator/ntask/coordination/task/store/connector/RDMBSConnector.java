@@ -29,6 +29,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -43,6 +44,7 @@ import static org.wso2.micro.integrator.ntask.coordination.task.store.connector.
 import static org.wso2.micro.integrator.ntask.coordination.task.store.connector.TaskQueryHelper.REMOVE_ASSIGNMENT_AND_UPDATE_STATE;
 import static org.wso2.micro.integrator.ntask.coordination.task.store.connector.TaskQueryHelper.REMOVE_TASKS_OF_NODE;
 import static org.wso2.micro.integrator.ntask.coordination.task.store.connector.TaskQueryHelper.RETRIEVE_ALL_TASKS;
+import static org.wso2.micro.integrator.ntask.coordination.task.store.connector.TaskQueryHelper.RETRIEVE_PENDING_TASKS_OF_NODE;
 import static org.wso2.micro.integrator.ntask.coordination.task.store.connector.TaskQueryHelper.RETRIEVE_TASKS_OF_NODE;
 import static org.wso2.micro.integrator.ntask.coordination.task.store.connector.TaskQueryHelper.RETRIEVE_TASK_STATE;
 import static org.wso2.micro.integrator.ntask.coordination.task.store.connector.TaskQueryHelper.RETRIEVE_UNASSIGNED_NOT_COMPLETED_TASKS;
@@ -157,6 +159,39 @@ public class RDMBSConnector {
         }
     }
 
+    /**
+     * Retrieves the names of the tasks of the node which are deactivated, activated or yet to be scheduled, with a
+     * single query.
+     *
+     * @param nodeID - Id of the node, for which the tasks need to be retrieved.
+     * @return - Task names by the state, containing an entry for each of the three states.
+     */
+    public Map<CoordinatedTask.States, List<String>> retrievePendingTaskNames(String nodeID)
+            throws TaskCoordinationException {
+
+        Map<CoordinatedTask.States, List<String>> tasks = new EnumMap<>(CoordinatedTask.States.class);
+        tasks.put(CoordinatedTask.States.DEACTIVATED, new ArrayList<>());
+        tasks.put(CoordinatedTask.States.ACTIVATED, new ArrayList<>());
+        tasks.put(CoordinatedTask.States.NONE, new ArrayList<>());
+        try (Connection connection = getConnection(); PreparedStatement preparedStatement = connection.prepareStatement(
+                RETRIEVE_PENDING_TASKS_OF_NODE)) {
+            preparedStatement.setString(1, nodeID);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    tasks.get(CoordinatedTask.States.valueOf(resultSet.getString(TASK_STATE)))
+                            .add(resultSet.getString(TASK_NAME));
+                }
+            }
+        } catch (SQLException ex) {
+            throw new TaskCoordinationException(ERROR_MSG, ex);
+        }
+        if (LOG.isDebugEnabled()) {
+            tasks.forEach((state, names) -> printDebugLogs(new ArrayList<>(names),
+                    "Following list of tasks were retrieved for node [" + nodeID + "] with state [" + state + "]"));
+        }
+        return tasks;
+    }
+
     private void printDebugLogs(List<Object> tasks, String msg) {
         if (LOG.isDebugEnabled()) {
             LOG.debug(msg);
@@ -391,14 +426,21 @@ public class RDMBSConnector {
             }
             return;
         }
-        try (Connection connection = getConnection(); PreparedStatement preparedStatement = connection.prepareStatement(
-                UPDATE_ASSIGNMENT_AND_STATE)) {
-            for (Map.Entry<String, String> entry : tasks.entrySet()) {
-                preparedStatement.setString(1, entry.getValue());
-                preparedStatement.setString(2, entry.getKey());
-                preparedStatement.addBatch();
+        try (Connection connection = getConnection()) {
+            // all the assignments of a resolving cycle are applied in a single transaction
+            connection.setAutoCommit(false);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(UPDATE_ASSIGNMENT_AND_STATE)) {
+                for (Map.Entry<String, String> entry : tasks.entrySet()) {
+                    preparedStatement.setString(1, entry.getValue());
+                    preparedStatement.setString(2, entry.getKey());
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+                connection.commit();
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
             }
-            preparedStatement.executeBatch();
             if (LOG.isDebugEnabled()) {
                 tasks.forEach((task, destinedNode) -> LOG
                         .debug("Assigned the task [" + task + "] with destined node [" + destinedNode + "]"));
@@ -444,8 +486,10 @@ public class RDMBSConnector {
      */
     public void updateTaskState(List<String> tasks, CoordinatedTask.States state) throws TaskCoordinationException {
 
-        if (LOG.isDebugEnabled()) {
-            LOG.debug(EMPTY_LIST + " for    update assignment and state change to none if running.");
+        if (tasks.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(EMPTY_LIST + " for updating the task state to " + state + ".");
+            }
             return;
         }
         try (Connection connection = getConnection(); PreparedStatement preparedStatement = connection.prepareStatement(
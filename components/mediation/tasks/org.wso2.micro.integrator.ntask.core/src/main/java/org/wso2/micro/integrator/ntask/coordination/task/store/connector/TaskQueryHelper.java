@@ -71,6 +71,11 @@ public class TaskQueryHelper {
             "SELECT " + TASK_NAME + " FROM " + TABLE_NAME + "  WHERE " + DESTINED_NODE_ID + " =? AND " + TASK_STATE
                     + " =?";
 
+    static final String RETRIEVE_PENDING_TASKS_OF_NODE =
+            "SELECT " + TASK_NAME + ", " + TASK_STATE + " FROM " + TABLE_NAME + "  WHERE " + DESTINED_NODE_ID
+                    + " =? AND " + TASK_STATE + " IN ('" + CoordinatedTask.States.DEACTIVATED + "', '"
+                    + CoordinatedTask.States.ACTIVATED + "', '" + CoordinatedTask.States.NONE + "')";
+
     static final String RETRIEVE_TASK_STATE =
             "SELECT " + TASK_STATE + " FROM " + TABLE_NAME + "  WHERE " + TASK_NAME + " =?";
 
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.ntask.core.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Quartz thread pool implementation with a bounded number of threads and a bounded queue.
+ * <p>
+ * The pool runs at most {@code maxThreadCount} jobs at a time and queues at most {@code queueSize} more, hence
+ * {@link #blockForAvailableThreads()} reports the real free capacity and the Quartz scheduler thread only fires as
+ * many triggers as the pool can take. Threads above {@code coreThreadCount} are created once the queue is full and
+ * are released after being idle for {@code keepAliveSeconds}. Optionally the jobs run on virtual threads, in which
+ * case only {@code maxThreadCount} bounds the number of running jobs.
+ * <p>
+ * The pool is configured through the {@code org.quartz.threadPool.*} properties. By default it has no core threads and
+ * no limit on the number of threads, as the cached thread pool used before, hence the number of concurrent jobs is
+ * only bounded once {@code maxThreadCount} is configured.
+ */
+public class QuartzBoundedThreadPool implements ThreadPool {
+
+    private static final Log log = LogFactory.getLog(QuartzBoundedThreadPool.class);
+
+    private int coreThreadCount = 0;
+    private int maxThreadCount = Integer.MAX_VALUE;
+    private int queueSize = 0;
+    private long keepAliveSeconds = 60;
+    private boolean useVirtualThreads = false;
+    private String threadNamePrefix = "ntask-worker";
+    private String instanceName = "";
+
+    private ExecutorService executor;
+    private Semaphore capacity;
+    private final Object capacityLock = new Object();
+    private volatile boolean shutdown = false;
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong totalExecutionNanos = new AtomicLong();
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+
+        if (coreThreadCount < 0 || maxThreadCount < 1 || coreThreadCount > maxThreadCount) {
+            throw new SchedulerConfigException("Invalid task thread pool sizes, core : " + coreThreadCount
+                                                       + ", max : " + maxThreadCount);
+        }
+        if (queueSize < 0) {
+            throw new SchedulerConfigException("Invalid task thread pool queue size : " + queueSize);
+        }
+        ExecutorService virtualThreadExecutor = useVirtualThreads ? createVirtualThreadExecutor() : null;
+        if (virtualThreadExecutor != null) {
+            executor = virtualThreadExecutor;
+            capacity = new Semaphore(maxThreadCount);
+        } else {
+            BlockingQueue<Runnable> queue =
+                    queueSize > 0 ? new ArrayBlockingQueue<>(queueSize) : new SynchronousQueue<>();
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(coreThreadCount, maxThreadCount,
+                    keepAliveSeconds, TimeUnit.SECONDS, queue, new WorkerThreadFactory(), (task, pool) -> {
+                // a finished job releases its capacity just before its thread takes the next job, hence the job
+                // waits for that thread rather than being rejected
+                if (pool.isShutdown()) {
+                    throw new RejectedExecutionException("Task thread pool is shut down.");
+                }
+                try {
+                    pool.getQueue().put(task);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while submitting the task.", e);
+                }
+            });
+            executor = threadPoolExecutor;
+            capacity = new Semaphore((int) Math.min(Integer.MAX_VALUE, (long) maxThreadCount + queueSize));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Initialized the task thread pool " + instanceName + " with core : " + coreThreadCount
+                              + ", max : " + maxThreadCount + ", queue : " + queueSize + ", virtual threads : "
+                              + (virtualThreadExecutor != null));
+        }
+    }
+
+    /**
+     * Creates an executor which starts a virtual thread per job, if the runtime supports virtual threads.
+     */
+    private ExecutorService createVirtualThreadExecutor() {
+
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads are not supported by the runtime, hence platform threads will be used for "
+                             + "the scheduled tasks.");
+            return null;
+        }
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+
+        if (runnable == null || shutdown) {
+            return false;
+        }
+        try {
+            // the scheduler only fires as many jobs as reported by blockForAvailableThreads
+            capacity.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        long submitted = System.nanoTime();
+        try {
+            executor.execute(() -> run(runnable, submitted));
+            return true;
+        } catch (RejectedExecutionException e) {
+            release();
+            log.error("Unable to run the task in thread pool " + instanceName + ".", e);
+            return false;
+        }
+    }
+
+    private void run(Runnable runnable, long submitted) {
+
+        long started = System.nanoTime();
+        record(started - submitted, totalWaitNanos, maxWaitNanos);
+        activeCount.incrementAndGet();
+        try {
+            runnable.run();
+        } finally {
+            activeCount.decrementAndGet();
+            record(System.nanoTime() - started, totalExecutionNanos, maxExecutionNanos);
+            executedCount.incrementAndGet();
+            release();
+        }
+    }
+
+    private static void record(long nanos, AtomicLong total, AtomicLong max) {
+
+        total.addAndGet(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    private void release() {
+
+        capacity.release();
+        synchronized (capacityLock) {
+            capacityLock.notifyAll();
+        }
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+
+        synchronized (capacityLock) {
+            while (capacity.availablePermits() < 1 && !shutdown) {
+                try {
+                    capacityLock.wait(500);
+                } catch (InterruptedException ignore) {
+                }
+            }
+            return capacity.availablePermits();
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return maxThreadCount;
+    }
+
+    @Override
+    public void setInstanceId(String instanceId) {
+    }
+
+    @Override
+    public void setInstanceName(String instanceName) {
+        this.instanceName = instanceName;
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+
+        shutdown = true;
+        synchronized (capacityLock) {
+            capacityLock.notifyAll();
+        }
+        if (executor == null) {
+            return;
+        }
+        if (waitForJobsToComplete) {
+            executor.shutdown();
+        } else {
+            executor.shutdownNow();
+        }
+    }
+
+    public void setCoreThreadCount(int coreThreadCount) {
+        this.coreThreadCount = coreThreadCount;
+    }
+
+    public void setMaxThreadCount(int maxThreadCount) {
+        this.maxThreadCount = maxThreadCount;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public void setKeepAliveSeconds(long keepAliveSeconds) {
+        this.keepAliveSeconds = keepAliveSeconds;
+    }
+
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    /**
+     * @return number of jobs running at the moment
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * @return number of jobs which can be submitted without waiting
+     */
+    public int getAvailableCapacity() {
+        return capacity.availablePermits();
+    }
+
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    /**
+     * @return average time in milliseconds a job waited for a thread
+     */
+    public double getAverageWaitTime() {
+        long executed = executedCount.get();
+        return executed == 0 ? 0 : totalWaitNanos.get() / 1e6 / executed;
+    }
+
+    public double getMaxWaitTime() {
+        return maxWaitNanos.get() / 1e6;
+    }
+
+    /**
+     * @return average execution time of a job in milliseconds
+     */
+    public double getAverageExecutionTime() {
+        long executed = executedCount.get();
+        return executed == 0 ? 0 : totalExecutionNanos.get() / 1e6 / executed;
+    }
+
+    public double getMaxExecutionTime() {
+        return maxExecutionNanos.get() / 1e6;
+    }
+
+    private class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(false);
+            return thread;
+        }
+    }
+}
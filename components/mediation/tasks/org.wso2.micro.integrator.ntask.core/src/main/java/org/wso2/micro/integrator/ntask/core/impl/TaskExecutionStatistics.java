@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.ntask.core.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.JobListener;
+import org.quartz.SchedulerListener;
+import org.quartz.Trigger;
+import org.quartz.TriggerListener;
+import org.quartz.listeners.SchedulerListenerSupport;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Quartz listener which keeps the execution statistics of the scheduled tasks. It records the execution count, the
+ * execution time and the delay between the scheduled and the actual fire time of each task, and counts the misfired
+ * triggers. Misfires are reported as a warning at most once every 30 seconds. The statistics of a task are removed
+ * when the task is deleted, given that the {@link #getSchedulerListener() scheduler listener} is registered as well.
+ */
+public class TaskExecutionStatistics implements JobListener, TriggerListener {
+
+    private static final Log log = LogFactory.getLog(TaskExecutionStatistics.class);
+
+    private static final String NAME = "ntask-execution-statistics";
+    private static final long MISFIRE_REPORT_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+
+    private final Map<String, TaskStatistics> taskStatistics = new ConcurrentHashMap<>();
+    private final AtomicLong misfireCount = new AtomicLong();
+    private final AtomicLong lastMisfireReport = new AtomicLong();
+    private final SchedulerListener schedulerListener = new SchedulerListenerSupport() {
+
+        @Override
+        public void jobDeleted(JobKey jobKey) {
+            removeTaskStatistics(jobKey);
+        }
+
+        @Override
+        public void schedulingDataCleared() {
+            taskStatistics.clear();
+        }
+    };
+    private long reportedMisfires;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+
+        String task = context.getJobDetail().getKey().toString();
+        long delay = 0;
+        if (context.getFireTime() != null && context.getScheduledFireTime() != null) {
+            delay = Math.max(0, context.getFireTime().getTime() - context.getScheduledFireTime().getTime());
+        }
+        long runTime = Math.max(0, context.getJobRunTime());
+        taskStatistics.computeIfAbsent(task, key -> new TaskStatistics()).record(runTime, delay, jobException != null);
+        if (log.isDebugEnabled()) {
+            log.debug("Task [" + task + "] executed in " + runTime + " ms, " + delay + " ms after its scheduled time.");
+        }
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+
+        long misfires = misfireCount.incrementAndGet();
+        taskStatistics.computeIfAbsent(trigger.getJobKey().toString(), key -> new TaskStatistics()).misfires
+                .incrementAndGet();
+        long now = System.currentTimeMillis();
+        long lastReport = lastMisfireReport.get();
+        if (now - lastReport >= MISFIRE_REPORT_INTERVAL && lastMisfireReport.compareAndSet(lastReport, now)) {
+            log.warn("Trigger of task [" + trigger.getJobKey() + "] misfired. " + (misfires - reportedMisfires)
+                             + " triggers misfired since the last report and " + misfires + " in total. Consider "
+                             + "increasing the task thread pool size.");
+            reportedMisfires = misfires;
+        } else if (log.isDebugEnabled()) {
+            log.debug("Trigger of task [" + trigger.getJobKey() + "] misfired.");
+        }
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                Trigger.CompletedExecutionInstruction triggerInstructionCode) {
+    }
+
+    /**
+     * @return listener which removes the statistics of the deleted tasks, to be registered with the scheduler
+     */
+    public SchedulerListener getSchedulerListener() {
+        return schedulerListener;
+    }
+
+    /**
+     * Removes the statistics of the given task, once it is deleted from the scheduler.
+     *
+     * @param jobKey key of the deleted task
+     */
+    public void removeTaskStatistics(JobKey jobKey) {
+        if (taskStatistics.remove(jobKey.toString()) != null && log.isDebugEnabled()) {
+            log.debug("Removed the execution statistics of the deleted task [" + jobKey + "].");
+        }
+    }
+
+    /**
+     * @return number of misfired triggers of all the tasks
+     */
+    public long getMisfireCount() {
+        return misfireCount.get();
+    }
+
+    /**
+     * @return statistics of the tasks by the task key ( group.name )
+     */
+    public Map<String, TaskStatistics> getTaskStatistics() {
+        return Collections.unmodifiableMap(taskStatistics);
+    }
+
+    /**
+     * Execution statistics of a single task.
+     */
+    public static class TaskStatistics {
+
+        private final AtomicLong executions = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong misfires = new AtomicLong();
+        private final AtomicLong totalRunTime = new AtomicLong();
+        private final AtomicLong maxRunTime = new AtomicLong();
+        private final AtomicLong totalDelay = new AtomicLong();
+        private final AtomicLong maxDelay = new AtomicLong();
+
+        void record(long runTime, long delay, boolean failed) {
+
+            executions.incrementAndGet();
+            if (failed) {
+                failures.incrementAndGet();
+            }
+            totalRunTime.addAndGet(runTime);
+            maxRunTime.accumulateAndGet(runTime, Math::max);
+            totalDelay.addAndGet(delay);
+            maxDelay.accumulateAndGet(delay, Math::max);
+        }
+
+        public long getExecutionCount() {
+            return executions.get();
+        }
+
+        public long getFailureCount() {
+            return failures.get();
+        }
+
+        public long getMisfireCount() {
+            return misfires.get();
+        }
+
+        /**
+         * @return average execution time in milliseconds
+         */
+        public double getAverageRunTime() {
+            long count = executions.get();
+            return count == 0 ? 0 : (double) totalRunTime.get() / count;
+        }
+
+        public long getMaxRunTime() {
+            return maxRunTime.get();
+        }
+
+        /**
+         * @return average delay in milliseconds between the scheduled and the actual fire time
+         */
+        public double getAverageDelay() {
+            long count = executions.get();
+            return count == 0 ? 0 : (double) totalDelay.get() / count;
+        }
+
+        public long getMaxDelay() {
+            return maxDelay.get();
+        }
+    }
+}
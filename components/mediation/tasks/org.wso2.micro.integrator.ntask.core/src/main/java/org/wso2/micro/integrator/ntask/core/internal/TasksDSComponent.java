@@ -47,7 +47,8 @@ import org.wso2.micro.integrator.ntask.coordination.task.resolver.ActivePassiveR
 import org.wso2.micro.integrator.ntask.coordination.task.resolver.TaskLocationResolver;
 import org.wso2.micro.integrator.ntask.coordination.task.store.TaskStore;
 import org.wso2.micro.integrator.ntask.core.TaskStartupHandler;
-import org.wso2.micro.integrator.ntask.core.impl.QuartzCachedThreadPool;
+import org.wso2.micro.integrator.ntask.core.impl.QuartzBoundedThreadPool;
+import org.wso2.micro.integrator.ntask.core.impl.TaskExecutionStatistics;
 import org.wso2.micro.integrator.ntask.core.impl.standalone.ScheduledTaskManager;
 import org.wso2.micro.integrator.ntask.core.service.TaskService;
 import org.wso2.micro.integrator.ntask.core.service.impl.TaskServiceImpl;
@@ -75,6 +76,11 @@ public class TasksDSComponent {
     private static final String RESOLVING_PERIOD = "resolving_period";
     private static final String RESOLVING_FREQUENCY = "resolving_frequency";
     private static final String TASK_RESOLVER = "task_resolver";
+    private static final String THREAD_POOL_CORE_SIZE = "thread_pool_core_size";
+    private static final String THREAD_POOL_MAX_SIZE = "thread_pool_max_size";
+    private static final String THREAD_POOL_QUEUE_SIZE = "thread_pool_queue_size";
+    private static final String THREAD_POOL_VIRTUAL_THREADS = "thread_pool_virtual_threads";
+    private static final String QUARTZ_THREAD_POOL_PREFIX = "org.quartz.threadPool.";
 
     private final Log log = LogFactory.getLog(TasksDSComponent.class);
 
@@ -109,6 +115,12 @@ public class TasksDSComponent {
                 fac = new StdSchedulerFactory(this.getStandardQuartzProps());
             }
             TasksDSComponent.scheduler = fac.getScheduler();
+            TaskExecutionStatistics executionStatistics = new TaskExecutionStatistics();
+            TasksDSComponent.getScheduler().getListenerManager().addJobListener(executionStatistics);
+            TasksDSComponent.getScheduler().getListenerManager().addTriggerListener(executionStatistics);
+            TasksDSComponent.getScheduler().getListenerManager().addSchedulerListener(
+                    executionStatistics.getSchedulerListener());
+            dataHolder.setTaskExecutionStatistics(executionStatistics);
             TasksDSComponent.getScheduler().start();
 
             boolean isCoordinationEnabled = isCoordinationDataSourceAvailable();
@@ -259,10 +271,27 @@ public class TasksDSComponent {
 
         Properties result = new Properties();
         result.put("org.quartz.scheduler.skipUpdateCheck", "true");
-        result.put("org.quartz.threadPool.class", QuartzCachedThreadPool.class.getName());
+        result.put("org.quartz.threadPool.class", QuartzBoundedThreadPool.class.getName());
+        Map<String, Object> configs = ConfigParser.getParsedConfigs();
+        putThreadPoolProperty(result, configs, THREAD_POOL_CORE_SIZE, "coreThreadCount");
+        putThreadPoolProperty(result, configs, THREAD_POOL_MAX_SIZE, "maxThreadCount");
+        putThreadPoolProperty(result, configs, THREAD_POOL_QUEUE_SIZE, "queueSize");
+        putThreadPoolProperty(result, configs, THREAD_POOL_VIRTUAL_THREADS, "useVirtualThreads");
         return result;
     }
 
+    private void putThreadPoolProperty(Properties properties, Map<String, Object> configs, String configKey,
+                                       String property) {
+
+        Object value = configs.get(TASK_CONFIG + "." + configKey);
+        if (value != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Task thread pool property :: " + property + ":" + value);
+            }
+            properties.put(QUARTZ_THREAD_POOL_PREFIX + property, value.toString());
+        }
+    }
+
     @Deactivate
     protected void deactivate(ComponentContext ctx) {
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.ntask.coordination.task.resolver;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.micro.integrator.ntask.coordination.task.ClusterCommunicator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ConsistentHashResolverTest {
+
+    private static final int TASK_COUNT = 10000;
+
+    @Test
+    public void testTasksSpreadOverAllNodes() {
+
+        Map<String, String> assignment = resolve(new ConsistentHashResolver(), "node-1", "node-2", "node-3");
+        Map<String, Integer> tasksPerNode = new HashMap<>();
+        assignment.values().forEach(node -> tasksPerNode.merge(node, 1, Integer::sum));
+        Assert.assertEquals(3, tasksPerNode.size());
+        tasksPerNode.forEach((node, count) -> Assert.assertTrue(
+                "Node " + node + " got " + count + " tasks.", count > TASK_COUNT / 6 && count < TASK_COUNT / 2));
+    }
+
+    @Test
+    public void testOnlyTasksOfRemovedNodeMove() {
+
+        ConsistentHashResolver resolver = new ConsistentHashResolver();
+        Map<String, String> before = resolve(resolver, "node-1", "node-2", "node-3");
+        Map<String, String> after = resolve(resolver, "node-1", "node-3");
+        before.forEach((task, node) -> {
+            if (!"node-2".equals(node)) {
+                Assert.assertEquals(node, after.get(task));
+            }
+        });
+        Assert.assertEquals(before, resolve(resolver, "node-3", "node-2", "node-1"));
+    }
+
+    @Test
+    public void testAddedNodeTakesShareOfTasks() {
+
+        ConsistentHashResolver resolver = new ConsistentHashResolver();
+        Map<String, String> before = resolve(resolver, "node-1", "node-2", "node-3");
+        Map<String, String> after = resolve(resolver, "node-1", "node-2", "node-3", "node-4");
+        int moved = 0;
+        for (Map.Entry<String, String> entry : after.entrySet()) {
+            if (!entry.getValue().equals(before.get(entry.getKey()))) {
+                Assert.assertEquals("node-4", entry.getValue());
+                moved++;
+            }
+        }
+        Assert.assertTrue("Moved " + moved + " tasks.", moved > TASK_COUNT / 8 && moved < TASK_COUNT / 2);
+    }
+
+    @Test
+    public void testNoNodes() {
+
+        Assert.assertNull(new ConsistentHashResolver().getTaskNodeLocation(
+                new ClusterCommunicator(null, Collections.emptyList()), "task"));
+    }
+
+    private static Map<String, String> resolve(ConsistentHashResolver resolver, String... nodes) {
+
+        List<String> nodeIds = Arrays.asList(nodes);
+        ClusterCommunicator communicator = new ClusterCommunicator(null, nodeIds);
+        Map<String, String> assignment = new HashMap<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            String task = "task-" + i;
+            assignment.put(task, resolver.getTaskNodeLocation(communicator, task));
+        }
+        return assignment;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.ntask.core.impl;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.quartz.SchedulerConfigException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class QuartzBoundedThreadPoolTest {
+
+    private QuartzBoundedThreadPool threadPool;
+
+    @After
+    public void tearDown() {
+        if (threadPool != null) {
+            threadPool.shutdown(false);
+        }
+    }
+
+    @Test
+    public void testAvailableThreadsReflectCapacity() throws Exception {
+
+        threadPool = createPool(1, 2, 1);
+        Assert.assertEquals(3, threadPool.blockForAvailableThreads());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(threadPool.runInThread(() -> {
+                started.countDown();
+                await(release);
+            }));
+        }
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, threadPool.getAvailableCapacity());
+        Assert.assertEquals(2, threadPool.getActiveCount());
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        AtomicInteger available = new AtomicInteger();
+        Thread schedulerThread = new Thread(() -> {
+            available.set(threadPool.blockForAvailableThreads());
+            blocked.countDown();
+        });
+        schedulerThread.start();
+        Assert.assertFalse("Capacity reported while all threads are busy.", blocked.await(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        Assert.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(available.get() > 0);
+    }
+
+    @Test
+    public void testThreadsGrowUpToMaxWithoutQueue() throws Exception {
+
+        threadPool = createPool(0, 4, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(threadPool.runInThread(() -> {
+                started.countDown();
+                await(release);
+            }));
+        }
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(4, threadPool.getActiveCount());
+        release.countDown();
+    }
+
+    @Test
+    public void testJobsKeepRunningAtFullCapacity() throws Exception {
+
+        threadPool = createPool(2, 2, 0);
+        int jobs = 1000;
+        CountDownLatch completed = new CountDownLatch(jobs);
+        for (int i = 0; i < jobs; i++) {
+            threadPool.blockForAvailableThreads();
+            Assert.assertTrue(threadPool.runInThread(completed::countDown));
+        }
+        Assert.assertTrue(completed.await(10, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (threadPool.getExecutedCount() < jobs && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(jobs, threadPool.getExecutedCount());
+        Assert.assertEquals(2, threadPool.getAvailableCapacity());
+    }
+
+    @Test
+    public void testUnboundedByDefault() throws Exception {
+
+        threadPool = new QuartzBoundedThreadPool();
+        threadPool.initialize();
+        Assert.assertEquals(Integer.MAX_VALUE, threadPool.getPoolSize());
+        Assert.assertEquals(Integer.MAX_VALUE, threadPool.blockForAvailableThreads());
+        int jobs = 150;
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(jobs);
+        for (int i = 0; i < jobs; i++) {
+            Assert.assertTrue(threadPool.runInThread(() -> {
+                started.countDown();
+                await(release);
+            }));
+        }
+        Assert.assertTrue("Jobs wait for a thread in the default pool.", started.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(jobs, threadPool.getActiveCount());
+        release.countDown();
+    }
+
+    @Test
+    public void testQueueWithoutThreadLimit() throws Exception {
+
+        threadPool = createPool(1, Integer.MAX_VALUE, 10);
+        Assert.assertEquals(Integer.MAX_VALUE, threadPool.blockForAvailableThreads());
+    }
+
+    @Test
+    public void testNoJobsAcceptedAfterShutdown() throws Exception {
+
+        threadPool = createPool(1, 1, 0);
+        threadPool.shutdown(true);
+        Assert.assertFalse(threadPool.runInThread(() -> { }));
+    }
+
+    @Test(expected = SchedulerConfigException.class)
+    public void testInvalidSizes() throws Exception {
+
+        createPool(4, 2, 0);
+    }
+
+    private static QuartzBoundedThreadPool createPool(int core, int max, int queue) throws SchedulerConfigException {
+
+        QuartzBoundedThreadPool pool = new QuartzBoundedThreadPool();
+        pool.setCoreThreadCount(core);
+        pool.setMaxThreadCount(max);
+        pool.setQueueSize(queue);
+        pool.initialize();
+        return pool;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
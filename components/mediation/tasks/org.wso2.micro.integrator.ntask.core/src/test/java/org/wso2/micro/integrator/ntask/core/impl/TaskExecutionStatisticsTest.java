@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.ntask.core.impl;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.StdSchedulerFactory;
+
+import java.util.Properties;
+
+public class TaskExecutionStatisticsTest {
+
+    private Scheduler scheduler;
+
+    @After
+    public void tearDown() throws Exception {
+        if (scheduler != null) {
+            scheduler.shutdown(true);
+        }
+    }
+
+    @Test
+    public void testStatisticsRemovedWhenTaskDeleted() throws Exception {
+
+        Properties props = new Properties();
+        props.setProperty(StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME, "TaskExecutionStatisticsTest");
+        props.setProperty("org.quartz.threadPool.threadCount", "1");
+        scheduler = new StdSchedulerFactory(props).getScheduler();
+        TaskExecutionStatistics statistics = new TaskExecutionStatistics();
+        scheduler.getListenerManager().addJobListener(statistics);
+        scheduler.getListenerManager().addTriggerListener(statistics);
+        scheduler.getListenerManager().addSchedulerListener(statistics.getSchedulerListener());
+        scheduler.start();
+
+        JobKey jobKey = new JobKey("task", "group");
+        scheduler.scheduleJob(JobBuilder.newJob(NoOpJob.class).withIdentity(jobKey).storeDurably().build(),
+                              TriggerBuilder.newTrigger().startNow().build());
+        for (int i = 0; i < 100 && !statistics.getTaskStatistics().containsKey(jobKey.toString()); i++) {
+            Thread.sleep(50);
+        }
+        Assert.assertEquals(1, statistics.getTaskStatistics().get(jobKey.toString()).getExecutionCount());
+
+        Assert.assertTrue(scheduler.deleteJob(jobKey));
+        Assert.assertFalse(statistics.getTaskStatistics().containsKey(jobKey.toString()));
+    }
+
+    public static class NoOpJob implements Job {
+
+        @Override
+        public void execute(JobExecutionContext context) {
+        }
+    }
+}
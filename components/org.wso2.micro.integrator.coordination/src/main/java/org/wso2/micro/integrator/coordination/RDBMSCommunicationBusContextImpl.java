@@ -140,11 +140,14 @@ public class RDBMSCommunicationBusContextImpl implements CommunicationBusContext
                                                               resultSet.getString(RDBMSConstantUtils.GROUP_ID));
                 membershipEvents.add(membershipEvent);
             }
-            clearMembershipEvents = connection.prepareStatement(queryManager.getQuery(
-                    DBQueries.CLEAN_MEMBERSHIP_EVENTS_FOR_NODE));
-            clearMembershipEvents.setString(1, nodeID);
-            clearMembershipEvents.executeUpdate();
-            connection.commit();
+            // the events are read every scheduled period, hence the clean up is skipped while there are none
+            if (!membershipEvents.isEmpty()) {
+                clearMembershipEvents = connection.prepareStatement(queryManager.getQuery(
+                        DBQueries.CLEAN_MEMBERSHIP_EVENTS_FOR_NODE));
+                clearMembershipEvents.setString(1, nodeID);
+                clearMembershipEvents.executeUpdate();
+                connection.commit();
+            }
             if (log.isDebugEnabled()) {
                 log.debug(task + " executed successfully");
             }
@@ -163,43 +166,52 @@ public class RDBMSCommunicationBusContextImpl implements CommunicationBusContext
     public String getCoordinatorNodeId(String groupId) throws ClusterCoordinationException {
 
         Connection connection = null;
-        PreparedStatement preparedStatement = null;
-        ResultSet resultSet = null;
         try {
             connection = getConnection();
-            preparedStatement = connection.prepareStatement(queryManager.getQuery(
-                    DBQueries.GET_COORDINATOR_NODE_ID));
-            preparedStatement.setString(1, groupId);
-            resultSet = preparedStatement.executeQuery();
-            String coordinatorNodeId;
-            if (resultSet.next()) {
-                coordinatorNodeId = resultSet.getString(1);
-                if (log.isDebugEnabled()) {
-                    log.debug("Coordinator node ID: " + StringUtil.removeCRLFCharacters(coordinatorNodeId) +
-                              " for group : " + StringUtil.removeCRLFCharacters(groupId));
-                }
-            } else {
-                if (log.isDebugEnabled()) {
-                    log.debug("No coordinator present in database for group "
-                              + StringUtil.removeCRLFCharacters(groupId));
-                }
-                coordinatorNodeId = null;
-            }
-            if (log.isDebugEnabled()) {
-                log.debug(RDBMSConstantUtils.TASK_GET_COORDINATOR_INFORMATION + " executed successfully");
-            }
-            return coordinatorNodeId;
+            return readCoordinatorNodeId(connection, groupId);
         } catch (SQLException e) {
             String errMsg = RDBMSConstantUtils.TASK_GET_COORDINATOR_INFORMATION;
             throw new ClusterCoordinationException("Error occurred while " + errMsg, e);
         } finally {
-            close(resultSet, RDBMSConstantUtils.TASK_GET_COORDINATOR_INFORMATION);
-            close(preparedStatement, RDBMSConstantUtils.TASK_GET_COORDINATOR_INFORMATION);
             close(connection, RDBMSConstantUtils.TASK_GET_COORDINATOR_INFORMATION);
         }
 
     }
 
+    /**
+     * Read the current coordinator's node ID using the given connection.
+     *
+     * @param connection connection to the database
+     * @param groupId    local group ID
+     * @return node ID of the current coordinator, or null if there is no coordinator
+     */
+    private String readCoordinatorNodeId(Connection connection, String groupId) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(queryManager.getQuery(
+                DBQueries.GET_COORDINATOR_NODE_ID))) {
+            preparedStatement.setString(1, groupId);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                String coordinatorNodeId;
+                if (resultSet.next()) {
+                    coordinatorNodeId = resultSet.getString(1);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Coordinator node ID: " + StringUtil.removeCRLFCharacters(coordinatorNodeId) +
+                                  " for group : " + StringUtil.removeCRLFCharacters(groupId));
+                    }
+                } else {
+                    if (log.isDebugEnabled()) {
+                        log.debug("No coordinator present in database for group "
+                                  + StringUtil.removeCRLFCharacters(groupId));
+                    }
+                    coordinatorNodeId = null;
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug(RDBMSConstantUtils.TASK_GET_COORDINATOR_INFORMATION + " executed successfully");
+                }
+                return coordinatorNodeId;
+            }
+        }
+    }
+
     @Override
     public boolean createCoordinatorEntry(String nodeId, String groupId) throws ClusterCoordinationException {
         Connection connection = null;
@@ -316,22 +328,7 @@ public class RDBMSCommunicationBusContextImpl implements CommunicationBusContext
                     DBQueries.GET_COORDINATOR_HEARTBEAT));
             preparedStatement.setString(1, groupId);
             resultSet = preparedStatement.executeQuery();
-            boolean isCoordinatorValid;
-            if (resultSet.next()) {
-                long coordinatorHeartbeat = resultSet.getLong(1);
-                long heartbeatAge = currentHeartbeatTime - coordinatorHeartbeat;
-                isCoordinatorValid = heartbeatAge <= heartbeatMaxAge;
-                if (!isCoordinatorValid) {
-                    log.info("Coordinator is invalid, because there is no heartbeat for " + heartbeatAge
-                             + " millis when checked by nodeId: " + nodeId +
-                             ". The heartbeat should have happened in " + heartbeatMaxAge);
-                }
-            } else {
-                log.info("No valid coordinator present in database for group " + groupId +
-                         " when checked by nodeId: " + nodeId);
-                isCoordinatorValid = false;
-            }
-            return isCoordinatorValid;
+            return isCoordinatorValid(resultSet, groupId, nodeId, heartbeatMaxAge, currentHeartbeatTime);
         } catch (SQLException e) {
             String errMsg = RDBMSConstantUtils.TASK_CHECK_COORDINATOR_VALIDITY;
             throw new ClusterCoordinationException("Error occurred while " + errMsg, e);
@@ -416,6 +413,148 @@ public class RDBMSCommunicationBusContextImpl implements CommunicationBusContext
         }
     }
 
+    @Override
+    public boolean updateNodeHeartbeatAndCheckCoordinator(String nodeId, String groupId, int heartbeatMaxAge,
+                                                          long currentHeartbeatTime)
+            throws ClusterCoordinationException {
+        Connection connection = null;
+        boolean isRolledBack = false; // Flag to track if rollback has occurred
+        boolean isTransactionSuccessful = false;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+        String task = RDBMSConstantUtils.TASK_UPDATE_MEMBER_HEARTBEAT;
+        try {
+            connection = getConnection();
+            updateOrCreateNodeHeartbeat(connection, nodeId, groupId, currentHeartbeatTime);
+            preparedStatement = connection.prepareStatement(queryManager.getQuery(
+                    DBQueries.GET_COORDINATOR_HEARTBEAT));
+            preparedStatement.setString(1, groupId);
+            resultSet = preparedStatement.executeQuery();
+            boolean isCoordinatorValid = isCoordinatorValid(resultSet, groupId, nodeId, heartbeatMaxAge,
+                                                            currentHeartbeatTime);
+            commitTransactionIfNotInterrupted(connection);
+            isTransactionSuccessful = true;
+            if (log.isDebugEnabled()) {
+                log.debug(task + " of node " + StringUtil.removeCRLFCharacters(nodeId) + " executed successfully");
+            }
+            return isCoordinatorValid;
+        } catch (SQLException | InterruptedException e) {
+            rollback(connection, task);
+            isRolledBack = true; // Mark as rolled back
+            log.warn("Transaction rolled back for task: " + task);
+            throw new ClusterCoordinationException("Error occurred while " + task + ". Node ID: " + nodeId
+                    + " and Group ID : " + groupId, e);
+        } finally {
+            if (!isTransactionSuccessful && !isRolledBack && Thread.currentThread().isInterrupted()) {
+                rollback(connection, task);
+                log.warn("Transaction rolled back for task: " + task);
+            }
+            close(resultSet, task);
+            close(preparedStatement, task);
+            close(connection, task);
+        }
+    }
+
+    @Override
+    public boolean updateCoordinatorAndNodeHeartbeat(String nodeId, String groupId, long currentHeartbeatTime)
+            throws ClusterCoordinationException {
+        Connection connection = null;
+        boolean isRolledBack = false; // Flag to track if rollback has occurred
+        boolean isTransactionSuccessful = false;
+        PreparedStatement preparedStatementForCoordinatorUpdate = null;
+        String task = RDBMSConstantUtils.TASK_UPDATE_COORDINATOR_AND_NODE_HEARTBEAT;
+        try {
+            connection = getConnection();
+            preparedStatementForCoordinatorUpdate = connection
+                    .prepareStatement(queryManager.getQuery(DBQueries.UPDATE_COORDINATOR_HEARTBEAT));
+            preparedStatementForCoordinatorUpdate.setLong(1, currentHeartbeatTime);
+            preparedStatementForCoordinatorUpdate.setString(2, nodeId);
+            preparedStatementForCoordinatorUpdate.setString(3, groupId);
+            boolean stillCoordinator = preparedStatementForCoordinatorUpdate.executeUpdate() != 0;
+            if (stillCoordinator) {
+                updateOrCreateNodeHeartbeat(connection, nodeId, groupId, currentHeartbeatTime);
+            }
+            commitTransactionIfNotInterrupted(connection);
+            isTransactionSuccessful = true;
+            if (log.isDebugEnabled()) {
+                log.debug(task + " of node " + StringUtil.removeCRLFCharacters(nodeId) + " executed successfully");
+            }
+            return stillCoordinator;
+        } catch (SQLException | InterruptedException e) {
+            rollback(connection, task);
+            isRolledBack = true; // Mark as rolled back
+            log.warn("Transaction rolled back for task: " + task);
+            throw new ClusterCoordinationException("Error occurred while " + task + ". instance ID: " + nodeId
+                    + " group ID: " + groupId, e);
+        } finally {
+            if (!isTransactionSuccessful && !isRolledBack && Thread.currentThread().isInterrupted()) {
+                rollback(connection, task);
+                log.warn("Transaction rolled back for task: " + task);
+            }
+            close(preparedStatementForCoordinatorUpdate, task);
+            close(connection, task);
+        }
+    }
+
+    /**
+     * Update the heartbeat of the given node, and create the heartbeat entry if it was removed by the coordinator.
+     *
+     * @param connection           connection of the current transaction
+     * @param nodeId               node ID
+     * @param groupId              group ID
+     * @param currentHeartbeatTime current heartbeat time
+     */
+    private void updateOrCreateNodeHeartbeat(Connection connection, String nodeId, String groupId,
+                                             long currentHeartbeatTime) throws SQLException {
+        try (PreparedStatement updateStatement = connection.prepareStatement(queryManager.getQuery(
+                DBQueries.UPDATE_NODE_HEARTBEAT))) {
+            updateStatement.setLong(1, currentHeartbeatTime);
+            updateStatement.setString(2, nodeId);
+            updateStatement.setString(3, groupId);
+            if (updateStatement.executeUpdate() != 0) {
+                return;
+            }
+        }
+        try (PreparedStatement insertStatement = connection.prepareStatement(queryManager.getQuery(
+                DBQueries.INSERT_NODE_HEARTBEAT_ROW))) {
+            insertStatement.setString(1, nodeId);
+            insertStatement.setLong(2, currentHeartbeatTime);
+            insertStatement.setString(3, groupId);
+            insertStatement.executeUpdate();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(RDBMSConstantUtils.TASK_CREATE_NODE_HEARTBEAT + " of node "
+                      + StringUtil.removeCRLFCharacters(nodeId) + " executed successfully");
+        }
+    }
+
+    /**
+     * Evaluate the coordinator heartbeat read from the leader status table.
+     *
+     * @param resultSet            result of the coordinator heartbeat query
+     * @param groupId              local group ID
+     * @param nodeId               ID of the node checking the coordinator
+     * @param heartbeatMaxAge      maximum relative age of the coordinator heartbeat in milliseconds
+     * @param currentHeartbeatTime current heartbeat time
+     * @return true if the coordinator is valid
+     */
+    private boolean isCoordinatorValid(ResultSet resultSet, String groupId, String nodeId, int heartbeatMaxAge,
+                                       long currentHeartbeatTime) throws SQLException {
+        if (!resultSet.next()) {
+            log.info("No valid coordinator present in database for group " + groupId +
+                     " when checked by nodeId: " + nodeId);
+            return false;
+        }
+        long heartbeatAge = currentHeartbeatTime - resultSet.getLong(1);
+        boolean isCoordinatorValid = heartbeatAge <= heartbeatMaxAge;
+        if (!isCoordinatorValid) {
+            log.info("Coordinator is invalid, because there is no heartbeat for " + heartbeatAge
+                     + " millis when checked by nodeId: " + nodeId +
+                     ". The heartbeat should have happened in " + heartbeatMaxAge);
+        }
+        return isCoordinatorValid;
+    }
+
     /**
      * Method to commit the transaction.
      *
@@ -472,14 +611,11 @@ public class RDBMSCommunicationBusContextImpl implements CommunicationBusContext
         Connection connection = null;
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
-        String coordinatorNodeId = getCoordinatorNodeId(groupId);
-        if (coordinatorNodeId == null) {
-            coordinatorNodeId = getCoordinatorNodeId(groupId);
-        }
         ArrayList<NodeDetail> nodeDataList = new ArrayList<NodeDetail>();
 
         try {
             connection = getConnection();
+            String coordinatorNodeId = readCoordinatorNodeId(connection, groupId);
             preparedStatement = connection.prepareStatement(queryManager.getQuery(
                     DBQueries.GET_ALL_NODE_HEARTBEAT));
             preparedStatement.setString(1, groupId);
@@ -511,6 +647,132 @@ public class RDBMSCommunicationBusContextImpl implements CommunicationBusContext
         return nodeDataList;
     }
 
+    @Override
+    public List<NodeDetail> getChangedNodeData(String groupId, long expiryThreshold)
+            throws ClusterCoordinationException {
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+        List<NodeDetail> nodeDataList = new ArrayList<>();
+        try {
+            connection = getConnection();
+            preparedStatement = connection.prepareStatement(queryManager.getQuery(
+                    DBQueries.GET_CHANGED_NODE_HEARTBEAT));
+            preparedStatement.setString(1, groupId);
+            preparedStatement.setLong(2, expiryThreshold);
+            resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                nodeDataList.add(new NodeDetail(resultSet.getString(2), groupId, false, resultSet.getLong(3),
+                                                convertIntToBoolean(resultSet.getInt(4))));
+            }
+        } catch (SQLException e) {
+            throw new ClusterCoordinationException("Error occurred while "
+                    + RDBMSConstantUtils.TASK_GET_CHANGED_NODES, e);
+        } finally {
+            close(resultSet, RDBMSConstantUtils.TASK_GET_CHANGED_NODES);
+            close(preparedStatement, RDBMSConstantUtils.TASK_GET_CHANGED_NODES);
+            close(connection, RDBMSConstantUtils.TASK_GET_CHANGED_NODES);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(RDBMSConstantUtils.TASK_GET_CHANGED_NODES + " of group "
+                      + StringUtil.removeCRLFCharacters(groupId) + " executed successfully");
+        }
+        return nodeDataList;
+    }
+
+    @Override
+    public void storeMembershipChanges(String groupId, List<String> newNodes, List<String> removedNodes,
+                                       List<String> activeNodes) throws ClusterCoordinationException {
+        Connection connection = null;
+        boolean isRolledBack = false; // Flag to track if rollback has occurred
+        boolean isTransactionSuccessful = false;
+        PreparedStatement removeNodes = null;
+        PreparedStatement markNodesNotNew = null;
+        PreparedStatement storeRemovedMembers = null;
+        PreparedStatement storeMembershipEvents = null;
+        String task = RDBMSConstantUtils.TASK_STORE_MEMBERSHIP_CHANGES;
+        try {
+            connection = getConnection();
+            if (!removedNodes.isEmpty()) {
+                removeNodes = connection.prepareStatement(queryManager.getQuery(DBQueries.DELETE_NODE_HEARTBEAT));
+                storeRemovedMembers = connection.prepareStatement(queryManager.getQuery(
+                        DBQueries.INSERT_REMOVED_MEMBER_DETAILS));
+                for (String removedNode : removedNodes) {
+                    removeNodes.setString(1, removedNode);
+                    removeNodes.setString(2, groupId);
+                    removeNodes.addBatch();
+                    for (String activeNode : activeNodes) {
+                        storeRemovedMembers.setString(1, activeNode);
+                        storeRemovedMembers.setString(2, groupId);
+                        storeRemovedMembers.setString(3, removedNode);
+                        storeRemovedMembers.addBatch();
+                    }
+                }
+                removeNodes.executeBatch();
+                if (!activeNodes.isEmpty()) {
+                    storeRemovedMembers.executeBatch();
+                }
+            }
+            if (!newNodes.isEmpty()) {
+                markNodesNotNew = connection.prepareStatement(queryManager.getQuery(DBQueries.MARK_NODE_NOT_NEW));
+                for (String newNode : newNodes) {
+                    markNodesNotNew.setString(1, newNode);
+                    markNodesNotNew.setString(2, groupId);
+                    markNodesNotNew.addBatch();
+                }
+                markNodesNotNew.executeBatch();
+            }
+            if (!activeNodes.isEmpty()) {
+                storeMembershipEvents = connection.prepareStatement(queryManager.getQuery(
+                        DBQueries.INSERT_MEMBERSHIP_EVENT));
+                addMembershipEvents(storeMembershipEvents, groupId, newNodes, activeNodes,
+                                    MemberEventType.MEMBER_ADDED);
+                addMembershipEvents(storeMembershipEvents, groupId, removedNodes, activeNodes,
+                                    MemberEventType.MEMBER_REMOVED);
+                storeMembershipEvents.executeBatch();
+            }
+            commitTransactionIfNotInterrupted(connection);
+            isTransactionSuccessful = true;
+            if (log.isDebugEnabled()) {
+                log.debug(task + " of group " + StringUtil.removeCRLFCharacters(groupId) + " with "
+                          + newNodes.size() + " new and " + removedNodes.size() + " removed nodes executed "
+                          + "successfully");
+            }
+        } catch (SQLException | InterruptedException e) {
+            rollback(connection, task);
+            isRolledBack = true; // Mark as rolled back
+            log.warn("Transaction rolled back for task: " + task);
+            throw new ClusterCoordinationException("Error occurred while " + task + " of group " + groupId, e);
+        } finally {
+            if (!isTransactionSuccessful && !isRolledBack && Thread.currentThread().isInterrupted()) {
+                rollback(connection, task);
+                log.warn("Transaction rolled back for task: " + task);
+            }
+            close(removeNodes, task);
+            close(markNodesNotNew, task);
+            close(storeRemovedMembers, task);
+            close(storeMembershipEvents, task);
+            close(connection, task);
+        }
+    }
+
+    /**
+     * Add the membership events of the given changed members, destined to each of the given nodes, to the batch.
+     */
+    private void addMembershipEvents(PreparedStatement preparedStatement, String groupId, List<String> changedMembers,
+                                     List<String> clusterNodes, MemberEventType membershipEventType)
+            throws SQLException {
+        for (String changedMember : changedMembers) {
+            for (String clusterNode : clusterNodes) {
+                preparedStatement.setString(1, clusterNode);
+                preparedStatement.setString(2, groupId);
+                preparedStatement.setInt(3, membershipEventType.getCode());
+                preparedStatement.setString(4, changedMember);
+                preparedStatement.addBatch();
+            }
+        }
+    }
+
     @Override
     public NodeDetail getRemovedNodeData(String nodeId, String groupId,
                                          String removedMemberId) throws ClusterCoordinationException {
@@ -559,10 +821,6 @@ public class RDBMSCommunicationBusContextImpl implements CommunicationBusContext
         Connection connection = null;
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
-        String coordinatorNodeId = getCoordinatorNodeId(groupId);
-        if (coordinatorNodeId == null) {
-            coordinatorNodeId = getCoordinatorNodeId(groupId);
-        }
         NodeDetail nodeDetail = null;
 
         try {
@@ -572,7 +830,7 @@ public class RDBMSCommunicationBusContextImpl implements CommunicationBusContext
             preparedStatement.setString(2, nodeId);
             resultSet = preparedStatement.executeQuery();
             if (resultSet.next()) {
-                boolean isCoordinatorNode = nodeId.equals(coordinatorNodeId);
+                boolean isCoordinatorNode = nodeId.equals(readCoordinatorNodeId(connection, groupId));
                 long lastHeartbeat = resultSet.getLong(3);
                 boolean isNewNode = convertIntToBoolean(resultSet.getInt(4));
                 nodeDetail = new NodeDetail(nodeId, groupId, isCoordinatorNode, lastHeartbeat, isNewNode);
@@ -31,7 +31,9 @@ import org.wso2.micro.integrator.coordination.util.StringUtil;
 import org.wso2.micro.integrator.ndatasource.common.DataSourceException;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
@@ -57,6 +59,11 @@ public class RDBMSCoordinationStrategy implements CoordinationStrategy {
      */
     private static Log log = LogFactory.getLog(RDBMSCoordinationStrategy.class);
 
+    /**
+     * Number of heartbeats after which the coordinator reads all the nodes of the group instead of the changed ones.
+     */
+    private static final int FULL_MEMBERSHIP_READ_INTERVAL = 12;
+
     /**
      * Heartbeat interval in milliseconds.
      */
@@ -397,6 +404,17 @@ public class RDBMSCoordinationStrategy implements CoordinationStrategy {
          */
         private ExecutorService dbCommunicatorExecutor = Executors.newSingleThreadExecutor();
 
+        /**
+         * Active nodes of the group as known by the coordinator, which is kept up to date with the changed nodes read
+         * on every heartbeat. Null while this node is not the coordinator.
+         */
+        private Set<String> activeNodeIds;
+
+        /**
+         * Number of heartbeats since the coordinator read all the nodes of the group.
+         */
+        private int heartbeatsSinceFullRead;
+
         /**
          * Constructor.
          *
@@ -423,8 +441,8 @@ public class RDBMSCoordinationStrategy implements CoordinationStrategy {
                     log.info("Current node state changed from: " + previousNodeState + " to: " + currentNodeState);
                     previousNodeState = currentNodeState;
                 }
-                long timeTakenForMemberTasks[] = new long[4];
-                long timeTakenForCoordinatorTasks[] = new long[5];
+                long timeTakenForMemberTasks[] = new long[3];
+                long timeTakenForCoordinatorTasks[] = new long[4];
                 switch (currentNodeState) {
                     case MEMBER:
                         performMemberTask(currentHeartbeatTime, timeTakenForMemberTasks);
@@ -448,21 +466,19 @@ public class RDBMSCoordinationStrategy implements CoordinationStrategy {
                         case MEMBER:
                             log.debug("The time taken to execute tasks in milliseconds at timestamp: " +
                                       clusterTaskEndingTime +
-                                      "\nupdateNodeHeartBeat(): " + timeTakenForMemberTasks[0] +
-                                      "\ncheckIfCoordinatorValid(): " + timeTakenForMemberTasks[1] +
-                                      "\nremoveCoordinator() if coordinator invalid: " + timeTakenForMemberTasks[2] +
-                                      "\nperformElectionTask() if coordinator invalid: " + timeTakenForMemberTasks[3]);
+                                      "\nupdateNodeHeartbeatAndCheckCoordinator(): " + timeTakenForMemberTasks[0] +
+                                      "\nremoveCoordinator() if coordinator invalid: " + timeTakenForMemberTasks[1] +
+                                      "\nperformElectionTask() if coordinator invalid: " + timeTakenForMemberTasks[2]);
                             break;
                         case COORDINATOR:
                             log.debug("The time taken to execute tasks in milliseconds at timestamp:" +
                                       clusterTaskEndingTime +
-                                      "\nupdateCoordinatorHeartbeat(): " + timeTakenForCoordinatorTasks[0] +
-                                      "\nupdateNodeHeartBeat() if still coordinator: " + timeTakenForCoordinatorTasks[1] +
-                                      "\ngetAllNodeData() if still coordinator: " + timeTakenForCoordinatorTasks[2] +
+                                      "\nupdateCoordinatorAndNodeHeartbeat(): " + timeTakenForCoordinatorTasks[0] +
+                                      "\nreadMembership() if still coordinator: " + timeTakenForCoordinatorTasks[1] +
                                       "\nfindAddedRemovedMembers() if still coordinator: " +
-                                      timeTakenForCoordinatorTasks[3] +
+                                      timeTakenForCoordinatorTasks[2] +
                                       "\nperformElectionTask() if NOT still coordinator: " +
-                                      timeTakenForCoordinatorTasks[4]);
+                                      timeTakenForCoordinatorTasks[3]);
                             break;
                         default:
                             log.error("No valid coordinator state found");
@@ -471,6 +487,7 @@ public class RDBMSCoordinationStrategy implements CoordinationStrategy {
                 // We are catching throwable to avoid subsequent executions getting suppressed
             } catch (Throwable e) {
                 currentNodeState = NodeState.MEMBER;
+                activeNodeIds = null;
                 try {
                     // Sleep for the duration of the inactiveIntervalAfterUnresponsive to allow time for the database to
                     // recover and give other nodes to take over the coordinator role and/or remove the node from the
@@ -515,30 +532,19 @@ public class RDBMSCoordinationStrategy implements CoordinationStrategy {
                 throws ClusterCoordinationException, InterruptedException {
             long taskStartTime = System.currentTimeMillis();
             long taskEndTime;
-            try {
-                performDBOperationsWithTimeout(() -> {
-                    updateNodeHeartBeat(currentHeartbeatTime);
-                    return null;
-                });
-            } catch (ClusterCoordinationException e) {
-                handleDatabaseDelay(localNodeId, localGroupId, e, "Error updating node heartbeat.");
-                throw e;
-            }
-            taskEndTime = System.currentTimeMillis();
-            timeTakenForMemberTasks[0] = taskEndTime - taskStartTime;
-            taskStartTime = taskEndTime;
             boolean coordinatorValid;
             try {
                 coordinatorValid = performDBOperationsWithTimeout(() ->
-                        communicationBusContext.checkIfCoordinatorValid
-                                (localGroupId, localNodeId, heartbeatMaxRetryInterval, currentHeartbeatTime)
+                        communicationBusContext.updateNodeHeartbeatAndCheckCoordinator
+                                (localNodeId, localGroupId, heartbeatMaxRetryInterval, currentHeartbeatTime)
                 );
             } catch (ClusterCoordinationException e) {
-                handleDatabaseDelay(localNodeId, localGroupId, e, "Error checking if coordinator is valid.");
+                handleDatabaseDelay(localNodeId, localGroupId, e,
+                        "Error updating node heartbeat and checking if coordinator is valid.");
                 throw e;
             }
             taskEndTime = System.currentTimeMillis();
-            timeTakenForMemberTasks[1] = taskEndTime - taskStartTime;
+            timeTakenForMemberTasks[0] = taskEndTime - taskStartTime;
             if (!coordinatorValid) {
                 taskStartTime = taskEndTime;
                 try {
@@ -553,25 +559,11 @@ public class RDBMSCoordinationStrategy implements CoordinationStrategy {
                     throw e;
                 }
                 taskEndTime = System.currentTimeMillis();
-                timeTakenForMemberTasks[2] = taskEndTime - taskStartTime;
+                timeTakenForMemberTasks[1] = taskEndTime - taskStartTime;
                 taskStartTime = taskEndTime;
                 performElectionTask(currentHeartbeatTime);
                 taskEndTime = System.currentTimeMillis();
-                timeTakenForMemberTasks[3] = taskEndTime - taskStartTime;
-            }
-        }
-
-        /**
-         * Try to update the heart beat entry for local node in the DB. If the entry is deleted by the coordinator,
-         * this will recreate the entry.
-         *
-         * @throws ClusterCoordinationException
-         */
-        private void updateNodeHeartBeat(long currentHeartbeatTime) throws ClusterCoordinationException {
-            boolean heartbeatEntryExists = communicationBusContext.updateNodeHeartbeat(localNodeId, localGroupId,
-                                                                                       currentHeartbeatTime);
-            if (!heartbeatEntryExists) {
-                communicationBusContext.createNodeHeartbeatEntry(localNodeId, localGroupId);
+                timeTakenForMemberTasks[2] = taskEndTime - taskStartTime;
             }
         }
 
@@ -589,197 +581,119 @@ public class RDBMSCoordinationStrategy implements CoordinationStrategy {
             boolean stillCoordinator;
             try {
                 stillCoordinator = performDBOperationsWithTimeout(() ->
-                        communicationBusContext.updateCoordinatorHeartbeat
+                        communicationBusContext.updateCoordinatorAndNodeHeartbeat
                                 (localNodeId, localGroupId, currentHeartbeatTime));
             } catch (ClusterCoordinationException e) {
                 handleDatabaseDelay(localNodeId, localGroupId, e,
-                        "Error updating coordinator heartbeat in LEADER_STATUS_TABLE due to database delay."
-                                + " Stopping coordinated tasks for this node. Please increase the heartbeat interval or"
-                                + " verify the database connection.");
+                        "Error updating coordinator heartbeat in LEADER_STATUS_TABLE and node heartbeat in"
+                                + " CLUSTER_NODE_STATUS_TABLE due to database delay. Stopping coordinated tasks for"
+                                + " this node. Please increase the heartbeat interval or verify the database"
+                                + " connection.");
                 throw e;
             }
             taskEndTime = System.currentTimeMillis();
             timeTakenForCoordinatorTasks[0] = taskEndTime - taskStartTime;
             taskStartTime = taskEndTime;
             if (stillCoordinator) {
+                // the changed nodes are read in between full reads, which correct any drift of the known nodes
+                boolean fullRead = activeNodeIds == null || ++heartbeatsSinceFullRead >= FULL_MEMBERSHIP_READ_INTERVAL;
+                List<NodeDetail> nodeInformation;
                 try {
-                    performDBOperationsWithTimeout(() -> {
-                        updateNodeHeartBeat(currentHeartbeatTime);
-                        return null;
-                    });
-                } catch (ClusterCoordinationException e) {
-                   handleDatabaseDelay(localNodeId, localGroupId, e,
-                           "Error updating node heartbeat in CLUSTER_NODE_STATUS_TABLE due to database delay."
-                                   + " Stopping coordinated tasks for this node. Please increase the heartbeat interval"
-                                   + " or verify the database connection.");
-                    throw e;
-                }
-                taskEndTime = System.currentTimeMillis();
-                timeTakenForCoordinatorTasks[1] = taskEndTime - taskStartTime;
-                taskStartTime = taskEndTime;
-
-                List<NodeDetail> allNodeInformation;
-                try {
-                    allNodeInformation = performDBOperationsWithTimeout(() ->
-                            communicationBusContext.getAllNodeData(localGroupId));
+                    nodeInformation = performDBOperationsWithTimeout(() -> fullRead
+                            ? communicationBusContext.getAllNodeData(localGroupId)
+                            : communicationBusContext.getChangedNodeData(localGroupId,
+                                    currentHeartbeatTime - heartbeatMaxRetryInterval));
                 } catch (ClusterCoordinationException e) {
-                    handleDatabaseDelay(localNodeId, localGroupId, e, "Error retrieving all node data from"
+                    handleDatabaseDelay(localNodeId, localGroupId, e, "Error retrieving node data from"
                             + " LEADER_STATUS_TABLE and CLUSTER_NODE_STATUS_TABLE due to database delay."
                             + " Stopping coordinated tasks for this node. Please increase the heartbeat interval or"
                             + " verify the database connection.");
                    throw e;
                 }
                 taskEndTime = System.currentTimeMillis();
-                timeTakenForCoordinatorTasks[2] = taskEndTime - taskStartTime;
+                timeTakenForCoordinatorTasks[1] = taskEndTime - taskStartTime;
                 taskStartTime = taskEndTime;
-                findAddedRemovedMembers(allNodeInformation, currentHeartbeatTime);
+                findAddedRemovedMembers(nodeInformation, fullRead, currentHeartbeatTime);
                 taskEndTime = System.currentTimeMillis();
-                timeTakenForCoordinatorTasks[3] = taskEndTime - taskStartTime;
+                timeTakenForCoordinatorTasks[2] = taskEndTime - taskStartTime;
             } else {
                 log.info("Found current node (nodeId: " + localNodeId + ") being removed from coordinator for " +
                          "the group " + localGroupId);
+                activeNodeIds = null;
                 performElectionTask(currentHeartbeatTime);
                 taskEndTime = System.currentTimeMillis();
-                timeTakenForCoordinatorTasks[4] = taskEndTime - taskStartTime;
+                timeTakenForCoordinatorTasks[3] = taskEndTime - taskStartTime;
             }
 
         }
 
         /**
-         * Finds the newly added and removed nodes to the group.
+         * Finds the newly added and removed nodes to the group, and stores the membership changes along with the
+         * events for the active nodes in a single transaction.
          *
-         * @param allNodeInformation all the node information of the group
-         * @param currentTimeMillis  current timestamp
+         * @param nodeInformation   all the nodes of the group, or the changed nodes only
+         * @param allNodes          whether the node information contains all the nodes of the group
+         * @param currentTimeMillis current timestamp
          */
-        private void findAddedRemovedMembers(List<NodeDetail> allNodeInformation, long currentTimeMillis) {
-            List<String> allActiveNodeIds = getNodeIds(allNodeInformation);
-            List<NodeDetail> removedNodeDetails = new ArrayList<>();
+        private void findAddedRemovedMembers(List<NodeDetail> nodeInformation, boolean allNodes,
+                                             long currentTimeMillis) {
+            Set<String> activeNodes = allNodes ? new LinkedHashSet<>() : new LinkedHashSet<>(activeNodeIds);
             List<String> newNodes = new ArrayList<String>();
             List<String> removedNodes = new ArrayList<String>();
-            for (NodeDetail nodeDetail : allNodeInformation) {
+            for (NodeDetail nodeDetail : nodeInformation) {
                 long heartbeatAge = currentTimeMillis - nodeDetail.getLastHeartbeat();
                 String nodeId = nodeDetail.getNodeId();
                 if (heartbeatAge >= heartbeatMaxRetryInterval) {
                     removedNodes.add(nodeId);
-                    allActiveNodeIds.remove(nodeId);
-                    removedNodeDetails.add(nodeDetail);
-                    try {
-                        performDBOperationsWithTimeout(() -> {
-                            communicationBusContext.removeNode(nodeId, localGroupId);
-                            return null;
-                        });
-                    } catch (ClusterCoordinationException e) {
-                        handleDatabaseDelay(nodeId, localGroupId, e, "Error removing node " + nodeId
-                                + " from group " + localGroupId + " due to database delay.");
-                        throw e;
-                    }
-                } else if (nodeDetail.isNewNode()) {
-                    newNodes.add(nodeId);
-                    try {
-                        performDBOperationsWithTimeout(() -> {
-                            communicationBusContext.markNodeAsNotNew(nodeId, localGroupId);
-                            return null;
-                        });
-                    } catch (ClusterCoordinationException e) {
-                        handleDatabaseDelay(nodeId, localGroupId, e, "Error marking node as not"
-                                + " new for nodeId: " + nodeId + " in group: " + localGroupId);
-                        throw e;
-
+                    activeNodes.remove(nodeId);
+                } else {
+                    activeNodes.add(nodeId);
+                    if (nodeDetail.isNewNode()) {
+                        newNodes.add(nodeId);
                     }
                 }
             }
-
-            notifyAddedMembers(newNodes, allActiveNodeIds);
-            notifyRemovedMembers(removedNodes, allActiveNodeIds, removedNodeDetails);
-        }
-
-        /**
-         * Handles the database delay.
-         *
-         * @param nodeId      node ID of the current node
-         * @param groupId group ID of the current group
-         * @param e           exception occurred
-         * @param logMessage  log message
-         */
-        private void handleDatabaseDelay(String nodeId, String groupId, Exception e, String logMessage) {
-            log.warn(logMessage + " Make task Sleep for the duration of : " + inactiveIntervalAfterUnresponsive , e);
-            setUnresponsiveness(nodeId, groupId);
-        }
-
-        /**
-         * Notifies the members in the group about the newly added nodes.
-         *
-         * @param newNodes         The list of newly added members to the group
-         * @param allActiveNodeIds all the node IDs of the current group
-         */
-        private void notifyAddedMembers(List<String> newNodes, List<String> allActiveNodeIds) {
-            for (String newNode : newNodes) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Member added " + StringUtil.removeCRLFCharacters(newNode) + "to group " +
-                              StringUtil.removeCRLFCharacters(localGroupId));
-                }
+            if (!newNodes.isEmpty() || !removedNodes.isEmpty()) {
+                List<String> allActiveNodeIds = new ArrayList<>(activeNodes);
                 try {
                     performDBOperationsWithTimeout(() -> {
-                        rdbmsMemberEventProcessor.notifyMembershipEvent(newNode, localGroupId, allActiveNodeIds,
-                                MemberEventType.MEMBER_ADDED);
+                        communicationBusContext.storeMembershipChanges(localGroupId, newNodes, removedNodes,
+                                                                       allActiveNodeIds);
                         return null;
                     });
                 } catch (ClusterCoordinationException e) {
-                    handleDatabaseDelay(newNode, localGroupId, e
-                            , "Error notifying membership event for new node " + newNode);
+                    handleDatabaseDelay(localNodeId, localGroupId, e, "Error storing membership changes of group "
+                            + localGroupId + " due to database delay.");
                     throw e;
                 }
-            }
-        }
-
-        /**
-         * Stores the removed member detail in the database.
-         *
-         * @param allActiveNodeIds   all the node IDs of the current group
-         * @param removedNodeDetails node details of the removed nodes
-         */
-        private void storeRemovedMemberDetails(List<String> allActiveNodeIds, List<NodeDetail> removedNodeDetails) {
-            for (NodeDetail nodeDetail : removedNodeDetails) {
-                try {
-                    performDBOperationsWithTimeout(() -> {
-                        communicationBusContext.insertRemovedNodeDetails(nodeDetail.getNodeId()
-                                , nodeDetail.getGroupId(), allActiveNodeIds);
-                        return null;
-                    });
-                } catch (ClusterCoordinationException e) {
-                    handleDatabaseDelay(nodeDetail.getNodeId(), nodeDetail.getGroupId(), e
-                            , "Error inserting removed node details for node " + nodeDetail.getNodeId());
-                    throw e;
+                if (log.isDebugEnabled()) {
+                    for (String newNode : newNodes) {
+                        log.debug("Member added " + StringUtil.removeCRLFCharacters(newNode) + "to group " +
+                                  StringUtil.removeCRLFCharacters(localGroupId));
+                    }
+                    for (String removedNode : removedNodes) {
+                        log.debug("Member removed " + StringUtil.removeCRLFCharacters(removedNode) + "from group "
+                                  + StringUtil.removeCRLFCharacters(localGroupId));
+                    }
                 }
             }
+            activeNodeIds = activeNodes;
+            if (allNodes) {
+                heartbeatsSinceFullRead = 0;
+            }
         }
 
         /**
-         * Notifies the members in the group about the removed nodes from the group.
+         * Handles the database delay.
          *
-         * @param removedNodes     The list of removed membwes from the group
-         * @param allActiveNodeIds all the node IDs of the current group
+         * @param nodeId      node ID of the current node
+         * @param groupId group ID of the current group
+         * @param e           exception occurred
+         * @param logMessage  log message
          */
-        private void notifyRemovedMembers(List<String> removedNodes, List<String> allActiveNodeIds,
-                                          List<NodeDetail> removedNodeDetails) {
-            storeRemovedMemberDetails(allActiveNodeIds, removedNodeDetails);
-            for (String removedNode : removedNodes) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Member removed " + StringUtil.removeCRLFCharacters(removedNode) + "from group "
-                              + StringUtil.removeCRLFCharacters(localGroupId));
-                }
-                try {
-                    performDBOperationsWithTimeout(() -> {
-                        rdbmsMemberEventProcessor.notifyMembershipEvent(removedNode, localGroupId, allActiveNodeIds,
-                                MemberEventType.MEMBER_REMOVED);
-                        return null;
-                    });
-                } catch (ClusterCoordinationException e) {
-                    handleDatabaseDelay(removedNode, localGroupId, e
-                            , "Error notifying membership event for removed node " + removedNode);
-                    throw e;
-                }
-            }
+        private void handleDatabaseDelay(String nodeId, String groupId, Exception e, String logMessage) {
+            log.warn(logMessage + " Make task Sleep for the duration of : " + inactiveIntervalAfterUnresponsive , e);
+            setUnresponsiveness(nodeId, groupId);
         }
 
         /**
@@ -825,7 +739,7 @@ public class RDBMSCoordinationStrategy implements CoordinationStrategy {
                             , "Error retrieving all node data from the database.");
                     throw e;
                 }
-                findAddedRemovedMembers(allNodeInformation, currentHeartbeatTime);
+                findAddedRemovedMembers(allNodeInformation, true, currentHeartbeatTime);
                 nodeState = NodeState.COORDINATOR;
                 // notify nodes about coordinator change
                 List<String> nodeIdentifiers = new ArrayList<>();
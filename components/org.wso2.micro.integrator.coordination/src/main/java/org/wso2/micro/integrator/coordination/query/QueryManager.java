@@ -54,6 +54,7 @@ public class QueryManager {
                 put(DBQueries.GET_COORDINATOR_HEARTBEAT, "SELECT LAST_HEARTBEAT FROM LEADER_STATUS_TABLE WHERE GROUP_ID =?");
                 put(DBQueries.GET_ALL_NODE_HEARTBEAT, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=?");
                 put(DBQueries.GET_NODE_DATA, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=? AND NODE_ID=?");
+                put(DBQueries.GET_CHANGED_NODE_HEARTBEAT, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=? AND (IS_NEW_NODE=1 OR LAST_HEARTBEAT < ?)");
 
                 put(DBQueries.DELETE_COORDINATOR, "DELETE FROM LEADER_STATUS_TABLE WHERE GROUP_ID =? AND LAST_HEARTBEAT < ?");
                 put(DBQueries.DELETE_NODE_HEARTBEAT, "DELETE FROM CLUSTER_NODE_STATUS_TABLE WHERE NODE_ID =? AND GROUP_ID =?");
@@ -89,6 +90,7 @@ public class QueryManager {
                 put(DBQueries.GET_COORDINATOR_HEARTBEAT, "SELECT LAST_HEARTBEAT FROM LEADER_STATUS_TABLE WHERE GROUP_ID =?");
                 put(DBQueries.GET_ALL_NODE_HEARTBEAT, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=?");
                 put(DBQueries.GET_NODE_DATA, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=? AND NODE_ID=?");
+                put(DBQueries.GET_CHANGED_NODE_HEARTBEAT, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=? AND (IS_NEW_NODE=1 OR LAST_HEARTBEAT < ?)");
 
                 put(DBQueries.DELETE_COORDINATOR, "DELETE FROM LEADER_STATUS_TABLE WHERE GROUP_ID =? AND LAST_HEARTBEAT < ?");
                 put(DBQueries.DELETE_NODE_HEARTBEAT, "DELETE FROM CLUSTER_NODE_STATUS_TABLE WHERE NODE_ID =? AND GROUP_ID =?");
@@ -123,6 +125,7 @@ public class QueryManager {
                 put(DBQueries.GET_COORDINATOR_HEARTBEAT, "SELECT LAST_HEARTBEAT FROM LEADER_STATUS_TABLE WHERE GROUP_ID =?");
                 put(DBQueries.GET_ALL_NODE_HEARTBEAT, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=?");
                 put(DBQueries.GET_NODE_DATA, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=? AND NODE_ID=?");
+                put(DBQueries.GET_CHANGED_NODE_HEARTBEAT, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=? AND (IS_NEW_NODE=1 OR LAST_HEARTBEAT < ?)");
 
                 put(DBQueries.DELETE_COORDINATOR, "DELETE FROM LEADER_STATUS_TABLE WHERE GROUP_ID =? AND LAST_HEARTBEAT < ?");
                 put(DBQueries.DELETE_NODE_HEARTBEAT, "DELETE FROM CLUSTER_NODE_STATUS_TABLE WHERE NODE_ID =? AND GROUP_ID =?");
@@ -157,6 +160,7 @@ public class QueryManager {
                 put(DBQueries.GET_COORDINATOR_HEARTBEAT, "SELECT LAST_HEARTBEAT FROM LEADER_STATUS_TABLE WHERE GROUP_ID =?");
                 put(DBQueries.GET_ALL_NODE_HEARTBEAT, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=?");
                 put(DBQueries.GET_NODE_DATA, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=? AND NODE_ID=?");
+                put(DBQueries.GET_CHANGED_NODE_HEARTBEAT, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=? AND (IS_NEW_NODE=1 OR LAST_HEARTBEAT < ?)");
 
                 put(DBQueries.DELETE_COORDINATOR, "DELETE FROM LEADER_STATUS_TABLE WHERE GROUP_ID =? AND LAST_HEARTBEAT < ?");
                 put(DBQueries.DELETE_NODE_HEARTBEAT, "DELETE FROM CLUSTER_NODE_STATUS_TABLE WHERE NODE_ID =? AND GROUP_ID =?");
@@ -191,6 +195,7 @@ public class QueryManager {
                 put(DBQueries.GET_COORDINATOR_HEARTBEAT, "SELECT LAST_HEARTBEAT FROM LEADER_STATUS_TABLE WHERE GROUP_ID =?");
                 put(DBQueries.GET_ALL_NODE_HEARTBEAT, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=?");
                 put(DBQueries.GET_NODE_DATA, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=? AND NODE_ID=?");
+                put(DBQueries.GET_CHANGED_NODE_HEARTBEAT, "SELECT GROUP_ID, NODE_ID, LAST_HEARTBEAT, IS_NEW_NODE FROM CLUSTER_NODE_STATUS_TABLE WHERE GROUP_ID=? AND (IS_NEW_NODE=1 OR LAST_HEARTBEAT < ?)");
 
                 put(DBQueries.DELETE_COORDINATOR, "DELETE FROM LEADER_STATUS_TABLE WHERE GROUP_ID =? AND LAST_HEARTBEAT < ?");
                 put(DBQueries.DELETE_NODE_HEARTBEAT, "DELETE FROM CLUSTER_NODE_STATUS_TABLE WHERE NODE_ID =? AND GROUP_ID =?");
@@ -220,6 +225,7 @@ public class QueryManager {
         GET_COORDINATOR_HEARTBEAT,
         GET_ALL_NODE_HEARTBEAT,
         GET_NODE_DATA,
+        GET_CHANGED_NODE_HEARTBEAT,
         DELETE_COORDINATOR,
         DELETE_NODE_HEARTBEAT,
         DELETE_REMOVED_MEMBER_DETAIL_FOR_NODE,
@@ -82,6 +82,33 @@ public interface CommunicationBusContext {
     boolean updateNodeHeartbeat(String nodeId, String groupId, long currentHeartbeatTime)
             throws ClusterCoordinationException;
 
+    /**
+     * Update the node heartbeat, creating the heartbeat entry if it was removed, and check whether the coordinator
+     * is valid in a single transaction. This is the periodic task of a member node.
+     *
+     * @param nodeId               local node ID
+     * @param groupId              local group ID
+     * @param age                  maximum relative age of the coordinator heartbeat in milliseconds
+     * @param currentHeartbeatTime current heartbeat time
+     * @return True if the coordinator is valid, false otherwise
+     * @throws ClusterCoordinationException when an error is detected while calling the store (mostly due to a DB error)
+     */
+    boolean updateNodeHeartbeatAndCheckCoordinator(String nodeId, String groupId, int age, long currentHeartbeatTime)
+            throws ClusterCoordinationException;
+
+    /**
+     * Update the coordinator heartbeat and, if the node is still the coordinator, the node heartbeat in a single
+     * transaction. This is the periodic task of the coordinator node.
+     *
+     * @param nodeId               local node ID
+     * @param groupId              local group ID
+     * @param currentHeartbeatTime current heartbeat time
+     * @return True if the node is still the coordinator, false otherwise
+     * @throws ClusterCoordinationException when an error is detected while calling the store (mostly due to a DB error)
+     */
+    boolean updateCoordinatorAndNodeHeartbeat(String nodeId, String groupId, long currentHeartbeatTime)
+            throws ClusterCoordinationException;
+
     /**
      * Create Node heartbeat value to current time
      *
@@ -100,6 +127,31 @@ public interface CommunicationBusContext {
      */
     List<NodeDetail> getAllNodeData(String groupId) throws ClusterCoordinationException;
 
+    /**
+     * Get the nodes whose membership changed, which are the nodes not yet identified by the coordinator and the
+     * nodes whose heartbeat expired. The coordinator flag of the returned nodes is not resolved.
+     *
+     * @param groupId         local group ID
+     * @param expiryThreshold heartbeat time before which a node is considered to have left the group
+     * @return list of the nodes whose membership changed
+     * @throws ClusterCoordinationException when an error is detected while calling the store (mostly due to a DB error)
+     */
+    List<NodeDetail> getChangedNodeData(String groupId, long expiryThreshold) throws ClusterCoordinationException;
+
+    /**
+     * Apply the membership changes detected by the coordinator in a single transaction. The heartbeat entries of the
+     * removed nodes are deleted, the new nodes are marked as identified, and the membership events are stored for
+     * the active nodes.
+     *
+     * @param groupId      local group ID
+     * @param newNodes     nodes which joined the group
+     * @param removedNodes nodes which left the group
+     * @param activeNodes  nodes to notify the events
+     * @throws ClusterCoordinationException when an error is detected while calling the store (mostly due to a DB error)
+     */
+    void storeMembershipChanges(String groupId, List<String> newNodes, List<String> removedNodes,
+                                List<String> activeNodes) throws ClusterCoordinationException;
+
     /**
      * Remove heartbeat entry for the given node. This is normally done when the coordinator detects that the node
      * has left the
@@ -41,6 +41,10 @@ public class RDBMSConstantUtils {
     public static final String TASK_CREATE_NODE_HEARTBEAT = "creating node heartbeat";
     public static final String TASK_GET_ALL_QUEUES = "getting all queues";
     public static final String TASK_REMOVE_NODE_HEARTBEAT = "removing node heartbeat entry";
+    public static final String TASK_UPDATE_MEMBER_HEARTBEAT = "updating member heartbeat";
+    public static final String TASK_UPDATE_COORDINATOR_AND_NODE_HEARTBEAT = "updating coordinator and node heartbeat";
+    public static final String TASK_GET_CHANGED_NODES = "getting changed nodes";
+    public static final String TASK_STORE_MEMBERSHIP_CHANGES = "storing membership changes";
 
     public static final String HEART_BEAT_INTERVAL = "heartBeatInterval";
     public static final String HEART_BEAT_MAX_RETRY = "heartbeatMaxRetry";
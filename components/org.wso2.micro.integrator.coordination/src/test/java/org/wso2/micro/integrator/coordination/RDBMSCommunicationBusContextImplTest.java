@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.coordination;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.micro.integrator.coordination.node.NodeDetail;
+import org.wso2.micro.integrator.coordination.util.MemberEvent;
+import org.wso2.micro.integrator.coordination.util.MemberEventType;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests the coordination database calls against an embedded H2 database.
+ */
+public class RDBMSCommunicationBusContextImplTest {
+
+    private static final String GROUP_ID = "default";
+    private static final int HEARTBEAT_MAX_AGE = 15000;
+
+    private JdbcDataSource dataSource;
+    private Connection keepAliveConnection;
+    private RDBMSCommunicationBusContextImpl communicationBusContext;
+
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:coordination");
+        // the in memory database lives as long as a connection is open
+        keepAliveConnection = dataSource.getConnection();
+        try (Statement statement = keepAliveConnection.createStatement()) {
+            statement.execute("CREATE TABLE LEADER_STATUS_TABLE (GROUP_ID VARCHAR (512) NOT NULL, "
+                              + "NODE_ID VARCHAR (512) NOT NULL, LAST_HEARTBEAT BIGINT NOT NULL, "
+                              + "PRIMARY KEY (GROUP_ID))");
+            statement.execute("CREATE TABLE CLUSTER_NODE_STATUS_TABLE (GROUP_ID VARCHAR (512) NOT NULL, "
+                              + "NODE_ID VARCHAR (512) NOT NULL, IS_NEW_NODE INT NOT NULL, "
+                              + "LAST_HEARTBEAT BIGINT NOT NULL, PRIMARY KEY (GROUP_ID, NODE_ID))");
+            statement.execute("CREATE TABLE MEMBERSHIP_EVENT_TABLE (GROUP_ID VARCHAR (512) NOT NULL, "
+                              + "NODE_ID VARCHAR (512) NOT NULL, CHANGE_TYPE INT NOT NULL, "
+                              + "CHANGED_MEMBER_ID VARCHAR (512) NOT NULL)");
+            statement.execute("CREATE TABLE REMOVED_MEMBERS_TABLE (GROUP_ID VARCHAR (512) NOT NULL, "
+                              + "NODE_ID VARCHAR (512) NOT NULL, REMOVED_MEMBER_ID VARCHAR (512) NOT NULL)");
+        }
+        communicationBusContext = new RDBMSCommunicationBusContextImpl(dataSource);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        try (Statement statement = keepAliveConnection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        keepAliveConnection.close();
+    }
+
+    @Test
+    public void testMemberHeartbeatCreatesEntryAndChecksCoordinator() {
+        long now = System.currentTimeMillis();
+        Assert.assertFalse(communicationBusContext.updateNodeHeartbeatAndCheckCoordinator("node-1", GROUP_ID,
+                HEARTBEAT_MAX_AGE, now));
+        NodeDetail nodeDetail = communicationBusContext.getNodeData("node-1", GROUP_ID);
+        Assert.assertNotNull(nodeDetail);
+        Assert.assertTrue(nodeDetail.isNewNode());
+
+        Assert.assertTrue(communicationBusContext.createCoordinatorEntry("node-2", GROUP_ID));
+        Assert.assertTrue(communicationBusContext.updateNodeHeartbeatAndCheckCoordinator("node-1", GROUP_ID,
+                HEARTBEAT_MAX_AGE, now + 1000));
+        Assert.assertEquals(now + 1000, communicationBusContext.getNodeData("node-1", GROUP_ID).getLastHeartbeat());
+        Assert.assertFalse(communicationBusContext.updateNodeHeartbeatAndCheckCoordinator("node-1", GROUP_ID,
+                HEARTBEAT_MAX_AGE, now + HEARTBEAT_MAX_AGE * 2));
+    }
+
+    @Test
+    public void testCoordinatorHeartbeatUpdatesNodeHeartbeat() {
+        long now = System.currentTimeMillis();
+        Assert.assertTrue(communicationBusContext.createCoordinatorEntry("node-1", GROUP_ID));
+        Assert.assertTrue(communicationBusContext.updateCoordinatorAndNodeHeartbeat("node-1", GROUP_ID, now));
+        NodeDetail nodeDetail = communicationBusContext.getNodeData("node-1", GROUP_ID);
+        Assert.assertNotNull(nodeDetail);
+        Assert.assertTrue(nodeDetail.isCoordinator());
+        Assert.assertEquals(now, nodeDetail.getLastHeartbeat());
+
+        Assert.assertFalse(communicationBusContext.updateCoordinatorAndNodeHeartbeat("node-2", GROUP_ID, now));
+        Assert.assertNull(communicationBusContext.getNodeData("node-2", GROUP_ID));
+    }
+
+    @Test
+    public void testChangedNodeDataContainsNewAndExpiredNodes() {
+        long now = System.currentTimeMillis();
+        communicationBusContext.createNodeHeartbeatEntry("new-node", GROUP_ID);
+        communicationBusContext.createNodeHeartbeatEntry("active-node", GROUP_ID);
+        communicationBusContext.markNodeAsNotNew("active-node", GROUP_ID);
+        communicationBusContext.createNodeHeartbeatEntry("expired-node", GROUP_ID);
+        communicationBusContext.markNodeAsNotNew("expired-node", GROUP_ID);
+        communicationBusContext.updateNodeHeartbeat("expired-node", GROUP_ID, now - HEARTBEAT_MAX_AGE * 2);
+
+        List<String> changedNodes = new ArrayList<>();
+        for (NodeDetail nodeDetail : communicationBusContext.getChangedNodeData(GROUP_ID, now - HEARTBEAT_MAX_AGE)) {
+            changedNodes.add(nodeDetail.getNodeId());
+        }
+        Collections.sort(changedNodes);
+        Assert.assertEquals(Arrays.asList("expired-node", "new-node"), changedNodes);
+        Assert.assertEquals(3, communicationBusContext.getAllNodeData(GROUP_ID).size());
+    }
+
+    @Test
+    public void testMembershipChangesStoredInSingleTransaction() {
+        communicationBusContext.createNodeHeartbeatEntry("new-node", GROUP_ID);
+        communicationBusContext.createNodeHeartbeatEntry("active-node", GROUP_ID);
+        communicationBusContext.markNodeAsNotNew("active-node", GROUP_ID);
+        communicationBusContext.createNodeHeartbeatEntry("expired-node", GROUP_ID);
+
+        communicationBusContext.storeMembershipChanges(GROUP_ID, Collections.singletonList("new-node"),
+                Collections.singletonList("expired-node"), Arrays.asList("new-node", "active-node"));
+
+        Assert.assertNull(communicationBusContext.getNodeData("expired-node", GROUP_ID));
+        Assert.assertFalse(communicationBusContext.getNodeData("new-node", GROUP_ID).isNewNode());
+        for (String node : Arrays.asList("new-node", "active-node")) {
+            List<MemberEvent> events = communicationBusContext.readMemberShipEvents(node);
+            Assert.assertEquals(2, events.size());
+            Assert.assertEquals(MemberEventType.MEMBER_ADDED, events.get(0).getMembershipEventType());
+            Assert.assertEquals("new-node", events.get(0).getTargetNodeId());
+            Assert.assertEquals(MemberEventType.MEMBER_REMOVED, events.get(1).getMembershipEventType());
+            Assert.assertEquals("expired-node", events.get(1).getTargetNodeId());
+            Assert.assertNotNull(communicationBusContext.getRemovedNodeData(node, GROUP_ID, "expired-node"));
+            Assert.assertTrue(communicationBusContext.readMemberShipEvents(node).isEmpty());
+        }
+    }
+
+    @Test
+    public void testAllNodeDataResolvesCoordinator() {
+        communicationBusContext.createNodeHeartbeatEntry("node-1", GROUP_ID);
+        communicationBusContext.createNodeHeartbeatEntry("node-2", GROUP_ID);
+        Assert.assertTrue(communicationBusContext.createCoordinatorEntry("node-2", GROUP_ID));
+        for (NodeDetail nodeDetail : communicationBusContext.getAllNodeData(GROUP_ID)) {
+            Assert.assertEquals("node-2".equals(nodeDetail.getNodeId()), nodeDetail.isCoordinator());
+        }
+    }
+}
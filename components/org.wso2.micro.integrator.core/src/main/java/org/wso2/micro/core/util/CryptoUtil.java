@@ -29,10 +29,14 @@ import java.nio.charset.Charset;
 import java.security.KeyStore;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
 import java.security.PrivateKey;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateEncodingException;
+import java.util.HashMap;
+import java.util.Map;
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
 
 /**
  * The utility class to encrypt/decrypt passwords to be stored in the
@@ -41,6 +45,7 @@ import javax.crypto.Cipher;
 public class CryptoUtil {
 
     private static final String CIPHER_TRANSFORMATION_SYSTEM_PROPERTY = "org.wso2.CipherTransformation";
+    private static final String DEFAULT_CIPHER_TRANSFORMATION = "RSA";
     private static Log log = LogFactory.getLog(CryptoUtil.class);
     private String primaryKeyStoreAlias;
     private String internalKeyStoreAlias;
@@ -49,6 +54,12 @@ public class CryptoUtil {
     private CarbonServerConfigurationService serverConfigService;
     private Gson gson = new Gson();
     private static CryptoUtil instance = null;
+    // Cipher instances are not thread safe and costly to look up, hence each thread keeps one per transformation
+    private static final ThreadLocal<Map<String, Cipher>> ciphers = ThreadLocal.withInitial(HashMap::new);
+    // the key material is resolved from the key store once, as the key store is not reloaded at runtime
+    private volatile Certificate encryptionCertificate;
+    private volatile PrivateKey decryptionKey;
+    private volatile String jceProvider;
     private static final char[] HEX_CHARACTERS = new char[]{'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B',
                                                             'C', 'D', 'E', 'F'};
 
@@ -117,34 +128,23 @@ public class CryptoUtil {
                 encryptedKey = encryption.encryptWithSymmetricKey(plainTextBytes);
             } else {
                 Cipher keyStoreCipher;
-                KeyStore keyStore;
-                Certificate[] certs;
-                org.wso2.micro.core.util.KeyStoreManager keyMan = org.wso2.micro.core.util.KeyStoreManager.getInstance(
-                        Constants.SUPER_TENANT_ID,
-                        this.getServerConfigService());
-                if (keyMan.getInternalKeyStore() != null) {
-                    keyStore = keyMan.getInternalKeyStore();
-                    certs = keyStore.getCertificateChain(internalKeyStoreAlias);
-                } else {
-                    keyStore = keyMan.getPrimaryKeyStore();
-                    certs = keyStore.getCertificateChain(primaryKeyStoreAlias);
-                }
+                Certificate certificate = getEncryptionCertificate();
                 boolean isCipherTransformEnabled = false;
 
                 if (cipherTransformation != null) {
                     if (log.isDebugEnabled()) {
                         log.debug("Cipher transformation for encryption : " + cipherTransformation);
                     }
-                    keyStoreCipher = Cipher.getInstance(cipherTransformation, getJceProvider());
+                    keyStoreCipher = getCipher(cipherTransformation);
                     isCipherTransformEnabled = true;
                 } else {
                     if (log.isDebugEnabled()) {
                         log.debug("Default Cipher transformation for encryption : RSA");
                     }
-                    keyStoreCipher = Cipher.getInstance("RSA", getJceProvider());
+                    keyStoreCipher = getCipher(DEFAULT_CIPHER_TRANSFORMATION);
                 }
 
-                keyStoreCipher.init(Cipher.ENCRYPT_MODE, certs[0].getPublicKey());
+                keyStoreCipher.init(Cipher.ENCRYPT_MODE, certificate.getPublicKey());
                 if (isCipherTransformEnabled && plainTextBytes.length == 0) {
                     encryptedKey = "".getBytes();
                     if (log.isDebugEnabled()) {
@@ -154,7 +154,7 @@ public class CryptoUtil {
                     encryptedKey = keyStoreCipher.doFinal(plainTextBytes);
                 }
                 if (isCipherTransformEnabled && returnSelfContainedCipherText) {
-                    encryptedKey = createSelfContainedCiphertext(encryptedKey, cipherTransformation, certs[0]);
+                    encryptedKey = createSelfContainedCiphertext(encryptedKey, cipherTransformation, certificate);
                 }
             }
         } catch (Exception e) {
@@ -221,18 +221,7 @@ public class CryptoUtil {
                 decryptedValue = encryption.decryptWithSymmetricKey(cipherTextBytes);
             } else {
                 Cipher keyStoreCipher;
-                KeyStore keyStore;
-                PrivateKey privateKey;
-                org.wso2.micro.core.util.KeyStoreManager keyMan = org.wso2.micro.core.util.KeyStoreManager.getInstance(
-                        Constants.SUPER_TENANT_ID,
-                        this.getServerConfigService());
-                if (keyMan.getInternalKeyStore() != null) {
-                    keyStore = keyMan.getInternalKeyStore();
-                    privateKey = (PrivateKey) keyStore.getKey(internalKeyStoreAlias, internalKeyStoreKeyPass.toCharArray());
-                } else {
-                    keyStore = keyMan.getPrimaryKeyStore();
-                    privateKey = (PrivateKey) keyStore.getKey(primaryKeyStoreAlias, primaryKeyStoreKeyPass.toCharArray());
-                }
+                PrivateKey privateKey = getDecryptionKey();
                 String cipherTransformation = System.getProperty(CIPHER_TRANSFORMATION_SYSTEM_PROPERTY);
                 boolean isCipherTransformEnabled = false;
 
@@ -243,17 +232,17 @@ public class CryptoUtil {
                         if (log.isDebugEnabled()) {
                             log.debug("Cipher transformation for decryption : " + cipherHolder.getTransformation());
                         }
-                        keyStoreCipher = Cipher.getInstance(cipherHolder.getTransformation(), getJceProvider());
+                        keyStoreCipher = getCipher(cipherHolder.getTransformation());
                         cipherTextBytes = cipherHolder.getCipherBase64Decoded();
                         isCipherTransformEnabled = true;
                     } else {
-                        keyStoreCipher = Cipher.getInstance(cipherTransformation, getJceProvider());
+                        keyStoreCipher = getCipher(cipherTransformation);
                         isCipherTransformEnabled = true;
                     }
                 } else {
                     // This will reach if the user have removed org.wso2.CipherTransformation from the carbon.properties
                     // or delete carbon.properties file
-                    keyStoreCipher = Cipher.getInstance("RSA", getJceProvider());
+                    keyStoreCipher = getCipher(DEFAULT_CIPHER_TRANSFORMATION);
                 }
 
                 keyStoreCipher.init(Cipher.DECRYPT_MODE, privateKey);
@@ -296,21 +285,11 @@ public class CryptoUtil {
                 decryptedValue = encryption.decryptWithSymmetricKey(cipherTextBytes);
             } else {
                 Cipher keyStoreCipher;
-                KeyStore keyStore;
-                PrivateKey privateKey;
-                org.wso2.micro.core.util.KeyStoreManager keyMan = KeyStoreManager
-                        .getInstance(Constants.SUPER_TENANT_ID, this.getServerConfigService());
-                if (keyMan.getInternalKeyStore() != null) {
-                    keyStore = keyMan.getInternalKeyStore();
-                    privateKey = (PrivateKey) keyStore.getKey(internalKeyStoreAlias, internalKeyStoreKeyPass.toCharArray());
-                } else {
-                    keyStore = keyMan.getPrimaryKeyStore();
-                    privateKey = (PrivateKey) keyStore.getKey(primaryKeyStoreAlias, primaryKeyStoreKeyPass.toCharArray());
-                }
+                PrivateKey privateKey = getDecryptionKey();
                 if (cipherTransformation != null) {
-                    keyStoreCipher = Cipher.getInstance(cipherTransformation, getJceProvider());
+                    keyStoreCipher = getCipher(cipherTransformation);
                 } else {
-                    keyStoreCipher = Cipher.getInstance("RSA", getJceProvider());
+                    keyStoreCipher = getCipher(DEFAULT_CIPHER_TRANSFORMATION);
                 }
 
                 keyStoreCipher.init(Cipher.DECRYPT_MODE, privateKey);
@@ -453,17 +432,85 @@ public class CryptoUtil {
         return strBuffer.toString();
     }
 
+    /**
+     * Returns the cipher of the current thread for the given transformation, which should be initialized before use.
+     *
+     * @param transformation cipher transformation
+     * @return cipher of the current thread
+     */
+    private Cipher getCipher(String transformation) throws NoSuchAlgorithmException, NoSuchProviderException,
+                                                            NoSuchPaddingException {
+
+        Map<String, Cipher> threadCiphers = ciphers.get();
+        Cipher cipher = threadCiphers.get(transformation);
+        if (cipher == null) {
+            cipher = Cipher.getInstance(transformation, getJceProvider());
+            threadCiphers.put(transformation, cipher);
+        }
+        return cipher;
+    }
+
+    /**
+     * Returns the certificate of the internal key store, or of the primary key store if there is no internal key
+     * store, whose public key is used for encryption.
+     */
+    private Certificate getEncryptionCertificate() throws Exception {
+
+        Certificate certificate = encryptionCertificate;
+        if (certificate == null) {
+            KeyStoreManager keyMan = KeyStoreManager.getInstance(Constants.SUPER_TENANT_ID, getServerConfigService());
+            KeyStore keyStore = keyMan.getInternalKeyStore();
+            Certificate[] certs;
+            if (keyStore != null) {
+                certs = keyStore.getCertificateChain(internalKeyStoreAlias);
+            } else {
+                certs = keyMan.getPrimaryKeyStore().getCertificateChain(primaryKeyStoreAlias);
+            }
+            certificate = certs[0];
+            encryptionCertificate = certificate;
+        }
+        return certificate;
+    }
+
+    /**
+     * Returns the private key of the internal key store, or of the primary key store if there is no internal key
+     * store, which is used for decryption.
+     */
+    private PrivateKey getDecryptionKey() throws Exception {
+
+        PrivateKey privateKey = decryptionKey;
+        if (privateKey == null) {
+            KeyStoreManager keyMan = KeyStoreManager.getInstance(Constants.SUPER_TENANT_ID, getServerConfigService());
+            KeyStore keyStore = keyMan.getInternalKeyStore();
+            if (keyStore != null) {
+                privateKey = (PrivateKey) keyStore.getKey(internalKeyStoreAlias, internalKeyStoreKeyPass.toCharArray());
+            } else {
+                privateKey = (PrivateKey) keyMan.getPrimaryKeyStore().getKey(primaryKeyStoreAlias,
+                                                                            primaryKeyStoreKeyPass.toCharArray());
+            }
+            decryptionKey = privateKey;
+        }
+        return privateKey;
+    }
+
     /**
      * Get the JCE provider to be used for encryption/decryption
      *
      * @return
      */
     private String getJceProvider() {
-        String provider = CarbonServerConfigurationService.getInstance().getFirstProperty("JCEProvider");
-        if (provider == null && provider.equalsIgnoreCase(Constants.BOUNCY_CASTLE_FIPS_PROVIDER)) {
-            return Constants.BOUNCY_CASTLE_FIPS_PROVIDER;
+
+        String provider = jceProvider;
+        if (provider == null) {
+            if (Constants.BOUNCY_CASTLE_FIPS_PROVIDER.equalsIgnoreCase(
+                    CarbonServerConfigurationService.getInstance().getFirstProperty("JCEProvider"))) {
+                provider = Constants.BOUNCY_CASTLE_FIPS_PROVIDER;
+            } else {
+                provider = Constants.BOUNCY_CASTLE_PROVIDER;
+            }
+            jceProvider = provider;
         }
-        return Constants.BOUNCY_CASTLE_PROVIDER;
+        return provider;
     }
 }
 
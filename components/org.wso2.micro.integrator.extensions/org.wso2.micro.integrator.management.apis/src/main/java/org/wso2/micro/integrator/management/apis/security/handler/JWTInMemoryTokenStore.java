@@ -22,19 +22,29 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * This singleton class holds the in memory token store
+ * This singleton class holds the in memory token store.
+ * <p>
+ * Tokens are kept in the least recently accessed first order, hence the least recently accessed token is removed in
+ * constant time when the store is full, and expire through a timer wheel, hence removing the expired tokens does not
+ * walk the whole store. A token is looked up by its serialized form and is not returned once it has expired, even if
+ * the cleanup task has not removed it yet.
  */
 public class JWTInMemoryTokenStore extends JWTTokenStore {
 
     private static Log LOG = LogFactory.getLog(JWTInMemoryTokenStore.class);
 
+    private static final long EXPIRY_TICK_MILLIS = 1000;
+
     private static JWTInMemoryTokenStore JWT_IN_MEMORY_TOKEN_STORE_INSTANCE = null;
 
-    private static Map<String, JWTTokenInfoDTO> tokenStore;
+    // access ordered, guarded by this store along with the expiry wheel
+    private final Map<String, TokenExpiryWheel.Entry> tokenStore = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final TokenExpiryWheel expiryWheel = new TokenExpiryWheel(EXPIRY_TICK_MILLIS, System.currentTimeMillis());
 
     private int storeSize = AuthConstants.JWT_TOKEN_STORE_DEFAULT_SIZE;
 
@@ -50,7 +60,6 @@ public class JWTInMemoryTokenStore extends JWTTokenStore {
         if (JWT_IN_MEMORY_TOKEN_STORE_INSTANCE == null ) {
             JWT_IN_MEMORY_TOKEN_STORE_INSTANCE = new JWTInMemoryTokenStore();
             JWT_IN_MEMORY_TOKEN_STORE_INSTANCE.setStoreSize(storeSize);
-            setTokenStore(new ConcurrentHashMap<String, JWTTokenInfoDTO>());
         }
         return JWT_IN_MEMORY_TOKEN_STORE_INSTANCE;
     }
@@ -69,44 +78,50 @@ public class JWTInMemoryTokenStore extends JWTTokenStore {
         }
     }
 
-    private Map<String, JWTTokenInfoDTO> getTokenStore() {
-        return tokenStore;
-    }
-
-    private static void setTokenStore(Map<String, JWTTokenInfoDTO> tokenStore) {
-        JWTInMemoryTokenStore.tokenStore = tokenStore;
-    }
-
     @Override
-    public JWTTokenInfoDTO getToken(String token) {
-        if (getTokenStore() == null) {
+    public synchronized JWTTokenInfoDTO getToken(String token) {
+        if (token == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        expireTokens(now);
+        TokenExpiryWheel.Entry entry = tokenStore.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.getExpiry() < now) {
+            // expired within the current tick of the expiry wheel
+            removeToken(token);
             return null;
         }
-        return getTokenStore().get(token);
+        return entry.getTokenInfo();
     }
 
     @Override
-    public boolean putToken(String token, JWTTokenInfoDTO jwtTokenInfoDTO) {
-        if (getTokenStore().size() < storeSize) { //Limit store size to avoid memory growth
-            LOG.debug("New token added to token store");
-            getTokenStore().put(token, jwtTokenInfoDTO);
-            return true;
-        } else {
+    public synchronized boolean putToken(String token, JWTTokenInfoDTO jwtTokenInfoDTO) {
+        expireTokens(System.currentTimeMillis());
+        removeToken(token);
+        if (tokenStore.size() >= storeSize) { //Limit store size to avoid memory growth
             if (JWTConfig.getInstance().getJwtConfigDto().isRemoveOldestElementOnOverflow()) {
                 LOG.info("Token store exhausted. Retrying after cleaning up the store");
                 cleanupStore();
-                if(putToken(token, jwtTokenInfoDTO)) {
-                    return true;
-                }
             }
-            LOG.warn("Token store exhausted. Please increase the token store size");
-            return false;
+            if (tokenStore.size() >= storeSize) {
+                LOG.warn("Token store exhausted. Please increase the token store size");
+                return false;
+            }
         }
+        LOG.debug("New token added to token store");
+        TokenExpiryWheel.Entry entry = new TokenExpiryWheel.Entry(token, jwtTokenInfoDTO,
+                                                                  jwtTokenInfoDTO.getExpiry());
+        tokenStore.put(token, entry);
+        expiryWheel.schedule(entry);
+        return true;
     }
 
 
     @Override
-    public boolean revokeToken(String token) {
+    public synchronized boolean revokeToken(String token) {
         JWTTokenInfoDTO  jwtToken = getToken(token);
         if (jwtToken != null) {
             removeToken(token);
@@ -118,8 +133,11 @@ public class JWTInMemoryTokenStore extends JWTTokenStore {
     }
 
     @Override
-    public void removeToken(String token) {
-        getTokenStore().remove(token);
+    public synchronized void removeToken(String token) {
+        TokenExpiryWheel.Entry entry = tokenStore.remove(token);
+        if (entry != null) {
+            expiryWheel.cancel(entry);
+        }
     }
 
     public int getStoreSize() {
@@ -131,37 +149,29 @@ public class JWTInMemoryTokenStore extends JWTTokenStore {
     }
 
     @Override
-    public void removeExpired() {
+    public synchronized void removeExpired() {
         LOG.debug("Removing expired tokens from token store");
-        Iterator<String> tokenIterator = getTokenStore().keySet().iterator();
-        while (tokenIterator.hasNext()) {
-            String key = tokenIterator.next();
-            if ((getTokenStore().get(key).getExpiry() < System.currentTimeMillis()) || getTokenStore().get(key).isRevoked()) {
-                tokenIterator.remove(); //Remove if token is expired or revoked
-            }
-        }
+        expireTokens(System.currentTimeMillis());
+    }
+
+    private void expireTokens(long now) {
+        expiryWheel.advance(now, entry -> tokenStore.remove(entry.getToken()));
     }
 
     @Override
-    public void cleanupStore() {
+    public synchronized void cleanupStore() {
         // Current cleanup logic is to remove the token with oldest access time
         LOG.debug("Removing oldest accessed token from store");
-        Iterator<String> tokenIterator = getTokenStore().keySet().iterator();
-        long leastAccessTimeStamp = System.currentTimeMillis();
-        String leastAccessedToken = null;
-        while (tokenIterator.hasNext()) {
-            String key = tokenIterator.next();
-            long tokenTimeStamp = getTokenStore().get(key).getLastAccess();
-            if (tokenTimeStamp < leastAccessTimeStamp) {
-                leastAccessTimeStamp = tokenTimeStamp;
-                leastAccessedToken = key;
-            }
+        Iterator<TokenExpiryWheel.Entry> tokenIterator = tokenStore.values().iterator();
+        if (tokenIterator.hasNext()) {
+            TokenExpiryWheel.Entry leastAccessedToken = tokenIterator.next();
+            tokenIterator.remove();
+            expiryWheel.cancel(leastAccessedToken);
         }
-        getTokenStore().remove(leastAccessedToken);
     }
 
     @Override
-    public int getCurrentSize() {
-        return getTokenStore().size();
+    public synchronized int getCurrentSize() {
+        return tokenStore.size();
     }
 }
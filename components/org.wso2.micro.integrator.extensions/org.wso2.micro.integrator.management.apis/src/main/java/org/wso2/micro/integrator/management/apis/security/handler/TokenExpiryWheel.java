@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.management.apis.security.handler;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel which expires the tokens of the token store.
+ * <p>
+ * The wheel has 4 levels of 64 slots. A slot of the first level spans one tick and a slot of each next level spans
+ * 64 slots of the level below, hence the wheel covers 64^4 ticks ( about 194 days with one second ticks ). A token is
+ * placed in the slot of the lowest level which covers its expiry, and when the wheel passes a slot of an upper level
+ * its tokens are moved down to the lower levels. Scheduling and cancelling a token are constant time, and advancing
+ * the wheel only touches the expired tokens and the tokens moved down, instead of all the tokens of the store.
+ * <p>
+ * This class is not thread safe, the token store guards it.
+ */
+final class TokenExpiryWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    // sentinel heads of the circular lists of the slots
+    private final Entry[][] slots = new Entry[LEVELS][SLOTS];
+    private long currentTick;
+    private int size;
+
+    TokenExpiryWheel(long tickMillis, long now) {
+
+        this.tickMillis = tickMillis;
+        this.currentTick = now / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Entry head = new Entry(null, null, 0);
+                head.prev = head;
+                head.next = head;
+                slots[level][slot] = head;
+            }
+        }
+    }
+
+    /**
+     * Schedules the entry to expire at its expiry time. An entry which has already expired expires on the next tick.
+     */
+    void schedule(Entry entry) {
+
+        // round up, so that an entry never expires early
+        long expiryTick = entry.expiry / tickMillis + (entry.expiry % tickMillis == 0 ? 0 : 1);
+        entry.expiryTick = Math.max(expiryTick, currentTick + 1);
+        place(entry);
+        size++;
+    }
+
+    /**
+     * Removes the entry from the wheel, if it is scheduled.
+     */
+    void cancel(Entry entry) {
+
+        if (entry.next != null) {
+            unlink(entry);
+            size--;
+        }
+    }
+
+    /**
+     * Advances the wheel to the given time, passing each expired entry to the consumer.
+     */
+    void advance(long now, Consumer<Entry> expired) {
+
+        long targetTick = now / tickMillis;
+        while (currentTick < targetTick && size > 0) {
+            currentTick++;
+            int index = (int) (currentTick & SLOT_MASK);
+            if (index == 0) {
+                cascade(1);
+            }
+            Entry head = slots[0][index];
+            while (head.next != head) {
+                Entry entry = head.next;
+                unlink(entry);
+                size--;
+                expired.accept(entry);
+            }
+        }
+        if (currentTick < targetTick) {
+            // nothing is scheduled, hence the ticks in between need not be walked
+            currentTick = targetTick;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Moves the entries of the current slot of the level down to the lower levels, after doing the same for the next
+     * level if this level has wrapped around.
+     */
+    private void cascade(int level) {
+
+        if (level >= LEVELS) {
+            return;
+        }
+        int index = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Entry head = slots[level][index];
+        while (head.next != head) {
+            Entry entry = head.next;
+            unlink(entry);
+            place(entry);
+        }
+        if (index == 0) {
+            cascade(level + 1);
+        }
+    }
+
+    private void place(Entry entry) {
+
+        long delay = entry.expiryTick - currentTick;
+        long tick = entry.expiryTick;
+        if (delay > MAX_DELAY_TICKS) {
+            // beyond the range of the wheel, placed in the farthest slot and moved again once it is reached
+            delay = MAX_DELAY_TICKS;
+            tick = currentTick + MAX_DELAY_TICKS;
+        }
+        int level = 0;
+        while (delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int index = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Entry head = slots[level][index];
+        entry.prev = head.prev;
+        entry.next = head;
+        head.prev.next = entry;
+        head.prev = entry;
+    }
+
+    private static void unlink(Entry entry) {
+
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    /**
+     * Token of the token store, linked into a slot of the wheel.
+     */
+    static final class Entry {
+
+        private final String token;
+        private final JWTTokenInfoDTO tokenInfo;
+        private final long expiry;
+        private long expiryTick;
+        private Entry prev;
+        private Entry next;
+
+        Entry(String token, JWTTokenInfoDTO tokenInfo, long expiry) {
+
+            this.token = token;
+            this.tokenInfo = tokenInfo;
+            this.expiry = expiry;
+        }
+
+        String getToken() {
+            return token;
+        }
+
+        JWTTokenInfoDTO getTokenInfo() {
+            return tokenInfo;
+        }
+
+        long getExpiry() {
+            return expiry;
+        }
+    }
+}
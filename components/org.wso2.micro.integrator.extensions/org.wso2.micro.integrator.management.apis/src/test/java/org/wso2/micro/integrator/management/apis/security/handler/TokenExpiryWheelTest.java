@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.management.apis.security.handler;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class TokenExpiryWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_700_000_000_123L;
+
+    /**
+     * Tests that tokens expire on the first tick at or after their expiry, across all the levels of the wheel and
+     * beyond its range.
+     */
+    @Test
+    public void testExpiryAcrossLevels() {
+
+        TokenExpiryWheel wheel = new TokenExpiryWheel(TICK, START);
+        long[] delays = {500, 1000, 63_000, 64_000, 65_500, 4_096_000, 5_000_000, 262_144_000, 300_000_000,
+                16_777_216_000L, 20_000_000_000L};
+        List<TokenExpiryWheel.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < delays.length; i++) {
+            TokenExpiryWheel.Entry entry = new TokenExpiryWheel.Entry("token" + i, null, START + delays[i]);
+            wheel.schedule(entry);
+            entries.add(entry);
+        }
+        Assert.assertEquals(delays.length, wheel.size());
+
+        for (TokenExpiryWheel.Entry entry : entries) {
+            List<TokenExpiryWheel.Entry> expired = new ArrayList<>();
+            wheel.advance(entry.getExpiry() - TICK, expired::add);
+            Assert.assertTrue("Token " + entry.getToken() + " expired early", expired.isEmpty());
+            wheel.advance(entry.getExpiry() + TICK - 1, expired::add);
+            Assert.assertEquals("Token " + entry.getToken() + " did not expire", 1, expired.size());
+            Assert.assertSame(entry, expired.get(0));
+        }
+        Assert.assertEquals(0, wheel.size());
+    }
+
+    /**
+     * Tests that cancelled tokens do not expire and that random tokens expire on time.
+     */
+    @Test
+    public void testCancelAndRandomExpiry() {
+
+        TokenExpiryWheel wheel = new TokenExpiryWheel(TICK, START);
+        Random random = new Random(42);
+        List<TokenExpiryWheel.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long delay = (long) (random.nextDouble() * 10_000_000);
+            TokenExpiryWheel.Entry entry = new TokenExpiryWheel.Entry("token" + i, null, START + delay);
+            wheel.schedule(entry);
+            entries.add(entry);
+        }
+        for (int i = 0; i < entries.size(); i += 2) {
+            wheel.cancel(entries.get(i));
+        }
+        Assert.assertEquals(1000, wheel.size());
+
+        List<TokenExpiryWheel.Entry> expired = new ArrayList<>();
+        for (long now = START; now < START + 10_000_000 + 7_777 + TICK; now += 7_777) {
+            long current = now;
+            wheel.advance(now, entry -> {
+                Assert.assertTrue("Token " + entry.getToken() + " expired early", entry.getExpiry() <= current);
+                Assert.assertTrue("Token " + entry.getToken() + " expired late",
+                                  entry.getExpiry() > current - 7_777 - TICK);
+                expired.add(entry);
+            });
+        }
+        Assert.assertEquals(1000, expired.size());
+        for (TokenExpiryWheel.Entry entry : expired) {
+            Assert.assertEquals("Cancelled token expired", 1, Integer.parseInt(entry.getToken().substring(5)) % 2);
+        }
+        Assert.assertEquals(0, wheel.size());
+    }
+
+    /**
+     * Tests that a token which has already expired, expires on the next tick.
+     */
+    @Test
+    public void testExpiredOnSchedule() {
+
+        TokenExpiryWheel wheel = new TokenExpiryWheel(TICK, START);
+        wheel.advance(START + 10 * TICK, entry -> Assert.fail("Nothing is scheduled"));
+        TokenExpiryWheel.Entry entry = new TokenExpiryWheel.Entry("token", null, START);
+        wheel.schedule(entry);
+
+        List<TokenExpiryWheel.Entry> expired = new ArrayList<>();
+        wheel.advance(START + 11 * TICK, expired::add);
+        Assert.assertEquals(1, expired.size());
+    }
+}
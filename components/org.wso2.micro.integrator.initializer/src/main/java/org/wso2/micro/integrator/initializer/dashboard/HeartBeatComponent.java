@@ -24,26 +24,15 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpPost;
-import org.apache.http.conn.ssl.NoopHostnameVerifier;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
-import org.apache.http.conn.ssl.TrustStrategy;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.EntityUtils;
 import org.wso2.carbon.inbound.endpoint.internal.http.api.ConfigurationLoader;
 import org.wso2.config.mapper.ConfigParser;
 import org.wso2.micro.core.util.StringUtils;
 
 import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import static org.wso2.micro.integrator.initializer.dashboard.Constants.COLON;
 import static org.wso2.micro.integrator.initializer.dashboard.Constants.DASHBOARD_CONFIG_GROUP_ID;
@@ -52,7 +41,6 @@ import static org.wso2.micro.integrator.initializer.dashboard.Constants.DASHBOAR
 import static org.wso2.micro.integrator.initializer.dashboard.Constants.DASHBOARD_CONFIG_URL;
 import static org.wso2.micro.integrator.initializer.dashboard.Constants.DEFAULT_GROUP_ID;
 import static org.wso2.micro.integrator.initializer.dashboard.Constants.FORWARD_SLASH;
-import static org.wso2.micro.integrator.initializer.dashboard.Constants.HEADER_VALUE_APPLICATION_JSON;
 import static org.wso2.micro.integrator.initializer.dashboard.Constants.HTTPS_PREFIX;
 import static org.wso2.micro.integrator.initializer.dashboard.Constants.MANAGEMENT;
 import static org.wso2.micro.integrator.initializer.dashboard.Constants.NODE_ID_SYSTEM_PROPERTY;
@@ -78,8 +66,6 @@ public class HeartBeatComponent {
         long interval = getInterval();
         String mgtApiUrl = getMgtApiUrl();
 
-        final HttpPost httpPost = new HttpPost(heartbeatApiUrl);
-
         JsonObject heartbeatPayload = new JsonObject();
         heartbeatPayload.addProperty("product", PRODUCT_MI);
         heartbeatPayload.addProperty("groupId", groupId);
@@ -87,31 +73,11 @@ public class HeartBeatComponent {
         heartbeatPayload.addProperty("interval", interval);
         heartbeatPayload.addProperty("mgtApiUrl", mgtApiUrl);
 
-        httpPost.setHeader("Accept", HEADER_VALUE_APPLICATION_JSON);
-        httpPost.setHeader("Content-type", HEADER_VALUE_APPLICATION_JSON);
-
-        ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
-        Runnable runnableTask = () -> {
-
-            try (CloseableHttpClient client = HttpClients.custom().setSSLSocketFactory(
-                    new SSLConnectionSocketFactory(
-                            SSLContexts.custom().loadTrustMaterial(null,
-                                    (TrustStrategy) new TrustSelfSignedStrategy()).build(),
-                            NoopHostnameVerifier.INSTANCE)).build()) {
-                final StringEntity entity = new StringEntity(heartbeatPayload.toString());
-                httpPost.setEntity(entity);
-                CloseableHttpResponse response = client.execute(httpPost);
-                JsonObject jsonResponse = getJsonResponse(response);
-                if (jsonResponse != null && jsonResponse.get("status").getAsString().equals("success")) {
-                    log.debug("Heartbeat sent successfully.");
-                } else {
-                    log.debug("Error occurred while sending the heartbeat.");
-                }
-            } catch (Exception e) {
-                log.debug("Error occurred while processing the heartbeat.", e);
-            }
-        };
-        scheduledExecutorService.scheduleAtFixedRate(runnableTask, 1, interval, TimeUnit.SECONDS);
+        try {
+            new HeartBeatSender(heartbeatApiUrl, heartbeatPayload, interval).start(1000L);
+        } catch (GeneralSecurityException e) {
+            log.error("Error occurred while creating the heartbeat client.", e);
+        }
     }
 
     private static String getMgtApiUrl() {
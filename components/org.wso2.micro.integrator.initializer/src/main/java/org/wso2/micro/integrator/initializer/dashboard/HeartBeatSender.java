@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * you may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.initializer.dashboard;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.conn.ssl.TrustStrategy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContexts;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.micro.integrator.initializer.dashboard.Constants.HEADER_VALUE_APPLICATION_JSON;
+
+/**
+ * Sends heartbeats to the dashboard.
+ * <p>
+ * The heartbeats are sent through a single client, which keeps the connection to the dashboard alive between the
+ * heartbeats, and the payload is serialized once as it does not change. The heartbeats are spread by a random jitter
+ * of the interval, and the interval is doubled after each failed heartbeat up to a limit, so that a fleet of nodes
+ * does not keep hitting a dashboard which is down at the same time.
+ */
+class HeartBeatSender implements Runnable {
+
+    private static final Log log = LogFactory.getLog(HeartBeatSender.class);
+
+    private static final double JITTER = 0.1;
+    private static final long MAX_BACKOFF_INTERVAL = TimeUnit.MINUTES.toMillis(5);
+
+    private final String heartbeatApiUrl;
+    private final HttpEntity payload;
+    private final long interval;
+    private final CloseableHttpClient client;
+    private final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+    private int failureCount;
+
+    /**
+     * @param heartbeatApiUrl URL of the heartbeat API of the dashboard
+     * @param payload         heartbeat payload
+     * @param interval        heartbeat interval in seconds
+     * @throws GeneralSecurityException if the SSL context could not be created
+     */
+    HeartBeatSender(String heartbeatApiUrl, JsonObject payload, long interval) throws GeneralSecurityException {
+
+        this.heartbeatApiUrl = heartbeatApiUrl;
+        this.payload = new ByteArrayEntity(payload.toString().getBytes(StandardCharsets.UTF_8),
+                                           ContentType.APPLICATION_JSON);
+        this.interval = TimeUnit.SECONDS.toMillis(interval);
+
+        SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(
+                SSLContexts.custom().loadTrustMaterial(null, (TrustStrategy) new TrustSelfSignedStrategy()).build(),
+                NoopHostnameVerifier.INSTANCE);
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                RegistryBuilder.<ConnectionSocketFactory>create()
+                        .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                        .register("https", sslSocketFactory).build());
+        connectionManager.setMaxTotal(1);
+        connectionManager.setDefaultMaxPerRoute(1);
+        int timeout = (int) Math.min(this.interval, Integer.MAX_VALUE);
+        this.client = HttpClients.custom().setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom().setConnectTimeout(timeout).setSocketTimeout(timeout)
+                                                 .setConnectionRequestTimeout(timeout).build()).build();
+    }
+
+    /**
+     * Start sending the heartbeats.
+     *
+     * @param initialDelay delay of the first heartbeat in milliseconds
+     */
+    void start(long initialDelay) {
+        scheduledExecutorService.schedule(this, initialDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop sending the heartbeats and close the connection to the dashboard.
+     */
+    void stop() {
+
+        scheduledExecutorService.shutdownNow();
+        try {
+            client.close();
+        } catch (IOException e) {
+            log.debug("Error occurred while closing the heartbeat client.", e);
+        }
+    }
+
+    @Override
+    public void run() {
+
+        long delay = getNextDelay(send());
+        if (!scheduledExecutorService.isShutdown()) {
+            scheduledExecutorService.schedule(this, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Send a heartbeat to the dashboard.
+     *
+     * @return whether the dashboard accepted the heartbeat
+     */
+    boolean send() {
+
+        HttpPost httpPost = new HttpPost(heartbeatApiUrl);
+        httpPost.setHeader("Accept", HEADER_VALUE_APPLICATION_JSON);
+        httpPost.setEntity(payload);
+        // the response is consumed and closed, which releases the connection back to the pool
+        try (CloseableHttpResponse response = client.execute(httpPost)) {
+            JsonObject jsonResponse = HeartBeatComponent.getJsonResponse(response);
+            JsonElement status = jsonResponse == null ? null : jsonResponse.get("status");
+            if (status != null && "success".equals(status.getAsString())) {
+                log.debug("Heartbeat sent successfully.");
+                return true;
+            }
+            log.debug("Error occurred while sending the heartbeat.");
+        } catch (Exception e) {
+            log.debug("Error occurred while processing the heartbeat.", e);
+        }
+        return false;
+    }
+
+    /**
+     * Compute the delay of the next heartbeat, which is the interval doubled for each consecutive failure up to a
+     * limit, with a random jitter.
+     *
+     * @param sent whether the last heartbeat was accepted by the dashboard
+     * @return delay of the next heartbeat in milliseconds
+     */
+    long getNextDelay(boolean sent) {
+
+        long delay = interval;
+        if (sent) {
+            failureCount = 0;
+        } else {
+            failureCount++;
+            long maxDelay = Math.max(interval, MAX_BACKOFF_INTERVAL);
+            for (int i = 0; i < failureCount && delay < maxDelay; i++) {
+                delay *= 2;
+            }
+            delay = Math.min(delay, maxDelay);
+        }
+        double jitter = ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+        return Math.max(1, Math.round(delay * (1 + jitter)));
+    }
+}
@@ -46,10 +46,16 @@ import javax.xml.stream.XMLStreamException;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -76,8 +82,18 @@ public class MediationPersistenceManager {
     private SynapseConfiguration synapseConfiguration;
     private String configName;
 
-    /** Queue to hold persistence requests - Make sure all accesses are synchronized */
-    private final LinkedList<PersistenceRequest> requestQueue = new LinkedList<PersistenceRequest>();
+    private static final String FULL_CONFIG_KEY = String.valueOf(ServiceBusConstants.ITEM_TYPE_FULL_CONFIG);
+
+    /**
+     * Queue to hold persistence requests, keyed by the item they are made for, in the order the items were first
+     * requested - Make sure all accesses are guarded by the queue lock
+     */
+    private final Map<String, PersistenceRequest> requestQueue = new LinkedHashMap<String, PersistenceRequest>();
+    private final ReentrantLock queueLock = new ReentrantLock();
+    /** Signalled to make the worker process the queue without waiting for the interval */
+    private final Condition flushRequested = queueLock.newCondition();
+    /** Signalled by the worker once it has processed all the requests in the queue */
+    private final Condition queueDrained = queueLock.newCondition();
 
     private MediationPersistenceWorker worker;
     private boolean acceptRequests;
@@ -183,18 +199,21 @@ public class MediationPersistenceManager {
             log.debug("Shutting down mediation persistence manager");
         }
 
-        // Wait till the jobs already in the queue are done
-        while (!requestQueue.isEmpty()) {
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException ignore) { }
-        }
-
-        // Halt the persistence worker thread
-        worker.proceed = false;
-        if (worker.isAlive()) {
-            // If the worker is asleep, wake him up
-            worker.interrupt();
+        queueLock.lock();
+        try {
+            // Wake up the worker and wait till the jobs already in the queue are done
+            flushRequested.signal();
+            while ((!requestQueue.isEmpty() || worker.processing) && worker.isAlive()) {
+                queueDrained.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for the pending persistence requests to complete");
+        } finally {
+            // Halt the persistence worker thread
+            worker.proceed = false;
+            flushRequested.signal();
+            queueLock.unlock();
         }
         initialized = false;
     }
@@ -228,9 +247,7 @@ public class MediationPersistenceManager {
         }
 
         PersistenceRequest request = new PersistenceRequest(name, itemType, true);
-        synchronized (requestQueue) {
-            addToQueue(request);
-        }
+        addToQueue(request);
     }
 
     /**
@@ -254,9 +271,7 @@ public class MediationPersistenceManager {
         }
 
         PersistenceRequest request = new PersistenceRequest(name, fileName, itemType, false);
-        synchronized (requestQueue) {
-            addToQueue(request);
-        }
+        addToQueue(request);
     }
 
 
@@ -270,31 +285,20 @@ public class MediationPersistenceManager {
      */
     private void addToQueue(PersistenceRequest request) {
 
-        int i = 0;
-        boolean matchFound = false;
-        for (; i < requestQueue.size(); i++) {
-            PersistenceRequest oldRequest = requestQueue.get(i);
-            if (oldRequest.subjectType == ServiceBusConstants.ITEM_TYPE_FULL_CONFIG) {
+        queueLock.lock();
+        try {
+            if (requestQueue.containsKey(FULL_CONFIG_KEY)) {
                 // if a request to save the full configuration is already in the queue
                 // we can ignore the current request - Configuration will get saved
                 // to the disk anyway
                 return;
             }
 
-            if (oldRequest.subjectType == request.subjectType &&
-                    oldRequest.subjectId.equals(request.subjectId)) {
-                matchFound = true;
-                break;
-            }
-        }
-
-        if (matchFound) {
-            // If an older request was found for the same item overwrite it
-            requestQueue.remove(i);
-            requestQueue.add(i, request);
-        } else {
-            // Otherwise add the current request to the tail of the queue
-            requestQueue.offer(request);
+            // If an older request was found for the same item it is overwritten in its
+            // position, otherwise the current request is added to the tail of the queue
+            requestQueue.put(request.getKey(), request);
+        } finally {
+            queueLock.unlock();
         }
     }
 
@@ -314,9 +318,12 @@ public class MediationPersistenceManager {
         PersistenceRequest request = new PersistenceRequest(null,
                 ServiceBusConstants.ITEM_TYPE_FULL_CONFIG, true);
         request.registryOnly = registryOnly;
-        synchronized (requestQueue) {
+        queueLock.lock();
+        try {
             requestQueue.clear();
-            requestQueue.offer(request);
+            requestQueue.put(request.getKey(), request);
+        } finally {
+            queueLock.unlock();
         }
     }
 
@@ -325,46 +332,62 @@ public class MediationPersistenceManager {
         throw new ServiceBusPersistenceException(msg, t);
     }
 
+    /**
+     * Waits for the interval, unless a flush is requested, and then takes all the requests
+     * queued up meanwhile as a single batch. The requests queued up while a batch is being
+     * processed are taken as the next batch right away.
+     */
     private class MediationPersistenceWorker extends Thread {
 
+        /** Guarded by the queue lock */
         boolean proceed = true;
+        /** Guarded by the queue lock */
+        boolean processing = false;
 
         public void run() {
             if (log.isDebugEnabled()) {
                 log.debug("Starting the mediation persistence worker thread");
             }
 
-            while (proceed) {
-                PersistenceRequest request;
+            while (true) {
+                Collection<PersistenceRequest> requests;
 
-                synchronized (requestQueue) {
-                   request = requestQueue.poll();
-                }
-
-                if (request == null) {
-                    try {
-                        sleep(interval);
-                    } catch (InterruptedException ignore) {
-                        // This condition could occur only during system shutdown.
-                        // We can safely ignore this.
+                queueLock.lock();
+                try {
+                    if (requestQueue.isEmpty() && proceed) {
+                        flushRequested.await(interval, TimeUnit.MILLISECONDS);
                     }
-
-                    // Simply go to the next iteration
+                    if (requestQueue.isEmpty()) {
+                        queueDrained.signalAll();
+                        if (!proceed) {
+                            break;
+                        }
+                        // Simply go to the next iteration
+                        continue;
+                    }
+                    requests = new ArrayList<PersistenceRequest>(requestQueue.values());
+                    requestQueue.clear();
+                    processing = true;
+                } catch (InterruptedException ignore) {
+                    // This condition could occur only during system shutdown.
+                    // We can safely ignore this.
                     continue;
+                } finally {
+                    queueLock.unlock();
                 }
+
                 try {
-                    //SynapseConfiguration config = synapseConfiguration;
-                    if (flatFileMode) {
-                        saveToFlatFile(synapseConfiguration);
-                    } else if (request.save) {
-                        persistElement(synapseConfiguration, request);
-                    } else {
-                        deleteElement(synapseConfiguration, request);
+                    processRequests(requests);
+                } finally {
+                    queueLock.lock();
+                    try {
+                        processing = false;
+                        if (requestQueue.isEmpty()) {
+                            queueDrained.signalAll();
+                        }
+                    } finally {
+                        queueLock.unlock();
                     }
-                } catch (Throwable t) {
-                    // Just log the error and continue
-                    // DO NOT throw the error since that will kill the worker thread
-                    log.error("Error while saving mediation configuration changes", t);
                 }
             }
 
@@ -374,6 +397,36 @@ public class MediationPersistenceManager {
         }
     }
 
+    private void processRequests(Collection<PersistenceRequest> requests) {
+        if (log.isDebugEnabled()) {
+            log.debug("Processing " + requests.size() + " mediation persistence requests");
+        }
+
+        if (flatFileMode) {
+            // The whole configuration is saved to the file, which takes care of all the requests
+            try {
+                saveToFlatFile(synapseConfiguration);
+            } catch (Throwable t) {
+                log.error("Error while saving mediation configuration changes", t);
+            }
+            return;
+        }
+
+        for (PersistenceRequest request : requests) {
+            try {
+                if (request.save) {
+                    persistElement(synapseConfiguration, request);
+                } else {
+                    deleteElement(synapseConfiguration, request);
+                }
+            } catch (Throwable t) {
+                // Just log the error and continue
+                // DO NOT throw the error since that will kill the worker thread
+                log.error("Error while saving mediation configuration changes", t);
+            }
+        }
+    }
+
     private void persistElement(SynapseConfiguration config, PersistenceRequest request) {
         if (request.subjectType == ServiceBusConstants.ITEM_TYPE_FULL_CONFIG) {
             saveFullConfiguration(config);
@@ -388,19 +441,30 @@ public class MediationPersistenceManager {
         dataStore.delete(request.subjectId, request.fileName, config);
     }
 
-    @SuppressWarnings({"ResultOfMethodCallIgnored"})
+    /**
+     * Serializes the configuration to a temporary file next to the configuration file, and
+     * then moves it over the configuration file, so that the configuration file is never
+     * left partially written.
+     */
     private void saveToFlatFile(SynapseConfiguration config) throws IOException,
             XMLStreamException {
 
-        File outputFile = new File(configPath);
-        if (!outputFile.exists()) {
-            outputFile.createNewFile();
+        File outputFile = new File(configPath).getAbsoluteFile();
+        File tempFile = File.createTempFile(outputFile.getName(), ".tmp", outputFile.getParentFile());
+        try {
+            try (FileOutputStream fos = new FileOutputStream(tempFile)) {
+                XMLConfigurationSerializer.serializeConfiguration(config, fos);
+                fos.flush();
+                fos.getFD().sync();
+            }
+            try {
+                Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
         }
-
-        FileOutputStream fos = new FileOutputStream(outputFile);
-        XMLConfigurationSerializer.serializeConfiguration(config, fos);
-        fos.flush();
-        fos.close();
     }
 
     private void saveFullConfiguration(SynapseConfiguration config) {
@@ -518,6 +582,16 @@ public class MediationPersistenceManager {
             this.fileName = fileName;
         }
 
+        /**
+         * @return key of the item the request is made for
+         */
+        String getKey() {
+            if (subjectType == ServiceBusConstants.ITEM_TYPE_FULL_CONFIG) {
+                return FULL_CONFIG_KEY;
+            }
+            return subjectType + ":" + subjectId;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -73,6 +73,45 @@ public class SequencePersistenceTest extends MediationPersistenceTest {
         System.out.println("Sequence persistence test completed successfully...");
     }
 
+    public void testBulkSequencePersistence() {
+        System.out.println("Starting bulk sequence persistence test...");
+
+        int count = 200;
+        for (int i = 0; i < count; i++) {
+            SequenceMediator seq = new SequenceMediator();
+            seq.setName("bulkSeq" + i);
+            seq.setFileName("bulkSeq" + i + ".xml");
+            synapseConfigSvc.getSynapseConfiguration().addSequence(seq.getName(), seq);
+            getMediationPersistenceManager().saveItem(seq.getName(),
+                    ServiceBusConstants.ITEM_TYPE_SEQUENCE);
+        }
+        for (int i = 0; i < count; i++) {
+            synapseConfigSvc.getSynapseConfiguration().getDefinedSequences().get("bulkSeq" + i)
+                    .addChild(new LogMediator());
+            getMediationPersistenceManager().saveItem("bulkSeq" + i,
+                    ServiceBusConstants.ITEM_TYPE_SEQUENCE);
+        }
+
+        // Shutting down must complete the pending requests
+        getMediationPersistenceManager().destroy();
+
+        SequenceMediatorFactory factory = new SequenceMediatorFactory();
+        for (int i = 0; i < count; i++) {
+            File file = new File(path + File.separator +
+                    MultiXMLConfigurationBuilder.SEQUENCES_DIR, "bulkSeq" + i + ".xml");
+            try (FileInputStream fin = new FileInputStream(file)) {
+                SequenceMediator seqCopy = (SequenceMediator) factory.createMediator(parse(fin),
+                        new Properties());
+                assertEquals(1, seqCopy.getList().size());
+            } catch (FileNotFoundException e) {
+                fail("The sequence : bulkSeq" + i + " has not been saved");
+            } catch (IOException e) {
+                fail("Error when closing file.");
+            }
+        }
+        System.out.println("Bulk sequence persistence test completed successfully...");
+    }
+
     private void checkSynapseXMLPersistence() throws IOException {
         InputStream in = getClass().getClassLoader().getResourceAsStream("seq2.xml");
         SequenceMediator seq2 = createSequence(in);
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * you may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.initializer.dashboard;
+
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HeartBeatSenderTest {
+
+    private static final char[] KEYSTORE_PASSWORD = "wso2carbon".toCharArray();
+
+    private final List<String> payloads = new CopyOnWriteArrayList<>();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile String status = "success";
+    private HttpsServer server;
+    private HeartBeatSender sender;
+
+    @Before
+    public void setUp() throws Exception {
+
+        KeyStore keyStore = KeyStore.getInstance("JKS");
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("heartbeat-stub.jks")) {
+            keyStore.load(in, KEYSTORE_PASSWORD);
+        }
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, KEYSTORE_PASSWORD);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+
+        server = HttpsServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+        server.createContext("/dashboard/heartbeat", exchange -> {
+            payloads.add(read(exchange.getRequestBody()));
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] response = ("{\"status\":\"" + status + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+
+        JsonObject payload = new JsonObject();
+        payload.addProperty("product", Constants.PRODUCT_MI);
+        payload.addProperty("groupId", Constants.DEFAULT_GROUP_ID);
+        payload.addProperty("nodeId", "node1");
+        payload.addProperty("interval", 5);
+        sender = new HeartBeatSender("https://localhost:" + server.getAddress().getPort() + "/dashboard/heartbeat",
+                                     payload, 5);
+    }
+
+    @After
+    public void tearDown() {
+
+        sender.stop();
+        server.stop(0);
+    }
+
+    /**
+     * Tests that the heartbeats are sent over a single connection with the same payload.
+     */
+    @Test
+    public void testHeartbeatsReuseConnection() {
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue("Heartbeat " + i + " is not accepted", sender.send());
+        }
+        assertEquals(5, payloads.size());
+        for (String payload : payloads) {
+            assertEquals("{\"product\":\"" + Constants.PRODUCT_MI + "\",\"groupId\":\"default\",\"nodeId\":\"node1\","
+                                 + "\"interval\":5}", payload);
+        }
+        assertEquals("Heartbeats are not sent over a single connection", 1, clientPorts.size());
+    }
+
+    /**
+     * Tests that the heartbeat interval backs off while the dashboard rejects the heartbeats, and is restored once a
+     * heartbeat is accepted.
+     */
+    @Test
+    public void testBackoffOnFailure() {
+
+        status = "failed";
+        assertFalse(sender.send());
+        assertDelay(10000, sender.getNextDelay(false));
+        assertDelay(20000, sender.getNextDelay(false));
+        assertDelay(40000, sender.getNextDelay(false));
+        for (int i = 0; i < 10; i++) {
+            sender.getNextDelay(false);
+        }
+        assertDelay(300000, sender.getNextDelay(false));
+
+        status = "success";
+        assertTrue(sender.send());
+        assertDelay(5000, sender.getNextDelay(true));
+    }
+
+    private static void assertDelay(long expected, long delay) {
+        assertTrue("Delay " + delay + " is not within the jitter of " + expected,
+                   delay >= expected * 0.9 && delay <= expected * 1.1);
+    }
+
+    private static String read(InputStream in) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
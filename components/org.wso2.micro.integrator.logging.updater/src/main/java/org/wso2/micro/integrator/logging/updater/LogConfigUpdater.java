@@ -22,76 +22,170 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.service.cm.Configuration;
 import org.osgi.service.cm.ConfigurationAdmin;
-import org.wso2.micro.core.util.StringUtils;
-import org.wso2.micro.integrator.logging.updater.internal.DataHolder;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.attribute.FileTime;
+import java.lang.management.ManagementFactory;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 
 /**
  * Logging configuration updater implementation to check and update pax-logging configuration realtime.
+ * <p>
+ * The configuration directory is watched for changes, and the configuration is read once the changes settle down.
+ * If only the levels of the existing loggers are changed, the levels are set directly on the log4j2 logger
+ * configurations, so that the appenders are not restarted. Otherwise the whole configuration is passed to
+ * pax-logging, which reconfigures log4j2.
  */
 public class LogConfigUpdater implements Runnable {
 
     static final Log LOG = LogFactory.getLog(LogConfigUpdater.class);
 
     private ConfigurationAdmin configurationAdmin;
+    private final WatchService watchService;
+    private Properties appliedProperties;
 
-    public LogConfigUpdater(ConfigurationAdmin configurationAdmin) {
+    public LogConfigUpdater(ConfigurationAdmin configurationAdmin) throws LoggingUpdaterException {
         this.configurationAdmin = configurationAdmin;
+        Path configDirectory = Paths.get(LoggingUpdaterUtil.getLog4j2PropertiesLocation()).toAbsolutePath().getParent();
+        try {
+            this.appliedProperties = LoggingUpdaterUtil.readPaxLoggingProperties();
+            this.watchService = FileSystems.getDefault().newWatchService();
+            // The whole directory is watched, since the file may be replaced through a symbolic link, as done for
+            // the config maps mounted in Kubernetes
+            configDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new LoggingUpdaterException("Error while watching log4j2.properties", e);
+        }
     }
 
     @Override
     public void run() {
 
         try {
-            FileTime modifiedTime = LoggingUpdaterUtil.readModifiedTime();
-            FileTime lastModifiedTime = DataHolder.getInstance().getModifiedTime();
-            if (lastModifiedTime != null) {
-                if (modifiedTime.compareTo(lastModifiedTime) > 0) {
-                    DataHolder.getInstance().setModifiedTime(modifiedTime);
+            while (true) {
+                WatchKey watchKey = watchService.take();
+                // Editors and deployment tools write the file in several steps, hence wait till the changes settle
+                do {
+                    watchKey.pollEvents();
+                    if (!watchKey.reset()) {
+                        LOG.warn("Configuration directory is no longer accessible, logging configuration changes "
+                                + "will not be applied");
+                        return;
+                    }
+                    watchKey = watchService.poll(LoggingUpdaterConstants.DEBOUNCE_INTERVAL, TimeUnit.MILLISECONDS);
+                } while (watchKey != null);
+
+                try {
                     updateLoggingConfiguration();
+                } catch (IOException e) {
+                    LOG.error("Error while updating logging configuration", e);
                 }
             }
-        } catch (LoggingUpdaterException e) {
-            LOG.error("Error while reading modified Time", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignore) {
+            // The updater is stopped
+        }
+    }
+
+    /**
+     * Stop watching the configuration directory.
+     */
+    public void stop() {
+
+        try {
+            watchService.close();
         } catch (IOException e) {
-            LOG.error("Error while updating logging configuration", e);
+            LOG.error("Error while closing the logging configuration watch service", e);
         }
     }
 
     private void updateLoggingConfiguration() throws IOException {
+        Properties paxLoggingProperties = LoggingUpdaterUtil.readPaxLoggingProperties();
+        Map<String, String> loggerLevels =
+                LoggingUpdaterUtil.getChangedLoggerLevels(appliedProperties, paxLoggingProperties);
+        if (loggerLevels != null && loggerLevels.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Logging configuration is not changed");
+            }
+            return;
+        }
+        if (loggerLevels != null && updateLoggerLevels(loggerLevels)) {
+            LOG.info("Logger levels updated successfully " + loggerLevels);
+        } else {
+            updatePaxLoggingConfiguration(paxLoggingProperties);
+        }
+        appliedProperties = paxLoggingProperties;
+    }
+
+    private void updatePaxLoggingConfiguration(Properties paxLoggingProperties) throws IOException {
         Configuration configuration =
                 configurationAdmin.getConfiguration(LoggingUpdaterConstants.PAX_LOGGING_CONFIGURATION_PID, "?");
         Dictionary properties = new Hashtable<>();
         properties.put(LoggingUpdaterConstants.SERVICE_PID, LoggingUpdaterConstants.PAX_LOGGING_CONFIGURATION_PID);
-        Hashtable paxLoggingProperties = getPaxLoggingProperties();
         paxLoggingProperties.forEach(properties::put);
         configuration.update(properties);
     }
 
     /**
-     * Get pax-logging properties file path in hashtable.
+     * Set the levels on the log4j2 logger configurations, through the MBeans log4j2 registers for them.
      *
-     * @return pax-logging properties
-     * @throws IOException error while reading log4j2.properties file.
+     * @param loggerLevels levels keyed by the logger name
+     * @return false if the configuration of any of the loggers is not found, in which case no level is set
      */
-    private static Hashtable getPaxLoggingProperties() throws IOException {
-        String paxPropertiesFileLocation = System.getProperty(LoggingUpdaterConstants.PAX_CONFIG_FILE);
-        if (!StringUtils.isEmpty(paxPropertiesFileLocation)) {
-            File file = new File(paxPropertiesFileLocation);
-            if (file.exists()) {
-                Properties properties = new Properties();
-                properties.load(Files.newInputStream(file.toPath()));
-                return properties;
+    private static boolean updateLoggerLevels(Map<String, String> loggerLevels) {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            Map<String, List<ObjectName>> loggerConfigs = new HashMap<>();
+            for (ObjectName objectName : mBeanServer.queryNames(
+                    new ObjectName(LoggingUpdaterConstants.LOG4J2_LOGGER_MBEANS), null)) {
+                String loggerName = objectName.getKeyProperty("name");
+                if (loggerName == null || objectName.getKeyProperty("subtype") != null) {
+                    continue;
+                }
+                if (loggerName.startsWith("\"")) {
+                    loggerName = ObjectName.unquote(loggerName);
+                }
+                loggerConfigs.computeIfAbsent(loggerName, name -> new ArrayList<>()).add(objectName);
+            }
+            for (String loggerName : loggerLevels.keySet()) {
+                if (!loggerConfigs.containsKey(loggerName)) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Configuration of the logger '" + loggerName + "' is not found, reconfiguring "
+                                + "logging");
+                    }
+                    return false;
+                }
+            }
+            for (Map.Entry<String, String> loggerLevel : loggerLevels.entrySet()) {
+                for (ObjectName objectName : loggerConfigs.get(loggerLevel.getKey())) {
+                    mBeanServer.setAttribute(objectName, new Attribute(
+                            LoggingUpdaterConstants.LOG4J2_LOGGER_LEVEL_ATTRIBUTE, loggerLevel.getValue()));
+                }
             }
+            return true;
+        } catch (JMException e) {
+            LOG.warn("Error while updating logger levels, reconfiguring logging", e);
+            return false;
         }
-        return new Hashtable();
     }
 }
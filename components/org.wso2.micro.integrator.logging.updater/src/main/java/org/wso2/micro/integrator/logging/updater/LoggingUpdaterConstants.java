@@ -29,4 +29,11 @@ public interface LoggingUpdaterConstants {
     String EXCEPTIONS_PROPERTY = "exception";
     String SERVICE_PID = "service.pid";
     String PAX_CONFIG_FILE = "org.ops4j.pax.logging.property.file";
+    String ROOT_LOGGER_LEVEL = "rootLogger.level";
+    String LOGGER_PREFIX = "logger.";
+    String LOGGER_NAME_SUFFIX = ".name";
+    String LOGGER_LEVEL_SUFFIX = ".level";
+    String LOG4J2_LOGGER_MBEANS = "org.apache.logging.log4j2:component=Loggers,*";
+    String LOG4J2_LOGGER_LEVEL_ATTRIBUTE = "Level";
+    long DEBOUNCE_INTERVAL = 1000L;
 }
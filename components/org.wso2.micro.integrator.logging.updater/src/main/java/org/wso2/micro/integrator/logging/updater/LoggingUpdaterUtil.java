@@ -19,14 +19,21 @@
 
 package org.wso2.micro.integrator.logging.updater;
 
+import org.apache.logging.log4j.Level;
+import org.wso2.micro.core.util.StringUtils;
 import org.wso2.micro.integrator.core.util.MicroIntegratorBaseUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
-import java.nio.file.attribute.BasicFileAttributeView;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
 
 /**
  * Utility class for LoggingUpdater
@@ -34,26 +41,78 @@ import java.nio.file.attribute.FileTime;
 public class LoggingUpdaterUtil {
 
     /**
-     * Read the last modified time of the log4j2.properties file.
-     * @return last modified time of the log4j2.properties file.
-     * @throws LoggingUpdaterException if an error occurs while reading the file.
+     * Get the log4j2.properties file path (MI_HOME/conf/log4j2.properties).
+     * @return log4j2.properties file path.
      */
-    public static FileTime readModifiedTime() throws LoggingUpdaterException {
-        File log4j2File = new File(getLog4j2PropertiesLocation());
-        try {
-            BasicFileAttributes log4j2FileAttributes
-                    = Files.getFileAttributeView(log4j2File.toPath(), BasicFileAttributeView.class).readAttributes();
-            return log4j2FileAttributes.lastModifiedTime();
-        } catch (IOException e) {
-            throw new LoggingUpdaterException("Error while reading log4j2.properties", e);
+    public static String getLog4j2PropertiesLocation() {
+        return MicroIntegratorBaseUtils.getCarbonConfigDirPath() + File.separator + "log4j2.properties";
+    }
+
+    /**
+     * Read the pax-logging properties file.
+     * @return pax-logging properties, which are empty if the file does not exist.
+     * @throws IOException error while reading log4j2.properties file.
+     */
+    public static Properties readPaxLoggingProperties() throws IOException {
+        Properties properties = new Properties();
+        String paxPropertiesFileLocation = System.getProperty(LoggingUpdaterConstants.PAX_CONFIG_FILE);
+        if (!StringUtils.isEmpty(paxPropertiesFileLocation)) {
+            File file = new File(paxPropertiesFileLocation);
+            if (file.exists()) {
+                try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+                    properties.load(inputStream);
+                }
+            }
         }
+        return properties;
     }
 
     /**
-     * Get the log4j2.properties file path (MI_HOME/conf/log4j2.properties).
-     * @return log4j2.properties file path.
+     * Compare two versions of the pax-logging properties and find the levels of the loggers which were changed.
+     * Only the level of a logger defined in both versions is considered as a level change, and the level must be
+     * a standard level, given without any lookups.
+     * @param previous previous pax-logging properties.
+     * @param current current pax-logging properties.
+     * @return new levels of the changed loggers keyed by the logger name, which is empty for the root logger, or
+     * null if any other property was changed.
      */
-    public static String getLog4j2PropertiesLocation() {
-        return MicroIntegratorBaseUtils.getCarbonConfigDirPath() + File.separator + "log4j2.properties";
+    public static Map<String, String> getChangedLoggerLevels(Properties previous, Properties current) {
+        Set<String> keys = new HashSet<>(previous.stringPropertyNames());
+        keys.addAll(current.stringPropertyNames());
+        Map<String, String> loggerLevels = new HashMap<>();
+        for (String key : keys) {
+            String previousValue = previous.getProperty(key);
+            String value = current.getProperty(key);
+            if (Objects.equals(previousValue, value)) {
+                continue;
+            }
+            String loggerName = getLoggerName(key, current);
+            if (loggerName == null || previousValue == null || value == null) {
+                return null;
+            }
+            Level level = Level.getLevel(value.trim().toUpperCase(Locale.ENGLISH));
+            if (level == null) {
+                return null;
+            }
+            loggerLevels.put(loggerName, level.name());
+        }
+        return loggerLevels;
+    }
+
+    private static String getLoggerName(String key, Properties properties) {
+        if (LoggingUpdaterConstants.ROOT_LOGGER_LEVEL.equals(key)) {
+            return "";
+        }
+        if (!key.startsWith(LoggingUpdaterConstants.LOGGER_PREFIX)
+                || !key.endsWith(LoggingUpdaterConstants.LOGGER_LEVEL_SUFFIX)
+                || key.length() <= LoggingUpdaterConstants.LOGGER_PREFIX.length()
+                + LoggingUpdaterConstants.LOGGER_LEVEL_SUFFIX.length()) {
+            return null;
+        }
+        String loggerId = key.substring(LoggingUpdaterConstants.LOGGER_PREFIX.length(),
+                key.length() - LoggingUpdaterConstants.LOGGER_LEVEL_SUFFIX.length());
+        String loggerName = properties.getProperty(LoggingUpdaterConstants.LOGGER_PREFIX + loggerId
+                + LoggingUpdaterConstants.LOGGER_NAME_SUFFIX);
+        return loggerName == null ? null : loggerName.trim();
     }
 }
@@ -20,9 +20,9 @@
 package org.wso2.micro.integrator.logging.updater.internal;
 
 import org.osgi.service.cm.ConfigurationAdmin;
+import org.wso2.micro.integrator.logging.updater.LogConfigUpdater;
 
-import java.nio.file.attribute.FileTime;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Data holder for the logging updater component.
@@ -30,9 +30,9 @@ import java.util.concurrent.ScheduledExecutorService;
 public class DataHolder {
 
     private  ConfigurationAdmin configurationAdmin;
-    private  ScheduledExecutorService scheduledExecutorService;
+    private  ExecutorService executorService;
     private static final DataHolder instance = new DataHolder();
-    private  FileTime modifiedTime;
+    private  LogConfigUpdater logConfigUpdater;
 
     private DataHolder() {
     }
@@ -49,19 +49,19 @@ public class DataHolder {
         this.configurationAdmin = configurationAdmin;
     }
 
-    public void setScheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
-        this.scheduledExecutorService = scheduledExecutorService;
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
     }
 
-    public ScheduledExecutorService getScheduledExecutorService() {
-        return scheduledExecutorService;
+    public ExecutorService getExecutorService() {
+        return executorService;
     }
 
-    public FileTime getModifiedTime() {
-        return modifiedTime;
+    public LogConfigUpdater getLogConfigUpdater() {
+        return logConfigUpdater;
     }
 
-    public void setModifiedTime(FileTime modifiedTime) {
-        this.modifiedTime = modifiedTime;
+    public void setLogConfigUpdater(LogConfigUpdater logConfigUpdater) {
+        this.logConfigUpdater = logConfigUpdater;
     }
 }
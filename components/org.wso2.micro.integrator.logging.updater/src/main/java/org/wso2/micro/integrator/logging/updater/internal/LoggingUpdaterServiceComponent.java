@@ -34,11 +34,9 @@ import org.osgi.service.event.EventHandler;
 import org.wso2.micro.integrator.logging.updater.LogConfigUpdater;
 import org.wso2.micro.integrator.logging.updater.LoggingUpdaterConstants;
 import org.wso2.micro.integrator.logging.updater.LoggingUpdaterException;
-import org.wso2.micro.integrator.logging.updater.LoggingUpdaterUtil;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  *
@@ -65,12 +63,12 @@ public class LoggingUpdaterServiceComponent implements EventHandler {
     public void activate(ComponentContext componentContext) {
 
         try {
-            DataHolder.getInstance().setModifiedTime(LoggingUpdaterUtil.readModifiedTime());
             LogConfigUpdater logConfigUpdater =
                     new LogConfigUpdater(DataHolder.getInstance().getConfigurationAdmin());
-            ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(1);
-            DataHolder.getInstance().setScheduledExecutorService(scheduledExecutorService);
-            scheduledExecutorService.scheduleAtFixedRate(logConfigUpdater, 5000L, 5000L, TimeUnit.MILLISECONDS);
+            DataHolder.getInstance().setLogConfigUpdater(logConfigUpdater);
+            ExecutorService executorService = Executors.newSingleThreadExecutor();
+            DataHolder.getInstance().setExecutorService(executorService);
+            executorService.execute(logConfigUpdater);
         } catch (LoggingUpdaterException e) {
             log.error("Error while Activating LoggingUpdater component", e);
         }
@@ -79,7 +77,10 @@ public class LoggingUpdaterServiceComponent implements EventHandler {
     @Deactivate
     public void deactivate() {
 
-        DataHolder.getInstance().getScheduledExecutorService().shutdown();
+        if (DataHolder.getInstance().getLogConfigUpdater() != null) {
+            DataHolder.getInstance().getLogConfigUpdater().stop();
+            DataHolder.getInstance().getExecutorService().shutdown();
+        }
     }
 
     public void unsetConfigAdminService(ConfigurationAdmin configurationAdmin) {
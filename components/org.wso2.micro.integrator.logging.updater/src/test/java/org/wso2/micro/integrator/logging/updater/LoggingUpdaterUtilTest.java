@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.wso2.micro.integrator.logging.updater;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Tests the comparison of the pax-logging properties, which decides whether only the logger levels are updated or the
+ * whole logging configuration is applied.
+ */
+public class LoggingUpdaterUtilTest {
+
+    @Test
+    public void testUnchangedProperties() {
+
+        Map<String, String> loggerLevels = LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(),
+                                                                                    createProperties());
+        Assert.assertNotNull(loggerLevels);
+        Assert.assertTrue(loggerLevels.isEmpty());
+    }
+
+    @Test
+    public void testChangedLoggerLevel() {
+
+        Properties current = createProperties();
+        current.setProperty("logger.synapse.level", "debug");
+        Map<String, String> loggerLevels = LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(), current);
+        Assert.assertNotNull(loggerLevels);
+        Assert.assertEquals(1, loggerLevels.size());
+        Assert.assertEquals("DEBUG", loggerLevels.get("org.apache.synapse"));
+    }
+
+    @Test
+    public void testChangedLoggerLevels() {
+
+        Properties current = createProperties();
+        current.setProperty("logger.synapse.level", " TRACE ");
+        current.setProperty("logger.axis2.level", "WARN");
+        Map<String, String> loggerLevels = LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(), current);
+        Assert.assertNotNull(loggerLevels);
+        Assert.assertEquals(2, loggerLevels.size());
+        Assert.assertEquals("TRACE", loggerLevels.get("org.apache.synapse"));
+        Assert.assertEquals("WARN", loggerLevels.get("org.apache.axis2"));
+    }
+
+    @Test
+    public void testChangedRootLoggerLevel() {
+
+        Properties current = createProperties();
+        current.setProperty(LoggingUpdaterConstants.ROOT_LOGGER_LEVEL, "error");
+        Map<String, String> loggerLevels = LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(), current);
+        Assert.assertNotNull(loggerLevels);
+        Assert.assertEquals(1, loggerLevels.size());
+        Assert.assertEquals("root logger is not keyed by the empty name", "ERROR", loggerLevels.get(""));
+    }
+
+    @Test
+    public void testAddedRootLoggerLevel() {
+
+        Properties previous = createProperties();
+        previous.remove(LoggingUpdaterConstants.ROOT_LOGGER_LEVEL);
+        Assert.assertNull(LoggingUpdaterUtil.getChangedLoggerLevels(previous, createProperties()));
+    }
+
+    @Test
+    public void testAddedLogger() {
+
+        Properties current = createProperties();
+        current.setProperty("loggers", "synapse, axis2, passthru");
+        current.setProperty("logger.passthru.name", "org.apache.synapse.transport.passthru");
+        current.setProperty("logger.passthru.level", "DEBUG");
+        Assert.assertNull(LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(), current));
+
+        // a logger added without listing it is not a level change either
+        current = createProperties();
+        current.setProperty("logger.passthru.name", "org.apache.synapse.transport.passthru");
+        current.setProperty("logger.passthru.level", "DEBUG");
+        Assert.assertNull(LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(), current));
+    }
+
+    @Test
+    public void testRemovedLogger() {
+
+        Properties current = createProperties();
+        current.setProperty("loggers", "synapse");
+        current.remove("logger.axis2.name");
+        current.remove("logger.axis2.level");
+        Assert.assertNull(LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(), current));
+    }
+
+    @Test
+    public void testRemovedLoggerLevel() {
+
+        Properties current = createProperties();
+        current.remove("logger.axis2.level");
+        Assert.assertNull(LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(), current));
+    }
+
+    @Test
+    public void testRenamedLogger() {
+
+        Properties current = createProperties();
+        current.setProperty("logger.axis2.name", "org.apache.axis2.transport");
+        Assert.assertNull(LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(), current));
+    }
+
+    @Test
+    public void testChangedAppender() {
+
+        Properties current = createProperties();
+        current.setProperty("logger.synapse.level", "DEBUG");
+        current.setProperty("appender.CARBON_LOGFILE.fileName", "${sys:carbon.home}/repository/logs/carbon.log");
+        Assert.assertNull(LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(), current));
+    }
+
+    @Test
+    public void testUnknownLevel() {
+
+        Properties current = createProperties();
+        current.setProperty("logger.synapse.level", "${sys:synapse.level}");
+        Assert.assertNull(LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(), current));
+
+        current.setProperty("logger.synapse.level", "VERBOSE");
+        Assert.assertNull(LoggingUpdaterUtil.getChangedLoggerLevels(createProperties(), current));
+    }
+
+    private static Properties createProperties() {
+
+        Properties properties = new Properties();
+        properties.setProperty("appenders", "CARBON_CONSOLE, CARBON_LOGFILE");
+        properties.setProperty("appender.CARBON_LOGFILE.type", "RollingFile");
+        properties.setProperty("appender.CARBON_LOGFILE.fileName",
+                               "${sys:carbon.home}/repository/logs/wso2carbon.log");
+        properties.setProperty("loggers", "synapse, axis2");
+        properties.setProperty("logger.synapse.name", "org.apache.synapse");
+        properties.setProperty("logger.synapse.level", "INFO");
+        properties.setProperty("logger.axis2.name", "org.apache.axis2");
+        properties.setProperty("logger.axis2.level", "ERROR");
+        properties.setProperty(LoggingUpdaterConstants.ROOT_LOGGER_LEVEL, "INFO");
+        return properties;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.ndatasource.rdbms;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.tomcat.jdbc.pool.DataSource;
+
+/**
+ * Connection pool metrics of an RDBMS data source, which are the time taken to get a connection from the pool, the
+ * active and idle connection counts of the pool and the time taken to validate the connections.
+ */
+public class ConnectionPoolMetrics implements ConnectionPoolMetricsMBean {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LongAdder borrowCount = new LongAdder();
+
+    private final LongAdder waitTime = new LongAdder();
+
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    private final LongAdder validationCount = new LongAdder();
+
+    private final LongAdder validationFailureCount = new LongAdder();
+
+    private final LongAdder validationTime = new LongAdder();
+
+    private volatile DataSource dataSource;
+
+    void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Records a connection request.
+     *
+     * @param nanos time the request waited for a connection, in nanoseconds
+     */
+    void recordBorrow(long nanos) {
+        borrowCount.increment();
+        waitTime.add(nanos);
+        maxWaitTime.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Records a connection validation.
+     *
+     * @param nanos time taken by the validation, in nanoseconds
+     * @param valid whether the connection is valid
+     */
+    void recordValidation(long nanos, boolean valid) {
+        validationCount.increment();
+        validationTime.add(nanos);
+        if (!valid) {
+            validationFailureCount.increment();
+        }
+    }
+
+    @Override
+    public int getActive() {
+        DataSource dataSource = this.dataSource;
+        return dataSource == null ? 0 : dataSource.getActive();
+    }
+
+    @Override
+    public int getIdle() {
+        DataSource dataSource = this.dataSource;
+        return dataSource == null ? 0 : dataSource.getIdle();
+    }
+
+    @Override
+    public int getWaiting() {
+        DataSource dataSource = this.dataSource;
+        return dataSource == null ? 0 : dataSource.getWaitCount();
+    }
+
+    @Override
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    @Override
+    public double getAverageWaitTime() {
+        long count = borrowCount.sum();
+        return count == 0 ? 0 : waitTime.sum() / NANOS_PER_MILLI / count;
+    }
+
+    @Override
+    public double getMaxWaitTime() {
+        return maxWaitTime.get() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getValidationCount() {
+        return validationCount.sum();
+    }
+
+    @Override
+    public long getValidationFailureCount() {
+        return validationFailureCount.sum();
+    }
+
+    @Override
+    public double getAverageValidationTime() {
+        long count = validationCount.sum();
+        return count == 0 ? 0 : validationTime.sum() / NANOS_PER_MILLI / count;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.ndatasource.rdbms;
+
+/**
+ * JMX interface of the connection pool metrics of an RDBMS data source.
+ */
+public interface ConnectionPoolMetricsMBean {
+
+    /**
+     * @return number of connections borrowed from the pool
+     */
+    int getActive();
+
+    /**
+     * @return number of idle connections in the pool
+     */
+    int getIdle();
+
+    /**
+     * @return number of threads waiting for a connection
+     */
+    int getWaiting();
+
+    /**
+     * @return number of connection requests
+     */
+    long getBorrowCount();
+
+    /**
+     * @return average time a connection request waited for a connection, in milliseconds
+     */
+    double getAverageWaitTime();
+
+    /**
+     * @return maximum time a connection request waited for a connection, in milliseconds
+     */
+    double getMaxWaitTime();
+
+    /**
+     * @return number of connection validations
+     */
+    long getValidationCount();
+
+    /**
+     * @return number of connection validations which found the connection invalid
+     */
+    long getValidationFailureCount();
+
+    /**
+     * @return average time taken by a connection validation, in milliseconds
+     */
+    double getAverageValidationTime();
+}
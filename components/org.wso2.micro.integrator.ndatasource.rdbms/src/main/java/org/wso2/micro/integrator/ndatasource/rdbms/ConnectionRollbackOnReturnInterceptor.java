@@ -17,7 +17,17 @@
  */
 package org.wso2.micro.integrator.ndatasource.rdbms;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.apache.tomcat.jdbc.pool.ConnectionPool;
 import org.apache.tomcat.jdbc.pool.JdbcInterceptor;
@@ -25,33 +35,126 @@ import org.apache.tomcat.jdbc.pool.PooledConnection;
 
 /**
  * This class represents a JDBC-Pool JDBC interceptor class which rollbacks the connections when
- * they are returned to the pool, if the mode is autoCommit=true.
+ * they are returned to the pool, if the mode is autoCommit=false.
+ * <p>
+ * The statements created through the connection are tracked, and the connection is rolled back only if a statement
+ * was executed on it, or a method which may reach the database was called on it, such as reading its metadata, after
+ * it was last committed or rolled back. Hence a connection which did no work is returned without the round trips of
+ * checking the auto commit mode and rolling back.
  */
 public class ConnectionRollbackOnReturnInterceptor extends JdbcInterceptor {
 
+    private static final String CREATE_STATEMENT = "createStatement";
+
+    private static final String PREPARE_STATEMENT = "prepareStatement";
+
+    private static final String PREPARE_CALL = "prepareCall";
+
+    private static final String COMMIT = "commit";
+
+    private static final String ROLLBACK = "rollback";
+
+    private static final String SET_AUTO_COMMIT = "setAutoCommit";
+
+    private static final String EXECUTE = "execute";
+
+    /**
+     * Methods of the connection which do not start a transaction. Every other method marks the connection as
+     * transactional, since the driver may run queries for it, e.g. for the database metadata.
+     */
+    private static final Set<String> NON_TRANSACTIONAL_METHODS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList("isClosed", "getAutoCommit", "setAutoCommit", "commit", "rollback", "isValid",
+                    "isReadOnly", "getTransactionIsolation", "getHoldability", "getWarnings", "clearWarnings",
+                    "getNetworkTimeout", "getClientInfo", "isWrapperFor", "unwrap", "equals", "hashCode",
+                    "toString")));
+
     private volatile PooledConnection connection = null;
 
+    /**
+     * Whether a statement was executed, or another method which may start a transaction was called, on the connection
+     * after it was last committed or rolled back.
+     */
+    private volatile boolean transactional = false;
+
     @Override
     public void reset(ConnectionPool parent, PooledConnection connection) {
         this.connection = connection;
+        this.transactional = false;
     }
 
     @SuppressWarnings("finally")
 	@Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        PooledConnection pc = this.connection;
-        try {
-            if (compare(CLOSE_VAL, method)) {
-                this.connection = null;
-                if (pc != null && pc.getXAConnection() == null && !pc.getConnection().getAutoCommit()) {
+        if (compare(CLOSE_VAL, method)) {
+            PooledConnection pc = this.connection;
+            boolean rollback = this.transactional;
+            this.connection = null;
+            this.transactional = false;
+            try {
+                if (rollback && pc != null && pc.getXAConnection() == null && !pc.getConnection().getAutoCommit()) {
                     pc.getConnection().rollback();
                 }
+            } catch (Exception e) {
+                throw e;
+            } finally {
+                return super.invoke(proxy, method, args);
             }
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            return super.invoke(proxy, method, args);
         }
+        String name = method.getName();
+        if (compare(CREATE_STATEMENT, name)) {
+            return this.createStatementProxy(Statement.class, super.invoke(proxy, method, args));
+        } else if (compare(PREPARE_STATEMENT, name)) {
+            return this.createStatementProxy(PreparedStatement.class, super.invoke(proxy, method, args));
+        } else if (compare(PREPARE_CALL, name)) {
+            return this.createStatementProxy(CallableStatement.class, super.invoke(proxy, method, args));
+        }
+        if (!NON_TRANSACTIONAL_METHODS.contains(name)) {
+            this.transactional = true;
+        }
+        Object result = super.invoke(proxy, method, args);
+        /* a rollback to a savepoint, or disabling auto commit, keeps the transaction */
+        if (compare(COMMIT, name) || (compare(ROLLBACK, name) && (args == null || args.length == 0))
+                || (compare(SET_AUTO_COMMIT, name) && Boolean.TRUE.equals(args[0]))) {
+            this.transactional = false;
+        }
+        return result;
+    }
+
+    private Object createStatementProxy(Class<?> type, Object statement) {
+        if (statement == null) {
+            return null;
+        }
+        return Proxy.newProxyInstance(ConnectionRollbackOnReturnInterceptor.class.getClassLoader(),
+                new Class[] { type }, new StatementProxy(statement));
+    }
+
+    /**
+     * Statement proxy which marks the connection as transactional when the statement is executed.
+     */
+    private class StatementProxy implements InvocationHandler {
+
+        private final Object delegate;
 
+        StatementProxy(Object delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("equals".equals(name) && args != null && args.length == 1) {
+                return proxy == args[0];
+            } else if ("hashCode".equals(name) && (args == null || args.length == 0)) {
+                return System.identityHashCode(proxy);
+            }
+            if (name.startsWith(EXECUTE)) {
+                transactional = true;
+            }
+            try {
+                return method.invoke(this.delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
     }
 }
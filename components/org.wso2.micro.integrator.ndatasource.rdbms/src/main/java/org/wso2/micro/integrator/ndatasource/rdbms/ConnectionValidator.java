@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.ndatasource.rdbms;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.tomcat.jdbc.pool.Validator;
+
+/**
+ * Validates the pooled connections with {@link Connection#isValid(int)}, which lets the driver check the connection
+ * in its own way, usually cheaper than a validation query, and records the time taken by the validations.
+ */
+class ConnectionValidator implements Validator {
+
+    private static final Log log = LogFactory.getLog(ConnectionValidator.class);
+
+    private final ConnectionPoolMetrics poolMetrics;
+
+    private final int timeout;
+
+    /**
+     * @param poolMetrics metrics of the pool the connections belong to
+     * @param timeout     validation timeout in seconds, zero or less for no timeout
+     */
+    ConnectionValidator(ConnectionPoolMetrics poolMetrics, int timeout) {
+        this.poolMetrics = poolMetrics;
+        this.timeout = Math.max(timeout, 0);
+    }
+
+    @Override
+    public boolean validate(Connection connection, int validateAction) {
+        long start = System.nanoTime();
+        boolean valid = false;
+        try {
+            valid = connection.isValid(timeout);
+        } catch (SQLException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error occurred while validating the connection", e);
+            }
+        } finally {
+            poolMetrics.recordValidation(System.nanoTime() - start, valid);
+        }
+        return valid;
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
 import javax.management.MBeanRegistrationException;
 import javax.management.MBeanServer;
 import javax.management.MalformedObjectNameException;
@@ -53,9 +54,14 @@ public class RDBMSDataSource {
 
 	private PoolConfiguration poolProperties;
 
+	private ConnectionPoolMetrics poolMetrics = new ConnectionPoolMetrics();
+
+	private boolean metricsMBeanRegistered;
+
 	public RDBMSDataSource(RDBMSConfiguration config) throws DataSourceException {
 		this.poolProperties = RDBMSDataSourceUtils.createPoolConfiguration(config);
 		this.populateStandardProps();
+		this.populateValidator();
 	}
 
 	private void populateStandardProps() {
@@ -69,6 +75,18 @@ public class RDBMSDataSource {
 		this.poolProperties.setJdbcInterceptors(jdbcInterceptors);
 	}
 
+	/**
+	 * When a validation query is not given, the connections are validated with Connection.isValid, which is done
+	 * through a validator so that the time taken by the validations is recorded in the pool metrics.
+	 */
+	private void populateValidator() {
+		if (this.poolProperties.getValidator() == null && this.poolProperties.getValidationQuery() == null
+				&& this.poolProperties.getInitSQL() == null) {
+			this.poolProperties.setValidator(new ConnectionValidator(this.poolMetrics,
+					this.poolProperties.getValidationQueryTimeout()));
+		}
+	}
+
 	private String getJDBCInterceptors(String jdbcInterceptors) {
 		if (StringUtils.isEmpty(jdbcInterceptors) || jdbcInterceptors.endsWith(
                 RDBMSDataSourceConstants.JDBC_INTERCEPTOR_SEPARATOR)) {
@@ -80,7 +98,8 @@ public class RDBMSDataSource {
 
 	public DataSource getDataSource() {
 		if (this.dataSource == null) {
-			this.dataSource = new DataSource(poolProperties);
+			this.dataSource = new MeteredDataSource(poolProperties, poolMetrics);
+			this.poolMetrics.setDataSource(this.dataSource);
 		}
                 if (poolProperties.isJmxEnabled()) {
                         this.registerMBean();
@@ -101,6 +120,7 @@ public class RDBMSDataSource {
                         String [] dataSourceId = DataSourceUtils.getCurrentDataSourceId().split(":");
                         mBean = dataSourceId[1] + "," + dataSourceId[0];
                         ObjectName objectName = new ObjectName(mBean + ":type=DataSource");
+                        this.registerMetricsMBean(mBeanServer, mBean);
                         mBeanServer.registerMBean(this.dataSource.createPool().getJmxPool(),objectName);
                 } catch (InstanceAlreadyExistsException e) {
                         //ignore as the mbean for the same datasource name is already exist
@@ -119,6 +139,30 @@ public class RDBMSDataSource {
                 }
        }
 
+	/**
+	 * Registers the pool metrics in place of the metrics of a data source deployed before with the same name, so
+	 * that a redeployed data source does not keep showing the metrics of its old pool.
+	 */
+	private void registerMetricsMBean(MBeanServer mBeanServer, String mBean) {
+		if (this.metricsMBeanRegistered) {
+			return;
+		}
+		try {
+			ObjectName objectName = new ObjectName(mBean + ":type=DataSourceMetrics");
+			if (mBeanServer.isRegistered(objectName)) {
+				mBeanServer.unregisterMBean(objectName);
+			}
+			mBeanServer.registerMBean(this.poolMetrics, objectName);
+			this.metricsMBeanRegistered = true;
+		} catch (JMException e) {
+			log.error("Error while registering the metrics MBean for dataSource '" + mBean + " " + e.getMessage(), e);
+		}
+	}
+
+	public ConnectionPoolMetrics getPoolMetrics() {
+		return this.poolMetrics;
+	}
+
 	public Reference getDataSourceFactoryReference() throws DataSourceException {
 		if (dataSourceFactoryReference == null) {
 			dataSourceFactoryReference = new Reference("org.apache.tomcat.jdbc.pool.DataSource",
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.ndatasource.rdbms;
+
+import org.apache.tomcat.jdbc.pool.DataSource;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.wso2.micro.integrator.ndatasource.core.utils.DataSourceUtils;
+import org.wso2.micro.integrator.ndatasource.rdbms.ConnectionPoolMetrics;
+import org.wso2.micro.integrator.ndatasource.rdbms.ConnectionRollbackOnReturnInterceptor;
+import org.wso2.micro.integrator.ndatasource.rdbms.RDBMSConfiguration;
+import org.wso2.micro.integrator.ndatasource.rdbms.RDBMSDataSource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class ConnectionPoolTestCase {
+
+    private static final String STUB_URL_PREFIX = "jdbc:stub:";
+
+    private static final AtomicInteger rollbackCount = new AtomicInteger();
+
+    private static final AtomicInteger validationCount = new AtomicInteger();
+
+    private static StubDriver driver;
+
+    @BeforeClass
+    public static void registerDriver() throws SQLException {
+        driver = new StubDriver();
+        DriverManager.registerDriver(driver);
+    }
+
+    @AfterClass
+    public static void deregisterDriver() throws SQLException {
+        DriverManager.deregisterDriver(driver);
+    }
+
+    /**
+     * Tests that a connection is rolled back when it is returned to the pool only if a statement was executed on it,
+     * or its metadata was read, after it was last committed or rolled back.
+     */
+    @Test
+    public void testRollbackOnReturn() throws Exception {
+        RDBMSDataSource rdbmsDataSource = new RDBMSDataSource(createConfiguration("rollback"));
+        DataSource dataSource = rdbmsDataSource.getDataSource();
+        try {
+            rollbackCount.set(0);
+            Connection connection = dataSource.getConnection();
+            connection.close();
+            Assert.assertEquals("Connection which did no work is rolled back", 0, rollbackCount.get());
+
+            connection = dataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement("UPDATE Customers SET city = ?");
+            statement.setString(1, "Colombo");
+            statement.executeUpdate();
+            statement.close();
+            connection.close();
+            Assert.assertEquals("Connection with uncommitted work is not rolled back", 1, rollbackCount.get());
+
+            connection = dataSource.getConnection();
+            statement = connection.prepareStatement("UPDATE Customers SET city = ?");
+            statement.setString(1, "Kandy");
+            statement.executeUpdate();
+            connection.commit();
+            statement.close();
+            connection.close();
+            Assert.assertEquals("Committed connection is rolled back", 1, rollbackCount.get());
+
+            connection = dataSource.getConnection();
+            Statement createdStatement = connection.createStatement();
+            createdStatement.executeUpdate("DELETE FROM Customers");
+            connection.rollback();
+            createdStatement.executeUpdate("DELETE FROM Customers");
+            createdStatement.close();
+            connection.close();
+            /* the explicit rollback is counted as well */
+            Assert.assertEquals("Connection with work after a rollback is not rolled back", 3, rollbackCount.get());
+
+            connection = dataSource.getConnection();
+            connection.getMetaData();
+            connection.close();
+            Assert.assertEquals("Connection which read the metadata is not rolled back", 4, rollbackCount.get());
+
+            connection = dataSource.getConnection();
+            connection.getAutoCommit();
+            connection.isValid(1);
+            connection.getWarnings();
+            connection.close();
+            Assert.assertEquals("Connection which did no transactional work is rolled back", 4, rollbackCount.get());
+
+            connection = dataSource.getConnection();
+            connection.getMetaData();
+            connection.commit();
+            connection.close();
+            Assert.assertEquals("Committed connection is rolled back", 4, rollbackCount.get());
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    /**
+     * Tests that the connections are validated with Connection.isValid and the pool metrics are recorded.
+     */
+    @Test
+    public void testPoolMetrics() throws Exception {
+        RDBMSDataSource rdbmsDataSource = new RDBMSDataSource(createConfiguration("metrics"));
+        DataSource dataSource = rdbmsDataSource.getDataSource();
+        try {
+            validationCount.set(0);
+            for (int i = 0; i < 3; i++) {
+                Connection connection = dataSource.getConnection();
+                Assert.assertEquals(1, rdbmsDataSource.getPoolMetrics().getActive());
+                connection.close();
+            }
+            ConnectionPoolMetrics metrics = rdbmsDataSource.getPoolMetrics();
+            Assert.assertEquals(3, metrics.getBorrowCount());
+            Assert.assertEquals(0, metrics.getActive());
+            Assert.assertEquals(1, metrics.getIdle());
+            Assert.assertEquals(0, metrics.getWaiting());
+            Assert.assertTrue(metrics.getMaxWaitTime() >= metrics.getAverageWaitTime());
+            Assert.assertTrue("Connections are not validated with isValid", validationCount.get() > 0);
+            Assert.assertEquals(validationCount.get(), metrics.getValidationCount());
+            Assert.assertEquals(0, metrics.getValidationFailureCount());
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    /**
+     * Tests that a redeployed data source replaces the metrics MBean of the data source deployed before it.
+     */
+    @Test
+    public void testMetricsMBeanReplacedOnRedeploy() throws Exception {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName metricsName = new ObjectName("redeployed,-1234:type=DataSourceMetrics");
+        ObjectName poolName = new ObjectName("redeployed,-1234:type=DataSource");
+        RDBMSConfiguration configuration = createConfiguration("redeployed");
+        configuration.setJmxEnabled(true);
+        DataSourceUtils.setCurrentDataSourceId("-1234:redeployed");
+        DataSource oldDataSource = null;
+        DataSource newDataSource = null;
+        try {
+            oldDataSource = new RDBMSDataSource(configuration).getDataSource();
+            oldDataSource.getConnection().close();
+            Assert.assertEquals(1L, mBeanServer.getAttribute(metricsName, "BorrowCount"));
+
+            oldDataSource.close();
+            newDataSource = new RDBMSDataSource(configuration).getDataSource();
+            Assert.assertEquals("Metrics of the old pool are registered", 0L,
+                    mBeanServer.getAttribute(metricsName, "BorrowCount"));
+            newDataSource.getConnection().close();
+            Assert.assertEquals(1L, mBeanServer.getAttribute(metricsName, "BorrowCount"));
+        } finally {
+            DataSourceUtils.setCurrentDataSourceId(null);
+            if (newDataSource != null) {
+                newDataSource.close();
+            }
+            for (ObjectName name : new ObjectName[] { metricsName, poolName }) {
+                if (mBeanServer.isRegistered(name)) {
+                    mBeanServer.unregisterMBean(name);
+                }
+            }
+        }
+    }
+
+    private static RDBMSConfiguration createConfiguration(String name) {
+        RDBMSConfiguration configuration = new RDBMSConfiguration();
+        configuration.setUrl(STUB_URL_PREFIX + name);
+        configuration.setMaxActive(1);
+        configuration.setMaxIdle(1);
+        configuration.setDefaultAutoCommit(false);
+        configuration.setTestOnBorrow(true);
+        configuration.setValidationInterval(0L);
+        configuration.setJdbcInterceptors(ConnectionRollbackOnReturnInterceptor.class.getName());
+        return configuration;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    /**
+     * JDBC driver which creates connections that count the rollbacks and the validations.
+     */
+    private static class StubDriver implements Driver {
+
+        @Override
+        public Connection connect(String url, Properties info) {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            return (Connection) Proxy.newProxyInstance(ConnectionPoolTestCase.class.getClassLoader(),
+                    new Class[] { Connection.class }, new StubConnection());
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url != null && url.startsWith(STUB_URL_PREFIX);
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+
+    private static class StubConnection implements InvocationHandler {
+
+        private boolean autoCommit = true;
+
+        private boolean closed = false;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getAutoCommit":
+                    return autoCommit;
+                case "setAutoCommit":
+                    autoCommit = (Boolean) args[0];
+                    return null;
+                case "rollback":
+                    rollbackCount.incrementAndGet();
+                    return null;
+                case "isValid":
+                    validationCount.incrementAndGet();
+                    return !closed;
+                case "isClosed":
+                    return closed;
+                case "close":
+                    closed = true;
+                    return null;
+                case "createStatement":
+                    return createStatement(Statement.class);
+                case "prepareStatement":
+                    return createStatement(PreparedStatement.class);
+                case "prepareCall":
+                    return createStatement(CallableStatement.class);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "StubConnection";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }
+
+        private static Object createStatement(Class<?> type) {
+            return Proxy.newProxyInstance(ConnectionPoolTestCase.class.getClassLoader(), new Class[] { type },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "executeUpdate":
+                                return 1;
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "toString":
+                                return "StubStatement";
+                            default:
+                                return defaultValue(method.getReturnType());
+                        }
+                    });
+        }
+    }
+}
@@ -72,6 +72,7 @@ public final class JDBCRealmConstants {
     public static final String IS_DOMAIN_EXISTING = "IsDomainExistingSQL";
     public static final String ADD_DOMAIN = "AddDomainSQL";
     public static final String UPDATE_USER_PASSWORD = "UpdateUserPasswordSQL";
+    public static final String UPDATE_USER_PASSWORD_HASH = "UpdateUserPasswordHashSQL";
     public static final String UPDATE_ROLE_NAME = "UpdateRoleNameSQL";
     public static final String ADD_USER_PROPERTY = "AddUserPropertySQL";
     public static final String UPDATE_USER_PROPERTY = "UpdateUserPropertySQL";
@@ -181,6 +182,7 @@ public final class JDBCRealmConstants {
     public static final String ON_DELETE_USER_REMOVE_ATTRIBUTE_SQL = "DELETE FROM UM_USER_ATTRIBUTE WHERE UM_USER_ID=(SELECT UM_ID FROM UM_USER WHERE UM_USER_NAME=? AND UM_TENANT_ID=?) AND UM_TENANT_ID=?";
     public static final String ON_DELETE_USER_DELETE_PERMISSION_SQL = "OnDeleteUserRemovePermissionsSQL";
     public static final String UPDATE_USER_PASSWORD_SQL = "UPDATE UM_USER SET UM_USER_PASSWORD= ?, UM_SALT_VALUE=?, UM_REQUIRE_CHANGE=?, UM_CHANGED_TIME=? WHERE UM_USER_NAME= ? AND UM_TENANT_ID=?";
+    public static final String UPDATE_USER_PASSWORD_HASH_SQL = "UPDATE UM_USER SET UM_USER_PASSWORD=?, UM_SALT_VALUE=? WHERE UM_USER_NAME=? AND UM_USER_PASSWORD=? AND UM_TENANT_ID=?";
     public static final String UPDATE_ROLE_NAME_SQL = "UPDATE UM_ROLE set UM_ROLE_NAME=? WHERE UM_ROLE_NAME = ? AND UM_TENANT_ID=?";
     public static final String ADD_USER_PROPERTY_SQL = "INSERT INTO UM_USER_ATTRIBUTE (UM_USER_ID, UM_ATTR_NAME, UM_ATTR_VALUE, UM_PROFILE_ID, UM_TENANT_ID) VALUES ((SELECT UM_ID FROM UM_USER WHERE UM_USER_NAME=? AND UM_TENANT_ID=?), ?, ?, ?, ?)";
     public static final String UPDATE_USER_PROPERTY_SQL = "UPDATE UM_USER_ATTRIBUTE SET UM_ATTR_VALUE=? WHERE UM_USER_ID=(SELECT UM_ID FROM UM_USER WHERE UM_USER_NAME=? AND UM_TENANT_ID=?) AND UM_ATTR_NAME=? AND UM_PROFILE_ID=? AND UM_TENANT_ID=?";
@@ -194,6 +196,8 @@ public final class JDBCRealmConstants {
     public static final String DELETE_DOMAIN_SQL = "DELETE FROM UM_DOMAIN WHERE UM_DOMAIN_NAME=? AND UM_TENANT_ID=?";
     public static final String DIGEST_FUNCTION = "PasswordDigest";
     public static final String STORE_SALTED_PASSWORDS = "StoreSaltedPassword";
+    public static final String PASSWORD_HASH_ALGORITHM = "PasswordHashAlgorithm";
+    public static final String PASSWORD_REHASH_ON_LOGIN = "PasswordRehashOnLogin";
     // properties
     public static final String DATASOURCE = "dataSource";
     public static final String URL = "url";
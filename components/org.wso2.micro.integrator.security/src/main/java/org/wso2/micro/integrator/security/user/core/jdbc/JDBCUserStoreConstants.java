@@ -296,6 +296,11 @@ public class JDBCUserStoreConstants {
         setAdvancedProperty(JDBCCaseInsensitiveConstants.UPDATE_USER_PASSWORD_CASE_INSENSITIVE, "Update User " +
                 "Password SQL With Case Insensitive Username", JDBCCaseInsensitiveConstants
                 .UPDATE_USER_PASSWORD_SQL_CASE_INSENSITIVE, "");
+        setAdvancedProperty(JDBCRealmConstants.UPDATE_USER_PASSWORD_HASH, "Update User Password Hash SQL",
+                JDBCRealmConstants.UPDATE_USER_PASSWORD_HASH_SQL, "");
+        setAdvancedProperty(JDBCCaseInsensitiveConstants.UPDATE_USER_PASSWORD_HASH_CASE_INSENSITIVE, "Update User " +
+                "Password Hash SQL With Case Insensitive Username", JDBCCaseInsensitiveConstants
+                .UPDATE_USER_PASSWORD_HASH_SQL_CASE_INSENSITIVE, "");
         setAdvancedProperty(JDBCRealmConstants.UPDATE_ROLE_NAME, "Update Role Name SQL", JDBCRealmConstants.UPDATE_ROLE_NAME_SQL, "");
 
         setAdvancedProperty(JDBCRealmConstants.ADD_USER_PROPERTY, "Add User Property SQL", JDBCRealmConstants.ADD_USER_PROPERTY_SQL, "");
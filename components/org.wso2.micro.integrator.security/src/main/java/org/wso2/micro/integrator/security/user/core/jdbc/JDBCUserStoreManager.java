@@ -41,6 +41,8 @@ import org.wso2.micro.integrator.security.user.core.dto.RoleDTO;
 import org.wso2.micro.integrator.security.user.core.hybrid.FileBasedHybridRoleManager;
 import org.wso2.micro.integrator.security.user.core.hybrid.HybridJDBCConstants;
 import org.wso2.micro.integrator.security.user.core.jdbc.caseinsensitive.JDBCCaseInsensitiveConstants;
+import org.wso2.micro.integrator.security.user.core.jdbc.hash.DigestPasswordHasher;
+import org.wso2.micro.integrator.security.user.core.jdbc.hash.PasswordHashers;
 import org.wso2.micro.integrator.security.user.core.model.Condition;
 import org.wso2.micro.integrator.security.user.core.model.ExpressionAttribute;
 import org.wso2.micro.integrator.security.user.core.model.ExpressionCondition;
@@ -102,6 +104,7 @@ public class JDBCUserStoreManager extends AbstractUserStoreManager {
     private static final String ORACLE = "oracle";
     private static final String MYSQL = "mysql";
     private boolean fileBasedUserStoreMode = false;
+    private volatile PasswordHashers passwordHashers;
     public JDBCUserStoreManager() {
 
     }
@@ -179,6 +182,7 @@ public class JDBCUserStoreManager extends AbstractUserStoreManager {
             readGroupsEnabled = true;
         }
 
+        getPasswordHashers();
     }
 
     /**
@@ -1206,8 +1210,9 @@ public class JDBCUserStoreManager extends AbstractUserStoreManager {
         ResultSet rs = null;
         PreparedStatement prepStmt = null;
         String sqlstmt = null;
-        String password = null;
         boolean isAuthed = false;
+        boolean rehash = false;
+        String storedPassword = null;
 
         try {
             dbConnection = getDBConnection();
@@ -1232,7 +1237,7 @@ public class JDBCUserStoreManager extends AbstractUserStoreManager {
             rs = prepStmt.executeQuery();
 
             if (rs.next() == true) {
-                String storedPassword = rs.getString(3);
+                storedPassword = rs.getString(3);
                 String saltValue = null;
                 if ("true".equalsIgnoreCase(realmConfig
                         .getUserStoreProperty(JDBCRealmConstants.STORE_SALTED_PASSWORDS))) {
@@ -1249,10 +1254,9 @@ public class JDBCUserStoreManager extends AbstractUserStoreManager {
                 if (requireChange == true && changedTime.before(date)) {
                     isAuthed = false;
                 } else {
-                    password = this.preparePassword(credential, saltValue);
-                    if ((storedPassword != null) && (storedPassword.equals(password))) {
-                        isAuthed = true;
-                    }
+                    isAuthed = verifyPassword(credential, saltValue, storedPassword);
+                    // a password which should be changed is not rehashed, as that would clear the change flag
+                    rehash = isAuthed && !requireChange && getPasswordHashers().needsRehash(storedPassword);
                 }
             }
         } catch (SQLException e) {
@@ -1265,6 +1269,10 @@ public class JDBCUserStoreManager extends AbstractUserStoreManager {
             DatabaseUtil.closeAllConnections(dbConnection, rs, prepStmt);
         }
 
+        if (rehash && !isReadOnly()) {
+            rehashPassword(userName, credential, storedPassword);
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("User " + userName + " login attempt. Login success :: " + isAuthed);
         }
@@ -1272,6 +1280,106 @@ public class JDBCUserStoreManager extends AbstractUserStoreManager {
         return isAuthed;
     }
 
+    /**
+     * Verifies the credential against the stored password.
+     *
+     * @param credential     credential given by the user
+     * @param saltValue      salt value of the user, or null if the user store does not store salted passwords
+     * @param storedPassword stored password
+     * @return whether the credential matches the stored password
+     * @throws UserStoreException if the credential cannot be hashed
+     */
+    protected boolean verifyPassword(Object credential, String saltValue, String storedPassword)
+            throws UserStoreException {
+
+        PasswordHashers hashers = getPasswordHashers();
+        if (!hashers.isPasswordHasherConfigured() && !hashers.isHashedByPasswordHasher(storedPassword)) {
+            // user stores overriding preparePassword keep verifying with it
+            String password = this.preparePassword(credential, saltValue);
+            return storedPassword != null && storedPassword.equals(password);
+        }
+        Secret credentialObj;
+        try {
+            credentialObj = Secret.getSecret(credential);
+        } catch (UnsupportedSecretTypeException e) {
+            throw new UserStoreException("Unsupported credential type", e);
+        }
+        char[] passwordInput = getPasswordInput(credentialObj, saltValue);
+        try {
+            return hashers.verify(passwordInput, storedPassword);
+        } finally {
+            Arrays.fill(passwordInput, '\u0000');
+            credentialObj.clear();
+        }
+    }
+
+    /**
+     * Stores the password of a user, who has just logged in, hashed with the configured password hasher, so that
+     * the passwords are migrated to the configured algorithm and cost without any user action. Only the password and
+     * the salt are updated, hence the password change time and the change flag of the user are kept, and the update
+     * is skipped if the password has been changed after it was verified.
+     */
+    private void rehashPassword(String userName, Object credential, String storedPassword) {
+
+        try {
+            String sqlStmt;
+            if (isCaseSensitiveUsername()) {
+                sqlStmt = realmConfig.getUserStoreProperty(JDBCRealmConstants.UPDATE_USER_PASSWORD_HASH);
+            } else {
+                sqlStmt = realmConfig.getUserStoreProperty(
+                        JDBCCaseInsensitiveConstants.UPDATE_USER_PASSWORD_HASH_CASE_INSENSITIVE);
+            }
+            if (sqlStmt == null) {
+                throw new UserStoreException("The sql statement for update user password hash is null");
+            }
+            String saltValue = null;
+            if ("true".equalsIgnoreCase(realmConfig.getUserStoreProperties().get(
+                    JDBCRealmConstants.STORE_SALTED_PASSWORDS))) {
+                saltValue = generateSaltValue();
+            }
+            String password = this.preparePassword(credential, saltValue);
+            if (sqlStmt.contains(UserCoreConstants.UM_TENANT_COLUMN)) {
+                updateStringValuesToDatabase(null, sqlStmt, password, saltValue == null ? "" : saltValue, userName,
+                                             storedPassword, tenantId);
+            } else {
+                updateStringValuesToDatabase(null, sqlStmt, password, saltValue == null ? "" : saltValue, userName,
+                                             storedPassword);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Password of user " + userName + " is rehashed with the configured password hash "
+                                  + "algorithm.");
+            }
+        } catch (UserStoreException e) {
+            // the old password still works, hence it is rehashed on a later login
+            log.warn("Error occurred while rehashing the password of user : " + userName, e);
+        }
+    }
+
+    /**
+     * @return password hashers configured for the user store
+     * @throws UserStoreException if the password hash algorithm is not supported
+     */
+    protected PasswordHashers getPasswordHashers() throws UserStoreException {
+
+        PasswordHashers hashers = passwordHashers;
+        if (hashers == null) {
+            hashers = new PasswordHashers(realmConfig.getUserStoreProperties());
+            passwordHashers = hashers;
+        }
+        return hashers;
+    }
+
+    private static char[] getPasswordInput(Secret credentialObj, String saltValue) {
+
+        char[] password = credentialObj.getChars();
+        if (saltValue == null) {
+            return Arrays.copyOf(password, password.length);
+        }
+        char[] passwordInput = Arrays.copyOf(password, password.length + saltValue.length());
+        saltValue.getChars(0, saltValue.length(), passwordInput, password.length);
+        return passwordInput;
+    }
+
     /**
      *
      */
@@ -2638,36 +2746,29 @@ public class JDBCUserStoreManager extends AbstractUserStoreManager {
      */
     @Deprecated
     protected String preparePassword(String password, String saltValue) throws UserStoreException {
-        try {
-            String digestInput = password;
-            if (saltValue != null) {
-                digestInput = password + saltValue;
-            }
-            String digsestFunction = realmConfig.getUserStoreProperties().get(
-                    JDBCRealmConstants.DIGEST_FUNCTION);
-            if (digsestFunction != null) {
-
-                if (digsestFunction
-                        .equals(UserCoreConstants.RealmConfig.PASSWORD_HASH_METHOD_PLAIN_TEXT)) {
-                    return password;
-                }
+        String digestInput = password;
+        if (saltValue != null) {
+            digestInput = password + saltValue;
+        }
+        String digsestFunction = realmConfig.getUserStoreProperties().get(
+                JDBCRealmConstants.DIGEST_FUNCTION);
+        if (digsestFunction != null) {
 
-                MessageDigest dgst = MessageDigest.getInstance(digsestFunction);
-                byte[] byteValue = dgst.digest(digestInput.getBytes());
-                password = Base64.encode(byteValue);
-            }
-            return password;
-        } catch (NoSuchAlgorithmException e) {
-            String msg = "Error occurred while preparing password.";
-            if (log.isDebugEnabled()) {
-                log.debug(msg, e);
+            if (digsestFunction
+                    .equals(UserCoreConstants.RealmConfig.PASSWORD_HASH_METHOD_PLAIN_TEXT)) {
+                return password;
             }
-            throw new UserStoreException(msg, e);
+
+            MessageDigest dgst = DigestPasswordHasher.getMessageDigest(digsestFunction);
+            byte[] byteValue = dgst.digest(digestInput.getBytes());
+            password = Base64.encode(byteValue);
         }
+        return password;
     }
 
     /**
-     * Prepare the password including the salt, and hashes if hash algorithm is provided
+     * Prepare the password including the salt, and hashes it with the configured password hash algorithm, or the
+     * message digest if provided
      *
      * @param password original password value
      * @param saltValue salt value
@@ -2683,34 +2784,11 @@ public class JDBCUserStoreManager extends AbstractUserStoreManager {
             throw new UserStoreException("Unsupported credential type", e);
         }
 
+        char[] passwordInput = getPasswordInput(credentialObj, saltValue);
         try {
-            String passwordString;
-            if (saltValue != null) {
-                credentialObj.addChars(saltValue.toCharArray());
-            }
-
-            String digestFunction = realmConfig.getUserStoreProperties().get(JDBCRealmConstants.DIGEST_FUNCTION);
-            if (digestFunction != null) {
-                if (digestFunction.equals(UserCoreConstants.RealmConfig.PASSWORD_HASH_METHOD_PLAIN_TEXT)) {
-                    passwordString = new String(credentialObj.getChars());
-                    return passwordString;
-                }
-
-                MessageDigest digest = MessageDigest.getInstance(digestFunction);
-                byte[] byteValue = digest.digest(credentialObj.getBytes());
-                passwordString = Base64.encode(byteValue);
-            } else {
-                passwordString = new String(credentialObj.getChars());
-            }
-
-            return passwordString;
-        } catch (NoSuchAlgorithmException e) {
-            String msg = "Error occurred while preparing password.";
-            if (log.isDebugEnabled()) {
-                log.debug(msg, e);
-            }
-            throw new UserStoreException(msg, e);
+            return getPasswordHashers().hash(passwordInput);
         } finally {
+            Arrays.fill(passwordInput, '\u0000');
             credentialObj.clear();
         }
     }
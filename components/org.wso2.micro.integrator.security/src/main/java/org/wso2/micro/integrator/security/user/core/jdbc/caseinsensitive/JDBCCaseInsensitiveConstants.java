@@ -53,6 +53,8 @@ public class JDBCCaseInsensitiveConstants {
     public static final String ON_DELETE_USER_REMOVE_ATTRIBUTE_CASE_INSENSITIVE =
             "OnDeleteUserRemoveUserAttributeSQLCaseInsensitive";
     public static final String UPDATE_USER_PASSWORD_CASE_INSENSITIVE = "UpdateUserPasswordSQLCaseInsensitive";
+    public static final String UPDATE_USER_PASSWORD_HASH_CASE_INSENSITIVE =
+            "UpdateUserPasswordHashSQLCaseInsensitive";
     public static final String UPDATE_USER_PROPERTY_CASE_INSENSITIVE = "UpdateUserPropertySQLCaseInsensitive";
     public static final String DELETE_USER_PROPERTY_CASE_INSENSITIVE = "DeleteUserPropertySQLCaseInsensitive";
     public static final String USER_NAME_UNIQUE_CASE_INSENSITIVE = "UserNameUniqueAcrossTenantsSQLCaseInsensitive";
@@ -151,6 +153,9 @@ public class JDBCCaseInsensitiveConstants {
     public static final String UPDATE_USER_PASSWORD_SQL_CASE_INSENSITIVE = "UPDATE UM_USER SET UM_USER_PASSWORD= ?, " +
             "UM_SALT_VALUE=?, UM_REQUIRE_CHANGE=?, UM_CHANGED_TIME=? WHERE LOWER(UM_USER_NAME)= LOWER(?) AND " +
             "UM_TENANT_ID=?";
+    public static final String UPDATE_USER_PASSWORD_HASH_SQL_CASE_INSENSITIVE = "UPDATE UM_USER SET " +
+            "UM_USER_PASSWORD=?, UM_SALT_VALUE=? WHERE LOWER(UM_USER_NAME)=LOWER(?) AND UM_USER_PASSWORD=? AND " +
+            "UM_TENANT_ID=?";
     public static final String UPDATE_USER_PROPERTY_SQL_CASE_INSENSITIVE = "UPDATE UM_USER_ATTRIBUTE SET " +
             "UM_ATTR_VALUE=? WHERE UM_USER_ID=(SELECT UM_ID FROM UM_USER WHERE LOWER(UM_USER_NAME)=LOWER(?) AND " +
             "UM_TENANT_ID=?) AND UM_ATTR_NAME=? AND UM_PROFILE_ID=? AND UM_TENANT_ID=?";
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.jdbc.hash;
+
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.wso2.micro.integrator.security.user.core.UserStoreException;
+
+import java.security.MessageDigest;
+import java.util.Map;
+
+/**
+ * Argon2id password hasher. The stored value is $argon2id$v=19$m=memory,t=iterations,p=parallelism$salt$hash.
+ * <p>
+ * The cost is set with the "Argon2Memory" ( KiB, defaults to 19456 ), "Argon2Iterations" ( defaults to 2 ) and
+ * "Argon2Parallelism" ( defaults to 1 ) user store properties. Every concurrent login allocates the configured
+ * memory.
+ */
+public class Argon2PasswordHasher implements PasswordHasher {
+
+    public static final String NAME = "ARGON2ID";
+
+    static final String MEMORY_PROPERTY = "Argon2Memory";
+    static final String ITERATIONS_PROPERTY = "Argon2Iterations";
+    static final String PARALLELISM_PROPERTY = "Argon2Parallelism";
+    static final int DEFAULT_MEMORY = 19456;
+    static final int DEFAULT_ITERATIONS = 2;
+    static final int DEFAULT_PARALLELISM = 1;
+
+    private static final String PREFIX = "$argon2id$";
+    private static final int HASH_LENGTH = 32;
+
+    private int memory = DEFAULT_MEMORY;
+    private int iterations = DEFAULT_ITERATIONS;
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    @Override
+    public void init(Map<String, String> properties) throws UserStoreException {
+
+        parallelism = PasswordHashUtils.getIntProperty(properties, PARALLELISM_PROPERTY, DEFAULT_PARALLELISM, 1,
+                                                       255);
+        memory = PasswordHashUtils.getIntProperty(properties, MEMORY_PROPERTY, DEFAULT_MEMORY, 8 * parallelism,
+                                                  Integer.MAX_VALUE);
+        iterations = PasswordHashUtils.getIntProperty(properties, ITERATIONS_PROPERTY, DEFAULT_ITERATIONS, 1,
+                                                      Integer.MAX_VALUE);
+    }
+
+    @Override
+    public String hash(char[] password) throws UserStoreException {
+
+        byte[] salt = PasswordHashUtils.newSalt();
+        byte[] hash = derive(password, salt, memory, iterations, parallelism, HASH_LENGTH);
+        return PREFIX + "v=" + Argon2Parameters.ARGON2_VERSION_13 + "$m=" + memory + ",t=" + iterations + ",p="
+                + parallelism + "$" + PasswordHashUtils.encode(salt) + "$" + PasswordHashUtils.encode(hash);
+    }
+
+    @Override
+    public boolean canVerify(String storedPassword) {
+        return storedPassword != null && storedPassword.startsWith(PREFIX);
+    }
+
+    @Override
+    public boolean verify(char[] password, String storedPassword) throws UserStoreException {
+
+        String[] parts = storedPassword.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 4 || PasswordHashUtils.getParameter(parts[0], "v") != Argon2Parameters.ARGON2_VERSION_13) {
+            return false;
+        }
+        int storedMemory = PasswordHashUtils.getParameter(parts[1], "m");
+        int storedIterations = PasswordHashUtils.getParameter(parts[1], "t");
+        int storedParallelism = PasswordHashUtils.getParameter(parts[1], "p");
+        byte[] salt = PasswordHashUtils.decode(parts[2]);
+        byte[] hash = PasswordHashUtils.decode(parts[3]);
+        if (storedParallelism < 1 || storedMemory < 8 * storedParallelism || storedIterations < 1 || salt == null
+                || hash == null || hash.length < PasswordHashUtils.MIN_HASH_LENGTH) {
+            return false;
+        }
+        return MessageDigest.isEqual(hash, derive(password, salt, storedMemory, storedIterations, storedParallelism,
+                                                  hash.length));
+    }
+
+    @Override
+    public boolean needsRehash(String storedPassword) {
+
+        String[] parts = storedPassword.substring(PREFIX.length()).split("\\$");
+        return parts.length != 4 || PasswordHashUtils.getParameter(parts[1], "m") != memory
+                || PasswordHashUtils.getParameter(parts[1], "t") != iterations
+                || PasswordHashUtils.getParameter(parts[1], "p") != parallelism;
+    }
+
+    private static byte[] derive(char[] password, byte[] salt, int memory, int iterations, int parallelism,
+                                 int length) {
+
+        Argon2Parameters parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withVersion(Argon2Parameters.ARGON2_VERSION_13)
+                .withMemoryAsKB(memory)
+                .withIterations(iterations)
+                .withParallelism(parallelism)
+                .withSalt(salt)
+                .build();
+        Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(parameters);
+        byte[] hash = new byte[length];
+        generator.generateBytes(password, hash);
+        return hash;
+    }
+}
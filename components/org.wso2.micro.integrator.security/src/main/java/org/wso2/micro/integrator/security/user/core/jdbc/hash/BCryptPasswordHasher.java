@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.jdbc.hash;
+
+import org.bouncycastle.crypto.generators.OpenBSDBCrypt;
+import org.wso2.micro.integrator.security.user.core.UserStoreException;
+
+import java.util.Map;
+
+/**
+ * bcrypt password hasher. The stored value is the OpenBSD bcrypt string $2y$cost$salthash, and the $2a$ and $2b$
+ * values of other implementations are verified as well. Only the first 72 bytes of a password are significant.
+ * <p>
+ * The cost, the base 2 logarithm of the number of rounds, is set with the "BCryptCost" user store property and
+ * defaults to 10.
+ */
+public class BCryptPasswordHasher implements PasswordHasher {
+
+    public static final String NAME = "BCRYPT";
+
+    static final String COST_PROPERTY = "BCryptCost";
+    static final int DEFAULT_COST = 10;
+
+    private int cost = DEFAULT_COST;
+
+    @Override
+    public void init(Map<String, String> properties) throws UserStoreException {
+        cost = PasswordHashUtils.getIntProperty(properties, COST_PROPERTY, DEFAULT_COST, 4, 31);
+    }
+
+    @Override
+    public String hash(char[] password) throws UserStoreException {
+
+        try {
+            return OpenBSDBCrypt.generate(password, PasswordHashUtils.newSalt(), cost);
+        } catch (IllegalArgumentException e) {
+            throw new UserStoreException("Error occurred while preparing password.", e);
+        }
+    }
+
+    @Override
+    public boolean canVerify(String storedPassword) {
+        return storedPassword != null && storedPassword.length() == 60 && (storedPassword.startsWith("$2a$")
+                || storedPassword.startsWith("$2b$") || storedPassword.startsWith("$2y$"));
+    }
+
+    @Override
+    public boolean verify(char[] password, String storedPassword) throws UserStoreException {
+
+        try {
+            return OpenBSDBCrypt.checkPassword(storedPassword, password);
+        } catch (IllegalArgumentException e) {
+            // malformed stored value
+            return false;
+        }
+    }
+
+    @Override
+    public boolean needsRehash(String storedPassword) {
+
+        try {
+            return Integer.parseInt(storedPassword.substring(4, 6)) != cost;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+}
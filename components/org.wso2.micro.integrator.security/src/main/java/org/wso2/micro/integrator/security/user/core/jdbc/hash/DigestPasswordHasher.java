@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.jdbc.hash;
+
+import org.apache.axiom.om.util.Base64;
+import org.wso2.micro.integrator.security.user.core.UserCoreConstants;
+import org.wso2.micro.integrator.security.user.core.UserStoreException;
+import org.wso2.micro.integrator.security.user.core.jdbc.JDBCRealmConstants;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Password hasher of the single round message digest ( "PasswordDigest" user store property ) the JDBC user store
+ * has always used. The stored value is the Base64 encoded digest, or the password itself if no digest is configured
+ * or the digest is PLAIN_TEXT. As the stored value has neither a salt nor a digest name, this hasher verifies any
+ * stored value which is not created by another password hasher.
+ * <p>
+ * The message digest instances are cached per thread, as looking up the provider of the digest on every
+ * authentication is costly and a message digest instance is not thread safe.
+ */
+public class DigestPasswordHasher implements PasswordHasher {
+
+    private static final ThreadLocal<Map<String, MessageDigest>> MESSAGE_DIGESTS =
+            ThreadLocal.withInitial(HashMap::new);
+
+    private String digestFunction;
+
+    @Override
+    public void init(Map<String, String> properties) throws UserStoreException {
+
+        digestFunction = properties.get(JDBCRealmConstants.DIGEST_FUNCTION);
+        if (digestFunction != null && !isPlainText()) {
+            // fail at the start up rather than on the first login
+            getMessageDigest(digestFunction);
+        }
+    }
+
+    @Override
+    public String hash(char[] password) throws UserStoreException {
+
+        if (digestFunction == null || isPlainText()) {
+            return new String(password);
+        }
+        byte[] bytes = toBytes(password);
+        try {
+            return Base64.encode(getMessageDigest(digestFunction).digest(bytes));
+        } finally {
+            Arrays.fill(bytes, (byte) 0);
+        }
+    }
+
+    @Override
+    public boolean canVerify(String storedPassword) {
+        return true;
+    }
+
+    @Override
+    public boolean verify(char[] password, String storedPassword) throws UserStoreException {
+
+        return storedPassword != null && MessageDigest.isEqual(hash(password).getBytes(StandardCharsets.UTF_8),
+                                                               storedPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean needsRehash(String storedPassword) {
+        return false;
+    }
+
+    private boolean isPlainText() {
+        return UserCoreConstants.RealmConfig.PASSWORD_HASH_METHOD_PLAIN_TEXT.equals(digestFunction);
+    }
+
+    /**
+     * Gets the message digest of the current thread for the given algorithm. The digest is reset before it is
+     * returned.
+     *
+     * @param algorithm message digest algorithm
+     * @return message digest
+     * @throws UserStoreException if the algorithm is not supported
+     */
+    public static MessageDigest getMessageDigest(String algorithm) throws UserStoreException {
+
+        Map<String, MessageDigest> messageDigests = MESSAGE_DIGESTS.get();
+        MessageDigest messageDigest = messageDigests.get(algorithm);
+        if (messageDigest == null) {
+            try {
+                messageDigest = MessageDigest.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException e) {
+                throw new UserStoreException("Error occurred while preparing password.", e);
+            }
+            messageDigests.put(algorithm, messageDigest);
+        } else {
+            messageDigest.reset();
+        }
+        return messageDigest;
+    }
+
+    static byte[] toBytes(char[] password) {
+
+        ByteBuffer byteBuffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+        byte[] bytes = Arrays.copyOfRange(byteBuffer.array(), byteBuffer.position(), byteBuffer.limit());
+        Arrays.fill(byteBuffer.array(), (byte) 0);
+        return bytes;
+    }
+}
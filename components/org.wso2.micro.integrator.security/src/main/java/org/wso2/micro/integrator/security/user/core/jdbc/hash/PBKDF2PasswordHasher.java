@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.jdbc.hash;
+
+import org.wso2.micro.integrator.security.user.core.UserStoreException;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Map;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * PBKDF2 with HMAC-SHA256 password hasher. The stored value is $pbkdf2-sha256$i=iterations$salt$hash.
+ * <p>
+ * The number of iterations is set with the "PBKDF2Iterations" user store property and defaults to 600000.
+ */
+public class PBKDF2PasswordHasher implements PasswordHasher {
+
+    public static final String NAME = "PBKDF2";
+
+    static final String ITERATIONS_PROPERTY = "PBKDF2Iterations";
+    static final int DEFAULT_ITERATIONS = 600000;
+
+    private static final String PREFIX = "$pbkdf2-sha256$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int HASH_LENGTH = 32;
+
+    // a secret key factory is not thread safe and looking up its provider on every authentication is costly
+    private static final ThreadLocal<SecretKeyFactory> SECRET_KEY_FACTORIES = new ThreadLocal<>();
+
+    private int iterations = DEFAULT_ITERATIONS;
+
+    @Override
+    public void init(Map<String, String> properties) throws UserStoreException {
+        iterations = PasswordHashUtils.getIntProperty(properties, ITERATIONS_PROPERTY, DEFAULT_ITERATIONS, 1000,
+                                                      Integer.MAX_VALUE);
+    }
+
+    @Override
+    public String hash(char[] password) throws UserStoreException {
+
+        byte[] salt = PasswordHashUtils.newSalt();
+        return PREFIX + "i=" + iterations + "$" + PasswordHashUtils.encode(salt) + "$"
+                + PasswordHashUtils.encode(derive(password, salt, iterations, HASH_LENGTH));
+    }
+
+    @Override
+    public boolean canVerify(String storedPassword) {
+        return storedPassword != null && storedPassword.startsWith(PREFIX);
+    }
+
+    @Override
+    public boolean verify(char[] password, String storedPassword) throws UserStoreException {
+
+        String[] parts = storedPassword.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 3) {
+            return false;
+        }
+        int storedIterations = PasswordHashUtils.getParameter(parts[0], "i");
+        byte[] salt = PasswordHashUtils.decode(parts[1]);
+        byte[] hash = PasswordHashUtils.decode(parts[2]);
+        if (storedIterations < 1 || salt == null || hash == null
+                || hash.length < PasswordHashUtils.MIN_HASH_LENGTH) {
+            return false;
+        }
+        return MessageDigest.isEqual(hash, derive(password, salt, storedIterations, hash.length));
+    }
+
+    @Override
+    public boolean needsRehash(String storedPassword) {
+
+        String[] parts = storedPassword.substring(PREFIX.length()).split("\\$");
+        return PasswordHashUtils.getParameter(parts[0], "i") != iterations;
+    }
+
+    private static byte[] derive(char[] password, byte[] salt, int iterations, int length)
+            throws UserStoreException {
+
+        PBEKeySpec keySpec = new PBEKeySpec(password, salt, iterations, length * 8);
+        try {
+            SecretKeyFactory secretKeyFactory = SECRET_KEY_FACTORIES.get();
+            if (secretKeyFactory == null) {
+                secretKeyFactory = SecretKeyFactory.getInstance(ALGORITHM);
+                SECRET_KEY_FACTORIES.set(secretKeyFactory);
+            }
+            return secretKeyFactory.generateSecret(keySpec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new UserStoreException("Error occurred while preparing password.", e);
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+}
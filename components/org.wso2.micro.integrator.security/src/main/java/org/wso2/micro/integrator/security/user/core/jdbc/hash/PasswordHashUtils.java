@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.jdbc.hash;
+
+import org.wso2.micro.integrator.security.user.core.UserStoreException;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Utilities shared by the password hashers, which store the hashes in the PHC string format
+ * ( $algorithm$parameters$salt$hash, with Base64 encoding without padding ).
+ */
+final class PasswordHashUtils {
+
+    static final int SALT_LENGTH = 16;
+    static final int MIN_HASH_LENGTH = 16;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private PasswordHashUtils() {
+    }
+
+    static byte[] newSalt() {
+
+        byte[] salt = new byte[SALT_LENGTH];
+        SECURE_RANDOM.nextBytes(salt);
+        return salt;
+    }
+
+    static String encode(byte[] bytes) {
+        return Base64.getEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * @return decoded bytes, or null if the value is not valid Base64
+     */
+    static byte[] decode(String value) {
+
+        try {
+            return Base64.getDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return value of the parameter from comma separated name=value pairs, or -1 if it is missing or not a number
+     */
+    static int getParameter(String parameters, String name) {
+
+        for (String parameter : parameters.split(",")) {
+            if (parameter.startsWith(name + "=")) {
+                try {
+                    return Integer.parseInt(parameter.substring(name.length() + 1));
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    static int getIntProperty(Map<String, String> properties, String name, int defaultValue, int minValue,
+                              int maxValue) throws UserStoreException {
+
+        String value = properties.get(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        int intValue;
+        try {
+            intValue = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new UserStoreException("Invalid value " + value + " for user store property " + name, e);
+        }
+        if (intValue < minValue || intValue > maxValue) {
+            throw new UserStoreException("Value of user store property " + name + " should be between " + minValue
+                                                 + " and " + maxValue + " but found " + intValue);
+        }
+        return intValue;
+    }
+}
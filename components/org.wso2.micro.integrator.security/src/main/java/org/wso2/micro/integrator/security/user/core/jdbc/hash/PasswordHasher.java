@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.jdbc.hash;
+
+import org.wso2.micro.integrator.security.user.core.UserStoreException;
+
+import java.util.Map;
+
+/**
+ * Hashes the passwords of the JDBC user store.
+ * <p>
+ * A password hasher encodes everything needed to verify a password in the stored value, that is the salt and the
+ * cost parameters along with the hash, hence the stored values of several hashers can exist in the same user store
+ * and the cost parameters can be changed at any time. Implementations should be thread safe.
+ * <p>
+ * A custom password hasher is plugged by setting the fully qualified class name as the "PasswordHashAlgorithm" user
+ * store property. The class should have a public no-argument constructor.
+ */
+public interface PasswordHasher {
+
+    /**
+     * Initializes the password hasher with the user store properties.
+     *
+     * @param properties user store properties
+     * @throws UserStoreException if the properties are invalid
+     */
+    void init(Map<String, String> properties) throws UserStoreException;
+
+    /**
+     * Hashes the password with a new salt.
+     *
+     * @param password password
+     * @return value to be stored
+     * @throws UserStoreException if the password cannot be hashed
+     */
+    String hash(char[] password) throws UserStoreException;
+
+    /**
+     * @param storedPassword stored value of a password
+     * @return whether the stored value was created by this password hasher
+     */
+    boolean canVerify(String storedPassword);
+
+    /**
+     * Verifies the password against a stored value created by this password hasher.
+     *
+     * @param password       password
+     * @param storedPassword stored value of the password
+     * @return whether the password matches
+     * @throws UserStoreException if the password cannot be hashed
+     */
+    boolean verify(char[] password, String storedPassword) throws UserStoreException;
+
+    /**
+     * @param storedPassword stored value created by this password hasher
+     * @return whether the stored value was created with cost parameters other than the configured ones
+     */
+    boolean needsRehash(String storedPassword);
+}
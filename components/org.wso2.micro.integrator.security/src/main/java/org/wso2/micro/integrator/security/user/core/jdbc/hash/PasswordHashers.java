@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.jdbc.hash;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.micro.integrator.security.user.core.UserStoreException;
+import org.wso2.micro.integrator.security.user.core.jdbc.JDBCRealmConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Password hashers of a JDBC user store.
+ * <p>
+ * New passwords are hashed with the password hasher set with the "PasswordHashAlgorithm" user store property, which
+ * is PBKDF2, BCRYPT, ARGON2ID or the class name of a custom {@link PasswordHasher}. If the property is not set, the
+ * passwords are hashed with the "PasswordDigest" message digest as before. Stored passwords are verified with the
+ * password hasher which created them, hence the existing passwords keep working when the algorithm is changed, and
+ * they are rehashed with the configured password hasher on the next successful login unless
+ * "PasswordRehashOnLogin" is false.
+ */
+public class PasswordHashers {
+
+    private static final Log log = LogFactory.getLog(PasswordHashers.class);
+
+    private static final char[] BENCHMARK_PASSWORD = "benchmark-password".toCharArray();
+
+    private final PasswordHasher digestPasswordHasher;
+    private final PasswordHasher passwordHasher;
+    private final List<PasswordHasher> passwordHashers = new ArrayList<>();
+    private final boolean rehashOnLogin;
+
+    public PasswordHashers(Map<String, String> properties) throws UserStoreException {
+
+        digestPasswordHasher = new DigestPasswordHasher();
+        digestPasswordHasher.init(properties);
+
+        String algorithm = properties.get(JDBCRealmConstants.PASSWORD_HASH_ALGORITHM);
+        algorithm = algorithm == null ? null : algorithm.trim();
+        if (algorithm == null || algorithm.isEmpty()) {
+            passwordHasher = null;
+        } else {
+            passwordHasher = createPasswordHasher(algorithm);
+            passwordHasher.init(properties);
+            passwordHashers.add(passwordHasher);
+        }
+        for (String builtIn : new String[]{PBKDF2PasswordHasher.NAME, BCryptPasswordHasher.NAME,
+                Argon2PasswordHasher.NAME}) {
+            if (passwordHasher == null || !builtIn.equalsIgnoreCase(algorithm)) {
+                // verification reads the cost parameters from the stored value, hence the defaults are enough
+                passwordHashers.add(createPasswordHasher(builtIn));
+            }
+        }
+        if (passwordHasher == null) {
+            rehashOnLogin = false;
+        } else {
+            String rehash = properties.get(JDBCRealmConstants.PASSWORD_REHASH_ON_LOGIN);
+            rehashOnLogin = rehash == null || Boolean.parseBoolean(rehash.trim());
+            logHashingCost(algorithm);
+        }
+    }
+
+    /**
+     * @return whether a password hasher other than the message digest is configured
+     */
+    public boolean isPasswordHasherConfigured() {
+        return passwordHasher != null;
+    }
+
+    /**
+     * @param storedPassword stored value
+     * @return whether the stored value was created by a password hasher other than the message digest
+     */
+    public boolean isHashedByPasswordHasher(String storedPassword) {
+        return getPasswordHasher(storedPassword) != null;
+    }
+
+    /**
+     * Hashes a new password with the configured password hasher, or the message digest if none is configured.
+     *
+     * @param password password, including the salt of the user if the user store stores salted passwords
+     * @return value to be stored
+     * @throws UserStoreException if the password cannot be hashed
+     */
+    public String hash(char[] password) throws UserStoreException {
+
+        if (passwordHasher == null) {
+            return digestPasswordHasher.hash(password);
+        }
+        return passwordHasher.hash(password);
+    }
+
+    /**
+     * Verifies the password with the password hasher which created the stored value.
+     *
+     * @param password       password, including the salt of the user if the user store stores salted passwords
+     * @param storedPassword stored value
+     * @return whether the password matches
+     * @throws UserStoreException if the password cannot be hashed
+     */
+    public boolean verify(char[] password, String storedPassword) throws UserStoreException {
+
+        if (storedPassword == null) {
+            return false;
+        }
+        PasswordHasher storedPasswordHasher = getPasswordHasher(storedPassword);
+        if (storedPasswordHasher == null) {
+            return digestPasswordHasher.verify(password, storedPassword);
+        }
+        return storedPasswordHasher.verify(password, storedPassword);
+    }
+
+    /**
+     * @param storedPassword stored value of a verified password
+     * @return whether the password should be hashed again with the configured password hasher
+     */
+    public boolean needsRehash(String storedPassword) {
+
+        if (!rehashOnLogin || storedPassword == null) {
+            return false;
+        }
+        return getPasswordHasher(storedPassword) != passwordHasher || passwordHasher.needsRehash(storedPassword);
+    }
+
+    private PasswordHasher getPasswordHasher(String storedPassword) {
+
+        for (PasswordHasher hasher : passwordHashers) {
+            if (hasher.canVerify(storedPassword)) {
+                return hasher;
+            }
+        }
+        return null;
+    }
+
+    private static PasswordHasher createPasswordHasher(String algorithm) throws UserStoreException {
+
+        if (PBKDF2PasswordHasher.NAME.equalsIgnoreCase(algorithm)) {
+            return new PBKDF2PasswordHasher();
+        } else if (BCryptPasswordHasher.NAME.equalsIgnoreCase(algorithm)) {
+            return new BCryptPasswordHasher();
+        } else if (Argon2PasswordHasher.NAME.equalsIgnoreCase(algorithm)) {
+            return new Argon2PasswordHasher();
+        }
+        try {
+            Class<?> clazz = Class.forName(algorithm);
+            return (PasswordHasher) clazz.newInstance();
+        } catch (ClassNotFoundException | ClassCastException | InstantiationException | IllegalAccessException e) {
+            throw new UserStoreException("Unsupported password hash algorithm : " + algorithm + ". Use "
+                                                 + PBKDF2PasswordHasher.NAME + ", " + BCryptPasswordHasher.NAME
+                                                 + ", " + Argon2PasswordHasher.NAME + " or the class name of a "
+                                                 + PasswordHasher.class.getName() + " implementation.", e);
+        }
+    }
+
+    /**
+     * Logs the time taken to hash a password with the configured cost, which bounds the login throughput, so that
+     * the cost can be tuned against the expected login rate.
+     */
+    private void logHashingCost(String algorithm) throws UserStoreException {
+
+        long start = System.nanoTime();
+        passwordHasher.hash(BENCHMARK_PASSWORD);
+        double millis = Math.max(0.001, (System.nanoTime() - start) / 1e6);
+        int processors = Runtime.getRuntime().availableProcessors();
+        log.info("Passwords of the JDBC user store are hashed with " + algorithm + ", which takes "
+                         + String.format("%.1f", millis) + " ms per login. This limits the logins to about "
+                         + Math.round(1000 * processors / millis) + " per second on " + processors + " processors.");
+    }
+}
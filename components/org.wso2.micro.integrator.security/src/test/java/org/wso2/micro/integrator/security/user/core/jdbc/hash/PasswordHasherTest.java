@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.jdbc.hash;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.micro.integrator.security.user.core.UserStoreException;
+import org.wso2.micro.integrator.security.user.core.jdbc.JDBCRealmConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tests the password hashers of the JDBC user store. The cost parameters are kept at their minimums so that the
+ * tests run fast.
+ */
+public class PasswordHasherTest {
+
+    private static final char[] PASSWORD = "admin-password".toCharArray();
+    private static final char[] WRONG_PASSWORD = "admin-passw0rd".toCharArray();
+    private static final String SALT = "c2FsdC12YWx1ZQ==";
+
+    @Test
+    public void testPBKDF2RoundTrip() throws Exception {
+
+        PasswordHasher hasher = createHasher(new PBKDF2PasswordHasher(),
+                                             PBKDF2PasswordHasher.ITERATIONS_PROPERTY, "1000");
+        String storedPassword = hasher.hash(PASSWORD);
+        Assert.assertTrue(storedPassword.startsWith("$pbkdf2-sha256$i=1000$"));
+        assertRoundTrip(hasher, storedPassword);
+    }
+
+    @Test
+    public void testPBKDF2NeedsRehash() throws Exception {
+
+        PasswordHasher hasher = createHasher(new PBKDF2PasswordHasher(),
+                                             PBKDF2PasswordHasher.ITERATIONS_PROPERTY, "1000");
+        String storedPassword = hasher.hash(PASSWORD);
+        Assert.assertFalse(hasher.needsRehash(storedPassword));
+        Assert.assertTrue(createHasher(new PBKDF2PasswordHasher(), PBKDF2PasswordHasher.ITERATIONS_PROPERTY, "2000")
+                                  .needsRehash(storedPassword));
+        // the iterations are read from the stored value, hence a hasher with another cost still verifies it
+        Assert.assertTrue(createHasher(new PBKDF2PasswordHasher(), PBKDF2PasswordHasher.ITERATIONS_PROPERTY, "2000")
+                                  .verify(PASSWORD, storedPassword));
+    }
+
+    @Test
+    public void testBCryptRoundTrip() throws Exception {
+
+        PasswordHasher hasher = createHasher(new BCryptPasswordHasher(), BCryptPasswordHasher.COST_PROPERTY, "4");
+        String storedPassword = hasher.hash(PASSWORD);
+        Assert.assertEquals(60, storedPassword.length());
+        Assert.assertTrue(storedPassword.startsWith("$2"));
+        assertRoundTrip(hasher, storedPassword);
+    }
+
+    @Test
+    public void testBCryptNeedsRehash() throws Exception {
+
+        PasswordHasher hasher = createHasher(new BCryptPasswordHasher(), BCryptPasswordHasher.COST_PROPERTY, "4");
+        String storedPassword = hasher.hash(PASSWORD);
+        Assert.assertFalse(hasher.needsRehash(storedPassword));
+        Assert.assertTrue(createHasher(new BCryptPasswordHasher(), BCryptPasswordHasher.COST_PROPERTY, "5")
+                                  .needsRehash(storedPassword));
+    }
+
+    @Test
+    public void testArgon2RoundTrip() throws Exception {
+
+        PasswordHasher hasher = createArgon2Hasher("64");
+        String storedPassword = hasher.hash(PASSWORD);
+        Assert.assertTrue(storedPassword.startsWith("$argon2id$v=19$m=64,t=1,p=1$"));
+        assertRoundTrip(hasher, storedPassword);
+        Assert.assertFalse(hasher.verify(PASSWORD, "$argon2id$v=19$m=64,t=1,p=1$malformed"));
+    }
+
+    @Test
+    public void testArgon2NeedsRehash() throws Exception {
+
+        PasswordHasher hasher = createArgon2Hasher("64");
+        String storedPassword = hasher.hash(PASSWORD);
+        Assert.assertFalse(hasher.needsRehash(storedPassword));
+        Assert.assertTrue(createArgon2Hasher("128").needsRehash(storedPassword));
+    }
+
+    @Test
+    public void testUnsaltedDigest() throws Exception {
+
+        PasswordHasher hasher = createHasher(new DigestPasswordHasher(), JDBCRealmConstants.DIGEST_FUNCTION,
+                                             "SHA-256");
+        String storedPassword = digest(new String(PASSWORD));
+        Assert.assertEquals(storedPassword, hasher.hash(PASSWORD));
+        Assert.assertTrue(hasher.canVerify(storedPassword));
+        Assert.assertTrue(hasher.verify(PASSWORD, storedPassword));
+        Assert.assertFalse(hasher.verify(WRONG_PASSWORD, storedPassword));
+        Assert.assertFalse(hasher.needsRehash(storedPassword));
+    }
+
+    @Test
+    public void testSaltedDigest() throws Exception {
+
+        PasswordHasher hasher = createHasher(new DigestPasswordHasher(), JDBCRealmConstants.DIGEST_FUNCTION,
+                                             "SHA-256");
+        // the user store appends the salt of the user to the password before it is hashed
+        String storedPassword = digest(new String(PASSWORD) + SALT);
+        Assert.assertTrue(hasher.verify((new String(PASSWORD) + SALT).toCharArray(), storedPassword));
+        Assert.assertFalse(hasher.verify(PASSWORD, storedPassword));
+    }
+
+    @Test
+    public void testPlainText() throws Exception {
+
+        PasswordHasher hasher = createHasher(new DigestPasswordHasher(), JDBCRealmConstants.DIGEST_FUNCTION,
+                                             "PLAIN_TEXT");
+        Assert.assertEquals(new String(PASSWORD), hasher.hash(PASSWORD));
+        Assert.assertTrue(hasher.verify(PASSWORD, new String(PASSWORD)));
+        Assert.assertFalse(hasher.verify(WRONG_PASSWORD, new String(PASSWORD)));
+    }
+
+    @Test(expected = UserStoreException.class)
+    public void testInvalidCost() throws Exception {
+        createHasher(new BCryptPasswordHasher(), BCryptPasswordHasher.COST_PROPERTY, "3");
+    }
+
+    @Test
+    public void testOtherHashesAreNotVerifiable() throws Exception {
+
+        String pbkdf2 = createHasher(new PBKDF2PasswordHasher(), PBKDF2PasswordHasher.ITERATIONS_PROPERTY, "1000")
+                .hash(PASSWORD);
+        String bcrypt = createHasher(new BCryptPasswordHasher(), BCryptPasswordHasher.COST_PROPERTY, "4")
+                .hash(PASSWORD);
+        String argon2 = createArgon2Hasher("64").hash(PASSWORD);
+        String digest = digest(new String(PASSWORD));
+
+        Assert.assertFalse(new PBKDF2PasswordHasher().canVerify(bcrypt));
+        Assert.assertFalse(new PBKDF2PasswordHasher().canVerify(digest));
+        Assert.assertFalse(new BCryptPasswordHasher().canVerify(argon2));
+        Assert.assertFalse(new BCryptPasswordHasher().canVerify(digest));
+        Assert.assertFalse(new Argon2PasswordHasher().canVerify(pbkdf2));
+        Assert.assertFalse(new Argon2PasswordHasher().canVerify(digest));
+    }
+
+    static PasswordHasher createHasher(PasswordHasher hasher, String property, String value)
+            throws UserStoreException {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(property, value);
+        hasher.init(properties);
+        return hasher;
+    }
+
+    static PasswordHasher createArgon2Hasher(String memory) throws UserStoreException {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(Argon2PasswordHasher.MEMORY_PROPERTY, memory);
+        properties.put(Argon2PasswordHasher.ITERATIONS_PROPERTY, "1");
+        properties.put(Argon2PasswordHasher.PARALLELISM_PROPERTY, "1");
+        PasswordHasher hasher = new Argon2PasswordHasher();
+        hasher.init(properties);
+        return hasher;
+    }
+
+    static String digest(String value) throws Exception {
+
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private static void assertRoundTrip(PasswordHasher hasher, String storedPassword) throws UserStoreException {
+
+        Assert.assertTrue(hasher.canVerify(storedPassword));
+        Assert.assertTrue(hasher.verify(PASSWORD, storedPassword));
+        Assert.assertFalse(hasher.verify(WRONG_PASSWORD, storedPassword));
+        Assert.assertFalse("Passwords are hashed without a new salt", storedPassword.equals(hasher.hash(PASSWORD)));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.jdbc.hash;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.micro.integrator.security.user.core.UserStoreException;
+import org.wso2.micro.integrator.security.user.core.jdbc.JDBCRealmConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tests that the stored passwords are verified by the password hasher which created them, and that the passwords
+ * created by other hashers are rehashed on login.
+ */
+public class PasswordHashersTest {
+
+    private static final char[] PASSWORD = "admin-password".toCharArray();
+    private static final char[] WRONG_PASSWORD = "admin-passw0rd".toCharArray();
+
+    @Test
+    public void testDigestWithoutPasswordHasher() throws Exception {
+
+        PasswordHashers passwordHashers = new PasswordHashers(createProperties(null));
+        String storedPassword = PasswordHasherTest.digest(new String(PASSWORD));
+        Assert.assertFalse(passwordHashers.isPasswordHasherConfigured());
+        Assert.assertEquals(storedPassword, passwordHashers.hash(PASSWORD));
+        Assert.assertFalse(passwordHashers.isHashedByPasswordHasher(storedPassword));
+        Assert.assertTrue(passwordHashers.verify(PASSWORD, storedPassword));
+        Assert.assertFalse(passwordHashers.verify(WRONG_PASSWORD, storedPassword));
+        Assert.assertFalse("Passwords are rehashed without a password hasher",
+                           passwordHashers.needsRehash(storedPassword));
+    }
+
+    @Test
+    public void testDispatchByPrefix() throws Exception {
+
+        PasswordHashers passwordHashers = new PasswordHashers(createProperties(PBKDF2PasswordHasher.NAME));
+        String pbkdf2 = passwordHashers.hash(PASSWORD);
+        String bcrypt = PasswordHasherTest.createHasher(new BCryptPasswordHasher(),
+                                                        BCryptPasswordHasher.COST_PROPERTY, "4").hash(PASSWORD);
+        String argon2 = PasswordHasherTest.createArgon2Hasher("64").hash(PASSWORD);
+        String digest = PasswordHasherTest.digest(new String(PASSWORD));
+
+        Assert.assertTrue(passwordHashers.isPasswordHasherConfigured());
+        Assert.assertTrue(pbkdf2.startsWith("$pbkdf2-sha256$"));
+        for (String storedPassword : new String[]{pbkdf2, bcrypt, argon2, digest}) {
+            Assert.assertTrue(storedPassword, passwordHashers.verify(PASSWORD, storedPassword));
+            Assert.assertFalse(storedPassword, passwordHashers.verify(WRONG_PASSWORD, storedPassword));
+        }
+        Assert.assertTrue(passwordHashers.isHashedByPasswordHasher(pbkdf2));
+        Assert.assertTrue(passwordHashers.isHashedByPasswordHasher(bcrypt));
+        Assert.assertTrue(passwordHashers.isHashedByPasswordHasher(argon2));
+        Assert.assertFalse(passwordHashers.isHashedByPasswordHasher(digest));
+        Assert.assertFalse(passwordHashers.verify(PASSWORD, null));
+    }
+
+    @Test
+    public void testNeedsRehash() throws Exception {
+
+        PasswordHashers passwordHashers = new PasswordHashers(createProperties(PBKDF2PasswordHasher.NAME));
+        Assert.assertFalse(passwordHashers.needsRehash(passwordHashers.hash(PASSWORD)));
+        Assert.assertTrue(passwordHashers.needsRehash(PasswordHasherTest.digest(new String(PASSWORD))));
+        Assert.assertTrue(passwordHashers.needsRehash(PasswordHasherTest.createHasher(
+                new BCryptPasswordHasher(), BCryptPasswordHasher.COST_PROPERTY, "4").hash(PASSWORD)));
+        Assert.assertTrue(passwordHashers.needsRehash(PasswordHasherTest.createHasher(
+                new PBKDF2PasswordHasher(), PBKDF2PasswordHasher.ITERATIONS_PROPERTY, "2000").hash(PASSWORD)));
+        Assert.assertFalse(passwordHashers.needsRehash(null));
+    }
+
+    @Test
+    public void testRehashOnLoginDisabled() throws Exception {
+
+        Map<String, String> properties = createProperties(PBKDF2PasswordHasher.NAME);
+        properties.put(JDBCRealmConstants.PASSWORD_REHASH_ON_LOGIN, "false");
+        PasswordHashers passwordHashers = new PasswordHashers(properties);
+        Assert.assertFalse(passwordHashers.needsRehash(PasswordHasherTest.digest(new String(PASSWORD))));
+    }
+
+    @Test
+    public void testCustomPasswordHasher() throws Exception {
+
+        PasswordHashers passwordHashers = new PasswordHashers(
+                createProperties(ReversingPasswordHasher.class.getName()));
+        String storedPassword = passwordHashers.hash(PASSWORD);
+        Assert.assertEquals("$reverse$drowssap-nimda", storedPassword);
+        Assert.assertTrue(passwordHashers.verify(PASSWORD, storedPassword));
+        Assert.assertFalse(passwordHashers.needsRehash(storedPassword));
+        Assert.assertTrue(passwordHashers.needsRehash(PasswordHasherTest.createArgon2Hasher("64").hash(PASSWORD)));
+    }
+
+    @Test(expected = UserStoreException.class)
+    public void testUnsupportedAlgorithm() throws Exception {
+        new PasswordHashers(createProperties("SCRYPT"));
+    }
+
+    private static Map<String, String> createProperties(String algorithm) {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(JDBCRealmConstants.DIGEST_FUNCTION, "SHA-256");
+        properties.put(PBKDF2PasswordHasher.ITERATIONS_PROPERTY, "1000");
+        properties.put(BCryptPasswordHasher.COST_PROPERTY, "4");
+        properties.put(Argon2PasswordHasher.MEMORY_PROPERTY, "64");
+        properties.put(Argon2PasswordHasher.ITERATIONS_PROPERTY, "1");
+        if (algorithm != null) {
+            properties.put(JDBCRealmConstants.PASSWORD_HASH_ALGORITHM, algorithm);
+        }
+        return properties;
+    }
+
+    /**
+     * Password hasher configured by its class name, which stores the reversed password.
+     */
+    public static class ReversingPasswordHasher implements PasswordHasher {
+
+        private static final String PREFIX = "$reverse$";
+
+        @Override
+        public void init(Map<String, String> properties) {
+        }
+
+        @Override
+        public String hash(char[] password) {
+            return PREFIX + new StringBuilder(new String(password)).reverse();
+        }
+
+        @Override
+        public boolean canVerify(String storedPassword) {
+            return storedPassword.startsWith(PREFIX);
+        }
+
+        @Override
+        public boolean verify(char[] password, String storedPassword) {
+            return hash(password).equals(storedPassword);
+        }
+
+        @Override
+        public boolean needsRehash(String storedPassword) {
+            return false;
+        }
+    }
+}